@@ -1,5 +1,6 @@
 package dev.rogerbertan.cashflow;
 
+import dev.rogerbertan.cashflow.infra.rollup.RebuildMonthlyTotalsCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -9,6 +10,11 @@ public final class CashFlowApplication {
     private CashFlowApplication() {}
 
     public static void main(String[] args) {
-        SpringApplication.run(CashFlowApplication.class, args);
+
+        if (RebuildMonthlyTotalsCommand.isRequested(args)) {
+            System.exit(RebuildMonthlyTotalsCommand.run(CashFlowApplication.class, args));
+        } else {
+            SpringApplication.run(CashFlowApplication.class, args);
+        }
     }
 }
@@ -2,8 +2,19 @@ package dev.rogerbertan.cashflow.domain.gateway;
 
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface AICategorizerGateway {
 
     CategorySuggestion suggestCategory(String description, Type type);
+
+    CompletableFuture<CategorySuggestion> suggestCategoryAsync(String description, Type type);
+
+    // Results are returned in the same order as the queries
+    List<CategorySuggestion> suggestCategories(List<CategorySuggestionQuery> queries);
+
+    CompletableFuture<List<CategorySuggestion>> suggestCategoriesAsync(
+            List<CategorySuggestionQuery> queries);
 }
@@ -2,7 +2,15 @@ package dev.rogerbertan.cashflow.domain.gateway;
 
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface AIInsightsGateway {
     SpendingInsights generateInsights(TransactionAnalysisData analysisData);
+
+    CompletableFuture<SpendingInsights> generateInsightsAsync(TransactionAnalysisData analysisData);
+
+    // Every insight of the returned answer is passed to onInsight once, as early as it is known
+    CompletableFuture<SpendingInsights> streamInsights(
+            TransactionAnalysisData analysisData, Consumer<String> onInsight);
 }
@@ -1,6 +1,7 @@
 package dev.rogerbertan.cashflow.domain.gateway;
 
 import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.enums.Type;
 import java.util.List;
 
 public interface CategoryGateway {
@@ -9,6 +10,8 @@ public interface CategoryGateway {
 
     Category findCategoryById(Long id);
 
+    Category findCategoryByTypeAndName(Type type, String name);
+
     Category createCategory(Category category);
 
     Category updateCategory(Category category);
@@ -0,0 +1,14 @@
+package dev.rogerbertan.cashflow.domain.gateway;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface SpendingInsightsGateway {
+
+    Optional<PeriodInsights> findInsights(String period, LocalDate startDate);
+
+    PeriodInsights saveInsights(String period, DateRange dates, SpendingInsights insights);
+}
@@ -2,11 +2,19 @@ package dev.rogerbertan.cashflow.domain.gateway;
 
 import dev.rogerbertan.cashflow.domain.entities.Transaction;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,29 +22,38 @@ public interface TransactionGateway {
 
     Page<Transaction> findAllTransactions(Pageable pageable);
 
+    TransactionSlice findTransactionsAfter(TransactionCursor cursor, int size);
+
     Transaction findTransactionById(Long id);
 
     Transaction createTransaction(Transaction transaction);
 
+    List<Transaction> createTransactions(List<Transaction> transactions);
+
     Transaction updateTransaction(Transaction transaction);
 
     void deleteTransaction(Long id);
 
-    BigDecimal getTotalIncome();
+    ImportResult importTransactions(Iterator<TransactionImportRow> rows);
 
-    BigDecimal getTotalExpense();
+    BigDecimal getNetBalance();
 
-    BigDecimal getMonthlyIncome(int month, int year);
+    BigDecimal getIncomeByDateRange(DateRange dateRange);
 
-    BigDecimal getMonthlyExpense(int month, int year);
+    BigDecimal getExpenseByDateRange(DateRange dateRange);
 
-    List<CategorySummary> getCategorySummaries(int month, int year);
+    List<CategorySummary> getCategorySummariesByDateRange(DateRange dateRange);
 
     List<Transaction> findTransactionsByDateRange(LocalDate startDate, LocalDate endDate);
 
+    void exportTransactionsByDateRange(DateRange dateRange, Consumer<Transaction> consumer);
+
     Map<DayOfWeek, BigDecimal> getExpensesByDayOfWeek(LocalDate startDate, LocalDate endDate);
 
     Map<String, Long> getTransactionCountByCategory(LocalDate startDate, LocalDate endDate);
 
     Map<String, BigDecimal> getAverageAmountByCategory(LocalDate startDate, LocalDate endDate);
+
+    TransactionAnalysisData getAnalysisData(
+            String period, DateRange currentPeriod, DateRange previousPeriod);
 }
@@ -1,138 +1,183 @@
 package dev.rogerbertan.cashflow.domain.usecases.insights;
 
-import dev.rogerbertan.cashflow.domain.entities.Transaction;
-import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.AIInsightsGateway;
+import dev.rogerbertan.cashflow.domain.gateway.SpendingInsightsGateway;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
-import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
 import dev.rogerbertan.cashflow.infra.util.DateRange;
 import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
-import java.math.BigDecimal;
-import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class GenerateSpendingInsightsUseCase {
 
     private final AIInsightsGateway aiInsightsGateway;
     private final TransactionGateway transactionGateway;
+    private final SpendingInsightsGateway spendingInsightsGateway;
 
     public GenerateSpendingInsightsUseCase(
-            AIInsightsGateway aiInsightsGateway, TransactionGateway transactionGateway) {
+            AIInsightsGateway aiInsightsGateway,
+            TransactionGateway transactionGateway,
+            SpendingInsightsGateway spendingInsightsGateway) {
         this.aiInsightsGateway = aiInsightsGateway;
         this.transactionGateway = transactionGateway;
+        this.spendingInsightsGateway = spendingInsightsGateway;
     }
 
     public SpendingInsights execute(String period) {
-        TransactionAnalysisData analysisData = buildAnalysisData(period);
+        TransactionAnalysisData analysisData = loadAnalysisData(period, LocalDate.now());
+        SpendingInsights placeholder = placeholderInsights(analysisData, period);
+        if (placeholder != null) {
+            return placeholder;
+        }
 
-        List<Transaction> currentTransactions =
-                transactionGateway.findTransactionsByDateRange(
-                        analysisData.startDate(), analysisData.endDate());
+        return aiInsightsGateway.generateInsights(analysisData);
+    }
 
-        if (currentTransactions.isEmpty()) {
-            return new SpendingInsights(
-                    List.of("No transactions found for this period. Start tracking your expenses!"),
-                    period,
-                    "No data available",
-                    "no_transactions");
+    // Loads the analysis data on the calling thread; only the AI call completes later
+    public CompletableFuture<SpendingInsights> executeAsync(String period) {
+        TransactionAnalysisData analysisData = loadAnalysisData(period, LocalDate.now());
+        SpendingInsights placeholder = placeholderInsights(analysisData, period);
+        if (placeholder != null) {
+            return CompletableFuture.completedFuture(placeholder);
         }
 
-        if (currentTransactions.size() < 3) {
-            return new SpendingInsights(
-                    List.of(
-                            "Insufficient data for analysis. Add more transactions to get insights."),
-                    period,
-                    "Not enough data",
-                    "insufficient_data");
+        return aiInsightsGateway.generateInsightsAsync(analysisData);
+    }
+
+    // Serves the insights stored for the closed period containing the date, generating and
+    // storing them only when none were stored yet or a refresh is asked for
+    public PeriodInsights findOrGenerate(String period, LocalDate date, boolean refresh) {
+        String storedPeriod = PeriodCalculator.normalize(period);
+        DateRange dates = PeriodCalculator.getCurrentPeriod(storedPeriod, date);
+        Optional<PeriodInsights> stored = findStored(storedPeriod, dates, refresh);
+        if (stored.isPresent()) {
+            return stored.get();
         }
 
-        return aiInsightsGateway.generateInsights(analysisData);
+        TransactionAnalysisData analysisData = loadAnalysisData(storedPeriod, date);
+        SpendingInsights placeholder = placeholderInsights(analysisData, storedPeriod);
+        if (placeholder != null) {
+            return store(storedPeriod, dates, placeholder);
+        }
+
+        return store(storedPeriod, dates, aiInsightsGateway.generateInsights(analysisData));
+    }
+
+    public CompletableFuture<PeriodInsights> findOrGenerateAsync(
+            String period, LocalDate date, boolean refresh) {
+        return findOrGenerateAsync(period, date, refresh, aiInsightsGateway::generateInsightsAsync);
+    }
+
+    // Like findOrGenerateAsync, but passes each insight to onInsight as soon as it is known.
+    // Stored insights and placeholders are passed on all at once.
+    public CompletableFuture<PeriodInsights> streamAsync(
+            String period, LocalDate date, boolean refresh, Consumer<String> onInsight) {
+        AtomicBoolean streamed = new AtomicBoolean();
+        return findOrGenerateAsync(
+                        period,
+                        date,
+                        refresh,
+                        analysisData -> {
+                            streamed.set(true);
+                            return aiInsightsGateway.streamInsights(analysisData, onInsight);
+                        })
+                .thenApply(
+                        periodInsights -> {
+                            if (!streamed.get()) {
+                                periodInsights.insights().insights().forEach(onInsight);
+                            }
+                            return periodInsights;
+                        });
+    }
+
+    private CompletableFuture<PeriodInsights> findOrGenerateAsync(
+            String period,
+            LocalDate date,
+            boolean refresh,
+            Function<TransactionAnalysisData, CompletableFuture<SpendingInsights>> generator) {
+        String storedPeriod = PeriodCalculator.normalize(period);
+        DateRange dates = PeriodCalculator.getCurrentPeriod(storedPeriod, date);
+        Optional<PeriodInsights> stored = findStored(storedPeriod, dates, refresh);
+        if (stored.isPresent()) {
+            return CompletableFuture.completedFuture(stored.get());
+        }
+
+        TransactionAnalysisData analysisData = loadAnalysisData(storedPeriod, date);
+        SpendingInsights placeholder = placeholderInsights(analysisData, storedPeriod);
+        if (placeholder != null) {
+            return CompletableFuture.completedFuture(store(storedPeriod, dates, placeholder));
+        }
+
+        return generator
+                .apply(analysisData)
+                .thenApply(insights -> store(storedPeriod, dates, insights));
     }
 
-    private TransactionAnalysisData buildAnalysisData(String period) {
-        DateRange currentPeriod = PeriodCalculator.getCurrentPeriod(period);
-        DateRange previousPeriod = PeriodCalculator.getPreviousPeriod(period);
-
-        BigDecimal totalIncome = calculateTotalByType(currentPeriod, Type.INCOME);
-        BigDecimal totalExpense = calculateTotalByType(currentPeriod, Type.EXPENSE);
-
-        BigDecimal previousIncome = calculateTotalByType(previousPeriod, Type.INCOME);
-        BigDecimal previousExpense = calculateTotalByType(previousPeriod, Type.EXPENSE);
-
-        List<CategorySummary> categorySummaries = getCategorySummariesForDateRange(currentPeriod);
-        List<CategorySummary> previousCategorySummaries =
-                getCategorySummariesForDateRange(previousPeriod);
-
-        Map<DayOfWeek, BigDecimal> expensesByDayOfWeek =
-                transactionGateway.getExpensesByDayOfWeek(
-                        currentPeriod.start(), currentPeriod.end());
-
-        Map<String, Long> transactionCountByCategory =
-                transactionGateway.getTransactionCountByCategory(
-                        currentPeriod.start(), currentPeriod.end());
-
-        Map<String, BigDecimal> averageAmountByCategory =
-                transactionGateway.getAverageAmountByCategory(
-                        currentPeriod.start(), currentPeriod.end());
-
-        return new TransactionAnalysisData(
-                currentPeriod.start(),
-                currentPeriod.end(),
-                period,
-                totalIncome,
-                totalExpense,
-                previousIncome,
-                previousExpense,
-                categorySummaries,
-                previousCategorySummaries,
-                expensesByDayOfWeek,
-                transactionCountByCategory,
-                averageAmountByCategory);
+    // Periods still open keep changing, so their insights go through the AI gateway, whose cache
+    // notices new writes; only closed periods are served from and kept in storage
+    private Optional<PeriodInsights> findStored(String period, DateRange dates, boolean refresh) {
+        if (refresh || !isClosed(dates)) {
+            return Optional.empty();
+        }
+
+        return spendingInsightsGateway.findInsights(period, dates.start());
     }
 
-    private BigDecimal calculateTotalByType(DateRange dateRange, Type type) {
-        List<Transaction> transactions =
-                transactionGateway.findTransactionsByDateRange(dateRange.start(), dateRange.end());
+    // Placeholders and fallbacks are handed out but not stored, so the next request asks again
+    private PeriodInsights store(String period, DateRange dates, SpendingInsights insights) {
+        if (insights.isPlaceholder() || !isClosed(dates)) {
+            return new PeriodInsights(
+                    period, dates.start(), dates.end(), insights, LocalDateTime.now());
+        }
+
+        return spendingInsightsGateway.saveInsights(period, dates, insights);
+    }
 
-        return transactions.stream()
-                .filter(t -> t.type() == type)
-                .map(Transaction::amount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private static boolean isClosed(DateRange dates) {
+        return dates.end().isBefore(LocalDate.now());
     }
 
-    private List<CategorySummary> getCategorySummariesForDateRange(DateRange dateRange) {
-        List<Transaction> transactions =
-                transactionGateway.findTransactionsByDateRange(dateRange.start(), dateRange.end());
+    private TransactionAnalysisData loadAnalysisData(String period, LocalDate date) {
+        DateRange currentPeriod = PeriodCalculator.getCurrentPeriod(period, date);
+        DateRange previousPeriod = PeriodCalculator.getPreviousPeriod(period, date);
+
+        return transactionGateway.getAnalysisData(period, currentPeriod, previousPeriod);
+    }
 
-        Map<String, BigDecimal> incomeByCategory = new java.util.HashMap<>();
-        Map<String, BigDecimal> expenseByCategory = new java.util.HashMap<>();
+    // Returns null when there is enough data to ask the AI
+    private SpendingInsights placeholderInsights(
+            TransactionAnalysisData analysisData, String period) {
+        long transactionCount =
+                analysisData.transactionCountByCategory().values().stream()
+                        .mapToLong(Long::longValue)
+                        .sum();
 
-        for (Transaction transaction : transactions) {
-            String categoryName = transaction.category().name();
+        if (transactionCount == 0) {
+            return new SpendingInsights(
+                    List.of("No transactions found for this period. Start tracking your expenses!"),
+                    period,
+                    "No data available",
+                    "no_transactions");
+        }
 
-            if (transaction.type() == Type.INCOME) {
-                incomeByCategory.merge(categoryName, transaction.amount(), BigDecimal::add);
-            } else {
-                expenseByCategory.merge(categoryName, transaction.amount(), BigDecimal::add);
-            }
+        if (transactionCount < 3) {
+            return new SpendingInsights(
+                    List.of(
+                            "Insufficient data for analysis. Add more transactions to get insights."),
+                    period,
+                    "Not enough data",
+                    "insufficient_data");
         }
 
-        java.util.Set<String> allCategories = new java.util.HashSet<>();
-        allCategories.addAll(incomeByCategory.keySet());
-        allCategories.addAll(expenseByCategory.keySet());
-
-        return allCategories.stream()
-                .map(
-                        categoryName ->
-                                new CategorySummary(
-                                        categoryName,
-                                        incomeByCategory.getOrDefault(
-                                                categoryName, BigDecimal.ZERO),
-                                        expenseByCategory.getOrDefault(
-                                                categoryName, BigDecimal.ZERO)))
-                .collect(java.util.stream.Collectors.toList());
+        return null;
     }
 }
@@ -14,10 +14,8 @@ public class GetBalanceUseCase {
     }
 
     public Balance execute() {
-        BigDecimal totalIncome = transactionGateway.getTotalIncome();
-        BigDecimal totalExpense = transactionGateway.getTotalExpense();
         BigDecimal netBalance =
-                totalIncome.subtract(totalExpense).setScale(2, RoundingMode.HALF_UP);
+                transactionGateway.getNetBalance().setScale(2, RoundingMode.HALF_UP);
 
         return new Balance(netBalance);
     }
@@ -2,6 +2,8 @@ package dev.rogerbertan.cashflow.domain.usecases.summary;
 
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
 import java.math.RoundingMode;
 import java.util.List;
 
@@ -14,7 +16,9 @@ public class GetCategoriesSummaryUseCase {
     }
 
     public List<CategorySummary> execute(int month, int year) {
-        List<CategorySummary> summaries = transactionGateway.getCategorySummaries(month, year);
+        DateRange monthPeriod = PeriodCalculator.getMonthPeriod(month, year);
+        List<CategorySummary> summaries =
+                transactionGateway.getCategorySummariesByDateRange(monthPeriod);
 
         return summaries.stream()
                 .map(
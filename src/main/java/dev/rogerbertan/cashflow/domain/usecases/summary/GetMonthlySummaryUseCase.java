@@ -2,6 +2,8 @@ package dev.rogerbertan.cashflow.domain.usecases.summary;
 
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.valueobjects.MonthlySummary;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -14,10 +16,16 @@ public class GetMonthlySummaryUseCase {
     }
 
     public MonthlySummary execute(int month, int year) {
+        DateRange monthPeriod = PeriodCalculator.getMonthPeriod(month, year);
+
         BigDecimal monthlyIncome =
-                transactionGateway.getMonthlyIncome(month, year).setScale(2, RoundingMode.HALF_UP);
+                transactionGateway
+                        .getIncomeByDateRange(monthPeriod)
+                        .setScale(2, RoundingMode.HALF_UP);
         BigDecimal monthlyExpense =
-                transactionGateway.getMonthlyExpense(month, year).setScale(2, RoundingMode.HALF_UP);
+                transactionGateway
+                        .getExpenseByDateRange(monthPeriod)
+                        .setScale(2, RoundingMode.HALF_UP);
         BigDecimal monthlyNetBalance =
                 monthlyIncome.subtract(monthlyExpense).setScale(2, RoundingMode.HALF_UP);
 
@@ -0,0 +1,19 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import java.util.List;
+
+public class CreateTransactionsUseCase {
+
+    private final TransactionGateway transactionGateway;
+
+    public CreateTransactionsUseCase(TransactionGateway transactionGateway) {
+        this.transactionGateway = transactionGateway;
+    }
+
+    public List<Transaction> execute(List<Transaction> transactions) {
+
+        return transactionGateway.createTransactions(transactions);
+    }
+}
@@ -0,0 +1,20 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.util.function.Consumer;
+
+public class ExportTransactionsUseCase {
+
+    private final TransactionGateway transactionGateway;
+
+    public ExportTransactionsUseCase(TransactionGateway transactionGateway) {
+        this.transactionGateway = transactionGateway;
+    }
+
+    public void execute(DateRange dateRange, Consumer<Transaction> consumer) {
+
+        transactionGateway.exportTransactionsByDateRange(dateRange, consumer);
+    }
+}
@@ -2,6 +2,8 @@ package dev.rogerbertan.cashflow.domain.usecases.transaction;
 
 import dev.rogerbertan.cashflow.domain.entities.Transaction;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,4 +19,9 @@ public class FindAllTransactionUseCase {
 
         return transactionGateway.findAllTransactions(pageable);
     }
+
+    public TransactionSlice execute(TransactionCursor cursor, int size) {
+
+        return transactionGateway.findTransactionsAfter(cursor, size);
+    }
 }
@@ -0,0 +1,20 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import java.util.Iterator;
+
+public class ImportTransactionsUseCase {
+
+    private final TransactionGateway transactionGateway;
+
+    public ImportTransactionsUseCase(TransactionGateway transactionGateway) {
+        this.transactionGateway = transactionGateway;
+    }
+
+    public ImportResult execute(Iterator<TransactionImportRow> rows) {
+
+        return transactionGateway.importTransactions(rows);
+    }
+}
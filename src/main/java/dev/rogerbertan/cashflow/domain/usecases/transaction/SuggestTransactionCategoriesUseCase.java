@@ -0,0 +1,86 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class SuggestTransactionCategoriesUseCase {
+
+    private final AICategorizerGateway localCategorizerGateway;
+    private final AICategorizerGateway aiCategorizerGateway;
+    private final double localConfidenceThreshold;
+
+    public SuggestTransactionCategoriesUseCase(
+            AICategorizerGateway localCategorizerGateway,
+            AICategorizerGateway aiCategorizerGateway,
+            double localConfidenceThreshold) {
+        this.localCategorizerGateway = localCategorizerGateway;
+        this.aiCategorizerGateway = aiCategorizerGateway;
+        this.localConfidenceThreshold = localConfidenceThreshold;
+    }
+
+    public List<CategorySuggestion> execute(List<CategorySuggestionQuery> queries) {
+        List<CategorySuggestion> suggestions =
+                new ArrayList<>(localCategorizerGateway.suggestCategories(queries));
+        List<Integer> unresolved = unresolvedPositions(suggestions);
+        if (unresolved.isEmpty()) {
+            return suggestions;
+        }
+
+        return merge(
+                suggestions,
+                unresolved,
+                aiCategorizerGateway.suggestCategories(
+                        unresolved.stream().map(queries::get).toList()));
+    }
+
+    public CompletableFuture<List<CategorySuggestion>> executeAsync(
+            List<CategorySuggestionQuery> queries) {
+        return localCategorizerGateway
+                .suggestCategoriesAsync(queries)
+                .thenCompose(
+                        localSuggestions -> {
+                            List<CategorySuggestion> suggestions =
+                                    new ArrayList<>(localSuggestions);
+                            List<Integer> unresolved = unresolvedPositions(suggestions);
+                            if (unresolved.isEmpty()) {
+                                return CompletableFuture.completedFuture(suggestions);
+                            }
+
+                            return aiCategorizerGateway
+                                    .suggestCategoriesAsync(
+                                            unresolved.stream().map(queries::get).toList())
+                                    .thenApply(
+                                            aiSuggestions ->
+                                                    merge(suggestions, unresolved, aiSuggestions));
+                        });
+    }
+
+    private List<Integer> unresolvedPositions(List<CategorySuggestion> suggestions) {
+        List<Integer> unresolved = new ArrayList<>();
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (!SuggestTransactionCategoryUseCase.isConfident(
+                    suggestions.get(i), localConfidenceThreshold)) {
+                unresolved.add(i);
+            }
+        }
+        return unresolved;
+    }
+
+    private static List<CategorySuggestion> merge(
+            List<CategorySuggestion> suggestions,
+            List<Integer> unresolved,
+            List<CategorySuggestion> aiSuggestions) {
+        for (int i = 0; i < unresolved.size(); i++) {
+            int position = unresolved.get(i);
+            suggestions.set(
+                    position,
+                    SuggestTransactionCategoryUseCase.fallBackToLocal(
+                            suggestions.get(position), aiSuggestions.get(i)));
+        }
+        return suggestions;
+    }
+}
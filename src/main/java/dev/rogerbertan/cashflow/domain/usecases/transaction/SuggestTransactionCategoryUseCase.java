@@ -4,19 +4,64 @@ import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
 import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import java.util.concurrent.CompletableFuture;
 
 public class SuggestTransactionCategoryUseCase {
 
+    private final AICategorizerGateway localCategorizerGateway;
     private final AICategorizerGateway aiCategorizerGateway;
     private final CategoryGateway categoryGateway;
+    private final double localConfidenceThreshold;
 
     public SuggestTransactionCategoryUseCase(
-            AICategorizerGateway aiCategorizerGateway, CategoryGateway categoryGateway) {
+            AICategorizerGateway localCategorizerGateway,
+            AICategorizerGateway aiCategorizerGateway,
+            CategoryGateway categoryGateway,
+            double localConfidenceThreshold) {
+        this.localCategorizerGateway = localCategorizerGateway;
         this.aiCategorizerGateway = aiCategorizerGateway;
         this.categoryGateway = categoryGateway;
+        this.localConfidenceThreshold = localConfidenceThreshold;
     }
 
     public CategorySuggestion execute(String description, Type type) {
-        return aiCategorizerGateway.suggestCategory(description, type);
+        CategorySuggestion localSuggestion =
+                localCategorizerGateway.suggestCategory(description, type);
+        if (isConfident(localSuggestion, localConfidenceThreshold)) {
+            return localSuggestion;
+        }
+
+        return fallBackToLocal(
+                localSuggestion, aiCategorizerGateway.suggestCategory(description, type));
+    }
+
+    public CompletableFuture<CategorySuggestion> executeAsync(String description, Type type) {
+        return localCategorizerGateway
+                .suggestCategoryAsync(description, type)
+                .thenCompose(
+                        localSuggestion ->
+                                isConfident(localSuggestion, localConfidenceThreshold)
+                                        ? CompletableFuture.completedFuture(localSuggestion)
+                                        : aiCategorizerGateway
+                                                .suggestCategoryAsync(description, type)
+                                                .thenApply(
+                                                        aiSuggestion ->
+                                                                fallBackToLocal(
+                                                                        localSuggestion,
+                                                                        aiSuggestion)));
+    }
+
+    // While the AI provider is unavailable, an unconfident local guess beats no answer
+    static CategorySuggestion fallBackToLocal(
+            CategorySuggestion localSuggestion, CategorySuggestion aiSuggestion) {
+        return aiSuggestion.isUnavailable() && localSuggestion.category() != null
+                ? localSuggestion
+                : aiSuggestion;
+    }
+
+    static boolean isConfident(CategorySuggestion suggestion, double threshold) {
+        return suggestion.category() != null
+                && suggestion.score() != null
+                && suggestion.score() >= threshold;
     }
 }
@@ -2,4 +2,22 @@ package dev.rogerbertan.cashflow.domain.valueobjects;
 
 import dev.rogerbertan.cashflow.domain.entities.Category;
 
-public record CategorySuggestion(Category category, String confidence, String rawAiResponse) {}
+// score is the local model's confidence between 0 and 1; Gemini answers carry none
+public record CategorySuggestion(
+        Category category, String confidence, String rawAiResponse, Double score) {
+
+    private static final String UNAVAILABLE = "unavailable";
+
+    public CategorySuggestion(Category category, String confidence, String rawAiResponse) {
+        this(category, confidence, rawAiResponse, null);
+    }
+
+    // Fallback given while the AI provider refuses calls; worth asking again later
+    public static CategorySuggestion unavailable(String reason) {
+        return new CategorySuggestion(null, UNAVAILABLE, reason);
+    }
+
+    public boolean isUnavailable() {
+        return UNAVAILABLE.equals(confidence);
+    }
+}
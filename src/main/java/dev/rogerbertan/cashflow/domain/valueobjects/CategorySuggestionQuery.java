@@ -0,0 +1,5 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+
+public record CategorySuggestionQuery(String description, Type type) {}
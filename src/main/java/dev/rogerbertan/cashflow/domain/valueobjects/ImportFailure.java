@@ -0,0 +1,3 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+public record ImportFailure(long rowNumber, String reason) {}
@@ -0,0 +1,5 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import java.util.List;
+
+public record ImportResult(long importedCount, long failedCount, List<ImportFailure> failures) {}
@@ -0,0 +1,35 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+// Identifies the numbers an insights answer was generated from. Two analyses with the same
+// fingerprint would send Gemini the same picture, so the earlier answer can be reused.
+public record InsightsFingerprint(
+        String period,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        BigDecimal previousPeriodIncome,
+        BigDecimal previousPeriodExpense,
+        Map<String, Long> transactionCountByCategory) {
+
+    public static InsightsFingerprint of(TransactionAnalysisData data) {
+        return new InsightsFingerprint(
+                data.period(),
+                data.startDate(),
+                data.endDate(),
+                normalize(data.totalIncome()),
+                normalize(data.totalExpense()),
+                normalize(data.previousPeriodIncome()),
+                normalize(data.previousPeriodExpense()),
+                Map.copyOf(data.transactionCountByCategory()));
+    }
+
+    // 180.00 and 180.0000 are the same total
+    private static BigDecimal normalize(BigDecimal amount) {
+        return amount == null ? null : amount.stripTrailingZeros();
+    }
+}
@@ -0,0 +1,11 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PeriodInsights(
+        String period,
+        LocalDate startDate,
+        LocalDate endDate,
+        SpendingInsights insights,
+        LocalDateTime generatedAt) {}
@@ -1,6 +1,27 @@
 package dev.rogerbertan.cashflow.domain.valueobjects;
 
 import java.util.List;
+import java.util.Set;
 
 public record SpendingInsights(
-        List<String> insights, String period, String summary, String rawAiResponse) {}
+        List<String> insights, String period, String summary, String rawAiResponse) {
+
+    private static final String UNAVAILABLE = "unavailable";
+    private static final Set<String> PLACEHOLDERS =
+            Set.of("no_transactions", "insufficient_data", "disabled", UNAVAILABLE);
+
+    // Fallback given while the AI provider refuses calls; worth asking again later
+    public static SpendingInsights unavailable(String period, String reason) {
+        return new SpendingInsights(
+                List.of("AI insights are temporarily unavailable"), period, reason, UNAVAILABLE);
+    }
+
+    public boolean isUnavailable() {
+        return UNAVAILABLE.equals(rawAiResponse);
+    }
+
+    // Stands in for an AI answer that was never given, so it is not worth keeping
+    public boolean isPlaceholder() {
+        return rawAiResponse != null && PLACEHOLDERS.contains(rawAiResponse);
+    }
+}
@@ -0,0 +1,5 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import java.time.LocalDateTime;
+
+public record TransactionCursor(LocalDateTime createdAt, Long id) {}
@@ -0,0 +1,33 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransactionImportRow(
+        long rowNumber,
+        Type type,
+        BigDecimal amount,
+        String description,
+        Long categoryId,
+        LocalDate transactionDate,
+        String malformedReason) {
+
+    public TransactionImportRow(
+            long rowNumber,
+            Type type,
+            BigDecimal amount,
+            String description,
+            Long categoryId,
+            LocalDate transactionDate) {
+        this(rowNumber, type, amount, description, categoryId, transactionDate, null);
+    }
+
+    public static TransactionImportRow malformed(long rowNumber, String reason) {
+        return new TransactionImportRow(rowNumber, null, null, null, null, null, reason);
+    }
+
+    public boolean isMalformed() {
+        return malformedReason != null;
+    }
+}
@@ -0,0 +1,11 @@
+package dev.rogerbertan.cashflow.domain.valueobjects;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import java.util.List;
+
+public record TransactionSlice(List<Transaction> transactions, TransactionCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
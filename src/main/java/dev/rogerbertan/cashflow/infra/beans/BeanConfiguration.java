@@ -3,6 +3,7 @@ package dev.rogerbertan.cashflow.infra.beans;
 import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
 import dev.rogerbertan.cashflow.domain.gateway.AIInsightsGateway;
 import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
+import dev.rogerbertan.cashflow.domain.gateway.SpendingInsightsGateway;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.usecases.category.CreateCategoryUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.category.DeleteCategoryUseCase;
@@ -14,20 +15,42 @@ import dev.rogerbertan.cashflow.domain.usecases.summary.GetBalanceUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.summary.GetCategoriesSummaryUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.summary.GetMonthlySummaryUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.CreateTransactionUseCase;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.CreateTransactionsUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.DeleteTransactionUseCase;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.ExportTransactionsUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.FindAllTransactionUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.FindTransactionByIdUseCase;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.ImportTransactionsUseCase;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.SuggestTransactionCategoriesUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.SuggestTransactionCategoryUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.UpdateTransactionUseCase;
+import dev.rogerbertan.cashflow.infra.cache.CachingGetCategoriesSummaryUseCase;
+import dev.rogerbertan.cashflow.infra.cache.CachingGetMonthlySummaryUseCase;
+import dev.rogerbertan.cashflow.infra.cache.CategorySuggestionCache;
+import dev.rogerbertan.cashflow.infra.cache.SpendingInsightsCache;
+import dev.rogerbertan.cashflow.infra.cache.SummaryCache;
+import dev.rogerbertan.cashflow.infra.categorizer.LocalCategoryModel;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
 import dev.rogerbertan.cashflow.infra.config.AIProperties;
+import dev.rogerbertan.cashflow.infra.config.CategorizerProperties;
+import dev.rogerbertan.cashflow.infra.gateway.CachingCategorizerGateway;
+import dev.rogerbertan.cashflow.infra.gateway.CachingInsightsGateway;
 import dev.rogerbertan.cashflow.infra.gateway.CategoryRepositoryGateway;
 import dev.rogerbertan.cashflow.infra.gateway.GeminiCategorizerGateway;
 import dev.rogerbertan.cashflow.infra.gateway.GeminiInsightsGateway;
+import dev.rogerbertan.cashflow.infra.gateway.LocalCategorizerGateway;
 import dev.rogerbertan.cashflow.infra.gateway.TransactionRepositoryGateway;
 import dev.rogerbertan.cashflow.infra.mapper.CategoryEntityMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionEntityMapper;
+import dev.rogerbertan.cashflow.infra.metrics.MethodMetrics;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotRepository;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
+import dev.rogerbertan.cashflow.infra.persistence.MonthlyCategoryTotalRepository;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionCopyWriter;
 import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
+import java.util.concurrent.ExecutorService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -36,22 +59,58 @@ public class BeanConfiguration {
 
     @Bean
     public CategoryGateway categoryGateway(
-            CategoryRepository categoryRepository, CategoryEntityMapper mapper) {
-        return new CategoryRepositoryGateway(categoryRepository, mapper);
+            CategoryRepository categoryRepository,
+            CategoryEntityMapper mapper,
+            CategoryRegistry categoryRegistry,
+            ApplicationEventPublisher eventPublisher) {
+        return new CategoryRepositoryGateway(
+                categoryRepository, mapper, categoryRegistry, eventPublisher);
     }
 
     @Bean
     public TransactionGateway transactionGateway(
             TransactionRepository transactionRepository,
-            CategoryRepository categoryRepository,
-            TransactionEntityMapper mapper) {
-        return new TransactionRepositoryGateway(transactionRepository, categoryRepository, mapper);
+            CategoryRegistry categoryRegistry,
+            MonthlyCategoryTotalRepository monthlyCategoryTotalRepository,
+            BalanceSnapshotRepository balanceSnapshotRepository,
+            TransactionCopyWriter transactionCopyWriter,
+            TransactionEntityMapper mapper,
+            ApplicationEventPublisher eventPublisher) {
+        return new TransactionRepositoryGateway(
+                transactionRepository,
+                categoryRegistry,
+                monthlyCategoryTotalRepository,
+                balanceSnapshotRepository,
+                transactionCopyWriter,
+                mapper,
+                eventPublisher);
+    }
+
+    @Bean
+    public LocalCategorizerGateway localCategorizerGateway(
+            LocalCategoryModel localCategoryModel,
+            CategoryGateway categoryGateway,
+            CategorizerProperties categorizerProperties) {
+        return new LocalCategorizerGateway(
+                localCategoryModel, categoryGateway, categorizerProperties);
     }
 
     @Bean
     public AICategorizerGateway aiCategorizerGateway(
-            CategoryGateway categoryGateway, AIProperties aiProperties) {
-        return new GeminiCategorizerGateway(categoryGateway, aiProperties);
+            CategoryGateway categoryGateway,
+            AIProperties aiProperties,
+            ExecutorService aiExecutor,
+            GeminiResilience geminiResilience,
+            CategorySuggestionCache categorySuggestionCache,
+            MethodMetrics methodMetrics) {
+        // Timed behind the cache, so the timings are Gemini's own
+        return new CachingCategorizerGateway(
+                methodMetrics.instrument(
+                        new GeminiCategorizerGateway(
+                                categoryGateway, aiProperties, aiExecutor, geminiResilience),
+                        MethodMetrics.GATEWAY_METRIC,
+                        GeminiCategorizerGateway.class.getSimpleName()),
+                categorySuggestionCache);
     }
 
     @Bean
@@ -85,6 +144,12 @@ public class BeanConfiguration {
         return new CreateTransactionUseCase(transactionGateway);
     }
 
+    @Bean
+    public CreateTransactionsUseCase createTransactionsUseCase(
+            TransactionGateway transactionGateway) {
+        return new CreateTransactionsUseCase(transactionGateway);
+    }
+
     @Bean
     public FindAllTransactionUseCase findAllTransactionUseCase(
             TransactionGateway transactionGateway) {
@@ -109,6 +174,18 @@ public class BeanConfiguration {
         return new DeleteTransactionUseCase(transactionGateway);
     }
 
+    @Bean
+    public ImportTransactionsUseCase importTransactionsUseCase(
+            TransactionGateway transactionGateway) {
+        return new ImportTransactionsUseCase(transactionGateway);
+    }
+
+    @Bean
+    public ExportTransactionsUseCase exportTransactionsUseCase(
+            TransactionGateway transactionGateway) {
+        return new ExportTransactionsUseCase(transactionGateway);
+    }
+
     @Bean
     public GetBalanceUseCase getBalanceUseCase(TransactionGateway transactionGateway) {
         return new GetBalanceUseCase(transactionGateway);
@@ -116,30 +193,61 @@ public class BeanConfiguration {
 
     @Bean
     public GetMonthlySummaryUseCase getMonthlySummaryUseCase(
-            TransactionGateway transactionGateway) {
-        return new GetMonthlySummaryUseCase(transactionGateway);
+            TransactionGateway transactionGateway, SummaryCache summaryCache) {
+        return new CachingGetMonthlySummaryUseCase(transactionGateway, summaryCache);
     }
 
     @Bean
     public GetCategoriesSummaryUseCase getCategoriesSummaryUseCase(
-            TransactionGateway transactionGateway) {
-        return new GetCategoriesSummaryUseCase(transactionGateway);
+            TransactionGateway transactionGateway, SummaryCache summaryCache) {
+        return new CachingGetCategoriesSummaryUseCase(transactionGateway, summaryCache);
     }
 
     @Bean
     public SuggestTransactionCategoryUseCase suggestTransactionCategoryUseCase(
-            AICategorizerGateway aiCategorizerGateway, CategoryGateway categoryGateway) {
-        return new SuggestTransactionCategoryUseCase(aiCategorizerGateway, categoryGateway);
+            LocalCategorizerGateway localCategorizerGateway,
+            AICategorizerGateway aiCategorizerGateway,
+            CategoryGateway categoryGateway,
+            CategorizerProperties categorizerProperties) {
+        return new SuggestTransactionCategoryUseCase(
+                localCategorizerGateway,
+                aiCategorizerGateway,
+                categoryGateway,
+                categorizerProperties.getLocalConfidenceThreshold());
+    }
+
+    @Bean
+    public SuggestTransactionCategoriesUseCase suggestTransactionCategoriesUseCase(
+            LocalCategorizerGateway localCategorizerGateway,
+            AICategorizerGateway aiCategorizerGateway,
+            CategorizerProperties categorizerProperties) {
+        return new SuggestTransactionCategoriesUseCase(
+                localCategorizerGateway,
+                aiCategorizerGateway,
+                categorizerProperties.getLocalConfidenceThreshold());
     }
 
     @Bean
-    public AIInsightsGateway aiInsightsGateway(AIProperties aiProperties) {
-        return new GeminiInsightsGateway(aiProperties);
+    public AIInsightsGateway aiInsightsGateway(
+            AIProperties aiProperties,
+            ExecutorService aiExecutor,
+            GeminiResilience geminiResilience,
+            SpendingInsightsCache spendingInsightsCache,
+            MethodMetrics methodMetrics) {
+        return new CachingInsightsGateway(
+                methodMetrics.instrument(
+                        new GeminiInsightsGateway(aiProperties, aiExecutor, geminiResilience),
+                        MethodMetrics.GATEWAY_METRIC,
+                        GeminiInsightsGateway.class.getSimpleName()),
+                spendingInsightsCache);
     }
 
     @Bean
     public GenerateSpendingInsightsUseCase generateSpendingInsightsUseCase(
-            AIInsightsGateway aiInsightsGateway, TransactionGateway transactionGateway) {
-        return new GenerateSpendingInsightsUseCase(aiInsightsGateway, transactionGateway);
+            AIInsightsGateway aiInsightsGateway,
+            TransactionGateway transactionGateway,
+            SpendingInsightsGateway spendingInsightsGateway) {
+        return new GenerateSpendingInsightsUseCase(
+                aiInsightsGateway, transactionGateway, spendingInsightsGateway);
     }
 }
@@ -0,0 +1,24 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.usecases.summary.GetCategoriesSummaryUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import java.time.YearMonth;
+import java.util.List;
+
+public class CachingGetCategoriesSummaryUseCase extends GetCategoriesSummaryUseCase {
+
+    private final SummaryCache summaryCache;
+
+    public CachingGetCategoriesSummaryUseCase(
+            TransactionGateway transactionGateway, SummaryCache summaryCache) {
+        super(transactionGateway);
+        this.summaryCache = summaryCache;
+    }
+
+    @Override
+    public List<CategorySummary> execute(int month, int year) {
+        return summaryCache.getCategorySummaries(
+                YearMonth.of(year, month), () -> super.execute(month, year));
+    }
+}
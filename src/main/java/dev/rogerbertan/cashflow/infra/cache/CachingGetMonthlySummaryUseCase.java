@@ -0,0 +1,23 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.usecases.summary.GetMonthlySummaryUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.MonthlySummary;
+import java.time.YearMonth;
+
+public class CachingGetMonthlySummaryUseCase extends GetMonthlySummaryUseCase {
+
+    private final SummaryCache summaryCache;
+
+    public CachingGetMonthlySummaryUseCase(
+            TransactionGateway transactionGateway, SummaryCache summaryCache) {
+        super(transactionGateway);
+        this.summaryCache = summaryCache;
+    }
+
+    @Override
+    public MonthlySummary execute(int month, int year) {
+        return summaryCache.getMonthlySummary(
+                YearMonth.of(year, month), () -> super.execute(month, year));
+    }
+}
@@ -0,0 +1,161 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class CategorySuggestionCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AsyncCache<Key, CategorySuggestion> cache;
+
+    // Part of every key, so a suggestion computed against the old category set while the set
+    // changes is stored under a key nobody looks up anymore
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategorySuggestionCache(CacheProperties cacheProperties) {
+        CacheProperties.Spec spec = cacheProperties.getSuggestions();
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getMaxSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .recordStats()
+                        .buildAsync();
+    }
+
+    // Concurrent callers for the same key wait for a single loader call; failures are not cached
+    public CategorySuggestion get(
+            String description, Type type, Supplier<CategorySuggestion> loader) {
+        // Loads on the calling thread so a failing loader leaves nothing behind in the cache
+        return getAsync(description, type, () -> CompletableFuture.completedFuture(loader.get()))
+                .join();
+    }
+
+    public CompletableFuture<CategorySuggestion> getAsync(
+            String description, Type type, Supplier<CompletableFuture<CategorySuggestion>> loader) {
+        Key key = key(description, type);
+        return cache.get(key, (missing, executor) -> loader.get())
+                .thenApply(
+                        suggestion -> {
+                            evictIfUnavailable(key);
+                            return suggestion;
+                        });
+    }
+
+    // Hands the loader only the queries that missed, once per normalized key, in a single call
+    public List<CategorySuggestion> getAll(
+            List<CategorySuggestionQuery> queries,
+            Function<List<CategorySuggestionQuery>, List<CategorySuggestion>> loader) {
+        return getAllAsync(
+                        queries,
+                        missing -> CompletableFuture.completedFuture(loader.apply(missing)))
+                .join();
+    }
+
+    public CompletableFuture<List<CategorySuggestion>> getAllAsync(
+            List<CategorySuggestionQuery> queries,
+            Function<List<CategorySuggestionQuery>, CompletableFuture<List<CategorySuggestion>>>
+                    loader) {
+        Lookup lookup = lookup(queries);
+        return cache.getAll(
+                        lookup.queriesByKey().keySet(),
+                        (missing, executor) ->
+                                loader.apply(lookup.queries(missing))
+                                        .thenApply(loaded -> lookup.load(missing, loaded)))
+                .thenApply(
+                        suggestions -> {
+                            suggestions.keySet().forEach(this::evictIfUnavailable);
+                            return lookup.keys().stream().map(suggestions::get).toList();
+                        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    // Fallbacks given while Gemini refuses calls are handed out once, then asked for again
+    private void evictIfUnavailable(Key key) {
+        CompletableFuture<CategorySuggestion> cached = cache.asMap().get(key);
+        if (cached != null
+                && cached.isDone()
+                && !cached.isCompletedExceptionally()
+                && cached.join().isUnavailable()) {
+            cache.asMap().remove(key, cached);
+        }
+    }
+
+    private Key key(String description, Type type) {
+        return new Key(generation.get(), normalize(description), type);
+    }
+
+    private Lookup lookup(List<CategorySuggestionQuery> queries) {
+        long current = generation.get();
+        List<Key> keys = new ArrayList<>(queries.size());
+        Map<Key, CategorySuggestionQuery> queriesByKey = new LinkedHashMap<>();
+        queries.forEach(
+                query -> {
+                    Key key = new Key(current, normalize(query.description()), query.type());
+                    keys.add(key);
+                    queriesByKey.putIfAbsent(key, query);
+                });
+        return new Lookup(keys, queriesByKey);
+    }
+
+    static String normalize(String description) {
+        return WHITESPACE.matcher(description.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(long generation, String description, Type type) {}
+
+    private record Lookup(List<Key> keys, Map<Key, CategorySuggestionQuery> queriesByKey) {
+
+        private List<CategorySuggestionQuery> queries(Set<? extends Key> missing) {
+            return missing.stream().map(queriesByKey::get).toList();
+        }
+
+        // Relies on the loader answering in the order the missing keys were iterated
+        private Map<Key, CategorySuggestion> load(
+                Set<? extends Key> missing, List<CategorySuggestion> loaded) {
+            Map<Key, CategorySuggestion> loadedByKey = new HashMap<>();
+            Iterator<? extends Key> keys = missing.iterator();
+            loaded.forEach(suggestion -> loadedByKey.put(keys.next(), suggestion));
+            return loadedByKey;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rogerbertan.cashflow.domain.valueobjects.InsightsFingerprint;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import dev.rogerbertan.cashflow.infra.invalidation.InvalidationsMissedEvent;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class SpendingInsightsCache {
+
+    private final AsyncCache<InsightsFingerprint, SpendingInsights> cache;
+
+    public SpendingInsightsCache(CacheProperties cacheProperties) {
+        CacheProperties.Spec spec = cacheProperties.getInsights();
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getMaxSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .recordStats()
+                        .buildAsync();
+    }
+
+    // Concurrent dashboard loads for the same numbers share one Gemini call; failures and
+    // unavailable fallbacks are handed out once and not kept
+    public CompletableFuture<SpendingInsights> getAsync(
+            InsightsFingerprint fingerprint, Supplier<CompletableFuture<SpendingInsights>> loader) {
+        CompletableFuture<SpendingInsights> insights =
+                cache.get(fingerprint, (missing, executor) -> loader.get());
+        return insights.thenApply(
+                loaded -> {
+                    if (loaded.isUnavailable()) {
+                        cache.asMap().remove(fingerprint, insights);
+                    }
+                    return loaded;
+                });
+    }
+
+    public SpendingInsights get(
+            InsightsFingerprint fingerprint, Supplier<SpendingInsights> loader) {
+        // Loads on the calling thread so a failing loader leaves nothing behind in the cache
+        return getAsync(fingerprint, () -> CompletableFuture.completedFuture(loader.get())).join();
+    }
+
+    // A write inside a cached period usually changes its fingerprint anyway; dropping the entry
+    // also catches edits that leave the totals and counts as they were
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        DateRange dates = event.dates();
+        cache.asMap()
+                .keySet()
+                .removeIf(
+                        fingerprint ->
+                                !fingerprint.startDate().isAfter(dates.end())
+                                        && !fingerprint.endDate().isBefore(dates.start()));
+    }
+
+    @EventListener
+    public void onInvalidationsMissed(InvalidationsMissedEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long size() {
+        return cache.synchronous().estimatedSize();
+    }
+}
@@ -0,0 +1,88 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.MonthlySummary;
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import dev.rogerbertan.cashflow.infra.invalidation.InvalidationsMissedEvent;
+import dev.rogerbertan.cashflow.infra.replica.PrimaryReads;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Summaries of months that have already ended. They only change when a backdated write lands in
+// them, so entries are kept until one does; the current and future months always hit the database.
+// Loads read from the primary: a replica up to max-lag behind could otherwise reload a month
+// before it has replayed the write that evicted it, and the old numbers would stay cached.
+@Component
+public class SummaryCache {
+
+    private final Cache<YearMonth, MonthlySummary> monthlySummaries;
+    private final Cache<YearMonth, List<CategorySummary>> categorySummaries;
+
+    public SummaryCache(CacheProperties cacheProperties) {
+        long maxSize = cacheProperties.getSummaries().getMaxSize();
+        this.monthlySummaries = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+        this.categorySummaries = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+    }
+
+    public MonthlySummary getMonthlySummary(YearMonth month, Supplier<MonthlySummary> loader) {
+        return isClosed(month)
+                ? monthlySummaries.get(month, missing -> PrimaryReads.call(loader))
+                : loader.get();
+    }
+
+    public List<CategorySummary> getCategorySummaries(
+            YearMonth month, Supplier<List<CategorySummary>> loader) {
+        return isClosed(month)
+                ? categorySummaries.get(month, missing -> PrimaryReads.call(loader))
+                : loader.get();
+    }
+
+    // Invalidated by key rather than by scanning, so a load still running for one of these months
+    // finishes first and is then dropped instead of being kept with the old numbers
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        YearMonth last = YearMonth.from(event.dates().end());
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(event.dates().start());
+                !month.isAfter(last);
+                month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        monthlySummaries.invalidateAll(months);
+        categorySummaries.invalidateAll(months);
+    }
+
+    // Category summaries show category names
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        categorySummaries.invalidateAll();
+    }
+
+    @EventListener
+    public void onInvalidationsMissed(InvalidationsMissedEvent event) {
+        monthlySummaries.invalidateAll();
+        categorySummaries.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return monthlySummaries.stats().plus(categorySummaries.stats());
+    }
+
+    public long size() {
+        return monthlySummaries.estimatedSize() + categorySummaries.estimatedSize();
+    }
+
+    private static boolean isClosed(YearMonth month) {
+        return month.isBefore(YearMonth.now());
+    }
+}
@@ -0,0 +1,214 @@
+package dev.rogerbertan.cashflow.infra.categorizer;
+
+import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Multinomial naive Bayes over description tokens. Trained from the transactions table at
+// startup, then kept current from the samples TransactionRepositoryGateway publishes on commit.
+@Component
+public class LocalCategoryModel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalCategoryModel.class);
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern HAS_LETTER = Pattern.compile(".*\\p{L}.*");
+
+    private final TransactionRepository transactionRepository;
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    private volatile Counts counts = new Counts();
+
+    // Samples committed after the training snapshot, guarded by this
+    private List<TrainingSample> pendingSamples;
+
+    public LocalCategoryModel(TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    // Writers hold the shared side of commitLock from just before they commit until their
+    // samples are applied, and training takes the snapshot it scans under the exclusive side.
+    // A write is then either in the snapshot and applied before training starts, or committed
+    // after it and replayed from pendingSamples, never both.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void train() {
+        commitLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                pendingSamples = new ArrayList<>();
+            }
+            transactionRepository.takeSnapshot();
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+
+        Counts trained = new Counts();
+        try (Stream<TrainingSample> samples = transactionRepository.streamTrainingSamples()) {
+            samples.forEach(trained::add);
+            synchronized (this) {
+                pendingSamples.forEach(trained::add);
+                counts = trained;
+            }
+        } finally {
+            synchronized (this) {
+                pendingSamples = null;
+            }
+        }
+        LOGGER.info(
+                "Trained local categorizer on {} transactions across {} categories",
+                trained.documents.get(),
+                trained.byCategory.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCommitting(TrainingSamplesEvent event) {
+        commitLock.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        commitLock.readLock().unlock();
+                    }
+                });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTrainingSamples(TrainingSamplesEvent event) {
+        event.samples().forEach(counts::add);
+        if (pendingSamples != null) {
+            pendingSamples.addAll(event.samples());
+        }
+    }
+
+    // Picks the most likely of the given categories. The score is the posterior probability
+    // scaled by the share of description tokens the winner has seen, so descriptions made of
+    // unknown words never look confident just because a type has a single category.
+    public Prediction predict(String description, Collection<Long> categoryIds) {
+        List<String> tokens = tokenize(description);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        Counts current = counts;
+        double vocabularySize = Math.max(1, current.vocabulary.size());
+        List<Long> candidates = new ArrayList<>();
+        List<Double> logLikelihoods = new ArrayList<>();
+        for (Long categoryId : categoryIds) {
+            CategoryCounts category = current.byCategory.get(categoryId);
+            if (category == null || category.documents.get() <= 0) {
+                continue;
+            }
+
+            double denominator = category.tokens.get() + vocabularySize;
+            double logLikelihood = Math.log(category.documents.get());
+            for (String token : tokens) {
+                logLikelihood +=
+                        Math.log((category.tokenCounts.getOrDefault(token, 0L) + 1) / denominator);
+            }
+            candidates.add(categoryId);
+            logLikelihoods.add(logLikelihood);
+        }
+
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        int best = 0;
+        for (int i = 1; i < logLikelihoods.size(); i++) {
+            if (logLikelihoods.get(i) > logLikelihoods.get(best)) {
+                best = i;
+            }
+        }
+
+        double evidence = 0;
+        for (double logLikelihood : logLikelihoods) {
+            evidence += Math.exp(logLikelihood - logLikelihoods.get(best));
+        }
+
+        CategoryCounts winner = current.byCategory.get(candidates.get(best));
+        long knownTokens =
+                tokens.stream().filter(token -> winner.tokenCounts.containsKey(token)).count();
+        double coverage = (double) knownTokens / tokens.size();
+
+        return new Prediction(candidates.get(best), coverage / evidence);
+    }
+
+    static List<String> tokenize(String description) {
+        if (description == null) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(description.toLowerCase(Locale.ROOT))) {
+            // Digits alone are amounts, dates and reference numbers that never repeat usefully
+            if (token.length() > 1 && HAS_LETTER.matcher(token).matches()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public record Prediction(Long categoryId, double score) {}
+
+    // Writers are serialized by the model; readers tolerate seeing a sample half applied
+    private static final class Counts {
+
+        private final Map<Long, CategoryCounts> byCategory = new ConcurrentHashMap<>();
+        private final Map<String, Long> vocabulary = new ConcurrentHashMap<>();
+        private final AtomicLong documents = new AtomicLong();
+
+        private void add(TrainingSample sample) {
+            List<String> tokens = tokenize(sample.description());
+            if (tokens.isEmpty() || sample.categoryId() == null) {
+                return;
+            }
+
+            long count = sample.count();
+            CategoryCounts category =
+                    byCategory.computeIfAbsent(sample.categoryId(), id -> new CategoryCounts());
+            category.documents.addAndGet(count);
+            category.tokens.addAndGet(count * tokens.size());
+            documents.addAndGet(count);
+            for (String token : tokens) {
+                category.tokenCounts.merge(token, count, Counts::sumOrRemove);
+                vocabulary.merge(token, count, Counts::sumOrRemove);
+            }
+
+            if (category.documents.get() <= 0) {
+                byCategory.remove(sample.categoryId());
+            }
+        }
+
+        private static Long sumOrRemove(Long current, Long delta) {
+            long sum = current + delta;
+            return sum > 0 ? sum : null;
+        }
+    }
+
+    private static final class CategoryCounts {
+
+        private final Map<String, Long> tokenCounts = new ConcurrentHashMap<>();
+        private final AtomicLong documents = new AtomicLong();
+        private final AtomicLong tokens = new AtomicLong();
+    }
+}
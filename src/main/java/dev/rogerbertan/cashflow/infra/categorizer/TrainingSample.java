@@ -0,0 +1,4 @@
+package dev.rogerbertan.cashflow.infra.categorizer;
+
+// count is negative when transactions carrying this description and category went away
+public record TrainingSample(String description, Long categoryId, long count) {}
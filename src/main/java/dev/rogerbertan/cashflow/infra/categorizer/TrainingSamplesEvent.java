@@ -0,0 +1,5 @@
+package dev.rogerbertan.cashflow.infra.categorizer;
+
+import java.util.List;
+
+public record TrainingSamplesEvent(List<TrainingSample> samples) {}
@@ -0,0 +1,3 @@
+package dev.rogerbertan.cashflow.infra.category;
+
+public record CategoriesChangedEvent(Long categoryId) {}
@@ -0,0 +1,101 @@
+package dev.rogerbertan.cashflow.infra.category;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.infra.mapper.CategoryEntityMapper;
+import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Read-mostly copy of the categories table. Lookups never touch the database; every change
+// made through CategoryRepositoryGateway swaps in a freshly loaded snapshot once it commits.
+@Component
+public class CategoryRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryRegistry.class);
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryEntityMapper entityMapper;
+
+    private volatile Snapshot snapshot;
+
+    public CategoryRegistry(
+            CategoryRepository categoryRepository, CategoryEntityMapper entityMapper) {
+        this.categoryRepository = categoryRepository;
+        this.entityMapper = entityMapper;
+    }
+
+    public List<Category> findAll() {
+        return snapshot().categories();
+    }
+
+    public Category findById(Long id) {
+        return snapshot().byId().get(id);
+    }
+
+    public Category findByTypeAndName(Type type, String name) {
+        return snapshot().byTypeAndName().get(new NameKey(type, normalize(name)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    // Runs after the writing transaction commits, in a transaction of its own so the reload
+    // reads from the primary and sees the change
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        reload();
+    }
+
+    public synchronized void reload() {
+        List<Category> categories =
+                categoryRepository.findAll().stream().map(entityMapper::toDomain).toList();
+
+        Map<Long, Category> byId = new HashMap<>();
+        Map<NameKey, Category> byTypeAndName = new HashMap<>();
+        for (Category category : categories) {
+            byId.put(category.id(), category);
+            byTypeAndName.put(new NameKey(category.type(), normalize(category.name())), category);
+        }
+
+        snapshot = new Snapshot(categories, Map.copyOf(byId), Map.copyOf(byTypeAndName));
+        LOGGER.debug("Loaded {} categories", categories.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record NameKey(Type type, String name) {}
+
+    private record Snapshot(
+            List<Category> categories,
+            Map<Long, Category> byId,
+            Map<NameKey, Category> byTypeAndName) {}
+}
@@ -0,0 +1,24 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class AIExecutorConfiguration {
+
+    // Gemini calls wait on the network, so each gets a thread of its own: a virtual one when the
+    // app runs on virtual threads (spring.threads.virtual.enabled), otherwise a pooled platform
+    // one. GeminiResilience already caps how many calls are in flight.
+    @Bean(destroyMethod = "close")
+    public ExecutorService aiExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("gemini-", 0).factory());
+        }
+        return Executors.newCachedThreadPool(Thread.ofPlatform().name("gemini-", 0).factory());
+    }
+}
@@ -11,6 +11,8 @@ public class AIProperties {
     private String modelName = "gemini-2.5-flash-lite";
     private int timeoutSeconds = 10;
     private boolean enabled = true;
+    private int batchChunkSize = 50;
+    private int batchParallelism = 4;
 
     public String getApiKey() {
         return apiKey;
@@ -43,4 +45,20 @@ public class AIProperties {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public int getBatchChunkSize() {
+        return batchChunkSize;
+    }
+
+    public void setBatchChunkSize(int batchChunkSize) {
+        this.batchChunkSize = batchChunkSize;
+    }
+
+    public int getBatchParallelism() {
+        return batchParallelism;
+    }
+
+    public void setBatchParallelism(int batchParallelism) {
+        this.batchParallelism = batchParallelism;
+    }
 }
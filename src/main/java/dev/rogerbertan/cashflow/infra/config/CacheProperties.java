@@ -0,0 +1,68 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cashflow.cache")
+public class CacheProperties {
+
+    private Spec suggestions = new Spec(10_000, Duration.ofHours(24));
+    private Spec insights = new Spec(1_000, Duration.ofHours(6));
+    // Closed months never expire, so only the size bound applies
+    private Spec summaries = new Spec(5_000, null);
+
+    public Spec getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(Spec suggestions) {
+        this.suggestions = suggestions;
+    }
+
+    public Spec getInsights() {
+        return insights;
+    }
+
+    public void setInsights(Spec insights) {
+        this.insights = insights;
+    }
+
+    public Spec getSummaries() {
+        return summaries;
+    }
+
+    public void setSummaries(Spec summaries) {
+        this.summaries = summaries;
+    }
+
+    public static class Spec {
+
+        private long maxSize;
+        private Duration ttl;
+
+        public Spec() {}
+
+        public Spec(long maxSize, Duration ttl) {
+            this.maxSize = maxSize;
+            this.ttl = ttl;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
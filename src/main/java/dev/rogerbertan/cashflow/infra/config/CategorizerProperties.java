@@ -0,0 +1,28 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cashflow.categorizer")
+public class CategorizerProperties {
+
+    private boolean localEnabled = true;
+    private double localConfidenceThreshold = 0.8;
+
+    public boolean isLocalEnabled() {
+        return localEnabled;
+    }
+
+    public void setLocalEnabled(boolean localEnabled) {
+        this.localEnabled = localEnabled;
+    }
+
+    public double getLocalConfidenceThreshold() {
+        return localConfidenceThreshold;
+    }
+
+    public void setLocalConfidenceThreshold(double localConfidenceThreshold) {
+        this.localConfidenceThreshold = localConfidenceThreshold;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cashflow.datasource.pool-guard")
+public class ConnectionPoolGuardProperties {
+
+    private int maxWaiting = 200;
+
+    public int getMaxWaiting() {
+        return maxWaiting;
+    }
+
+    public void setMaxWaiting(int maxWaiting) {
+        this.maxWaiting = maxWaiting;
+    }
+}
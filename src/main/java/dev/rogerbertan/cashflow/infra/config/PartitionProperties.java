@@ -0,0 +1,19 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "cashflow.partitions")
+public class PartitionProperties {
+
+    private int monthsAhead = 3;
+
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    public void setMonthsAhead(int monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+}
@@ -0,0 +1,89 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.rogerbertan.cashflow.infra.replica.ReadYourWritesTracker;
+import dev.rogerbertan.cashflow.infra.replica.ReplicaLagMonitor;
+import dev.rogerbertan.cashflow.infra.replica.ReplicaRoutingDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.flyway.autoconfigure.FlywayDataSource;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@ConditionalOnExpression("!'${cashflow.datasource.replica.url:}'.isBlank()")
+public class ReplicaDataSourceConfiguration {
+
+    // Fail fast so reads fall back to the primary instead of queueing on a dead replica
+    private static final Duration REPLICA_CONNECTION_TIMEOUT = Duration.ofSeconds(3);
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource =
+                dataSourceProperties
+                        .initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        // Replicas usually share the primary's credentials
+        dataSource.setUsername(
+                StringUtils.hasText(replicaProperties.getUsername())
+                        ? replicaProperties.getUsername()
+                        : dataSourceProperties.determineUsername());
+        dataSource.setPassword(
+                StringUtils.hasText(replicaProperties.getPassword())
+                        ? replicaProperties.getPassword()
+                        : dataSourceProperties.determinePassword());
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT.toMillis());
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaProperties replicaProperties) {
+        return new ReplicaLagMonitor(
+                new JdbcTemplate(replicaDataSource), replicaProperties.getMaxLag());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesTracker(replicaProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(
+                        primaryDataSource,
+                        replicaDataSource,
+                        replicaLagMonitor,
+                        readYourWritesTracker));
+    }
+}
@@ -0,0 +1,13 @@
+package dev.rogerbertan.cashflow.infra.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(
+        name = "cashflow.scheduling.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class SchedulingConfiguration {}
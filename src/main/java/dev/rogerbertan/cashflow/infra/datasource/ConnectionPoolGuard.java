@@ -0,0 +1,48 @@
+package dev.rogerbertan.cashflow.infra.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Caps how many threads may be waiting on the pool for a connection. On virtual threads every
+// request has a thread of its own, so a burst would otherwise queue thousands of waiters behind
+// a handful of connections; past the cap a request is refused straight away.
+public class ConnectionPoolGuard extends DelegatingDataSource {
+
+    private final Semaphore waiting;
+
+    public ConnectionPoolGuard(DataSource targetDataSource, int maxWaiting) {
+        super(targetDataSource);
+        this.waiting = new Semaphore(maxWaiting);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        enter();
+        try {
+            return super.getConnection();
+        } finally {
+            waiting.release();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        enter();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            waiting.release();
+        }
+    }
+
+    private void enter() throws SQLTransientConnectionException {
+        if (!waiting.tryAcquire()) {
+            throw new SQLTransientConnectionException(
+                    "Too many requests are waiting for a database connection");
+        }
+    }
+}
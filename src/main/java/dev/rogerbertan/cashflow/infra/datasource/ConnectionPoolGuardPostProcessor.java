@@ -0,0 +1,27 @@
+package dev.rogerbertan.cashflow.infra.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.rogerbertan.cashflow.infra.config.ConnectionPoolGuardProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// Guards the pools themselves, so the guard also holds behind the replica routing proxy
+@Component
+public class ConnectionPoolGuardPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConnectionPoolGuardProperties> properties;
+
+    public ConnectionPoolGuardPostProcessor(
+            ObjectProvider<ConnectionPoolGuardProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool) {
+            return new ConnectionPoolGuard(pool, properties.getObject().getMaxWaiting());
+        }
+        return bean;
+    }
+}
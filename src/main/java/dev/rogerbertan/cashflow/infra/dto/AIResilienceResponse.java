@@ -0,0 +1,11 @@
+package dev.rogerbertan.cashflow.infra.dto;
+
+public record AIResilienceResponse(
+        String circuitBreakerState,
+        float failureRate,
+        int bufferedCalls,
+        int failedCalls,
+        long notPermittedCalls,
+        int availableConcurrentCalls,
+        int maxConcurrentCalls,
+        int availableRequestPermits) {}
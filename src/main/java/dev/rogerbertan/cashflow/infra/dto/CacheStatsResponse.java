@@ -0,0 +1,4 @@
+package dev.rogerbertan.cashflow.infra.dto;
+
+public record CacheStatsResponse(
+        long hits, long misses, double hitRate, long evictions, long size) {}
@@ -0,0 +1,3 @@
+package dev.rogerbertan.cashflow.infra.dto;
+
+public record ImportFailureResponse(long row, String reason) {}
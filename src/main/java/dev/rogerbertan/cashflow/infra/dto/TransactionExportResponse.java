@@ -0,0 +1,16 @@
+package dev.rogerbertan.cashflow.infra.dto;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record TransactionExportResponse(
+        Long id,
+        Type type,
+        BigDecimal amount,
+        String description,
+        Long categoryId,
+        String categoryName,
+        LocalDate transactionDate,
+        LocalDateTime createdAt) {}
@@ -0,0 +1,6 @@
+package dev.rogerbertan.cashflow.infra.dto;
+
+import java.util.List;
+
+public record TransactionImportResponse(
+        long importedCount, long failedCount, List<ImportFailureResponse> failures) {}
@@ -0,0 +1,6 @@
+package dev.rogerbertan.cashflow.infra.dto;
+
+import java.util.List;
+
+public record TransactionSliceResponse(
+        List<TransactionResponse> content, int size, boolean hasNext, String nextCursor) {}
@@ -0,0 +1,10 @@
+package dev.rogerbertan.cashflow.infra.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AITimeoutException extends BudgetPlannerException {
+
+    public AITimeoutException(String error, Throwable cause) {
+        super(error, cause, HttpStatus.GATEWAY_TIMEOUT);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.rogerbertan.cashflow.infra.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AIUnavailableException extends BudgetPlannerException {
+
+    public AIUnavailableException(String error, Throwable cause) {
+        super(error, cause, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.rogerbertan.cashflow.infra.exception;
+
+// Thrown when the consumer of a streamed insight fails, usually because the client went away.
+// It stops the Gemini stream but says nothing about Gemini's health.
+public class InsightDeliveryException extends RuntimeException {
+
+    public InsightDeliveryException(Throwable cause) {
+        super("Could not deliver streamed insight: " + cause.getMessage(), cause);
+    }
+}
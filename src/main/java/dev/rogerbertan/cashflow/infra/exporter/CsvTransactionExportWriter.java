@@ -0,0 +1,74 @@
+package dev.rogerbertan.cashflow.infra.exporter;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+public class CsvTransactionExportWriter implements TransactionExportWriter {
+
+    private static final String HEADER =
+            "id,type,amount,description,categoryId,categoryName,transactionDate,createdAt\n";
+
+    private final Writer writer;
+
+    public CsvTransactionExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void writeHeader() {
+        try {
+            writer.write(HEADER);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write CSV export", e);
+        }
+    }
+
+    @Override
+    public void accept(Transaction transaction) {
+        try {
+            writer.write(String.valueOf(transaction.id()));
+            writer.write(',');
+            writer.write(transaction.type().name());
+            writer.write(',');
+            writer.write(transaction.amount().toPlainString());
+            writer.write(',');
+            writeQuoted(transaction.description());
+            writer.write(',');
+            writer.write(String.valueOf(transaction.category().id()));
+            writer.write(',');
+            writeQuoted(transaction.category().name());
+            writer.write(',');
+            writer.write(transaction.transactionDate().toString());
+            writer.write(',');
+            writer.write(transaction.createdAt().toString());
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write CSV export", e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write CSV export", e);
+        }
+    }
+
+    private void writeQuoted(String value) throws IOException {
+        if (value.indexOf(',') < 0
+                && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
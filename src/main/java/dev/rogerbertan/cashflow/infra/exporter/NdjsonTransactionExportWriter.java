@@ -0,0 +1,58 @@
+package dev.rogerbertan.cashflow.infra.exporter;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.infra.dto.TransactionExportResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+
+public class NdjsonTransactionExportWriter implements TransactionExportWriter {
+
+    private final Writer writer;
+    private final SequenceWriter sequenceWriter;
+    private boolean empty = true;
+
+    public NdjsonTransactionExportWriter(ObjectWriter objectWriter, Writer writer) {
+        this.writer = writer;
+        this.sequenceWriter = objectWriter.writeValues(writer);
+    }
+
+    @Override
+    public void writeHeader() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write NDJSON export", e);
+        }
+    }
+
+    @Override
+    public void accept(Transaction transaction) {
+        empty = false;
+        sequenceWriter.write(
+                new TransactionExportResponse(
+                        transaction.id(),
+                        transaction.type(),
+                        transaction.amount(),
+                        transaction.description(),
+                        transaction.category().id(),
+                        transaction.category().name(),
+                        transaction.transactionDate(),
+                        transaction.createdAt()));
+    }
+
+    @Override
+    public void finish() {
+        sequenceWriter.flush();
+        try {
+            if (!empty) {
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write NDJSON export", e);
+        }
+    }
+}
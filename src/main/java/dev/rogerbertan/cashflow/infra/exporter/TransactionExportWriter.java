@@ -0,0 +1,11 @@
+package dev.rogerbertan.cashflow.infra.exporter;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import java.util.function.Consumer;
+
+public interface TransactionExportWriter extends Consumer<Transaction> {
+
+    void writeHeader();
+
+    void finish();
+}
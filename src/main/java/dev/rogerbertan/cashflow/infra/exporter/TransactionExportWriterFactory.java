@@ -0,0 +1,38 @@
+package dev.rogerbertan.cashflow.infra.exporter;
+
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+
+@Component
+public class TransactionExportWriterFactory {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectWriter ndjsonWriter;
+
+    public TransactionExportWriterFactory(ObjectMapper objectMapper) {
+        this.ndjsonWriter =
+                objectMapper
+                        .writer()
+                        .withRootValueSeparator("\n")
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public TransactionExportWriter create(ExportFormat format, OutputStream output) {
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        return switch (format) {
+            case CSV -> new CsvTransactionExportWriter(writer);
+            case NDJSON -> new NdjsonTransactionExportWriter(ndjsonWriter, writer);
+        };
+    }
+}
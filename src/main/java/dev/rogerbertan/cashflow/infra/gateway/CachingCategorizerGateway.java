@@ -0,0 +1,61 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.cache.CategorySuggestionCache;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CachingCategorizerGateway implements AICategorizerGateway {
+
+    private final AICategorizerGateway delegate;
+    private final CategorySuggestionCache suggestionCache;
+
+    public CachingCategorizerGateway(
+            AICategorizerGateway delegate, CategorySuggestionCache suggestionCache) {
+        this.delegate = delegate;
+        this.suggestionCache = suggestionCache;
+    }
+
+    @Override
+    public CategorySuggestion suggestCategory(String description, Type type) {
+        if (description == null) {
+            return delegate.suggestCategory(description, type);
+        }
+
+        return suggestionCache.get(
+                description, type, () -> delegate.suggestCategory(description, type));
+    }
+
+    @Override
+    public CompletableFuture<CategorySuggestion> suggestCategoryAsync(
+            String description, Type type) {
+        if (description == null) {
+            return delegate.suggestCategoryAsync(description, type);
+        }
+
+        return suggestionCache.getAsync(
+                description, type, () -> delegate.suggestCategoryAsync(description, type));
+    }
+
+    @Override
+    public List<CategorySuggestion> suggestCategories(List<CategorySuggestionQuery> queries) {
+        if (queries.stream().anyMatch(query -> query.description() == null)) {
+            return delegate.suggestCategories(queries);
+        }
+
+        return suggestionCache.getAll(queries, delegate::suggestCategories);
+    }
+
+    @Override
+    public CompletableFuture<List<CategorySuggestion>> suggestCategoriesAsync(
+            List<CategorySuggestionQuery> queries) {
+        if (queries.stream().anyMatch(query -> query.description() == null)) {
+            return delegate.suggestCategoriesAsync(queries);
+        }
+
+        return suggestionCache.getAllAsync(queries, delegate::suggestCategoriesAsync);
+    }
+}
@@ -0,0 +1,57 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import dev.rogerbertan.cashflow.domain.gateway.AIInsightsGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.InsightsFingerprint;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.infra.cache.SpendingInsightsCache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public class CachingInsightsGateway implements AIInsightsGateway {
+
+    private final AIInsightsGateway delegate;
+    private final SpendingInsightsCache insightsCache;
+
+    public CachingInsightsGateway(AIInsightsGateway delegate, SpendingInsightsCache insightsCache) {
+        this.delegate = delegate;
+        this.insightsCache = insightsCache;
+    }
+
+    @Override
+    public SpendingInsights generateInsights(TransactionAnalysisData analysisData) {
+        return insightsCache.get(
+                InsightsFingerprint.of(analysisData),
+                () -> delegate.generateInsights(analysisData));
+    }
+
+    @Override
+    public CompletableFuture<SpendingInsights> generateInsightsAsync(
+            TransactionAnalysisData analysisData) {
+        return insightsCache.getAsync(
+                InsightsFingerprint.of(analysisData),
+                () -> delegate.generateInsightsAsync(analysisData));
+    }
+
+    @Override
+    public CompletableFuture<SpendingInsights> streamInsights(
+            TransactionAnalysisData analysisData, Consumer<String> onInsight) {
+        // Cached answers, and answers streamed to another caller, are handed out all at once
+        AtomicBoolean streamed = new AtomicBoolean();
+        return insightsCache
+                .getAsync(
+                        InsightsFingerprint.of(analysisData),
+                        () -> {
+                            streamed.set(true);
+                            return delegate.streamInsights(analysisData, onInsight);
+                        })
+                .thenApply(
+                        insights -> {
+                            if (!streamed.get()) {
+                                insights.insights().forEach(onInsight);
+                            }
+                            return insights;
+                        });
+    }
+}
@@ -1,11 +1,15 @@
 package dev.rogerbertan.cashflow.infra.gateway;
 
 import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
 import dev.rogerbertan.cashflow.infra.mapper.CategoryEntityMapper;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryEntity;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,22 +18,34 @@ public class CategoryRepositoryGateway implements CategoryGateway {
 
     private final CategoryRepository categoryRepository;
     private final CategoryEntityMapper entityMapper;
+    private final CategoryRegistry categoryRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CategoryRepositoryGateway(
-            CategoryRepository categoryRepository, CategoryEntityMapper entityMapper) {
+            CategoryRepository categoryRepository,
+            CategoryEntityMapper entityMapper,
+            CategoryRegistry categoryRegistry,
+            ApplicationEventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
         this.entityMapper = entityMapper;
+        this.categoryRegistry = categoryRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public List<Category> findAllCategories() {
 
-        return categoryRepository.findAll().stream().map(entityMapper::toDomain).toList();
+        return categoryRegistry.findAll();
     }
 
     @Override
     public Category findCategoryById(Long id) {
-        return categoryRepository.findById(id).map(entityMapper::toDomain).orElse(null);
+        return categoryRegistry.findById(id);
+    }
+
+    @Override
+    public Category findCategoryByTypeAndName(Type type, String name) {
+        return categoryRegistry.findByTypeAndName(type, name);
     }
 
     @Override
@@ -37,6 +53,7 @@ public class CategoryRepositoryGateway implements CategoryGateway {
     public Category createCategory(Category category) {
 
         CategoryEntity savedEntity = categoryRepository.save(entityMapper.toEntity(category));
+        eventPublisher.publishEvent(new CategoriesChangedEvent(savedEntity.getId()));
 
         return entityMapper.toDomain(savedEntity);
     }
@@ -46,6 +63,7 @@ public class CategoryRepositoryGateway implements CategoryGateway {
     public Category updateCategory(Category category) {
 
         CategoryEntity updatedEntity = categoryRepository.save(entityMapper.toEntity(category));
+        eventPublisher.publishEvent(new CategoriesChangedEvent(updatedEntity.getId()));
 
         return entityMapper.toDomain(updatedEntity);
     }
@@ -55,5 +73,6 @@ public class CategoryRepositoryGateway implements CategoryGateway {
     public void deleteCategory(Long id) {
 
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(id));
     }
 }
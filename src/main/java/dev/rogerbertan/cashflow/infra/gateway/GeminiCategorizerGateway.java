@@ -1,25 +1,57 @@
 package dev.rogerbertan.cashflow.infra.gateway;
 
 import com.google.genai.Client;
+import com.google.genai.types.GenerateContentConfig;
 import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.HttpOptions;
+import com.google.genai.types.Schema;
+import com.google.genai.types.Type.Known;
 import dev.rogerbertan.cashflow.domain.entities.Category;
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
 import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
 import dev.rogerbertan.cashflow.infra.config.AIProperties;
 import dev.rogerbertan.cashflow.infra.exception.AICategorizeException;
+import dev.rogerbertan.cashflow.infra.exception.AITimeoutException;
+import dev.rogerbertan.cashflow.infra.exception.AIUnavailableException;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
+import dev.rogerbertan.cashflow.infra.util.Deadlines;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
 
 public class GeminiCategorizerGateway implements AICategorizerGateway {
 
+    private static final GenerateContentConfig BATCH_CONFIG = buildBatchConfig();
+
     private final CategoryGateway categoryGateway;
     private final AIProperties aiProperties;
+    private final ExecutorService aiExecutor;
+    private final GeminiResilience geminiResilience;
     private final Client geminiClient;
 
-    public GeminiCategorizerGateway(CategoryGateway categoryGateway, AIProperties aiProperties) {
+    public GeminiCategorizerGateway(
+            CategoryGateway categoryGateway,
+            AIProperties aiProperties,
+            ExecutorService aiExecutor,
+            GeminiResilience geminiResilience) {
         this.categoryGateway = categoryGateway;
         this.aiProperties = aiProperties;
+        this.aiExecutor = aiExecutor;
+        this.geminiResilience = geminiResilience;
         System.out.println("Using Gemini model: " + aiProperties.getModelName());
         this.geminiClient = initializeClient();
     }
@@ -30,7 +62,13 @@ public class GeminiCategorizerGateway implements AICategorizerGateway {
                 throw new AICategorizeException(
                         "Gemini API key is not configured. Set GOOGLE_API_KEY environment variable.");
             }
-            return Client.builder().apiKey(aiProperties.getApiKey()).build();
+            return Client.builder()
+                    .apiKey(aiProperties.getApiKey())
+                    .httpOptions(
+                            HttpOptions.builder()
+                                    .timeout(aiProperties.getTimeoutSeconds() * 1000)
+                                    .build())
+                    .build();
         } catch (Exception e) {
             throw new AICategorizeException("Failed to initialize Gemini client", e);
         }
@@ -38,33 +76,228 @@ public class GeminiCategorizerGateway implements AICategorizerGateway {
 
     @Override
     public CategorySuggestion suggestCategory(String description, Type type) {
+        return Deadlines.await(suggestCategoryAsync(description, type));
+    }
+
+    @Override
+    public CompletableFuture<CategorySuggestion> suggestCategoryAsync(
+            String description, Type type) {
         if (!aiProperties.isEnabled()) {
-            return new CategorySuggestion(null, "disabled", "AI categorization is disabled");
+            return CompletableFuture.completedFuture(
+                    new CategorySuggestion(null, "disabled", "AI categorization is disabled"));
         }
 
         List<Category> allCategories = categoryGateway.findAllCategories();
         if (allCategories.isEmpty()) {
-            return new CategorySuggestion(null, "low", "No categories available in the system");
+            return CompletableFuture.completedFuture(
+                    new CategorySuggestion(null, "low", "No categories available in the system"));
         }
 
-        String prompt = buildPrompt(description, type, allCategories);
-
+        String prompt;
         try {
-            String aiResponse = callGeminiAPI(prompt);
-            Category matchedCategory = matchCategory(aiResponse, allCategories, type);
+            prompt = buildPrompt(description, type, allCategories);
+        } catch (AICategorizeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return callGeminiAPIAsync(prompt, null)
+                .thenApply(aiResponse -> matchCategory(aiResponse, type))
+                .exceptionally(
+                        error -> {
+                            if (unwrap(error) instanceof AIUnavailableException unavailable) {
+                                return CategorySuggestion.unavailable(unavailable.getMessage());
+                            }
+                            throw failure("Failed to get AI category suggestion", error);
+                        });
+    }
+
+    @Override
+    public List<CategorySuggestion> suggestCategories(List<CategorySuggestionQuery> queries) {
+        return Deadlines.await(suggestCategoriesAsync(queries));
+    }
+
+    @Override
+    public CompletableFuture<List<CategorySuggestion>> suggestCategoriesAsync(
+            List<CategorySuggestionQuery> queries) {
+        if (!aiProperties.isEnabled()) {
+            return CompletableFuture.completedFuture(
+                    queries.stream()
+                            .map(
+                                    query ->
+                                            new CategorySuggestion(
+                                                    null,
+                                                    "disabled",
+                                                    "AI categorization is disabled"))
+                            .toList());
+        }
+
+        if (queries.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        List<Category> allCategories = categoryGateway.findAllCategories();
+        if (allCategories.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    queries.stream()
+                            .map(
+                                    query ->
+                                            new CategorySuggestion(
+                                                    null,
+                                                    "low",
+                                                    "No categories available in the system"))
+                            .toList());
+        }
 
-            if (matchedCategory != null) {
-                return new CategorySuggestion(matchedCategory, "high", aiResponse);
-            } else {
-                return new CategorySuggestion(null, "low", aiResponse);
+        List<List<Integer>> chunks = chunkByType(queries, aiProperties.getBatchChunkSize());
+        CategorySuggestion[] suggestions = new CategorySuggestion[queries.size()];
+        int lanes = Math.max(1, Math.min(aiProperties.getBatchParallelism(), chunks.size()));
+
+        // Chunks are spread over lanes that send one prompt at a time, so at most
+        // batchParallelism calls run together and each gets its full deadline. Every chunk
+        // fills its own slots, and allOf publishes them to whoever reads the result.
+        CompletableFuture<?>[] running = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> sequence = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < chunks.size(); i += lanes) {
+                List<Integer> chunk = chunks.get(i);
+                sequence =
+                        sequence.thenCompose(
+                                ignored ->
+                                        suggestChunkAsync(
+                                                queries, chunk, allCategories, suggestions));
             }
-        } catch (Exception e) {
-            throw new AICategorizeException(
-                    "Failed to get AI category suggestion: " + e.getMessage(), e);
+            running[lane] = sequence;
         }
+
+        return CompletableFuture.allOf(running)
+                .thenApply(ignored -> Arrays.asList(suggestions))
+                .exceptionally(
+                        error -> {
+                            throw failure("Failed to get AI category suggestions", error);
+                        });
     }
 
-    private String buildPrompt(String description, Type type, List<Category> categories) {
+    private CompletableFuture<Void> suggestChunkAsync(
+            List<CategorySuggestionQuery> queries,
+            List<Integer> chunk,
+            List<Category> allCategories,
+            CategorySuggestion[] suggestions) {
+        Type type = queries.get(chunk.get(0)).type();
+        List<String> descriptions =
+                chunk.stream().map(position -> queries.get(position).description()).toList();
+
+        String prompt = buildBatchPrompt(descriptions, type, allCategories);
+        return callGeminiAPIAsync(prompt, BATCH_CONFIG)
+                .thenAccept(
+                        aiResponse -> {
+                            Map<Integer, String> answers = parseBatchResponse(aiResponse);
+                            for (int i = 0; i < chunk.size(); i++) {
+                                String answer = answers.get(i);
+                                suggestions[chunk.get(i)] =
+                                        answer != null
+                                                ? matchCategory(answer, type)
+                                                : new CategorySuggestion(
+                                                        null,
+                                                        "low",
+                                                        "No answer returned for this description");
+                            }
+                        })
+                .exceptionally(
+                        error -> {
+                            // A refused chunk falls back on its own; the rest of the batch stands
+                            if (!(unwrap(error) instanceof AIUnavailableException unavailable)) {
+                                throw error instanceof RuntimeException runtime
+                                        ? runtime
+                                        : new CompletionException(error);
+                            }
+                            chunk.forEach(
+                                    position ->
+                                            suggestions[position] =
+                                                    CategorySuggestion.unavailable(
+                                                            unavailable.getMessage()));
+                            return null;
+                        });
+    }
+
+    private CategorySuggestion matchCategory(String aiResponse, Type type) {
+        Category matchedCategory = categoryGateway.findCategoryByTypeAndName(type, aiResponse);
+
+        if (matchedCategory != null) {
+            return new CategorySuggestion(matchedCategory, "high", aiResponse);
+        } else {
+            return new CategorySuggestion(null, "low", aiResponse);
+        }
+    }
+
+    // Groups query positions by type, since each prompt lists the categories of a single type
+    static List<List<Integer>> chunkByType(List<CategorySuggestionQuery> queries, int chunkSize) {
+        int size = Math.max(1, chunkSize);
+        Map<Type, List<Integer>> positionsByType = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            positionsByType
+                    .computeIfAbsent(queries.get(i).type(), type -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<List<Integer>> chunks = new ArrayList<>();
+        positionsByType
+                .values()
+                .forEach(
+                        positions -> {
+                            for (int from = 0; from < positions.size(); from += size) {
+                                chunks.add(
+                                        positions.subList(
+                                                from, Math.min(from + size, positions.size())));
+                            }
+                        });
+        return chunks;
+    }
+
+    // Maps each answer's index to its category name; entries without both fields are skipped
+    static Map<Integer, String> parseBatchResponse(String aiResponse) {
+        JsonNode root;
+        try {
+            root = JsonMapper.shared().readTree(aiResponse);
+        } catch (JacksonException e) {
+            throw new AICategorizeException("Gemini API returned invalid JSON", e);
+        }
+
+        if (!root.isArray()) {
+            throw new AICategorizeException("Gemini API returned an unexpected batch response");
+        }
+
+        Map<Integer, String> answers = new HashMap<>();
+        root.forEach(
+                node -> {
+                    JsonNode index = node.get("index");
+                    JsonNode category = node.get("category");
+                    if (index != null && index.isIntegralNumber() && category != null) {
+                        answers.putIfAbsent(index.intValue(), category.asString().trim());
+                    }
+                });
+        return answers;
+    }
+
+    private String buildBatchPrompt(
+            List<String> descriptions, Type type, List<Category> categories) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("You are a transaction categorizer. For each numbered transaction below, ");
+        prompt.append("select the most appropriate category from the list based on its ");
+        prompt.append("description.\n\n");
+        appendCategories(prompt, type, categories);
+
+        prompt.append("\nTransactions:\n");
+        for (int i = 0; i < descriptions.size(); i++) {
+            prompt.append(i).append(". \"").append(descriptions.get(i)).append("\"\n");
+        }
+
+        prompt.append("\nAnswer every transaction with its number as index and the exact ");
+        prompt.append("category name as category.");
+
+        return prompt.toString();
+    }
+
+    private void appendCategories(StringBuilder prompt, Type type, List<Category> categories) {
         List<String> categoryNames =
                 categories.stream()
                         .filter(category -> category.type() == type)
@@ -75,14 +308,17 @@ public class GeminiCategorizerGateway implements AICategorizerGateway {
             throw new AICategorizeException("No categories found for type: " + type);
         }
 
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("You are a transaction categorizer. Select the most appropriate category ");
-        prompt.append("from the list below based on the transaction description.\n\n");
         prompt.append("Available ").append(type).append(" categories:\n");
-
         for (String categoryName : categoryNames) {
             prompt.append("- ").append(categoryName).append("\n");
         }
+    }
+
+    private String buildPrompt(String description, Type type, List<Category> categories) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("You are a transaction categorizer. Select the most appropriate category ");
+        prompt.append("from the list below based on the transaction description.\n\n");
+        appendCategories(prompt, type, categories);
 
         prompt.append("\nTransaction: \"").append(description).append("\"\n\n");
         prompt.append("Respond with ONLY the category name, nothing else.");
@@ -90,10 +326,53 @@ public class GeminiCategorizerGateway implements AICategorizerGateway {
         return prompt.toString();
     }
 
-    private String callGeminiAPI(String prompt) {
+    private CompletableFuture<String> callGeminiAPIAsync(
+            String prompt, GenerateContentConfig config) {
+        return geminiResilience.call(() -> callGeminiAPIWithDeadline(prompt, config));
+    }
+
+    private CompletableFuture<String> callGeminiAPIWithDeadline(
+            String prompt, GenerateContentConfig config) {
+        return Deadlines.supplyAsync(
+                        aiExecutor,
+                        Duration.ofSeconds(aiProperties.getTimeoutSeconds()),
+                        () -> callGeminiAPI(prompt, config))
+                .exceptionally(
+                        error -> {
+                            Throwable cause = unwrap(error);
+                            if (cause instanceof TimeoutException) {
+                                throw new AITimeoutException(
+                                        "Gemini API did not answer within "
+                                                + aiProperties.getTimeoutSeconds()
+                                                + " seconds",
+                                        cause);
+                            }
+                            throw cause instanceof RuntimeException runtime
+                                    ? runtime
+                                    : new CompletionException(cause);
+                        });
+    }
+
+    // Timeouts keep their own status; anything else surfaces as a categorization failure
+    private static RuntimeException failure(String message, Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof AITimeoutException timeout) {
+            return timeout;
+        }
+        return new AICategorizeException(message + ": " + cause.getMessage(), cause);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
+
+    private String callGeminiAPI(String prompt, GenerateContentConfig config) {
         try {
             GenerateContentResponse response =
-                    geminiClient.models.generateContent(aiProperties.getModelName(), prompt, null);
+                    geminiClient.models.generateContent(
+                            aiProperties.getModelName(), prompt, config);
 
             String responseText = response.text();
             if (responseText == null || responseText.trim().isEmpty()) {
@@ -106,11 +385,20 @@ public class GeminiCategorizerGateway implements AICategorizerGateway {
         }
     }
 
-    private Category matchCategory(String aiResponse, List<Category> categories, Type type) {
-        return categories.stream()
-                .filter(category -> category.type() == type)
-                .filter(category -> category.name().equalsIgnoreCase(aiResponse))
-                .findFirst()
-                .orElse(null);
+    private static GenerateContentConfig buildBatchConfig() {
+        Schema answer =
+                Schema.builder()
+                        .type(Known.OBJECT)
+                        .properties(
+                                Map.of(
+                                        "index", Schema.builder().type(Known.INTEGER).build(),
+                                        "category", Schema.builder().type(Known.STRING).build()))
+                        .required("index", "category")
+                        .build();
+
+        return GenerateContentConfig.builder()
+                .responseMimeType("application/json")
+                .responseSchema(Schema.builder().type(Known.ARRAY).items(answer).build())
+                .build();
     }
 }
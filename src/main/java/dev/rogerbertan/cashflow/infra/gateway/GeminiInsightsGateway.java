@@ -1,25 +1,46 @@
 package dev.rogerbertan.cashflow.infra.gateway;
 
 import com.google.genai.Client;
+import com.google.genai.ResponseStream;
 import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.HttpOptions;
 import dev.rogerbertan.cashflow.domain.gateway.AIInsightsGateway;
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
 import dev.rogerbertan.cashflow.infra.config.AIProperties;
 import dev.rogerbertan.cashflow.infra.exception.AIInsightsException;
+import dev.rogerbertan.cashflow.infra.exception.AITimeoutException;
+import dev.rogerbertan.cashflow.infra.exception.AIUnavailableException;
+import dev.rogerbertan.cashflow.infra.exception.InsightDeliveryException;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
+import dev.rogerbertan.cashflow.infra.util.Deadlines;
+import dev.rogerbertan.cashflow.infra.util.InsightLineParser;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class GeminiInsightsGateway implements AIInsightsGateway {
 
     private final AIProperties aiProperties;
+    private final ExecutorService aiExecutor;
+    private final GeminiResilience geminiResilience;
     private final Client geminiClient;
 
-    public GeminiInsightsGateway(AIProperties aiProperties) {
+    public GeminiInsightsGateway(
+            AIProperties aiProperties,
+            ExecutorService aiExecutor,
+            GeminiResilience geminiResilience) {
         this.aiProperties = aiProperties;
+        this.aiExecutor = aiExecutor;
+        this.geminiResilience = geminiResilience;
         System.out.println("Using Gemini model for insights: " + aiProperties.getModelName());
 
         if (aiProperties.isEnabled()
@@ -36,7 +57,13 @@ public class GeminiInsightsGateway implements AIInsightsGateway {
                 throw new AIInsightsException(
                         "Gemini API key is not configured. Set GOOGLE_API_KEY environment variable.");
             }
-            return Client.builder().apiKey(aiProperties.getApiKey()).build();
+            return Client.builder()
+                    .apiKey(aiProperties.getApiKey())
+                    .httpOptions(
+                            HttpOptions.builder()
+                                    .timeout(aiProperties.getTimeoutSeconds() * 1000)
+                                    .build())
+                    .build();
         } catch (Exception e) {
             throw new AIInsightsException("Failed to initialize Gemini client for insights", e);
         }
@@ -44,26 +71,80 @@ public class GeminiInsightsGateway implements AIInsightsGateway {
 
     @Override
     public SpendingInsights generateInsights(TransactionAnalysisData analysisData) {
+        return Deadlines.await(generateInsightsAsync(analysisData));
+    }
+
+    @Override
+    public CompletableFuture<SpendingInsights> generateInsightsAsync(
+            TransactionAnalysisData analysisData) {
+        return generate(analysisData, this::callGeminiAPI, insight -> {});
+    }
+
+    @Override
+    public CompletableFuture<SpendingInsights> streamInsights(
+            TransactionAnalysisData analysisData, Consumer<String> onInsight) {
+        return generate(analysisData, prompt -> streamGeminiAPI(prompt, onInsight), onInsight);
+    }
+
+    // Fallback answers never come from Gemini, so their insights are handed to onFallback instead
+    private CompletableFuture<SpendingInsights> generate(
+            TransactionAnalysisData analysisData,
+            Function<String, String> geminiCall,
+            Consumer<String> onFallback) {
         if (!aiProperties.isEnabled() || geminiClient == null) {
-            return new SpendingInsights(
-                    List.of("AI insights are disabled"),
-                    analysisData.period(),
-                    "AI analysis unavailable",
-                    "disabled");
+            SpendingInsights disabled =
+                    new SpendingInsights(
+                            List.of("AI insights are disabled"),
+                            analysisData.period(),
+                            "AI analysis unavailable",
+                            "disabled");
+            disabled.insights().forEach(onFallback);
+            return CompletableFuture.completedFuture(disabled);
         }
 
         String prompt = buildPrompt(analysisData);
 
-        try {
-            String aiResponse = callGeminiAPI(prompt);
-            List<String> insights = parseInsights(aiResponse);
-            String summary = generateSummary(insights, aiResponse);
-
-            return new SpendingInsights(insights, analysisData.period(), summary, aiResponse);
-        } catch (Exception e) {
-            throw new AIInsightsException(
-                    "Failed to generate spending insights: " + e.getMessage(), e);
-        }
+        return geminiResilience
+                .call(
+                        () ->
+                                Deadlines.supplyAsync(
+                                        aiExecutor,
+                                        Duration.ofSeconds(aiProperties.getTimeoutSeconds()),
+                                        () -> geminiCall.apply(prompt)))
+                .thenApply(
+                        aiResponse -> {
+                            List<String> insights = InsightLineParser.parse(aiResponse);
+                            String summary = generateSummary(insights, aiResponse);
+                            return new SpendingInsights(
+                                    insights, analysisData.period(), summary, aiResponse);
+                        })
+                .exceptionally(
+                        error -> {
+                            Throwable cause =
+                                    error instanceof CompletionException && error.getCause() != null
+                                            ? error.getCause()
+                                            : error;
+                            if (cause instanceof AIUnavailableException) {
+                                SpendingInsights unavailable =
+                                        SpendingInsights.unavailable(
+                                                analysisData.period(), cause.getMessage());
+                                unavailable.insights().forEach(onFallback);
+                                return unavailable;
+                            }
+                            if (cause instanceof InsightDeliveryException e) {
+                                throw e;
+                            }
+                            if (cause instanceof TimeoutException) {
+                                throw new AITimeoutException(
+                                        "Gemini API did not answer within "
+                                                + aiProperties.getTimeoutSeconds()
+                                                + " seconds",
+                                        cause);
+                            }
+                            throw new AIInsightsException(
+                                    "Failed to generate spending insights: " + cause.getMessage(),
+                                    cause);
+                        });
     }
 
     private String buildPrompt(TransactionAnalysisData data) {
@@ -189,13 +270,41 @@ public class GeminiInsightsGateway implements AIInsightsGateway {
         }
     }
 
-    private List<String> parseInsights(String aiResponse) {
-        return Arrays.stream(aiResponse.split("\n"))
-                .map(String::trim)
-                .filter(line -> !line.isEmpty())
-                .filter(line -> !line.matches("^\\d+\\.\\s*$"))
-                .map(line -> line.replaceAll("^[\\d\\-*•]+\\.?\\s*", ""))
-                .toList();
+    private String streamGeminiAPI(String prompt, Consumer<String> onInsight) {
+        Consumer<String> deliver =
+                insight -> {
+                    try {
+                        onInsight.accept(insight);
+                    } catch (RuntimeException e) {
+                        throw new InsightDeliveryException(e);
+                    }
+                };
+        InsightLineParser parser = new InsightLineParser();
+        StringBuilder responseText = new StringBuilder();
+        try (ResponseStream<GenerateContentResponse> stream =
+                geminiClient.models.generateContentStream(
+                        aiProperties.getModelName(), prompt, null)) {
+            for (GenerateContentResponse chunk : stream) {
+                String text = chunk.text();
+                if (text == null) {
+                    continue;
+                }
+
+                responseText.append(text);
+                parser.accept(text).forEach(deliver);
+            }
+        } catch (InsightDeliveryException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AIInsightsException("Gemini API call failed: " + e.getMessage(), e);
+        }
+
+        if (responseText.toString().trim().isEmpty()) {
+            throw new AIInsightsException("Gemini API returned empty response");
+        }
+        parser.finish().forEach(deliver);
+
+        return responseText.toString().trim();
     }
 
     private String generateSummary(List<String> insights, String rawResponse) {
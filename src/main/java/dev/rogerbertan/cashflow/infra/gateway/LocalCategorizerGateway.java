@@ -0,0 +1,81 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
+import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.categorizer.LocalCategoryModel;
+import dev.rogerbertan.cashflow.infra.config.CategorizerProperties;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class LocalCategorizerGateway implements AICategorizerGateway {
+
+    private final LocalCategoryModel localCategoryModel;
+    private final CategoryGateway categoryGateway;
+    private final CategorizerProperties categorizerProperties;
+
+    public LocalCategorizerGateway(
+            LocalCategoryModel localCategoryModel,
+            CategoryGateway categoryGateway,
+            CategorizerProperties categorizerProperties) {
+        this.localCategoryModel = localCategoryModel;
+        this.categoryGateway = categoryGateway;
+        this.categorizerProperties = categorizerProperties;
+    }
+
+    @Override
+    public CategorySuggestion suggestCategory(String description, Type type) {
+        if (!categorizerProperties.isLocalEnabled()) {
+            return new CategorySuggestion(
+                    null, "disabled", "Local categorization is disabled", 0.0);
+        }
+
+        List<Long> candidateIds =
+                categoryGateway.findAllCategories().stream()
+                        .filter(category -> category.type() == type)
+                        .map(Category::id)
+                        .toList();
+
+        LocalCategoryModel.Prediction prediction =
+                localCategoryModel.predict(description, candidateIds);
+        if (prediction == null) {
+            return new CategorySuggestion(
+                    null, "low", "No local training data for this description", 0.0);
+        }
+
+        Category category = categoryGateway.findCategoryById(prediction.categoryId());
+        if (category == null) {
+            return new CategorySuggestion(
+                    null, "low", "No local training data for this description", 0.0);
+        }
+
+        String confidence =
+                prediction.score() >= categorizerProperties.getLocalConfidenceThreshold()
+                        ? "high"
+                        : "low";
+        return new CategorySuggestion(category, confidence, category.name(), prediction.score());
+    }
+
+    // The model answers from memory, so the async variants complete before returning
+    @Override
+    public CompletableFuture<CategorySuggestion> suggestCategoryAsync(
+            String description, Type type) {
+        return CompletableFuture.completedFuture(suggestCategory(description, type));
+    }
+
+    @Override
+    public List<CategorySuggestion> suggestCategories(List<CategorySuggestionQuery> queries) {
+        return queries.stream()
+                .map(query -> suggestCategory(query.description(), query.type()))
+                .toList();
+    }
+
+    @Override
+    public CompletableFuture<List<CategorySuggestion>> suggestCategoriesAsync(
+            List<CategorySuggestionQuery> queries) {
+        return CompletableFuture.completedFuture(suggestCategories(queries));
+    }
+}
@@ -0,0 +1,43 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import dev.rogerbertan.cashflow.domain.gateway.SpendingInsightsGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.infra.mapper.SpendingInsightsEntityMapper;
+import dev.rogerbertan.cashflow.infra.persistence.SpendingInsightsId;
+import dev.rogerbertan.cashflow.infra.persistence.SpendingInsightsRepository;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class SpendingInsightsRepositoryGateway implements SpendingInsightsGateway {
+
+    private final SpendingInsightsRepository spendingInsightsRepository;
+    private final SpendingInsightsEntityMapper entityMapper;
+
+    public SpendingInsightsRepositoryGateway(
+            SpendingInsightsRepository spendingInsightsRepository,
+            SpendingInsightsEntityMapper entityMapper) {
+        this.spendingInsightsRepository = spendingInsightsRepository;
+        this.entityMapper = entityMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PeriodInsights> findInsights(String period, LocalDate startDate) {
+        return spendingInsightsRepository
+                .findById(new SpendingInsightsId(period, startDate))
+                .map(entityMapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public PeriodInsights saveInsights(String period, DateRange dates, SpendingInsights insights) {
+        // Replaces whatever was generated for the period before
+        return entityMapper.toDomain(
+                spendingInsightsRepository.save(entityMapper.toEntity(period, dates, insights)));
+    }
+}
@@ -1,24 +1,52 @@
 package dev.rogerbertan.cashflow.infra.gateway;
 
+import dev.rogerbertan.cashflow.domain.entities.Category;
 import dev.rogerbertan.cashflow.domain.entities.Transaction;
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportFailure;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
+import dev.rogerbertan.cashflow.infra.categorizer.TrainingSample;
+import dev.rogerbertan.cashflow.infra.categorizer.TrainingSamplesEvent;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
 import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
 import dev.rogerbertan.cashflow.infra.exception.ResourceNotFoundException;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionEntityMapper;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotEntity;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotRepository;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryEntity;
-import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
+import dev.rogerbertan.cashflow.infra.persistence.CategoryPeriodTotals;
+import dev.rogerbertan.cashflow.infra.persistence.DailyTotal;
+import dev.rogerbertan.cashflow.infra.persistence.MonthlyCategoryTotalId;
+import dev.rogerbertan.cashflow.infra.persistence.MonthlyCategoryTotalRepository;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionCopyWriter;
 import dev.rogerbertan.cashflow.infra.persistence.TransactionEntity;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionExportRow;
 import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -27,26 +55,70 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class TransactionRepositoryGateway implements TransactionGateway {
 
+    private static final int IMPORT_CHUNK_SIZE = 5000;
+    private static final int MAX_REPORTED_IMPORT_FAILURES = 1000;
+    private static final int MAX_DESCRIPTION_LENGTH = 100;
+    private static final Comparator<MonthlyCategoryTotalId> BUCKET_ORDER =
+            Comparator.comparing(MonthlyCategoryTotalId::getYear)
+                    .thenComparing(MonthlyCategoryTotalId::getMonth)
+                    .thenComparing(MonthlyCategoryTotalId::getCategoryId)
+                    .thenComparing(MonthlyCategoryTotalId::getType);
+
     private final TransactionRepository transactionRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final TransactionCopyWriter transactionCopyWriter;
     private final TransactionEntityMapper entityMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TransactionRepositoryGateway(
             TransactionRepository transactionRepository,
-            CategoryRepository categoryRepository,
-            TransactionEntityMapper entityMapper) {
+            CategoryRegistry categoryRegistry,
+            MonthlyCategoryTotalRepository monthlyCategoryTotalRepository,
+            BalanceSnapshotRepository balanceSnapshotRepository,
+            TransactionCopyWriter transactionCopyWriter,
+            TransactionEntityMapper entityMapper,
+            ApplicationEventPublisher eventPublisher) {
         this.transactionRepository = transactionRepository;
-        this.categoryRepository = categoryRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.monthlyCategoryTotalRepository = monthlyCategoryTotalRepository;
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.transactionCopyWriter = transactionCopyWriter;
         this.entityMapper = entityMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Transaction> findAllTransactions(Pageable pageable) {
 
         Page<TransactionEntity> entities = transactionRepository.findAll(pageable);
         return entities.map(entityMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionSlice findTransactionsAfter(TransactionCursor cursor, int size) {
+
+        Limit limit = Limit.of(size + 1);
+        List<TransactionEntity> entities =
+                cursor == null
+                        ? transactionRepository.findLatest(limit)
+                        : transactionRepository.findLatestBefore(
+                                cursor.createdAt(), cursor.id(), limit);
+
+        TransactionCursor nextCursor = null;
+        if (entities.size() > size) {
+            entities = entities.subList(0, size);
+            TransactionEntity last = entities.get(size - 1);
+            nextCursor = new TransactionCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return new TransactionSlice(
+                entities.stream().map(entityMapper::toDomain).toList(), nextCursor);
+    }
+
     @Override
     public Transaction findTransactionById(Long id) {
 
@@ -63,7 +135,52 @@ public class TransactionRepositoryGateway implements TransactionGateway {
         TransactionEntity entity = entityMapper.toEntity(transaction);
         entity.setCategory(category);
 
-        return entityMapper.toDomain(transactionRepository.save(entity));
+        TransactionEntity savedEntity = transactionRepository.save(entity);
+        addToRunningTotals(savedEntity);
+        publishTrainingSamples(List.of(toTrainingSample(savedEntity, 1)));
+        publishTransactionsChanged(
+                savedEntity.getTransactionDate(), savedEntity.getTransactionDate());
+
+        return entityMapper.toDomain(savedEntity);
+    }
+
+    @Override
+    @Transactional
+    public List<Transaction> createTransactions(List<Transaction> transactions) {
+
+        Map<MonthlyCategoryTotalId, BigDecimal> amountsByBucket = new HashMap<>();
+        Map<MonthlyCategoryTotalId, Long> countsByBucket = new HashMap<>();
+        List<TransactionEntity> entities = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            validateAmountPositive(transaction.amount());
+            CategoryEntity category = validateTypeIsEqualCategoryType(transaction);
+
+            TransactionEntity entity = entityMapper.toEntity(transaction);
+            entity.setCategory(category);
+            entities.add(entity);
+
+            MonthlyCategoryTotalId bucket =
+                    new MonthlyCategoryTotalId(
+                            transaction.transactionDate().getYear(),
+                            transaction.transactionDate().getMonthValue(),
+                            category.getId(),
+                            transaction.type());
+            amountsByBucket.merge(bucket, transaction.amount(), BigDecimal::add);
+            countsByBucket.merge(bucket, 1L, Long::sum);
+        }
+
+        // Inserts are flushed as JDBC batches before the first rollup update runs
+        List<TransactionEntity> savedEntities = transactionRepository.saveAll(entities);
+        addToRunningTotals(amountsByBucket, countsByBucket);
+        publishTrainingSamples(
+                savedEntities.stream().map(saved -> toTrainingSample(saved, 1)).toList());
+        if (!transactions.isEmpty()) {
+            List<LocalDate> dates =
+                    transactions.stream().map(Transaction::transactionDate).toList();
+            publishTransactionsChanged(Collections.min(dates), Collections.max(dates));
+        }
+
+        return savedEntities.stream().map(entityMapper::toDomain).toList();
     }
 
     @Override
@@ -71,10 +188,40 @@ public class TransactionRepositoryGateway implements TransactionGateway {
     public Transaction updateTransaction(Transaction transaction) {
 
         validateAmountPositive(transaction.amount());
-        validateTypeIsEqualCategoryType(transaction);
+        CategoryEntity category = validateTypeIsEqualCategoryType(transaction);
 
-        TransactionEntity updatedEntity =
-                transactionRepository.save(entityMapper.toEntity(transaction));
+        TransactionEntity entity =
+                transactionRepository
+                        .findByIdForUpdate(transaction.id())
+                        .orElseThrow(
+                                () ->
+                                        new ResourceNotFoundException(
+                                                "Transaction", "id: " + transaction.id()));
+        Map<MonthlyCategoryTotalId, BigDecimal> amountsByBucket = new HashMap<>();
+        Map<MonthlyCategoryTotalId, Long> countsByBucket = new HashMap<>();
+        addToBuckets(amountsByBucket, countsByBucket, entity, entity.getAmount().negate(), -1);
+        TrainingSample previous = toTrainingSample(entity, -1);
+        LocalDate previousDate = entity.getTransactionDate();
+
+        entity.setType(transaction.type());
+        entity.setAmount(transaction.amount());
+        entity.setDescription(transaction.description());
+        entity.setCategory(category);
+        entity.setTransactionDate(transaction.transactionDate());
+
+        TransactionEntity updatedEntity = transactionRepository.save(entity);
+        addToBuckets(amountsByBucket, countsByBucket, updatedEntity, updatedEntity.getAmount(), 1);
+        addToRunningTotals(amountsByBucket, countsByBucket);
+        publishTrainingSamples(List.of(previous, toTrainingSample(updatedEntity, 1)));
+        LocalDate updatedDate = updatedEntity.getTransactionDate();
+        if (YearMonth.from(previousDate).equals(YearMonth.from(updatedDate))) {
+            publishTransactionsChanged(previousDate, updatedDate);
+        } else {
+            // One event per month, so moving a transaction across years leaves the months in
+            // between alone
+            publishTransactionsChanged(previousDate, previousDate);
+            publishTransactionsChanged(updatedDate, updatedDate);
+        }
 
         return entityMapper.toDomain(updatedEntity);
     }
@@ -83,35 +230,131 @@ public class TransactionRepositoryGateway implements TransactionGateway {
     @Transactional
     public void deleteTransaction(Long id) {
 
-        transactionRepository.deleteById(id);
+        transactionRepository
+                .findByIdForUpdate(id)
+                .ifPresent(
+                        entity -> {
+                            subtractFromRunningTotals(entity);
+                            transactionRepository.delete(entity);
+                            publishTrainingSamples(List.of(toTrainingSample(entity, -1)));
+                            publishTransactionsChanged(
+                                    entity.getTransactionDate(), entity.getTransactionDate());
+                        });
     }
 
     @Override
-    public BigDecimal getTotalIncome() {
-        return transactionRepository.sumAmountByType(Type.INCOME);
+    @Transactional
+    public ImportResult importTransactions(Iterator<TransactionImportRow> rows) {
+
+        Map<Long, Type> categoryTypes = new HashMap<>();
+        for (Category category : categoryRegistry.findAll()) {
+            categoryTypes.put(category.id(), category.type());
+        }
+
+        Map<MonthlyCategoryTotalId, BigDecimal> amountsByBucket = new HashMap<>();
+        Map<MonthlyCategoryTotalId, Long> countsByBucket = new HashMap<>();
+        Map<Map.Entry<String, Long>, Long> samplesByLabel = new HashMap<>();
+        List<TransactionImportRow> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        List<ImportFailure> failures = new ArrayList<>();
+        long importedCount = 0;
+        long failedCount = 0;
+        LocalDate firstDate = null;
+        LocalDate lastDate = null;
+
+        while (rows.hasNext()) {
+            TransactionImportRow row = rows.next();
+            String rejection = validateImportRow(row, categoryTypes);
+            if (rejection != null) {
+                failedCount++;
+                if (failures.size() < MAX_REPORTED_IMPORT_FAILURES) {
+                    failures.add(new ImportFailure(row.rowNumber(), rejection));
+                }
+                continue;
+            }
+
+            MonthlyCategoryTotalId bucket =
+                    new MonthlyCategoryTotalId(
+                            row.transactionDate().getYear(),
+                            row.transactionDate().getMonthValue(),
+                            row.categoryId(),
+                            row.type());
+            amountsByBucket.merge(bucket, row.amount(), BigDecimal::add);
+            countsByBucket.merge(bucket, 1L, Long::sum);
+            samplesByLabel.merge(Map.entry(row.description(), row.categoryId()), 1L, Long::sum);
+            if (firstDate == null || row.transactionDate().isBefore(firstDate)) {
+                firstDate = row.transactionDate();
+            }
+            if (lastDate == null || row.transactionDate().isAfter(lastDate)) {
+                lastDate = row.transactionDate();
+            }
+
+            chunk.add(row);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importedCount += transactionCopyWriter.copy(chunk);
+                chunk.clear();
+            }
+        }
+        importedCount += transactionCopyWriter.copy(chunk);
+
+        addToRunningTotals(amountsByBucket, countsByBucket);
+        publishTrainingSamples(
+                samplesByLabel.entrySet().stream()
+                        .map(
+                                sample ->
+                                        new TrainingSample(
+                                                sample.getKey().getKey(),
+                                                sample.getKey().getValue(),
+                                                sample.getValue()))
+                        .toList());
+        if (firstDate != null) {
+            publishTransactionsChanged(firstDate, lastDate);
+        }
+
+        return new ImportResult(importedCount, failedCount, failures);
     }
 
     @Override
-    public BigDecimal getTotalExpense() {
-        return transactionRepository.sumAmountByType(Type.EXPENSE);
+    @Transactional(readOnly = true)
+    public BigDecimal getNetBalance() {
+        BalanceSnapshotEntity snapshot =
+                balanceSnapshotRepository
+                        .findById(BalanceSnapshotEntity.SNAPSHOT_ID)
+                        .orElseThrow(
+                                () -> new IllegalStateException("Balance snapshot is missing"));
+
+        return snapshot.getTotalIncome().subtract(snapshot.getTotalExpense());
     }
 
     @Override
-    public BigDecimal getMonthlyIncome(int month, int year) {
-        return transactionRepository.sumAmountByMonthAndYearAndType(month, year, Type.INCOME);
+    @Transactional(readOnly = true)
+    public BigDecimal getIncomeByDateRange(DateRange dateRange) {
+        return sumAmountByTypeAndDateRange(Type.INCOME, dateRange);
     }
 
     @Override
-    public BigDecimal getMonthlyExpense(int month, int year) {
-        return transactionRepository.sumAmountByMonthAndYearAndType(month, year, Type.EXPENSE);
+    @Transactional(readOnly = true)
+    public BigDecimal getExpenseByDateRange(DateRange dateRange) {
+        return sumAmountByTypeAndDateRange(Type.EXPENSE, dateRange);
     }
 
     @Override
-    public List<CategorySummary> getCategorySummaries(int month, int year) {
-        return transactionRepository.findCategorySummariesByMonthAndYear(month, year);
+    @Transactional(readOnly = true)
+    public List<CategorySummary> getCategorySummariesByDateRange(DateRange dateRange) {
+        LocalDate start = dateRange.start();
+        LocalDate endExclusive = dateRange.endExclusive();
+
+        if (isWholeMonths(dateRange)) {
+            return monthlyCategoryTotalRepository.findCategorySummariesByMonthRange(
+                    start.getYear(),
+                    start.getMonthValue(),
+                    endExclusive.getYear(),
+                    endExclusive.getMonthValue());
+        }
+        return transactionRepository.findCategorySummariesByDateRange(start, endExclusive);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Transaction> findTransactionsByDateRange(LocalDate startDate, LocalDate endDate) {
         return transactionRepository.findByDateRange(startDate, endDate).stream()
                 .map(entityMapper::toDomain)
@@ -119,6 +362,18 @@ public class TransactionRepositoryGateway implements TransactionGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void exportTransactionsByDateRange(DateRange dateRange, Consumer<Transaction> consumer) {
+
+        try (Stream<TransactionExportRow> rows =
+                transactionRepository.streamExportRowsByDateRange(
+                        dateRange.start(), dateRange.endExclusive())) {
+            rows.map(this::toDomain).forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Map<DayOfWeek, BigDecimal> getExpensesByDayOfWeek(
             LocalDate startDate, LocalDate endDate) {
         List<TransactionEntity> transactions =
@@ -142,6 +397,7 @@ public class TransactionRepositoryGateway implements TransactionGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Long> getTransactionCountByCategory(LocalDate startDate, LocalDate endDate) {
         List<TransactionEntity> transactions =
                 transactionRepository.findByDateRange(startDate, endDate);
@@ -153,6 +409,7 @@ public class TransactionRepositoryGateway implements TransactionGateway {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, BigDecimal> getAverageAmountByCategory(
             LocalDate startDate, LocalDate endDate) {
         List<TransactionEntity> transactions =
@@ -179,6 +436,251 @@ public class TransactionRepositoryGateway implements TransactionGateway {
         return averages;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionAnalysisData getAnalysisData(
+            String period, DateRange currentPeriod, DateRange previousPeriod) {
+        List<CategoryPeriodTotals> categoryTotals =
+                transactionRepository.findCategoryPeriodTotals(
+                        currentPeriod.start(),
+                        currentPeriod.end(),
+                        previousPeriod.start(),
+                        previousPeriod.end());
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        BigDecimal previousIncome = BigDecimal.ZERO;
+        BigDecimal previousExpense = BigDecimal.ZERO;
+        List<CategorySummary> categorySummaries = new ArrayList<>();
+        List<CategorySummary> previousCategorySummaries = new ArrayList<>();
+        Map<String, Long> transactionCountByCategory = new HashMap<>();
+        Map<String, BigDecimal> averageAmountByCategory = new HashMap<>();
+
+        for (CategoryPeriodTotals totals : categoryTotals) {
+            totalIncome = totalIncome.add(totals.income());
+            totalExpense = totalExpense.add(totals.expense());
+            previousIncome = previousIncome.add(totals.previousIncome());
+            previousExpense = previousExpense.add(totals.previousExpense());
+
+            if (totals.transactionCount() > 0) {
+                categorySummaries.add(
+                        new CategorySummary(
+                                totals.categoryName(), totals.income(), totals.expense()));
+                transactionCountByCategory.put(totals.categoryName(), totals.transactionCount());
+                averageAmountByCategory.put(
+                        totals.categoryName(),
+                        totals.income()
+                                .add(totals.expense())
+                                .divide(
+                                        BigDecimal.valueOf(totals.transactionCount()),
+                                        2,
+                                        RoundingMode.HALF_UP));
+            }
+
+            if (totals.previousTransactionCount() > 0) {
+                previousCategorySummaries.add(
+                        new CategorySummary(
+                                totals.categoryName(),
+                                totals.previousIncome(),
+                                totals.previousExpense()));
+            }
+        }
+
+        Map<DayOfWeek, BigDecimal> expensesByDayOfWeek = new HashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            expensesByDayOfWeek.put(day, BigDecimal.ZERO);
+        }
+
+        if (!transactionCountByCategory.isEmpty()) {
+            List<DailyTotal> dailyExpenses =
+                    transactionRepository.sumAmountByDayAndType(
+                            Type.EXPENSE, currentPeriod.start(), currentPeriod.end());
+
+            for (DailyTotal dailyTotal : dailyExpenses) {
+                expensesByDayOfWeek.merge(
+                        dailyTotal.date().getDayOfWeek(), dailyTotal.total(), BigDecimal::add);
+            }
+        }
+
+        return new TransactionAnalysisData(
+                currentPeriod.start(),
+                currentPeriod.end(),
+                period,
+                totalIncome,
+                totalExpense,
+                previousIncome,
+                previousExpense,
+                categorySummaries,
+                previousCategorySummaries,
+                expensesByDayOfWeek,
+                transactionCountByCategory,
+                averageAmountByCategory);
+    }
+
+    private Transaction toDomain(TransactionExportRow row) {
+        return new Transaction(
+                row.id(),
+                row.type(),
+                row.amount(),
+                row.description(),
+                new Category(row.categoryId(), row.categoryName(), row.categoryType(), null),
+                row.transactionDate(),
+                row.createdAt());
+    }
+
+    private BigDecimal sumAmountByTypeAndDateRange(Type type, DateRange dateRange) {
+        LocalDate start = dateRange.start();
+        LocalDate endExclusive = dateRange.endExclusive();
+
+        if (isWholeMonths(dateRange)) {
+            return monthlyCategoryTotalRepository.sumAmountByTypeAndMonthRange(
+                    type,
+                    start.getYear(),
+                    start.getMonthValue(),
+                    endExclusive.getYear(),
+                    endExclusive.getMonthValue());
+        }
+        return transactionRepository.sumAmountByTypeAndDateRange(type, start, endExclusive);
+    }
+
+    private boolean isWholeMonths(DateRange dateRange) {
+        return dateRange.start().getDayOfMonth() == 1
+                && dateRange.endExclusive().getDayOfMonth() == 1;
+    }
+
+    private void addToRunningTotals(TransactionEntity entity) {
+        updateRunningTotals(entity, entity.getAmount(), 1);
+    }
+
+    // Rows are locked in BUCKET_ORDER and the balance snapshot last, so concurrent writers
+    // touching the same buckets queue behind each other instead of deadlocking
+    private void addToRunningTotals(
+            Map<MonthlyCategoryTotalId, BigDecimal> amountsByBucket,
+            Map<MonthlyCategoryTotalId, Long> countsByBucket) {
+
+        List<MonthlyCategoryTotalId> buckets = new ArrayList<>(amountsByBucket.keySet());
+        buckets.sort(BUCKET_ORDER);
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        for (MonthlyCategoryTotalId bucket : buckets) {
+            BigDecimal amount = amountsByBucket.get(bucket);
+            monthlyCategoryTotalRepository.addToTotal(
+                    bucket.getYear(),
+                    bucket.getMonth(),
+                    bucket.getCategoryId(),
+                    bucket.getType().name(),
+                    amount,
+                    countsByBucket.get(bucket));
+
+            if (bucket.getType() == Type.INCOME) {
+                totalIncome = totalIncome.add(amount);
+            } else {
+                totalExpense = totalExpense.add(amount);
+            }
+        }
+
+        if (!amountsByBucket.isEmpty()) {
+            balanceSnapshotRepository.addToTotals(totalIncome, totalExpense);
+        }
+    }
+
+    private static void addToBuckets(
+            Map<MonthlyCategoryTotalId, BigDecimal> amountsByBucket,
+            Map<MonthlyCategoryTotalId, Long> countsByBucket,
+            TransactionEntity entity,
+            BigDecimal amount,
+            long count) {
+        LocalDate date = entity.getTransactionDate();
+        MonthlyCategoryTotalId bucket =
+                new MonthlyCategoryTotalId(
+                        date.getYear(),
+                        date.getMonthValue(),
+                        entity.getCategory().getId(),
+                        entity.getType());
+        amountsByBucket.merge(bucket, amount, BigDecimal::add);
+        countsByBucket.merge(bucket, count, Long::sum);
+    }
+
+    private void subtractFromRunningTotals(TransactionEntity entity) {
+        updateRunningTotals(entity, entity.getAmount().negate(), -1);
+    }
+
+    private void updateRunningTotals(TransactionEntity entity, BigDecimal amount, long count) {
+        LocalDate date = entity.getTransactionDate();
+        monthlyCategoryTotalRepository.addToTotal(
+                date.getYear(),
+                date.getMonthValue(),
+                entity.getCategory().getId(),
+                entity.getType().name(),
+                amount,
+                count);
+
+        if (entity.getType() == Type.INCOME) {
+            balanceSnapshotRepository.addToTotals(amount, BigDecimal.ZERO);
+        } else {
+            balanceSnapshotRepository.addToTotals(BigDecimal.ZERO, amount);
+        }
+    }
+
+    private String validateImportRow(TransactionImportRow row, Map<Long, Type> categoryTypes) {
+
+        if (row.isMalformed()) {
+            return row.malformedReason();
+        }
+        if (row.type() == null) {
+            return "Type is required";
+        }
+        if (row.amount() == null) {
+            return "Amount is required";
+        }
+        if (row.amount().compareTo(BigDecimal.ZERO) <= 0) {
+            return "Amount must be positive: " + row.amount();
+        }
+        if (row.description() == null || row.description().isBlank()) {
+            return "Description is required";
+        }
+        if (row.description().length() > MAX_DESCRIPTION_LENGTH) {
+            return "Description must be at most " + MAX_DESCRIPTION_LENGTH + " characters";
+        }
+        if (row.transactionDate() == null) {
+            return "Transaction date is required";
+        }
+        if (row.categoryId() == null) {
+            return "Category id is required";
+        }
+
+        Type categoryType = categoryTypes.get(row.categoryId());
+        if (categoryType == null) {
+            return "Category not found: id: " + row.categoryId();
+        }
+        if (row.type() != categoryType) {
+            return "Transaction type must be equal to category type";
+        }
+        return null;
+    }
+
+    // The local categorizer picks these up once the transaction commits
+    private void publishTrainingSamples(List<TrainingSample> samples) {
+        if (!samples.isEmpty()) {
+            eventPublisher.publishEvent(new TrainingSamplesEvent(samples));
+        }
+    }
+
+    // Caches over transaction data drop what they hold for these dates once the write commits;
+    // the two dates may come in either order
+    private void publishTransactionsChanged(LocalDate oneDate, LocalDate otherDate) {
+        DateRange dates =
+                oneDate.isAfter(otherDate)
+                        ? new DateRange(otherDate, oneDate)
+                        : new DateRange(oneDate, otherDate);
+        eventPublisher.publishEvent(new TransactionsChangedEvent(dates));
+    }
+
+    private static TrainingSample toTrainingSample(TransactionEntity entity, long count) {
+        return new TrainingSample(entity.getDescription(), entity.getCategory().getId(), count);
+    }
+
     private void validateAmountPositive(BigDecimal amount) {
 
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
@@ -188,19 +690,18 @@ public class TransactionRepositoryGateway implements TransactionGateway {
 
     private CategoryEntity validateTypeIsEqualCategoryType(Transaction transaction) {
 
-        CategoryEntity category =
-                categoryRepository
-                        .findById(transaction.category().id())
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Category", "id: " + transaction.category().id()));
+        Category category = categoryRegistry.findById(transaction.category().id());
+        if (category == null) {
+            throw new ResourceNotFoundException("Category", "id: " + transaction.category().id());
+        }
 
-        if (!transaction.type().equals(category.getType())) {
+        if (!transaction.type().equals(category.type())) {
             throw new InvalidTransactionException(
                     "Transaction type must be equal to category type");
         }
 
-        return category;
+        // Detached reference: Hibernate only needs its id for the foreign key, so no SELECT
+        return new CategoryEntity(
+                category.id(), category.name(), category.type(), category.createdAt());
     }
 }
@@ -0,0 +1,151 @@
+package dev.rogerbertan.cashflow.infra.importer;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class CsvTransactionImportReader implements Iterator<TransactionImportRow> {
+
+    private static final List<String> COLUMNS =
+            List.of("type", "amount", "description", "categoryId", "transactionDate");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columnIndexes;
+    private final int columnCount;
+    private long rowNumber;
+    private TransactionImportRow nextRow;
+
+    public CsvTransactionImportReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        String header = readLine();
+        if (header == null) {
+            throw new InvalidTransactionException("CSV payload is empty");
+        }
+        List<String> headerColumns = splitLine(header.replace("\uFEFF", ""));
+        if (headerColumns == null) {
+            throw new InvalidTransactionException("CSV header is malformed");
+        }
+
+        this.columnIndexes = new HashMap<>();
+        for (int i = 0; i < headerColumns.size(); i++) {
+            columnIndexes.put(headerColumns.get(i).trim(), i);
+        }
+        List<String> missingColumns =
+                COLUMNS.stream().filter(column -> !columnIndexes.containsKey(column)).toList();
+        if (!missingColumns.isEmpty()) {
+            throw new InvalidTransactionException(
+                    "CSV header is missing columns: " + String.join(", ", missingColumns));
+        }
+        this.columnCount = headerColumns.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow != null) {
+            return true;
+        }
+
+        String line = readLine();
+        while (line != null && line.isBlank()) {
+            line = readLine();
+        }
+        if (line == null) {
+            return false;
+        }
+
+        rowNumber++;
+        nextRow = parseRow(line);
+        return true;
+    }
+
+    @Override
+    public TransactionImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TransactionImportRow row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    private TransactionImportRow parseRow(String line) {
+        List<String> fields = splitLine(line);
+        if (fields == null) {
+            return TransactionImportRow.malformed(rowNumber, "Unterminated quoted field");
+        }
+        if (fields.size() != columnCount) {
+            return TransactionImportRow.malformed(
+                    rowNumber, "Expected " + columnCount + " columns but found " + fields.size());
+        }
+
+        try {
+            return new TransactionImportRow(
+                    rowNumber,
+                    ImportFieldParser.parseType(field(fields, "type")),
+                    ImportFieldParser.parseAmount(field(fields, "amount")),
+                    ImportFieldParser.parseDescription(field(fields, "description")),
+                    ImportFieldParser.parseCategoryId(field(fields, "categoryId")),
+                    ImportFieldParser.parseTransactionDate(field(fields, "transactionDate")));
+        } catch (IllegalArgumentException e) {
+            return TransactionImportRow.malformed(rowNumber, e.getMessage());
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        return fields.get(columnIndexes.get(column));
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV payload", e);
+        }
+    }
+
+    // RFC 4180 quoting within a single line; returns null when a quoted field is left open.
+    private static List<String> splitLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.rogerbertan.cashflow.infra.importer;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+final class ImportFieldParser {
+
+    private ImportFieldParser() {}
+
+    static Type parseType(String value) {
+        if (isMissing(value)) {
+            return null;
+        }
+        try {
+            return Type.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid type: " + value);
+        }
+    }
+
+    static BigDecimal parseAmount(String value) {
+        if (isMissing(value)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + value);
+        }
+    }
+
+    static Long parseCategoryId(String value) {
+        if (isMissing(value)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid category id: " + value);
+        }
+    }
+
+    static LocalDate parseTransactionDate(String value) {
+        if (isMissing(value)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid transaction date: " + value);
+        }
+    }
+
+    static String parseDescription(String value) {
+        return isMissing(value) ? null : value.trim();
+    }
+
+    private static boolean isMissing(String value) {
+        return value == null || value.isBlank();
+    }
+}
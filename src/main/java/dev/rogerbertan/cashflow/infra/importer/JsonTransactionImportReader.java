@@ -0,0 +1,94 @@
+package dev.rogerbertan.cashflow.infra.importer;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+
+public class JsonTransactionImportReader implements Iterator<TransactionImportRow> {
+
+    private final ObjectReader objectReader;
+    private final JsonParser parser;
+    private long rowNumber;
+    private TransactionImportRow nextRow;
+    private boolean finished;
+
+    public JsonTransactionImportReader(ObjectReader objectReader, InputStream input) {
+        this.objectReader = objectReader;
+        try {
+            this.parser = objectReader.createParser(input);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidTransactionException("JSON payload must be an array");
+            }
+        } catch (JacksonException e) {
+            throw new InvalidTransactionException("Malformed JSON payload", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                finished = true;
+                parser.close();
+                return false;
+            }
+            rowNumber++;
+            JsonNode node = objectReader.readValue(parser);
+            nextRow = parseRow(node);
+            return true;
+        } catch (JacksonException e) {
+            throw new InvalidTransactionException(
+                    "Malformed JSON payload near row " + rowNumber, e);
+        }
+    }
+
+    @Override
+    public TransactionImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TransactionImportRow row = nextRow;
+        nextRow = null;
+        return row;
+    }
+
+    private TransactionImportRow parseRow(JsonNode node) {
+        if (!node.isObject()) {
+            return TransactionImportRow.malformed(rowNumber, "Expected a JSON object");
+        }
+
+        try {
+            return new TransactionImportRow(
+                    rowNumber,
+                    ImportFieldParser.parseType(text(node, "type")),
+                    ImportFieldParser.parseAmount(text(node, "amount")),
+                    ImportFieldParser.parseDescription(text(node, "description")),
+                    ImportFieldParser.parseCategoryId(text(node, "categoryId")),
+                    ImportFieldParser.parseTransactionDate(text(node, "transactionDate")));
+        } catch (IllegalArgumentException e) {
+            return TransactionImportRow.malformed(rowNumber, e.getMessage());
+        }
+    }
+
+    private String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.asString();
+    }
+}
@@ -0,0 +1,32 @@
+package dev.rogerbertan.cashflow.infra.importer;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import java.io.InputStream;
+import java.util.Iterator;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+@Component
+public class TransactionImportReaderFactory {
+
+    private final ObjectReader objectReader;
+
+    public TransactionImportReaderFactory(ObjectMapper objectMapper) {
+        this.objectReader =
+                objectMapper
+                        .readerFor(JsonNode.class)
+                        .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                        .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    }
+
+    public Iterator<TransactionImportRow> csv(InputStream input) {
+        return new CsvTransactionImportReader(input);
+    }
+
+    public Iterator<TransactionImportRow> json(InputStream input) {
+        return new JsonTransactionImportReader(objectReader, input);
+    }
+}
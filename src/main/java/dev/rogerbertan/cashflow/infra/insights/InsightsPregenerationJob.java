@@ -0,0 +1,62 @@
+package dev.rogerbertan.cashflow.infra.insights;
+
+import dev.rogerbertan.cashflow.domain.usecases.insights.GenerateSpendingInsightsUseCase;
+import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Generates period insights ahead of time so the insights endpoint can serve them from the
+// spending_insights table instead of waiting on Gemini
+@Component
+public class InsightsPregenerationJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsightsPregenerationJob.class);
+
+    private final GenerateSpendingInsightsUseCase generateSpendingInsightsUseCase;
+
+    public InsightsPregenerationJob(
+            GenerateSpendingInsightsUseCase generateSpendingInsightsUseCase) {
+        this.generateSpendingInsightsUseCase = generateSpendingInsightsUseCase;
+    }
+
+    @Scheduled(cron = "${cashflow.insights.rollover-cron}")
+    public void generateClosedPeriods() {
+        generateClosedPeriods(LocalDate.now());
+    }
+
+    // Periods that closed yesterday were last stored while still open, so they are regenerated
+    void generateClosedPeriods(LocalDate today) {
+        LocalDate yesterday = today.minusDays(1);
+        for (String period : PeriodCalculator.PERIODS) {
+            if (PeriodCalculator.getCurrentPeriod(period, today).start().equals(today)) {
+                generate(period, yesterday, true);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${cashflow.insights.off-peak-cron}")
+    public void refreshRecentPeriods() {
+        refreshRecentPeriods(LocalDate.now());
+    }
+
+    // Open periods are not stored, but generating them warms the insights cache for the morning;
+    // the last closed ones are only filled in when the rollover run missed them
+    void refreshRecentPeriods(LocalDate today) {
+        for (String period : PeriodCalculator.PERIODS) {
+            generate(period, today, true);
+            generate(period, PeriodCalculator.getPreviousPeriod(period, today).start(), false);
+        }
+    }
+
+    private void generate(String period, LocalDate date, boolean refresh) {
+        try {
+            generateSpendingInsightsUseCase.findOrGenerate(period, date, refresh);
+        } catch (RuntimeException e) {
+            // One failing period must not keep the others from being generated
+            LOGGER.warn("Could not generate {} insights for {}", period, date, e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package dev.rogerbertan.cashflow.infra.invalidation;
+
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.config.InvalidationProperties;
+import dev.rogerbertan.cashflow.infra.rollup.BalanceCorrectedEvent;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Keeps the in-process caches of every node in step. Change events are sent with pg_notify from
+// the writing transaction, so PostgreSQL delivers them once it commits and drops them if it
+// rolls back. Each node LISTENs on a connection of its own, outside the pool, and replays other
+// nodes' events locally, where the caches already listen for them.
+@Component
+@ConditionalOnProperty(
+        name = "cashflow.invalidation.enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InvalidationBus.class);
+
+    static final String CHANNEL = "cashflow_invalidation";
+    static final String APPLICATION_NAME = "cashflow-invalidation-listener";
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final String TRANSACTIONS = "transactions";
+    private static final String CATEGORIES = "categories";
+    private static final String BALANCE = "balance";
+    private static final String EVERYTHING = "everything";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final InvalidationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private volatile Thread listenerThread;
+    private volatile Connection listenerConnection;
+
+    public InvalidationBus(
+            DataSource dataSource,
+            DataSourceProperties dataSourceProperties,
+            InvalidationProperties properties,
+            ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        send(TRANSACTIONS + " " + event.dates().start() + " " + event.dates().end());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        send(event.categoryId() == null ? CATEGORIES : CATEGORIES + " " + event.categoryId());
+    }
+
+    // The corrected snapshot changes no month, but every node's balance ETag still has to move
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onBalanceCorrected(BalanceCorrectedEvent event) {
+        send(BALANCE);
+    }
+
+    // For writers outside the running nodes, such as the monthly totals rebuild. Sent on the
+    // caller's transaction, so nodes only drop their caches once it commits.
+    public static void notifyEverythingChanged(JdbcTemplate jdbcTemplate, String sender) {
+        jdbcTemplate.queryForObject(NOTIFY_SQL, Object.class, CHANNEL, sender + " " + EVERYTHING);
+    }
+
+    // Runs on the connection bound to the writing transaction, if any
+    private void send(String change) {
+        // Replayed events came from another node, which has already told everyone
+        if (Thread.currentThread() == listenerThread) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL)) {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, nodeId + " " + change);
+            statement.execute();
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("pg_notify", NOTIFY_SQL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    void receive(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+
+        switch (parts[1]) {
+            case TRANSACTIONS ->
+                    eventPublisher.publishEvent(
+                            new TransactionsChangedEvent(
+                                    new DateRange(
+                                            LocalDate.parse(parts[2]), LocalDate.parse(parts[3]))));
+            case CATEGORIES ->
+                    eventPublisher.publishEvent(
+                            new CategoriesChangedEvent(
+                                    parts.length > 2 ? Long.valueOf(parts[2]) : null));
+            case BALANCE -> eventPublisher.publishEvent(new BalanceCorrectedEvent());
+            case EVERYTHING -> eventPublisher.publishEvent(new InvalidationsMissedEvent());
+            default -> LOGGER.warn("Ignoring unknown invalidation '{}'", payload);
+        }
+    }
+
+    private void listen() {
+        boolean listenedBefore = false;
+        while (running) {
+            try (Connection connection = connect()) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (listenedBefore) {
+                    LOGGER.info("Invalidation listener reconnected, dropping cached data");
+                    eventPublisher.publishEvent(new InvalidationsMissedEvent());
+                    eventPublisher.publishEvent(new CategoriesChangedEvent(null));
+                }
+                listenedBefore = true;
+                poll(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    LOGGER.warn(
+                            "Invalidation listener lost its connection, reconnecting in {}",
+                            properties.getReconnectDelay(),
+                            e);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    // Straight to the primary, so the pool and replica routing are left out of it
+    private Connection connect() throws SQLException {
+        Properties info = new Properties();
+        info.setProperty("ApplicationName", APPLICATION_NAME);
+        String username = dataSourceProperties.determineUsername();
+        if (username != null) {
+            info.setProperty("user", username);
+        }
+        String password = dataSourceProperties.determinePassword();
+        if (password != null) {
+            info.setProperty("password", password);
+        }
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), info);
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications =
+                    pgConnection.getNotifications((int) properties.getPollInterval().toMillis());
+            if (notifications == null || notifications.length == 0) {
+                // A quiet channel looks the same as a dead connection until something is sent
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Invalidation listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    receive(notification.getParameter());
+                } catch (RuntimeException e) {
+                    LOGGER.warn(
+                            "Failed to apply invalidation '{}'", notification.getParameter(), e);
+                }
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getReconnectDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread =
+                Thread.ofPlatform().name("invalidation-listener").daemon().unstarted(this::listen);
+        listenerThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Connection connection = listenerConnection;
+        if (connection != null) {
+            try {
+                // Unblocks a poll in progress
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.debug("Failed to close the invalidation listener connection", e);
+            }
+        }
+        listenerThread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,5 @@
+package dev.rogerbertan.cashflow.infra.invalidation;
+
+// Published when the invalidation listener reconnects, since other nodes may have written
+// anything in the meantime, and when told that everything changed
+public record InvalidationsMissedEvent() {}
@@ -0,0 +1,25 @@
+package dev.rogerbertan.cashflow.infra.mapper;
+
+import dev.rogerbertan.cashflow.infra.dto.AIResilienceResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AIResilienceMapper {
+
+    public AIResilienceResponse toDTO(
+            CircuitBreaker circuitBreaker, Bulkhead bulkhead, RateLimiter rateLimiter) {
+        CircuitBreaker.Metrics breakerMetrics = circuitBreaker.getMetrics();
+        return new AIResilienceResponse(
+                circuitBreaker.getState().name(),
+                breakerMetrics.getFailureRate(),
+                breakerMetrics.getNumberOfBufferedCalls(),
+                breakerMetrics.getNumberOfFailedCalls(),
+                breakerMetrics.getNumberOfNotPermittedCalls(),
+                bulkhead.getMetrics().getAvailableConcurrentCalls(),
+                bulkhead.getMetrics().getMaxAllowedConcurrentCalls(),
+                rateLimiter.getMetrics().getAvailablePermissions());
+    }
+}
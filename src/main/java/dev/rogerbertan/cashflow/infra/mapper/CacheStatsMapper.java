@@ -0,0 +1,14 @@
+package dev.rogerbertan.cashflow.infra.mapper;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rogerbertan.cashflow.infra.dto.CacheStatsResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CacheStatsMapper {
+
+    public CacheStatsResponse toDTO(CacheStats stats, long size) {
+        return new CacheStatsResponse(
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), size);
+    }
+}
@@ -1,6 +1,8 @@
 package dev.rogerbertan.cashflow.infra.mapper;
 
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionRequest;
 import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionResponse;
 import org.springframework.stereotype.Component;
 
@@ -26,4 +28,8 @@ public class CategorySuggestionMapper {
                 suggestion.confidence(),
                 "Category suggestion successful");
     }
+
+    public CategorySuggestionQuery toQuery(CategorySuggestionRequest request) {
+        return new CategorySuggestionQuery(request.description(), request.type());
+    }
 }
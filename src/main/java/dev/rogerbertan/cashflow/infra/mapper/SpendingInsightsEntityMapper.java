@@ -0,0 +1,39 @@
+package dev.rogerbertan.cashflow.infra.mapper;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.infra.persistence.SpendingInsightsEntity;
+import dev.rogerbertan.cashflow.infra.persistence.SpendingInsightsId;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpendingInsightsEntityMapper {
+
+    public SpendingInsightsEntity toEntity(
+            String period, DateRange dates, SpendingInsights insights) {
+        return new SpendingInsightsEntity(
+                new SpendingInsightsId(period, dates.start()),
+                dates.end(),
+                insights.insights().toArray(String[]::new),
+                insights.summary(),
+                insights.rawAiResponse(),
+                LocalDateTime.now());
+    }
+
+    public PeriodInsights toDomain(SpendingInsightsEntity entity) {
+        String period = entity.getId().getPeriod();
+        return new PeriodInsights(
+                period,
+                entity.getId().getStartDate(),
+                entity.getEndDate(),
+                new SpendingInsights(
+                        List.of(entity.getInsights()),
+                        period,
+                        entity.getSummary(),
+                        entity.getRawResponse()),
+                entity.getGeneratedAt());
+    }
+}
@@ -1,5 +1,6 @@
 package dev.rogerbertan.cashflow.infra.mapper;
 
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.infra.dto.SpendingInsightsResponse;
 import java.time.LocalDateTime;
@@ -18,4 +19,13 @@ public class SpendingInsightsMapper {
                 insights.summary(),
                 LocalDateTime.now().format(FORMATTER));
     }
+
+    public SpendingInsightsResponse toDTO(PeriodInsights periodInsights) {
+        SpendingInsights insights = periodInsights.insights();
+        return new SpendingInsightsResponse(
+                insights.insights(),
+                periodInsights.period(),
+                insights.summary(),
+                periodInsights.generatedAt().format(FORMATTER));
+    }
 }
@@ -0,0 +1,24 @@
+package dev.rogerbertan.cashflow.infra.mapper;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.infra.dto.ImportFailureResponse;
+import dev.rogerbertan.cashflow.infra.dto.TransactionImportResponse;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionImportResponseMapper {
+
+    public TransactionImportResponse toDTO(ImportResult result) {
+        List<ImportFailureResponse> failures =
+                result.failures().stream()
+                        .map(
+                                failure ->
+                                        new ImportFailureResponse(
+                                                failure.rowNumber(), failure.reason()))
+                        .toList();
+
+        return new TransactionImportResponse(
+                result.importedCount(), result.failedCount(), failures);
+    }
+}
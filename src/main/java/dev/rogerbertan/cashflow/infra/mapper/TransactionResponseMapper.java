@@ -2,7 +2,11 @@ package dev.rogerbertan.cashflow.infra.mapper;
 
 import dev.rogerbertan.cashflow.domain.entities.Category;
 import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
 import dev.rogerbertan.cashflow.infra.dto.TransactionResponse;
+import dev.rogerbertan.cashflow.infra.dto.TransactionSliceResponse;
+import dev.rogerbertan.cashflow.infra.util.TransactionCursorCodec;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,6 +23,16 @@ public class TransactionResponseMapper {
                 transaction.createdAt());
     }
 
+    public TransactionSliceResponse toSliceDTO(TransactionSlice slice) {
+        List<TransactionResponse> content = slice.transactions().stream().map(this::toDTO).toList();
+
+        return new TransactionSliceResponse(
+                content,
+                content.size(),
+                slice.hasNext(),
+                TransactionCursorCodec.encode(slice.nextCursor()));
+    }
+
     public Transaction toEntity(TransactionResponse dto) {
         Category category = new Category(dto.category(), null, null, null);
 
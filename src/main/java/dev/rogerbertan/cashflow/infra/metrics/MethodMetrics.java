@@ -0,0 +1,131 @@
+package dev.rogerbertan.cashflow.infra.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.stereotype.Component;
+
+// Times every public method of an object behind a class proxy. Each call is recorded under
+// the metric name, tagged with the class, the method and the exception it ended with ("none"
+// when it succeeded). Calls that return a future are timed until the future completes.
+// Latencies are published as histogram buckets, so p50/p95/p99 can be read with
+// histogram_quantile and aggregated across nodes.
+@Component
+public class MethodMetrics {
+
+    public static final String USE_CASE_METRIC = "cashflow.usecase";
+    public static final String GATEWAY_METRIC = "cashflow.gateway";
+
+    // Bounds the buckets between a cache hit and the slowest Gemini call
+    private static final Duration MIN_EXPECTED_DURATION = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_DURATION = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+
+    public MethodMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(T target, String metricName, String className) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TimingInterceptor(metricName, className));
+        return (T) proxyFactory.getProxy(target.getClass().getClassLoader());
+    }
+
+    private final class TimingInterceptor implements MethodInterceptor {
+
+        private final String metricName;
+        private final String className;
+        private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+        private TimingInterceptor(String metricName, String className) {
+            this.metricName = metricName;
+            this.className = className;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (method.getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+
+            String methodName = method.getName();
+            AtomicInteger active = inFlight(methodName);
+            active.incrementAndGet();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (Throwable e) {
+                active.decrementAndGet();
+                record(sample, methodName, e);
+                throw e;
+            }
+
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete(
+                        (value, error) -> {
+                            active.decrementAndGet();
+                            record(sample, methodName, error);
+                        });
+            } else {
+                active.decrementAndGet();
+                record(sample, methodName, null);
+            }
+            return result;
+        }
+
+        // Overloads share one gauge, as they share their timers
+        private AtomicInteger inFlight(String methodName) {
+            return inFlight.computeIfAbsent(
+                    methodName,
+                    name ->
+                            meterRegistry.gauge(
+                                    metricName + ".active",
+                                    Tags.of("class", className, "method", name),
+                                    new AtomicInteger()));
+        }
+
+        private void record(Timer.Sample sample, String methodName, Throwable error) {
+            sample.stop(
+                    Timer.builder(metricName)
+                            .tags(
+                                    "class",
+                                    className,
+                                    "method",
+                                    methodName,
+                                    "exception",
+                                    exceptionName(error))
+                            .publishPercentileHistogram()
+                            .minimumExpectedValue(MIN_EXPECTED_DURATION)
+                            .maximumExpectedValue(MAX_EXPECTED_DURATION)
+                            .register(meterRegistry));
+        }
+
+        private static String exceptionName(Throwable error) {
+            if (error == null) {
+                return "none";
+            }
+            Throwable cause =
+                    (error instanceof CompletionException || error instanceof ExecutionException)
+                                    && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+            return cause.getClass().getSimpleName();
+        }
+    }
+}
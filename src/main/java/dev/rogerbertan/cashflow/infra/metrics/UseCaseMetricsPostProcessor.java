@@ -0,0 +1,31 @@
+package dev.rogerbertan.cashflow.infra.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+// Times every use case bean, including decorators declared outside the domain package, under
+// the name of the domain class it stands in for
+@Component
+public class UseCaseMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final String USE_CASE_PACKAGE = "dev.rogerbertan.cashflow.domain.usecases";
+
+    private final ObjectProvider<MethodMetrics> methodMetrics;
+
+    public UseCaseMetricsPostProcessor(ObjectProvider<MethodMetrics> methodMetrics) {
+        this.methodMetrics = methodMetrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+            if (type.getPackageName().startsWith(USE_CASE_PACKAGE)) {
+                return methodMetrics
+                        .getObject()
+                        .instrument(bean, MethodMetrics.USE_CASE_METRIC, type.getSimpleName());
+            }
+        }
+        return bean;
+    }
+}
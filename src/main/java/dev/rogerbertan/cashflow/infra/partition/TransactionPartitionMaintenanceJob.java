@@ -0,0 +1,63 @@
+package dev.rogerbertan.cashflow.infra.partition;
+
+import dev.rogerbertan.cashflow.infra.config.PartitionProperties;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class TransactionPartitionMaintenanceJob {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(TransactionPartitionMaintenanceJob.class);
+
+    private final TransactionRepository transactionRepository;
+    private final PartitionProperties partitionProperties;
+
+    public TransactionPartitionMaintenanceJob(
+            TransactionRepository transactionRepository, PartitionProperties partitionProperties) {
+        this.transactionRepository = transactionRepository;
+        this.partitionProperties = partitionProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${cashflow.partitions.maintenance-cron}")
+    @Transactional
+    public void maintain() {
+        maintain(YearMonth.now());
+    }
+
+    void maintain(YearMonth currentMonth) {
+
+        // Months that landed in the default partition get a partition of their own so they prune
+        Set<LocalDate> months =
+                new TreeSet<>(transactionRepository.findMonthsInDefaultTransactionPartition());
+        for (int i = 0; i <= partitionProperties.getMonthsAhead(); i++) {
+            months.add(currentMonth.plusMonths(i).atDay(1));
+        }
+
+        Set<String> existing = Set.copyOf(transactionRepository.findTransactionPartitionNames());
+        for (LocalDate month : months) {
+            String partition = partitionName(month);
+            if (existing.contains(partition)) {
+                continue;
+            }
+
+            transactionRepository.createTransactionPartition(month);
+            LOGGER.info("Created transaction partition {}", partition);
+        }
+    }
+
+    static String partitionName(LocalDate month) {
+        return String.format("transactions_%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,67 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "balance_snapshot")
+public class BalanceSnapshotEntity {
+
+    public static final Short SNAPSHOT_ID = 1;
+
+    @Id private Short id;
+
+    @Column(name = "total_income", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalIncome;
+
+    @Column(name = "total_expense", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalExpense;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public BalanceSnapshotEntity(
+            Short id, BigDecimal totalIncome, BigDecimal totalExpense, LocalDateTime updatedAt) {
+        this.id = id;
+        this.totalIncome = totalIncome;
+        this.totalExpense = totalExpense;
+        this.updatedAt = updatedAt;
+    }
+
+    public BalanceSnapshotEntity() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BalanceSnapshotEntity that = (BalanceSnapshotEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    public Short getId() {
+        return id;
+    }
+
+    public BigDecimal getTotalIncome() {
+        return totalIncome;
+    }
+
+    public BigDecimal getTotalExpense() {
+        return totalExpense;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshotEntity, Short> {
+
+    @Modifying
+    @Query(
+            value =
+                    "UPDATE balance_snapshot SET "
+                            + "total_income = total_income + :incomeDelta, "
+                            + "total_expense = total_expense + :expenseDelta, "
+                            + "updated_at = CURRENT_TIMESTAMP "
+                            + "WHERE id = 1",
+            nativeQuery = true)
+    int addToTotals(
+            @Param("incomeDelta") BigDecimal incomeDelta,
+            @Param("expenseDelta") BigDecimal expenseDelta);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BalanceSnapshotEntity b WHERE b.id = :id")
+    Optional<BalanceSnapshotEntity> findByIdForUpdate(@Param("id") Short id);
+
+    @Modifying(clearAutomatically = true)
+    @Query(
+            value =
+                    "UPDATE balance_snapshot SET "
+                            + "total_income = :totalIncome, "
+                            + "total_expense = :totalExpense, "
+                            + "updated_at = CURRENT_TIMESTAMP "
+                            + "WHERE id = 1",
+            nativeQuery = true)
+    int overwriteTotals(
+            @Param("totalIncome") BigDecimal totalIncome,
+            @Param("totalExpense") BigDecimal totalExpense);
+}
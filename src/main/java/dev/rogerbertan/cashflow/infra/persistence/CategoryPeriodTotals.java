@@ -0,0 +1,12 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import java.math.BigDecimal;
+
+public record CategoryPeriodTotals(
+        String categoryName,
+        BigDecimal income,
+        BigDecimal expense,
+        Long transactionCount,
+        BigDecimal previousIncome,
+        BigDecimal previousExpense,
+        Long previousTransactionCount) {}
@@ -0,0 +1,6 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyTotal(LocalDate date, BigDecimal total) {}
@@ -0,0 +1,56 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Entity
+@Table(name = "monthly_category_totals")
+public class MonthlyCategoryTotalEntity {
+
+    @EmbeddedId private MonthlyCategoryTotalId id;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+
+    public MonthlyCategoryTotalEntity(
+            MonthlyCategoryTotalId id, BigDecimal totalAmount, Long transactionCount) {
+        this.id = id;
+        this.totalAmount = totalAmount;
+        this.transactionCount = transactionCount;
+    }
+
+    public MonthlyCategoryTotalEntity() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MonthlyCategoryTotalEntity that = (MonthlyCategoryTotalEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    public MonthlyCategoryTotalId getId() {
+        return id;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Long getTransactionCount() {
+        return transactionCount;
+    }
+}
@@ -0,0 +1,68 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MonthlyCategoryTotalId implements Serializable {
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    public MonthlyCategoryTotalId(Integer year, Integer month, Long categoryId, Type type) {
+        this.year = year;
+        this.month = month;
+        this.categoryId = categoryId;
+        this.type = type;
+    }
+
+    public MonthlyCategoryTotalId() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MonthlyCategoryTotalId that = (MonthlyCategoryTotalId) o;
+        return Objects.equals(year, that.year)
+                && Objects.equals(month, that.month)
+                && Objects.equals(categoryId, that.categoryId)
+                && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(year, month, categoryId, type);
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public Integer getMonth() {
+        return month;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MonthlyCategoryTotalRepository
+        extends JpaRepository<MonthlyCategoryTotalEntity, MonthlyCategoryTotalId> {
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO monthly_category_totals "
+                            + "(year, month, category_id, type, total_amount, transaction_count) "
+                            + "VALUES (:year, :month, :categoryId, :type, :amount, :count) "
+                            + "ON CONFLICT (year, month, category_id, type) DO UPDATE SET "
+                            + "total_amount = monthly_category_totals.total_amount "
+                            + "+ EXCLUDED.total_amount, "
+                            + "transaction_count = monthly_category_totals.transaction_count "
+                            + "+ EXCLUDED.transaction_count",
+            nativeQuery = true)
+    void addToTotal(
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count);
+
+    @Query(
+            "SELECT COALESCE(SUM(m.totalAmount), 0) FROM MonthlyCategoryTotalEntity m "
+                    + "WHERE m.id.type = :type "
+                    + "AND (m.id.year, m.id.month) >= (:startYear, :startMonth) "
+                    + "AND (m.id.year, m.id.month) < (:endYear, :endMonth)")
+    BigDecimal sumAmountByTypeAndMonthRange(
+            @Param("type") Type type,
+            @Param("startYear") int startYear,
+            @Param("startMonth") int startMonth,
+            @Param("endYear") int endYear,
+            @Param("endMonth") int endMonth);
+
+    @Query(
+            "SELECT new dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary("
+                    + "c.name, "
+                    + "COALESCE(SUM(CASE WHEN m.id.type = 'INCOME' THEN m.totalAmount "
+                    + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal)), "
+                    + "COALESCE(SUM(CASE WHEN m.id.type = 'EXPENSE' THEN m.totalAmount "
+                    + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal))) "
+                    + "FROM MonthlyCategoryTotalEntity m "
+                    + "JOIN CategoryEntity c ON c.id = m.id.categoryId "
+                    + "WHERE m.transactionCount > 0 "
+                    + "AND (m.id.year, m.id.month) >= (:startYear, :startMonth) "
+                    + "AND (m.id.year, m.id.month) < (:endYear, :endMonth) "
+                    + "GROUP BY c.id, c.name")
+    List<CategorySummary> findCategorySummariesByMonthRange(
+            @Param("startYear") int startYear,
+            @Param("startMonth") int startMonth,
+            @Param("endYear") int endYear,
+            @Param("endMonth") int endMonth);
+
+    @Modifying
+    @Query(value = "LOCK TABLE transactions IN SHARE MODE", nativeQuery = true)
+    void lockTransactions();
+
+    @Modifying
+    @Query(value = "DELETE FROM monthly_category_totals", nativeQuery = true)
+    int deleteAllTotals();
+
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO monthly_category_totals "
+                            + "(year, month, category_id, type, total_amount, transaction_count) "
+                            + "SELECT EXTRACT(YEAR FROM transaction_date), "
+                            + "EXTRACT(MONTH FROM transaction_date), "
+                            + "category_id, type, SUM(amount), COUNT(*) "
+                            + "FROM transactions "
+                            + "GROUP BY 1, 2, 3, 4",
+            nativeQuery = true)
+    int insertTotalsFromTransactions();
+}
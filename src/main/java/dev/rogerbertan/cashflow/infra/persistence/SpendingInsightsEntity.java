@@ -0,0 +1,86 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "spending_insights")
+public class SpendingInsightsEntity {
+
+    @EmbeddedId private SpendingInsightsId id;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false, columnDefinition = "text[]")
+    private String[] insights;
+
+    @Column(nullable = false)
+    private String summary;
+
+    @Column(name = "raw_response")
+    private String rawResponse;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    public SpendingInsightsEntity(
+            SpendingInsightsId id,
+            LocalDate endDate,
+            String[] insights,
+            String summary,
+            String rawResponse,
+            LocalDateTime generatedAt) {
+        this.id = id;
+        this.endDate = endDate;
+        this.insights = insights;
+        this.summary = summary;
+        this.rawResponse = rawResponse;
+        this.generatedAt = generatedAt;
+    }
+
+    public SpendingInsightsEntity() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SpendingInsightsEntity that = (SpendingInsightsEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    public SpendingInsightsId getId() {
+        return id;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public String[] getInsights() {
+        return insights;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public String getRawResponse() {
+        return rawResponse;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+}
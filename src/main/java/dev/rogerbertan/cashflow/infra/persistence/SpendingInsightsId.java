@@ -0,0 +1,46 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class SpendingInsightsId implements Serializable {
+
+    @Column(nullable = false, length = 20)
+    private String period;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    public SpendingInsightsId(String period, LocalDate startDate) {
+        this.period = period;
+        this.startDate = startDate;
+    }
+
+    public SpendingInsightsId() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SpendingInsightsId that = (SpendingInsightsId) o;
+        return Objects.equals(period, that.period) && Objects.equals(startDate, that.startDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(period, startDate);
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+}
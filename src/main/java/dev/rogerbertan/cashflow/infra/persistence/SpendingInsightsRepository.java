@@ -0,0 +1,8 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpendingInsightsRepository
+        extends JpaRepository<SpendingInsightsEntity, SpendingInsightsId> {}
@@ -0,0 +1,99 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionCopyWriter {
+
+    private static final String COPY_SQL =
+            "COPY transactions (id, type, amount, description, category_id, transaction_date) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+
+    // Each value reserves the block (value - ID_ALLOCATION_SIZE, value], the same contract
+    // Hibernate's pooled optimizer relies on, so copied ids stay dense and never collide
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval('transactions_seq') FROM generate_series(1, ?)";
+
+    private final DataSource dataSource;
+
+    public TransactionCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    // Runs on the connection bound to the current transaction, if any, so the copied rows
+    // commit or roll back together with the rollup updates made through JPA.
+    public long copy(List<TransactionImportRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            String csv = toCsv(rows, reserveIds(connection, rows.size()));
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            return copyManager.copyIn(COPY_SQL, new StringReader(csv));
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("COPY transactions", COPY_SQL, e);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to stream rows to COPY", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private List<Long> reserveIds(Connection connection, int count) throws SQLException {
+        int blocks =
+                (count + TransactionEntity.ID_ALLOCATION_SIZE - 1)
+                        / TransactionEntity.ID_ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(blocks * TransactionEntity.ID_ALLOCATION_SIZE);
+        try (PreparedStatement statement = connection.prepareStatement(RESERVE_IDS_SQL)) {
+            statement.setInt(1, blocks);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long hi = resultSet.getLong(1);
+                    for (long id = hi - TransactionEntity.ID_ALLOCATION_SIZE + 1; id <= hi; id++) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private String toCsv(List<TransactionImportRow> rows, List<Long> ids) {
+        StringBuilder csv = new StringBuilder(rows.size() * 72);
+        for (int i = 0; i < rows.size(); i++) {
+            TransactionImportRow row = rows.get(i);
+            csv.append(ids.get(i))
+                    .append(',')
+                    .append(row.type().name())
+                    .append(',')
+                    .append(row.amount().toPlainString())
+                    .append(',')
+                    .append('"')
+                    .append(row.description().replace("\"", "\"\""))
+                    .append('"')
+                    .append(',')
+                    .append(row.categoryId())
+                    .append(',')
+                    .append(row.transactionDate())
+                    .append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,17 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record TransactionExportRow(
+        Long id,
+        Type type,
+        BigDecimal amount,
+        String description,
+        Long categoryId,
+        String categoryName,
+        Type categoryType,
+        LocalDate transactionDate,
+        LocalDateTime createdAt) {}
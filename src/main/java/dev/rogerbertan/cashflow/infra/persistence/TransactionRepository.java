@@ -2,27 +2,69 @@ package dev.rogerbertan.cashflow.infra.persistence;
 
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.infra.categorizer.TrainingSample;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<TransactionEntity> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<TransactionEntity> findById(Long id);
+
+    // Serializes writes to one transaction, so each reads the amount, type and date the
+    // previous write left and the running totals move by the right delta
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TransactionEntity t WHERE t.id = :id")
+    Optional<TransactionEntity> findByIdForUpdate(@Param("id") Long id);
+
+    @Query(
+            "SELECT t FROM TransactionEntity t JOIN FETCH t.category "
+                    + "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionEntity> findLatest(Limit limit);
+
+    @Query(
+            "SELECT t FROM TransactionEntity t JOIN FETCH t.category "
+                    + "WHERE (t.createdAt, t.id) < (:createdAt, :id) "
+                    + "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TransactionEntity> findLatestBefore(
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionEntity t " + "WHERE t.type = :type")
     BigDecimal sumAmountByType(@Param("type") Type type);
 
     @Query(
             "SELECT COALESCE(SUM(t.amount), 0) FROM TransactionEntity t "
                     + "WHERE t.type = :type "
-                    + "AND YEAR(t.transactionDate) = :year "
-                    + "AND MONTH(t.transactionDate) = :month")
-    BigDecimal sumAmountByMonthAndYearAndType(
-            @Param("month") int month, @Param("year") int year, @Param("type") Type type);
+                    + "AND t.transactionDate >= :startDate "
+                    + "AND t.transactionDate < :endDate")
+    BigDecimal sumAmountByTypeAndDateRange(
+            @Param("type") Type type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 
     @Query(
             "SELECT new dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary("
@@ -33,16 +75,106 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
                     + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal))) "
                     + "FROM TransactionEntity t "
                     + "JOIN t.category c "
-                    + "WHERE YEAR(t.transactionDate) = :year "
-                    + "AND MONTH(t.transactionDate) = :month "
+                    + "WHERE t.transactionDate >= :startDate "
+                    + "AND t.transactionDate < :endDate "
                     + "GROUP BY c.id, c.name")
-    List<CategorySummary> findCategorySummariesByMonthAndYear(
-            @Param("month") int month, @Param("year") int year);
+    List<CategorySummary> findCategorySummariesByDateRange(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     @Query(
-            "SELECT t FROM TransactionEntity t "
+            "SELECT t FROM TransactionEntity t JOIN FETCH t.category "
                     + "WHERE t.transactionDate BETWEEN :startDate AND :endDate "
                     + "ORDER BY t.transactionDate DESC")
     List<TransactionEntity> findByDateRange(
             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(
+            "SELECT new dev.rogerbertan.cashflow.infra.persistence.TransactionExportRow("
+                    + "t.id, t.type, t.amount, t.description, "
+                    + "c.id, c.name, c.type, t.transactionDate, t.createdAt) "
+                    + "FROM TransactionEntity t "
+                    + "JOIN t.category c "
+                    + "WHERE t.transactionDate >= :startDate "
+                    + "AND t.transactionDate < :endDate "
+                    + "ORDER BY t.transactionDate, t.id")
+    Stream<TransactionExportRow> streamExportRowsByDateRange(
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // In a REPEATABLE READ transaction the first statement fixes the snapshot every later one
+    // reads, so this pins it without reading anything
+    @Query(value = "SELECT 1", nativeQuery = true)
+    int takeSnapshot();
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(
+            "SELECT new dev.rogerbertan.cashflow.infra.categorizer.TrainingSample("
+                    + "t.description, t.category.id, COUNT(t)) "
+                    + "FROM TransactionEntity t "
+                    + "GROUP BY t.description, t.category.id")
+    Stream<TrainingSample> streamTrainingSamples();
+
+    @Query(
+            "SELECT new dev.rogerbertan.cashflow.infra.persistence.CategoryPeriodTotals("
+                    + "c.name, "
+                    + "COALESCE(SUM(CASE WHEN t.transactionDate BETWEEN :startDate AND :endDate "
+                    + "AND t.type = 'INCOME' THEN t.amount "
+                    + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal)), "
+                    + "COALESCE(SUM(CASE WHEN t.transactionDate BETWEEN :startDate AND :endDate "
+                    + "AND t.type = 'EXPENSE' THEN t.amount "
+                    + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal)), "
+                    + "SUM(CASE WHEN t.transactionDate BETWEEN :startDate AND :endDate "
+                    + "THEN 1L ELSE 0L END), "
+                    + "COALESCE(SUM(CASE WHEN t.transactionDate "
+                    + "BETWEEN :previousStartDate AND :previousEndDate "
+                    + "AND t.type = 'INCOME' THEN t.amount "
+                    + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal)), "
+                    + "COALESCE(SUM(CASE WHEN t.transactionDate "
+                    + "BETWEEN :previousStartDate AND :previousEndDate "
+                    + "AND t.type = 'EXPENSE' THEN t.amount "
+                    + "ELSE CAST(0 AS BigDecimal) END), CAST(0 AS BigDecimal)), "
+                    + "SUM(CASE WHEN t.transactionDate "
+                    + "BETWEEN :previousStartDate AND :previousEndDate "
+                    + "THEN 1L ELSE 0L END)) "
+                    + "FROM TransactionEntity t "
+                    + "JOIN t.category c "
+                    + "WHERE t.transactionDate BETWEEN :startDate AND :endDate "
+                    + "OR t.transactionDate BETWEEN :previousStartDate AND :previousEndDate "
+                    + "GROUP BY c.id, c.name")
+    List<CategoryPeriodTotals> findCategoryPeriodTotals(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("previousStartDate") LocalDate previousStartDate,
+            @Param("previousEndDate") LocalDate previousEndDate);
+
+    @Query(
+            "SELECT new dev.rogerbertan.cashflow.infra.persistence.DailyTotal("
+                    + "t.transactionDate, SUM(t.amount)) "
+                    + "FROM TransactionEntity t "
+                    + "WHERE t.type = :type "
+                    + "AND t.transactionDate BETWEEN :startDate AND :endDate "
+                    + "GROUP BY t.transactionDate")
+    List<DailyTotal> sumAmountByDayAndType(
+            @Param("type") Type type,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query(
+            value =
+                    "SELECT c.relname FROM pg_inherits i "
+                            + "JOIN pg_class c ON c.oid = i.inhrelid "
+                            + "WHERE i.inhparent = 'transactions'::regclass",
+            nativeQuery = true)
+    List<String> findTransactionPartitionNames();
+
+    @Query(
+            value =
+                    "SELECT DISTINCT CAST(date_trunc('month', transaction_date) AS DATE) "
+                            + "FROM transactions_default",
+            nativeQuery = true)
+    List<LocalDate> findMonthsInDefaultTransactionPartition();
+
+    @Modifying
+    @Query(value = "CALL create_transactions_partition(:month)", nativeQuery = true)
+    void createTransactionPartition(@Param("month") LocalDate month);
 }
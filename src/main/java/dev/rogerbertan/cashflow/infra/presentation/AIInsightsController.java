@@ -1,14 +1,23 @@
 package dev.rogerbertan.cashflow.infra.presentation;
 
 import dev.rogerbertan.cashflow.domain.usecases.insights.GenerateSpendingInsightsUseCase;
-import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
+import dev.rogerbertan.cashflow.infra.dto.ErrorResponse;
 import dev.rogerbertan.cashflow.infra.dto.SpendingInsightsResponse;
 import dev.rogerbertan.cashflow.infra.mapper.SpendingInsightsMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("api/ai")
@@ -25,9 +34,80 @@ public class AIInsightsController {
     }
 
     @GetMapping("/insights")
-    public ResponseEntity<SpendingInsightsResponse> getSpendingInsights(
-            @RequestParam(defaultValue = "monthly") String period) {
-        SpendingInsights insights = generateSpendingInsightsUseCase.execute(period);
-        return ResponseEntity.ok(spendingInsightsMapper.toDTO(insights));
+    public CompletableFuture<ResponseEntity<SpendingInsightsResponse>> getSpendingInsights(
+            @RequestParam(defaultValue = "monthly") String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate date,
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        // Any date inside a closed period selects it; without one the current period is used
+        LocalDate periodDate = date != null ? date : LocalDate.now();
+        return generateSpendingInsightsUseCase
+                .findOrGenerateAsync(period, periodDate, refresh)
+                .thenApply(insights -> ResponseEntity.ok(spendingInsightsMapper.toDTO(insights)));
+    }
+
+    // Same insights as a text/event-stream: one "insight" event per insight as Gemini writes it,
+    // then a "summary" event with the full response, or an "error" event if generation failed
+    @GetMapping(value = "/insights", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSpendingInsights(
+            @RequestParam(defaultValue = "monthly") String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate date,
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        SseEmitter emitter = new SseEmitter();
+        LocalDate periodDate = date != null ? date : LocalDate.now();
+
+        CompletableFuture<PeriodInsights> insights;
+        try {
+            insights =
+                    generateSpendingInsightsUseCase.streamAsync(
+                            period,
+                            periodDate,
+                            refresh,
+                            insight ->
+                                    send(
+                                            emitter,
+                                            SseEmitter.event().name("insight").data(insight)));
+        } catch (RuntimeException e) {
+            // The stream is already promised, so even early failures are reported as an event
+            insights = CompletableFuture.failedFuture(e);
+        }
+
+        insights.whenComplete(
+                (periodInsights, error) -> {
+                    try {
+                        if (error == null) {
+                            send(
+                                    emitter,
+                                    SseEmitter.event()
+                                            .name("summary")
+                                            .data(spendingInsightsMapper.toDTO(periodInsights)));
+                        } else {
+                            Throwable cause =
+                                    error instanceof CompletionException && error.getCause() != null
+                                            ? error.getCause()
+                                            : error;
+                            send(
+                                    emitter,
+                                    SseEmitter.event()
+                                            .name("error")
+                                            .data(new ErrorResponse(cause.getMessage())));
+                        }
+                        emitter.complete();
+                    } catch (UncheckedIOException e) {
+                        emitter.completeWithError(e);
+                    }
+                });
+
+        return emitter;
+    }
+
+    // A failed send means the client went away; throwing stops the Gemini stream as well
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,32 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import dev.rogerbertan.cashflow.infra.dto.AIResilienceResponse;
+import dev.rogerbertan.cashflow.infra.mapper.AIResilienceMapper;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/ai/resilience")
+public class AIResilienceController {
+
+    private final GeminiResilience geminiResilience;
+    private final AIResilienceMapper aiResilienceMapper;
+
+    public AIResilienceController(
+            GeminiResilience geminiResilience, AIResilienceMapper aiResilienceMapper) {
+        this.geminiResilience = geminiResilience;
+        this.aiResilienceMapper = aiResilienceMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<AIResilienceResponse> status() {
+        return ResponseEntity.ok(
+                aiResilienceMapper.toDTO(
+                        geminiResilience.circuitBreaker(),
+                        geminiResilience.bulkhead(),
+                        geminiResilience.rateLimiter()));
+    }
+}
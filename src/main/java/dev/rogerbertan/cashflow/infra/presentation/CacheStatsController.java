@@ -0,0 +1,48 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import dev.rogerbertan.cashflow.infra.cache.CategorySuggestionCache;
+import dev.rogerbertan.cashflow.infra.cache.SpendingInsightsCache;
+import dev.rogerbertan.cashflow.infra.cache.SummaryCache;
+import dev.rogerbertan.cashflow.infra.dto.CacheStatsResponse;
+import dev.rogerbertan.cashflow.infra.mapper.CacheStatsMapper;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/cache/stats")
+public class CacheStatsController {
+
+    private final CategorySuggestionCache categorySuggestionCache;
+    private final SpendingInsightsCache spendingInsightsCache;
+    private final SummaryCache summaryCache;
+    private final CacheStatsMapper cacheStatsMapper;
+
+    public CacheStatsController(
+            CategorySuggestionCache categorySuggestionCache,
+            SpendingInsightsCache spendingInsightsCache,
+            SummaryCache summaryCache,
+            CacheStatsMapper cacheStatsMapper) {
+        this.categorySuggestionCache = categorySuggestionCache;
+        this.spendingInsightsCache = spendingInsightsCache;
+        this.summaryCache = summaryCache;
+        this.cacheStatsMapper = cacheStatsMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, CacheStatsResponse>> stats() {
+
+        return ResponseEntity.ok(
+                Map.of(
+                        "categorySuggestions",
+                        cacheStatsMapper.toDTO(
+                                categorySuggestionCache.stats(), categorySuggestionCache.size()),
+                        "spendingInsights",
+                        cacheStatsMapper.toDTO(
+                                spendingInsightsCache.stats(), spendingInsightsCache.size()),
+                        "summaries",
+                        cacheStatsMapper.toDTO(summaryCache.stats(), summaryCache.size())));
+    }
+}
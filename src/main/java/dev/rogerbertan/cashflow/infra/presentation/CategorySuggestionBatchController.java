@@ -0,0 +1,63 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import dev.rogerbertan.cashflow.domain.usecases.transaction.SuggestTransactionCategoriesUseCase;
+import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionRequest;
+import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionResponse;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import dev.rogerbertan.cashflow.infra.mapper.CategorySuggestionMapper;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/transactions/suggest-category/batch")
+public class CategorySuggestionBatchController {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final SuggestTransactionCategoriesUseCase suggestTransactionCategoriesUseCase;
+    private final CategorySuggestionMapper categorySuggestionMapper;
+
+    public CategorySuggestionBatchController(
+            SuggestTransactionCategoriesUseCase suggestTransactionCategoriesUseCase,
+            CategorySuggestionMapper categorySuggestionMapper) {
+        this.suggestTransactionCategoriesUseCase = suggestTransactionCategoriesUseCase;
+        this.categorySuggestionMapper = categorySuggestionMapper;
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<List<CategorySuggestionResponse>>> suggestCategories(
+            @RequestBody List<CategorySuggestionRequest> requests) {
+
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidTransactionException(
+                    "Batch must contain between 1 and "
+                            + MAX_BATCH_SIZE
+                            + " descriptions: "
+                            + requests.size());
+        }
+
+        for (int i = 0; i < requests.size(); i++) {
+            CategorySuggestionRequest request = requests.get(i);
+            if (request.description() == null
+                    || request.description().isBlank()
+                    || request.type() == null) {
+                throw new InvalidTransactionException(
+                        "Description and type are required at index " + i);
+            }
+        }
+
+        return suggestTransactionCategoriesUseCase
+                .executeAsync(requests.stream().map(categorySuggestionMapper::toQuery).toList())
+                .thenApply(
+                        suggestions ->
+                                ResponseEntity.ok(
+                                        suggestions.stream()
+                                                .map(categorySuggestionMapper::toDTO)
+                                                .toList()));
+    }
+}
@@ -12,12 +12,17 @@ import dev.rogerbertan.cashflow.infra.dto.MonthlySummaryResponse;
 import dev.rogerbertan.cashflow.infra.mapper.BalanceResponseMapper;
 import dev.rogerbertan.cashflow.infra.mapper.CategorySummaryResponseMapper;
 import dev.rogerbertan.cashflow.infra.mapper.MonthlySummaryResponseMapper;
+import dev.rogerbertan.cashflow.infra.replica.PrimaryReads;
+import dev.rogerbertan.cashflow.infra.transaction.DataVersions;
+import java.time.YearMonth;
 import java.util.List;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("api/summary")
@@ -29,6 +34,7 @@ public class SummaryController {
     private final BalanceResponseMapper balanceResponseMapper;
     private final MonthlySummaryResponseMapper monthlySummaryResponseMapper;
     private final CategorySummaryResponseMapper categorySummaryResponseMapper;
+    private final DataVersions dataVersions;
 
     public SummaryController(
             GetBalanceUseCase getBalanceUseCase,
@@ -36,32 +42,59 @@ public class SummaryController {
             GetCategoriesSummaryUseCase getCategoriesSummaryUseCase,
             BalanceResponseMapper balanceResponseMapper,
             MonthlySummaryResponseMapper monthlySummaryResponseMapper,
-            CategorySummaryResponseMapper categorySummaryResponseMapper) {
+            CategorySummaryResponseMapper categorySummaryResponseMapper,
+            DataVersions dataVersions) {
         this.getBalanceUseCase = getBalanceUseCase;
         this.getMonthlySummaryUseCase = getMonthlySummaryUseCase;
         this.getCategoriesSummaryUseCase = getCategoriesSummaryUseCase;
         this.balanceResponseMapper = balanceResponseMapper;
         this.monthlySummaryResponseMapper = monthlySummaryResponseMapper;
         this.categorySummaryResponseMapper = categorySummaryResponseMapper;
+        this.dataVersions = dataVersions;
     }
 
+    // Polls whose If-None-Match still matches the data version get a 304 without any
+    // database work; null tells Spring the 304 has already been prepared. Bodies sent with an
+    // ETag are read from the primary, since clients keep them for as long as the ETag matches.
     @GetMapping("/balance")
-    public ResponseEntity<BalanceResponse> getBalance() {
-        Balance balance = getBalanceUseCase.execute();
-        return ResponseEntity.ok(balanceResponseMapper.toDTO(balance));
+    public ResponseEntity<BalanceResponse> getBalance(WebRequest request) {
+        String eTag = dataVersions.globalTag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        Balance balance = PrimaryReads.call(getBalanceUseCase::execute);
+        return ok(eTag, balanceResponseMapper.toDTO(balance));
     }
 
     @GetMapping("/monthly")
     public ResponseEntity<MonthlySummaryResponse> getMonthlySummary(
-            @RequestParam int month, @RequestParam int year) {
-        MonthlySummary summary = getMonthlySummaryUseCase.execute(month, year);
-        return ResponseEntity.ok(monthlySummaryResponseMapper.toDTO(summary));
+            @RequestParam int month, @RequestParam int year, WebRequest request) {
+        String eTag = dataVersions.monthTag(YearMonth.of(year, month));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        MonthlySummary summary =
+                PrimaryReads.call(() -> getMonthlySummaryUseCase.execute(month, year));
+        return ok(eTag, monthlySummaryResponseMapper.toDTO(summary));
     }
 
     @GetMapping("/categories")
     public ResponseEntity<List<CategoriesSummaryResponse>> getCategoriesSummary(
-            @RequestParam int month, @RequestParam int year) {
-        List<CategorySummary> summaries = getCategoriesSummaryUseCase.execute(month, year);
-        return ResponseEntity.ok(categorySummaryResponseMapper.toListDTO(summaries));
+            @RequestParam int month, @RequestParam int year, WebRequest request) {
+        String eTag = dataVersions.monthTag(YearMonth.of(year, month));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<CategorySummary> summaries =
+                PrimaryReads.call(() -> getCategoriesSummaryUseCase.execute(month, year));
+        return ok(eTag, categorySummaryResponseMapper.toListDTO(summaries));
+    }
+
+    // no-cache lets clients keep the body but makes them check the ETag on every poll
+    private static <T> ResponseEntity<T> ok(String eTag, T body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(body);
     }
 }
@@ -0,0 +1,55 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.CreateTransactionsUseCase;
+import dev.rogerbertan.cashflow.infra.dto.TransactionCreateRequest;
+import dev.rogerbertan.cashflow.infra.dto.TransactionResponse;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import dev.rogerbertan.cashflow.infra.mapper.TransactionCreateMapper;
+import dev.rogerbertan.cashflow.infra.mapper.TransactionResponseMapper;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/transactions/batch")
+public class TransactionBatchController {
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final CreateTransactionsUseCase createTransactionsUseCase;
+    private final TransactionCreateMapper transactionCreateMapper;
+    private final TransactionResponseMapper transactionResponseMapper;
+
+    public TransactionBatchController(
+            CreateTransactionsUseCase createTransactionsUseCase,
+            TransactionCreateMapper transactionCreateMapper,
+            TransactionResponseMapper transactionResponseMapper) {
+        this.createTransactionsUseCase = createTransactionsUseCase;
+        this.transactionCreateMapper = transactionCreateMapper;
+        this.transactionResponseMapper = transactionResponseMapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<List<TransactionResponse>> createTransactions(
+            @RequestBody List<TransactionCreateRequest> requests) {
+
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new InvalidTransactionException(
+                    "Batch must contain between 1 and "
+                            + MAX_BATCH_SIZE
+                            + " transactions: "
+                            + requests.size());
+        }
+
+        List<Transaction> created =
+                createTransactionsUseCase.execute(
+                        requests.stream().map(transactionCreateMapper::toEntity).toList());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(created.stream().map(transactionResponseMapper::toDTO).toList());
+    }
+}
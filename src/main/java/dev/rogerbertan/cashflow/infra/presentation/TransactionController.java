@@ -7,16 +7,20 @@ import dev.rogerbertan.cashflow.domain.usecases.transaction.FindAllTransactionUs
 import dev.rogerbertan.cashflow.domain.usecases.transaction.FindTransactionByIdUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.SuggestTransactionCategoryUseCase;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.UpdateTransactionUseCase;
-import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
 import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionRequest;
 import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionResponse;
 import dev.rogerbertan.cashflow.infra.dto.TransactionCreateRequest;
 import dev.rogerbertan.cashflow.infra.dto.TransactionResponse;
+import dev.rogerbertan.cashflow.infra.dto.TransactionSliceResponse;
 import dev.rogerbertan.cashflow.infra.dto.TransactionUpdateRequest;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
 import dev.rogerbertan.cashflow.infra.mapper.CategorySuggestionMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionCreateMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionResponseMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionUpdateRequestMapper;
+import dev.rogerbertan.cashflow.infra.util.TransactionCursorCodec;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +41,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("api/transactions")
 public class TransactionController {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final FindAllTransactionUseCase findAllTransactionsUseCase;
     private final FindTransactionByIdUseCase findTransactionByIdUseCase;
     private final CreateTransactionUseCase createTransactionUseCase;
@@ -83,6 +89,19 @@ public class TransactionController {
         return ResponseEntity.ok(transactions.map(transactionResponseMapper::toDTO));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<TransactionSliceResponse> getTransactionsByCursor(
+            @RequestParam String cursor, @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new InvalidTransactionException(
+                    "Size must be between 1 and " + MAX_SLICE_SIZE + ": " + size);
+        }
+
+        TransactionSlice slice =
+                findAllTransactionsUseCase.execute(TransactionCursorCodec.decode(cursor), size);
+        return ResponseEntity.ok(transactionResponseMapper.toSliceDTO(slice));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionResponse> getTransactionById(@PathVariable Long id) {
 
@@ -123,11 +142,12 @@ public class TransactionController {
     }
 
     @PostMapping("/suggest-category")
-    public ResponseEntity<CategorySuggestionResponse> suggestCategory(
+    public CompletableFuture<ResponseEntity<CategorySuggestionResponse>> suggestCategory(
             @RequestBody CategorySuggestionRequest dto) {
-        CategorySuggestion suggestion =
-                suggestTransactionCategoryUseCase.execute(dto.description(), dto.type());
-
-        return ResponseEntity.ok(categorySuggestionMapper.toDTO(suggestion));
+        return suggestTransactionCategoryUseCase
+                .executeAsync(dto.description(), dto.type())
+                .thenApply(
+                        suggestion ->
+                                ResponseEntity.ok(categorySuggestionMapper.toDTO(suggestion)));
     }
 }
@@ -0,0 +1,60 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import dev.rogerbertan.cashflow.domain.usecases.transaction.ExportTransactionsUseCase;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import dev.rogerbertan.cashflow.infra.exporter.ExportFormat;
+import dev.rogerbertan.cashflow.infra.exporter.TransactionExportWriter;
+import dev.rogerbertan.cashflow.infra.exporter.TransactionExportWriterFactory;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/transactions/export")
+public class TransactionExportController {
+
+    private final ExportTransactionsUseCase exportTransactionsUseCase;
+    private final TransactionExportWriterFactory transactionExportWriterFactory;
+
+    public TransactionExportController(
+            ExportTransactionsUseCase exportTransactionsUseCase,
+            TransactionExportWriterFactory transactionExportWriterFactory) {
+        this.exportTransactionsUseCase = exportTransactionsUseCase;
+        this.transactionExportWriterFactory = transactionExportWriterFactory;
+    }
+
+    @GetMapping
+    public void exportTransactions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response)
+            throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (from.isAfter(to)) {
+            throw new InvalidTransactionException(
+                    "Export start date must not be after end date: " + from + " > " + to);
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                String.format(
+                        "attachment; filename=\"transactions-%s-%s.%s\"",
+                        from, to, exportFormat.getFileExtension()));
+
+        TransactionExportWriter writer =
+                transactionExportWriterFactory.create(exportFormat, response.getOutputStream());
+        writer.writeHeader();
+        exportTransactionsUseCase.execute(new DateRange(from, to), writer);
+        writer.finish();
+    }
+}
@@ -0,0 +1,47 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import dev.rogerbertan.cashflow.domain.usecases.transaction.ImportTransactionsUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.infra.dto.TransactionImportResponse;
+import dev.rogerbertan.cashflow.infra.importer.TransactionImportReaderFactory;
+import dev.rogerbertan.cashflow.infra.mapper.TransactionImportResponseMapper;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/transactions/import")
+public class TransactionImportController {
+
+    private final ImportTransactionsUseCase importTransactionsUseCase;
+    private final TransactionImportReaderFactory transactionImportReaderFactory;
+    private final TransactionImportResponseMapper transactionImportResponseMapper;
+
+    public TransactionImportController(
+            ImportTransactionsUseCase importTransactionsUseCase,
+            TransactionImportReaderFactory transactionImportReaderFactory,
+            TransactionImportResponseMapper transactionImportResponseMapper) {
+        this.importTransactionsUseCase = importTransactionsUseCase;
+        this.transactionImportReaderFactory = transactionImportReaderFactory;
+        this.transactionImportResponseMapper = transactionImportResponseMapper;
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<TransactionImportResponse> importCsv(InputStream body) {
+
+        ImportResult result =
+                importTransactionsUseCase.execute(transactionImportReaderFactory.csv(body));
+        return ResponseEntity.ok(transactionImportResponseMapper.toDTO(result));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TransactionImportResponse> importJson(InputStream body) {
+
+        ImportResult result =
+                importTransactionsUseCase.execute(transactionImportReaderFactory.json(body));
+        return ResponseEntity.ok(transactionImportResponseMapper.toDTO(result));
+    }
+}
@@ -0,0 +1,6 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
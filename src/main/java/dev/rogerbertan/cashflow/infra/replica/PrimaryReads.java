@@ -0,0 +1,29 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import java.util.function.Supplier;
+
+// Marks reads that must see every committed write, such as the body sent with a freshly bumped
+// ETag: a replica may still be up to max-lag behind the version it would be labelled with.
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private PrimaryReads() {}
+
+    public static <T> T call(Supplier<T> read) {
+        if (ACTIVE.get()) {
+            return read.get();
+        }
+
+        ACTIVE.set(true);
+        try {
+            return read.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+}
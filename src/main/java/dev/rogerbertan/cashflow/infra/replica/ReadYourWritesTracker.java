@@ -0,0 +1,92 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+// Keeps the client that wrote, and only that client, on the primary for the window after its
+// write. The write time travels in a cookie, so the window follows the client to any node;
+// other clients keep reading from the replica.
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    static final String COOKIE_NAME = "cashflow-last-write";
+
+    private static final String WROTE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".wrote";
+
+    private final Duration window;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            recordWrite();
+        }
+    }
+
+    // Writes outside a request, such as scheduled jobs, have no client waiting to read them
+    private void recordWrite() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null
+                || attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                        != null) {
+            return;
+        }
+
+        attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis()));
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+    }
+
+    public boolean isWithinWindow() {
+        ServletRequestAttributes attributes = currentRequest();
+        if (attributes == null) {
+            return false;
+        }
+        if (attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return System.currentTimeMillis() - parseMillis(cookie.getValue())
+                        < window.toMillis();
+            }
+        }
+        return false;
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes()
+                        instanceof ServletRequestAttributes servletAttributes
+                ? servletAttributes
+                : null;
+    }
+
+    private static long parseMillis(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // A replica that has replayed everything it received is current even if the primary is idle
+    static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() "
+                    + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())"
+                    + " * 1000, 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${cashflow.datasource.replica.lag-check-interval}")
+    public void checkLag() {
+
+        Number lagMillis;
+        try {
+            lagMillis = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+        } catch (DataAccessException e) {
+            markUnreachable(e);
+            return;
+        }
+
+        if (lagMillis == null || lagMillis.longValue() > maxLag.toMillis()) {
+            if (replicaUsable) {
+                LOGGER.warn(
+                        "Replica lag {} ms exceeds {}, reading from primary", lagMillis, maxLag);
+            }
+            replicaUsable = false;
+            return;
+        }
+
+        if (!replicaUsable) {
+            LOGGER.info("Replica is within {} of primary, routing read-only work to it", maxLag);
+        }
+        replicaUsable = true;
+    }
+
+    public void markUnreachable(Exception cause) {
+
+        if (replicaUsable) {
+            LOGGER.warn("Replica is unreachable, reading from primary: {}", cause.getMessage());
+        }
+        replicaUsable = false;
+    }
+}
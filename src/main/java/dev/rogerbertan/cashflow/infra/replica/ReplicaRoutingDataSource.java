@@ -0,0 +1,60 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Needs to sit behind a LazyConnectionDataSourceProxy: the read-only flag of a transaction is
+// only visible once it has begun, after the transaction manager asked for a connection.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(
+                Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (determineCurrentLookupKey() == DataSourceRole.PRIMARY) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnreachable(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !PrimaryReads.isActive()
+                && replicaLagMonitor.isReplicaUsable()
+                && !readYourWritesTracker.isWithinWindow()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
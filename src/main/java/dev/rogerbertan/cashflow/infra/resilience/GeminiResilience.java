@@ -0,0 +1,127 @@
+package dev.rogerbertan.cashflow.infra.resilience;
+
+import dev.rogerbertan.cashflow.infra.config.GeminiResilienceProperties;
+import dev.rogerbertan.cashflow.infra.exception.AIUnavailableException;
+import dev.rogerbertan.cashflow.infra.exception.InsightDeliveryException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Shared by every Gemini gateway, since they all spend the same API key's quota. Calls are
+// refused up front while the breaker is open, while maxConcurrentCalls are in flight, or once
+// the minute's requests are used up, so callers can fall back instead of waiting on Gemini.
+@Component
+public class GeminiResilience {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeminiResilience.class);
+    private static final String NAME = "gemini";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final RateLimiter rateLimiter;
+
+    public GeminiResilience(GeminiResilienceProperties properties) {
+        this.circuitBreaker =
+                CircuitBreaker.of(
+                        NAME,
+                        CircuitBreakerConfig.custom()
+                                .slidingWindowType(
+                                        CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                                .slidingWindowSize(properties.getSlidingWindowSize())
+                                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                                .failureRateThreshold(properties.getFailureRateThreshold())
+                                .waitDurationInOpenState(properties.getOpenStateDuration())
+                                .permittedNumberOfCallsInHalfOpenState(
+                                        properties.getHalfOpenCalls())
+                                // Our own refusals and streaming clients that went away say
+                                // nothing about Gemini's health
+                                .ignoreExceptions(
+                                        BulkheadFullException.class,
+                                        RequestNotPermitted.class,
+                                        InsightDeliveryException.class)
+                                .build());
+        this.bulkhead =
+                Bulkhead.of(
+                        NAME,
+                        BulkheadConfig.custom()
+                                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                                .maxWaitDuration(Duration.ZERO)
+                                .build());
+        this.rateLimiter =
+                RateLimiter.of(
+                        NAME,
+                        RateLimiterConfig.custom()
+                                .limitForPeriod(properties.getRequestsPerMinute())
+                                .limitRefreshPeriod(Duration.ofMinutes(1))
+                                .timeoutDuration(Duration.ZERO)
+                                .build());
+
+        circuitBreaker
+                .getEventPublisher()
+                .onStateTransition(
+                        event ->
+                                LOGGER.warn(
+                                        "Gemini circuit breaker {}", event.getStateTransition()));
+    }
+
+    public <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> call) {
+        Supplier<CompletionStage<T>> guarded =
+                CircuitBreaker.decorateCompletionStage(
+                        circuitBreaker,
+                        Bulkhead.decorateCompletionStage(
+                                bulkhead,
+                                RateLimiter.decorateCompletionStage(rateLimiter, call::get)));
+
+        return guarded.get()
+                .toCompletableFuture()
+                .exceptionally(
+                        error -> {
+                            Throwable cause =
+                                    error instanceof CompletionException && error.getCause() != null
+                                            ? error.getCause()
+                                            : error;
+                            throw switch (cause) {
+                                case CallNotPermittedException e ->
+                                        new AIUnavailableException(
+                                                "Gemini API is unavailable: circuit breaker is open",
+                                                e);
+                                case BulkheadFullException e ->
+                                        new AIUnavailableException(
+                                                "Gemini API is unavailable: too many calls in flight",
+                                                e);
+                                case RequestNotPermitted e ->
+                                        new AIUnavailableException(
+                                                "Gemini API is unavailable: request quota used up",
+                                                e);
+                                case RuntimeException e -> e;
+                                default -> new CompletionException(cause);
+                            };
+                        });
+    }
+
+    public CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+}
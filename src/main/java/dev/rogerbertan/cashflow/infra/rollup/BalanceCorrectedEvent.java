@@ -0,0 +1,4 @@
+package dev.rogerbertan.cashflow.infra.rollup;
+
+// Published when reconciliation had to overwrite the balance snapshot
+public record BalanceCorrectedEvent() {}
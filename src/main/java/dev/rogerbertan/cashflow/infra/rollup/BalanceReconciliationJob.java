@@ -0,0 +1,62 @@
+package dev.rogerbertan.cashflow.infra.rollup;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotEntity;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotRepository;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import java.math.BigDecimal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class BalanceReconciliationJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BalanceReconciliationJob.class);
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BalanceReconciliationJob(
+            BalanceSnapshotRepository balanceSnapshotRepository,
+            TransactionRepository transactionRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.transactionRepository = transactionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(
+            initialDelayString = "${cashflow.balance.reconciliation-interval}",
+            fixedDelayString = "${cashflow.balance.reconciliation-interval}")
+    @Transactional
+    public void reconcile() {
+
+        BalanceSnapshotEntity snapshot =
+                balanceSnapshotRepository
+                        .findByIdForUpdate(BalanceSnapshotEntity.SNAPSHOT_ID)
+                        .orElseThrow(
+                                () -> new IllegalStateException("Balance snapshot is missing"));
+
+        BigDecimal totalIncome = transactionRepository.sumAmountByType(Type.INCOME);
+        BigDecimal totalExpense = transactionRepository.sumAmountByType(Type.EXPENSE);
+
+        if (snapshot.getTotalIncome().compareTo(totalIncome) == 0
+                && snapshot.getTotalExpense().compareTo(totalExpense) == 0) {
+            return;
+        }
+
+        LOGGER.warn(
+                "Balance snapshot drifted (income {} vs {}, expense {} vs {}), correcting it",
+                snapshot.getTotalIncome(),
+                totalIncome,
+                snapshot.getTotalExpense(),
+                totalExpense);
+        balanceSnapshotRepository.overwriteTotals(totalIncome, totalExpense);
+        eventPublisher.publishEvent(new BalanceCorrectedEvent());
+    }
+}
@@ -0,0 +1,35 @@
+package dev.rogerbertan.cashflow.infra.rollup;
+
+import dev.rogerbertan.cashflow.infra.invalidation.InvalidationBus;
+import dev.rogerbertan.cashflow.infra.persistence.MonthlyCategoryTotalRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class MonthlyCategoryTotalsRebuilder {
+
+    private static final String NOTIFICATION_SENDER = "monthly-totals-rebuild";
+
+    private final MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public MonthlyCategoryTotalsRebuilder(
+            MonthlyCategoryTotalRepository monthlyCategoryTotalRepository,
+            JdbcTemplate jdbcTemplate) {
+        this.monthlyCategoryTotalRepository = monthlyCategoryTotalRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Running nodes cache closed months and their ETags without expiry, so they are told to
+    // drop everything once the rebuilt totals commit
+    @Transactional
+    public int rebuild() {
+
+        monthlyCategoryTotalRepository.lockTransactions();
+        monthlyCategoryTotalRepository.deleteAllTotals();
+        int rows = monthlyCategoryTotalRepository.insertTotalsFromTransactions();
+        InvalidationBus.notifyEverythingChanged(jdbcTemplate, NOTIFICATION_SENDER);
+        return rows;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.rogerbertan.cashflow.infra.rollup;
+
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Regenerates monthly_category_totals from transactions in a context of its own, without the
+// web server, schedulers or invalidation listener, and hands the exit code back to main
+public final class RebuildMonthlyTotalsCommand {
+
+    static final String OPTION = "--rebuild-monthly-totals";
+    static final String PROFILE = "rebuild";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RebuildMonthlyTotalsCommand.class);
+
+    private RebuildMonthlyTotalsCommand() {}
+
+    public static boolean isRequested(String... args) {
+        return Arrays.asList(args).contains(OPTION);
+    }
+
+    public static int run(Class<?> source, String... args) {
+
+        SpringApplication application = new SpringApplication(source);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles(PROFILE);
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            int rows = context.getBean(MonthlyCategoryTotalsRebuilder.class).rebuild();
+            LOGGER.info("Rebuilt monthly_category_totals with {} rows", rows);
+            return SpringApplication.exit(context);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.rogerbertan.cashflow.infra.transaction;
+
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.invalidation.InvalidationsMissedEvent;
+import dev.rogerbertan.cashflow.infra.rollup.BalanceCorrectedEvent;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Versions of the data behind the summary endpoints, used as their ETags. Every bump draws from
+// one counter, so versions only grow and a month's version changes whenever its data does.
+// Bumps happen after commit, so a version is never handed out with data older than it.
+@Component
+public class DataVersions {
+
+    // Versions restart with the process; the epoch keeps old ETags from matching new data
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Map<YearMonth, Long> monthVersions = new ConcurrentHashMap<>();
+    private volatile long categoriesVersion;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        long bumped = version.incrementAndGet();
+        YearMonth last = YearMonth.from(event.dates().end());
+        for (YearMonth month = YearMonth.from(event.dates().start());
+                !month.isAfter(last);
+                month = month.plusMonths(1)) {
+            monthVersions.merge(month, bumped, Math::max);
+        }
+    }
+
+    // Category summaries show category names
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        categoriesVersion = version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBalanceCorrected(BalanceCorrectedEvent event) {
+        version.incrementAndGet();
+    }
+
+    // Every month tag is at least the categories version, so this changes them all
+    @EventListener
+    public void onInvalidationsMissed(InvalidationsMissedEvent event) {
+        categoriesVersion = version.incrementAndGet();
+    }
+
+    public String globalTag() {
+        return epoch + "-" + version.get();
+    }
+
+    public String monthTag(YearMonth month) {
+        return epoch + "-" + Math.max(monthVersions.getOrDefault(month, 0L), categoriesVersion);
+    }
+}
@@ -0,0 +1,6 @@
+package dev.rogerbertan.cashflow.infra.transaction;
+
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+
+// Published by every transaction write; dates spans the first to the last transaction date touched
+public record TransactionsChangedEvent(DateRange dates) {}
@@ -2,4 +2,9 @@ package dev.rogerbertan.cashflow.infra.util;
 
 import java.time.LocalDate;
 
-public record DateRange(LocalDate start, LocalDate end) {}
+public record DateRange(LocalDate start, LocalDate end) {
+
+    public LocalDate endExclusive() {
+        return end.plusDays(1);
+    }
+}
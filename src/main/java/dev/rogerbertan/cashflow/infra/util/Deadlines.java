@@ -0,0 +1,52 @@
+package dev.rogerbertan.cashflow.infra.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public final class Deadlines {
+
+    private Deadlines() {}
+
+    // Runs the task on the executor and fails the future with a TimeoutException once the
+    // deadline passes, interrupting the task so it stops holding its thread and connection
+    public static <T> CompletableFuture<T> supplyAsync(
+            ExecutorService executor, Duration deadline, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running =
+                executor.submit(
+                        () -> {
+                            try {
+                                result.complete(task.get());
+                            } catch (Throwable e) {
+                                result.completeExceptionally(e);
+                            }
+                        });
+
+        result.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete(
+                        (value, error) -> {
+                            if (error instanceof TimeoutException) {
+                                running.cancel(true);
+                            }
+                        });
+        return result;
+    }
+
+    // Blocks for a future's result, rethrowing what it failed with instead of the wrapper
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package dev.rogerbertan.cashflow.infra.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Turns Gemini's "one insight per line" answer into insights, chunk by chunk as it streams in.
+// Each insight is handed out as soon as its line is complete.
+public final class InsightLineParser {
+
+    private final StringBuilder pending = new StringBuilder();
+
+    public static List<String> parse(String text) {
+        InsightLineParser parser = new InsightLineParser();
+        List<String> insights = new ArrayList<>(parser.accept(text));
+        insights.addAll(parser.finish());
+        return insights;
+    }
+
+    public List<String> accept(String chunk) {
+        pending.append(chunk);
+
+        List<String> insights = new ArrayList<>();
+        int newline;
+        while ((newline = pending.indexOf("\n")) >= 0) {
+            addInsight(insights, pending.substring(0, newline));
+            pending.delete(0, newline + 1);
+        }
+        return insights;
+    }
+
+    // The last line has no newline after it
+    public List<String> finish() {
+        List<String> insights = new ArrayList<>();
+        addInsight(insights, pending.toString());
+        pending.setLength(0);
+        return insights;
+    }
+
+    private static void addInsight(List<String> insights, String line) {
+        String trimmed = line.trim();
+        // Skips blank lines and list numbers Gemini sometimes puts on a line of their own
+        if (trimmed.isEmpty() || trimmed.matches("^\\d+\\.\\s*$")) {
+            return;
+        }
+
+        insights.add(trimmed.replaceAll("^[\\d\\-*•]+\\.?\\s*", ""));
+    }
+}
@@ -4,14 +4,32 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.temporal.TemporalAdjusters;
+import java.util.List;
 
 public final class PeriodCalculator {
 
+    public static final List<String> PERIODS = List.of("weekly", "monthly", "quarterly", "yearly");
+
     private PeriodCalculator() {}
 
+    // Unknown periods are treated as monthly, as in getCurrentPeriod and getPreviousPeriod
+    public static String normalize(String period) {
+        String lowerCase = period.toLowerCase();
+        return PERIODS.contains(lowerCase) ? lowerCase : "monthly";
+    }
+
+    public static DateRange getMonthPeriod(int month, int year) {
+        LocalDate startOfMonth = LocalDate.of(year, month, 1);
+        LocalDate endOfMonth = startOfMonth.with(TemporalAdjusters.lastDayOfMonth());
+        return new DateRange(startOfMonth, endOfMonth);
+    }
+
     public static DateRange getCurrentPeriod(String period) {
-        LocalDate now = LocalDate.now();
+        return getCurrentPeriod(period, LocalDate.now());
+    }
 
+    // The period of the given kind that contains the date
+    public static DateRange getCurrentPeriod(String period, LocalDate now) {
         return switch (period.toLowerCase()) {
             case "weekly" -> {
                 LocalDate startOfWeek =
@@ -42,8 +60,11 @@ public final class PeriodCalculator {
     }
 
     public static DateRange getPreviousPeriod(String period) {
-        LocalDate now = LocalDate.now();
+        return getPreviousPeriod(period, LocalDate.now());
+    }
 
+    // The period of the given kind right before the one that contains the date
+    public static DateRange getPreviousPeriod(String period, LocalDate now) {
         return switch (period.toLowerCase()) {
             case "weekly" -> {
                 LocalDate previousWeekStart =
@@ -0,0 +1,40 @@
+package dev.rogerbertan.cashflow.infra.util;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public final class TransactionCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private TransactionCursorCodec() {}
+
+    public static String encode(TransactionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidTransactionException("Invalid cursor: " + token, e);
+        }
+    }
+}
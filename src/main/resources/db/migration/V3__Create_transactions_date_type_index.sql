@@ -0,0 +1,3 @@
+CREATE INDEX idx_transactions_transaction_date_type ON transactions(transaction_date, type) INCLUDE (amount, category_id);
+
+DROP INDEX idx_transactions_transaction_date;
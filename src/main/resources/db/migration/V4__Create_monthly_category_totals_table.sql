@@ -0,0 +1,15 @@
+CREATE TABLE monthly_category_totals (
+    year INT NOT NULL,
+    month INT NOT NULL CHECK(month BETWEEN 1 AND 12),
+    category_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL CHECK(type IN ('INCOME', 'EXPENSE')),
+    total_amount NUMERIC(19, 4) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    PRIMARY KEY (year, month, category_id, type),
+    CONSTRAINT fk_monthly_category_totals_categories FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+INSERT INTO monthly_category_totals (year, month, category_id, type, total_amount, transaction_count)
+SELECT EXTRACT(YEAR FROM transaction_date), EXTRACT(MONTH FROM transaction_date), category_id, type, SUM(amount), COUNT(*)
+FROM transactions
+GROUP BY 1, 2, 3, 4;
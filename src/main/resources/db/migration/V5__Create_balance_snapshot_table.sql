@@ -0,0 +1,12 @@
+CREATE TABLE balance_snapshot (
+    id SMALLINT PRIMARY KEY CHECK(id = 1),
+    total_income NUMERIC(19, 4) NOT NULL,
+    total_expense NUMERIC(19, 4) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO balance_snapshot (id, total_income, total_expense)
+SELECT 1,
+       COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0),
+       COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0)
+FROM transactions;
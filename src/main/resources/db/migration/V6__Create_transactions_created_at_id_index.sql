@@ -0,0 +1,2 @@
+-- Backs keyset pagination: WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_transactions_created_at_id ON transactions(created_at DESC, id DESC);
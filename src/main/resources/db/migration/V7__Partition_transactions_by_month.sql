@@ -0,0 +1,84 @@
+-- Range-partition transactions by month on transaction_date so period queries prune to the
+-- partitions they touch and old months can be detached without rewriting the table.
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT transactions_pkey TO transactions_unpartitioned_pkey;
+DROP INDEX idx_transactions_category_id;
+DROP INDEX idx_transactions_transaction_date_type;
+DROP INDEX idx_transactions_created_at_id;
+
+CREATE TABLE transactions (
+    id BIGINT GENERATED ALWAYS AS IDENTITY,
+    type VARCHAR(20) NOT NULL CHECK(type IN ('INCOME', 'EXPENSE')),
+    amount NUMERIC(19, 4) NOT NULL,
+    description VARCHAR(100) NOT NULL,
+    category_id BIGINT NOT NULL,
+    transaction_date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- The partition key has to be part of every unique constraint on a partitioned table
+    PRIMARY KEY (id, transaction_date),
+    CONSTRAINT fk_transactions_categories FOREIGN KEY (category_id) REFERENCES categories(id) ON DELETE RESTRICT
+) PARTITION BY RANGE (transaction_date);
+
+CREATE INDEX idx_transactions_category_id ON transactions(category_id);
+CREATE INDEX idx_transactions_transaction_date_type ON transactions(transaction_date, type) INCLUDE (amount, category_id);
+-- Backs keyset pagination: WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_transactions_created_at_id ON transactions(created_at DESC, id DESC);
+
+-- Catches dates no monthly partition exists for yet; the maintenance job moves them out
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
+
+-- Creates the transactions_YYYY_MM partition holding the given month, moving any rows the
+-- default partition already holds for it. Safe to call concurrently and repeatedly.
+CREATE PROCEDURE create_transactions_partition(p_month DATE)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'transactions_' || to_char(p_month, 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_transactions_partition'));
+
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM transactions_default WHERE transaction_date >= %L AND transaction_date < %L RETURNING *) '
+        'INSERT INTO %I SELECT * FROM moved',
+        v_start, v_end, v_name);
+    EXECUTE format(
+        'ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        v_name, v_start, v_end);
+END;
+$$;
+
+DO $$
+DECLARE
+    v_month DATE;
+    v_last DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(transaction_date), CURRENT_DATE))::DATE
+    INTO v_month
+    FROM transactions_unpartitioned;
+
+    WHILE v_month <= v_last LOOP
+        CALL create_transactions_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO transactions (id, type, amount, description, category_id, transaction_date, created_at)
+OVERRIDING SYSTEM VALUE
+SELECT id, type, amount, description, category_id, transaction_date, created_at
+FROM transactions_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('transactions', 'id'), COALESCE(MAX(id), 0) + 1, false)
+FROM transactions;
+
+DROP TABLE transactions_unpartitioned;
+
+ANALYZE transactions;
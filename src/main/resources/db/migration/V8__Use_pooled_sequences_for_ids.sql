@@ -0,0 +1,15 @@
+-- Pooled sequences let Hibernate assign ids without an INSERT round trip per row, which is
+-- what allows JDBC batching. Each nextval reserves the block of 50 ids ending at the returned
+-- value, so both sequences start one block past the highest existing id.
+ALTER TABLE transactions ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE categories ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE transactions_seq INCREMENT BY 50 OWNED BY transactions.id;
+CREATE SEQUENCE categories_seq INCREMENT BY 50 OWNED BY categories.id;
+
+SELECT setval('transactions_seq', COALESCE(MAX(id), 0) + 50, false) FROM transactions;
+SELECT setval('categories_seq', COALESCE(MAX(id), 0) + 50, false) FROM categories;
+
+-- Plain SQL inserts keep working; each one consumes a whole block
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transactions_seq');
+ALTER TABLE categories ALTER COLUMN id SET DEFAULT nextval('categories_seq');
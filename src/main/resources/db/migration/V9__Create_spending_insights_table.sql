@@ -0,0 +1,11 @@
+-- Insights generated ahead of time for each period, served as-is until explicitly refreshed
+CREATE TABLE spending_insights (
+    period VARCHAR(20) NOT NULL CHECK(period IN ('weekly', 'monthly', 'quarterly', 'yearly')),
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    insights TEXT[] NOT NULL,
+    summary TEXT NOT NULL,
+    raw_response TEXT,
+    generated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (period, start_date)
+);
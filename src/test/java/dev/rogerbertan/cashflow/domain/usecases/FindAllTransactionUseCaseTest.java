@@ -8,6 +8,8 @@ import dev.rogerbertan.cashflow.domain.entities.Transaction;
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.FindAllTransactionUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -136,4 +138,25 @@ class FindAllTransactionUseCaseTest {
         assertThat(result.getTotalElements()).isEqualTo(0);
         verify(transactionGateway, times(1)).findAllTransactions(pageable);
     }
+
+    @Test
+    void execute_ShouldReturnSliceFromGateway_WhenCursorProvided() {
+        // Arrange
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2024, 3, 10, 12, 0), 42L);
+        TransactionCursor nextCursor =
+                new TransactionCursor(LocalDateTime.of(2024, 3, 9, 8, 30), 17L);
+        TransactionSlice slice =
+                new TransactionSlice(
+                        List.of(TestDataFactory.createExpenseTransaction()), nextCursor);
+        when(transactionGateway.findTransactionsAfter(cursor, 20)).thenReturn(slice);
+
+        // Act
+        TransactionSlice result = useCase.execute(cursor, 20);
+
+        // Assert
+        assertThat(result).isEqualTo(slice);
+        assertThat(result.hasNext()).isTrue();
+        verify(transactionGateway, times(1)).findTransactionsAfter(cursor, 20);
+        verify(transactionGateway, never()).findAllTransactions(any());
+    }
 }
@@ -24,12 +24,9 @@ class GetBalanceUseCaseTest {
     @Test
     void execute_ShouldCalculateBalance_WhenTransactionsExist() {
         // Arrange
-        BigDecimal totalIncome = new BigDecimal("1500.50");
-        BigDecimal totalExpense = new BigDecimal("750.25");
         BigDecimal expectedBalance = new BigDecimal("750.25");
 
-        when(transactionGateway.getTotalIncome()).thenReturn(totalIncome);
-        when(transactionGateway.getTotalExpense()).thenReturn(totalExpense);
+        when(transactionGateway.getNetBalance()).thenReturn(new BigDecimal("750.2500"));
 
         // Act
         Balance result = useCase.execute();
@@ -38,15 +35,14 @@ class GetBalanceUseCaseTest {
         assertThat(result).isNotNull();
         assertThat(result.balance()).isEqualByComparingTo(expectedBalance);
         assertThat(result.balance().scale()).isEqualTo(2);
-        verify(transactionGateway, times(1)).getTotalIncome();
-        verify(transactionGateway, times(1)).getTotalExpense();
+        verify(transactionGateway, times(1)).getNetBalance();
+        verifyNoMoreInteractions(transactionGateway);
     }
 
     @Test
     void execute_ShouldHandleZeroValues_WhenNoTransactions() {
         // Arrange
-        when(transactionGateway.getTotalIncome()).thenReturn(BigDecimal.ZERO);
-        when(transactionGateway.getTotalExpense()).thenReturn(BigDecimal.ZERO);
+        when(transactionGateway.getNetBalance()).thenReturn(BigDecimal.ZERO);
 
         // Act
         Balance result = useCase.execute();
@@ -60,12 +56,8 @@ class GetBalanceUseCaseTest {
     @Test
     void execute_ShouldRoundHalfUp_WhenDecimalsExceedTwoPlaces() {
         // Arrange
-        BigDecimal totalIncome = new BigDecimal("100.005");
-        BigDecimal totalExpense = new BigDecimal("50.003");
-        // 100.005 - 50.003 = 50.002, rounded to 50.00 with HALF_UP
-
-        when(transactionGateway.getTotalIncome()).thenReturn(totalIncome);
-        when(transactionGateway.getTotalExpense()).thenReturn(totalExpense);
+        // 50.002 rounded to 50.00 with HALF_UP
+        when(transactionGateway.getNetBalance()).thenReturn(new BigDecimal("50.002"));
 
         // Act
         Balance result = useCase.execute();
@@ -79,12 +71,9 @@ class GetBalanceUseCaseTest {
     @Test
     void execute_ShouldHandleNegativeBalance_WhenExpensesExceedIncome() {
         // Arrange
-        BigDecimal totalIncome = new BigDecimal("500.00");
-        BigDecimal totalExpense = new BigDecimal("800.00");
         BigDecimal expectedBalance = new BigDecimal("-300.00");
 
-        when(transactionGateway.getTotalIncome()).thenReturn(totalIncome);
-        when(transactionGateway.getTotalExpense()).thenReturn(totalExpense);
+        when(transactionGateway.getNetBalance()).thenReturn(new BigDecimal("-300.0000"));
 
         // Act
         Balance result = useCase.execute();
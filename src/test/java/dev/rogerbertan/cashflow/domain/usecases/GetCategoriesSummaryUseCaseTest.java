@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.usecases.summary.GetCategoriesSummaryUseCase;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Arrays;
@@ -37,7 +38,9 @@ class GetCategoriesSummaryUseCaseTest {
                 new CategorySummary("Transport", new BigDecimal("0.00"), new BigDecimal("200.00"));
 
         List<CategorySummary> summaries = Arrays.asList(summary1, summary2, summary3);
-        when(transactionGateway.getCategorySummaries(month, year)).thenReturn(summaries);
+        when(transactionGateway.getCategorySummariesByDateRange(
+                        PeriodCalculator.getMonthPeriod(month, year)))
+                .thenReturn(summaries);
 
         // Act
         List<CategorySummary> result = useCase.execute(month, year);
@@ -48,7 +51,8 @@ class GetCategoriesSummaryUseCaseTest {
         assertThat(result.get(0).categoryName()).isEqualTo("Salary");
         assertThat(result.get(1).categoryName()).isEqualTo("Food");
         assertThat(result.get(2).categoryName()).isEqualTo("Transport");
-        verify(transactionGateway, times(1)).getCategorySummaries(month, year);
+        verify(transactionGateway, times(1))
+                .getCategorySummariesByDateRange(PeriodCalculator.getMonthPeriod(month, year));
     }
 
     @Test
@@ -62,7 +66,9 @@ class GetCategoriesSummaryUseCaseTest {
                 new CategorySummary("Food", new BigDecimal("0.00"), new BigDecimal("50.444"));
 
         List<CategorySummary> summaries = Arrays.asList(summary1, summary2);
-        when(transactionGateway.getCategorySummaries(month, year)).thenReturn(summaries);
+        when(transactionGateway.getCategorySummariesByDateRange(
+                        PeriodCalculator.getMonthPeriod(month, year)))
+                .thenReturn(summaries);
 
         // Act
         List<CategorySummary> result = useCase.execute(month, year);
@@ -92,7 +98,9 @@ class GetCategoriesSummaryUseCaseTest {
                 new CategorySummary("Groceries", new BigDecimal("0"), new BigDecimal("300"));
 
         List<CategorySummary> summaries = Arrays.asList(summary1, summary2);
-        when(transactionGateway.getCategorySummaries(month, year)).thenReturn(summaries);
+        when(transactionGateway.getCategorySummariesByDateRange(
+                        PeriodCalculator.getMonthPeriod(month, year)))
+                .thenReturn(summaries);
 
         // Act
         List<CategorySummary> result = useCase.execute(month, year);
@@ -108,7 +116,8 @@ class GetCategoriesSummaryUseCaseTest {
         // Arrange
         int month = 12;
         int year = 2023;
-        when(transactionGateway.getCategorySummaries(month, year))
+        when(transactionGateway.getCategorySummariesByDateRange(
+                        PeriodCalculator.getMonthPeriod(month, year)))
                 .thenReturn(Collections.emptyList());
 
         // Act
@@ -117,7 +126,8 @@ class GetCategoriesSummaryUseCaseTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
-        verify(transactionGateway, times(1)).getCategorySummaries(month, year);
+        verify(transactionGateway, times(1))
+                .getCategorySummariesByDateRange(PeriodCalculator.getMonthPeriod(month, year));
     }
 
     @Test
@@ -129,7 +139,9 @@ class GetCategoriesSummaryUseCaseTest {
                 new CategorySummary("Food", new BigDecimal("100.555"), new BigDecimal("50.444"));
 
         List<CategorySummary> summaries = Collections.singletonList(inputSummary);
-        when(transactionGateway.getCategorySummaries(month, year)).thenReturn(summaries);
+        when(transactionGateway.getCategorySummariesByDateRange(
+                        PeriodCalculator.getMonthPeriod(month, year)))
+                .thenReturn(summaries);
 
         // Act
         List<CategorySummary> result = useCase.execute(month, year);
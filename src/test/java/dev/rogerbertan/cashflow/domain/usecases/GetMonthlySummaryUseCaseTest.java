@@ -1,13 +1,18 @@
 package dev.rogerbertan.cashflow.domain.usecases;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
 import dev.rogerbertan.cashflow.domain.usecases.summary.GetMonthlySummaryUseCase;
 import dev.rogerbertan.cashflow.domain.valueobjects.MonthlySummary;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -30,8 +35,10 @@ class GetMonthlySummaryUseCaseTest {
         BigDecimal monthlyIncome = new BigDecimal("2000.00");
         BigDecimal monthlyExpense = new BigDecimal("1200.00");
 
-        when(transactionGateway.getMonthlyIncome(month, year)).thenReturn(monthlyIncome);
-        when(transactionGateway.getMonthlyExpense(month, year)).thenReturn(monthlyExpense);
+        DateRange monthPeriod = PeriodCalculator.getMonthPeriod(month, year);
+
+        when(transactionGateway.getIncomeByDateRange(monthPeriod)).thenReturn(monthlyIncome);
+        when(transactionGateway.getExpenseByDateRange(monthPeriod)).thenReturn(monthlyExpense);
 
         // Act
         MonthlySummary result = useCase.execute(month, year);
@@ -49,25 +56,24 @@ class GetMonthlySummaryUseCaseTest {
     @Test
     void execute_ShouldPassCorrectParameters_WhenCalled() {
         // Arrange
-        int month = 3;
-        int year = 2025;
-        when(transactionGateway.getMonthlyIncome(month, year)).thenReturn(BigDecimal.ZERO);
-        when(transactionGateway.getMonthlyExpense(month, year)).thenReturn(BigDecimal.ZERO);
+        int month = 2;
+        int year = 2024;
+        when(transactionGateway.getIncomeByDateRange(any(DateRange.class)))
+                .thenReturn(BigDecimal.ZERO);
+        when(transactionGateway.getExpenseByDateRange(any(DateRange.class)))
+                .thenReturn(BigDecimal.ZERO);
 
-        ArgumentCaptor<Integer> monthCaptor = ArgumentCaptor.forClass(Integer.class);
-        ArgumentCaptor<Integer> yearCaptor = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<DateRange> rangeCaptor = ArgumentCaptor.forClass(DateRange.class);
 
         // Act
         useCase.execute(month, year);
 
         // Assert
-        verify(transactionGateway, times(1))
-                .getMonthlyIncome(monthCaptor.capture(), yearCaptor.capture());
-        verify(transactionGateway, times(1))
-                .getMonthlyExpense(monthCaptor.capture(), yearCaptor.capture());
+        verify(transactionGateway, times(1)).getIncomeByDateRange(rangeCaptor.capture());
+        verify(transactionGateway, times(1)).getExpenseByDateRange(rangeCaptor.capture());
 
-        assertThat(monthCaptor.getAllValues()).containsExactly(3, 3);
-        assertThat(yearCaptor.getAllValues()).containsExactly(2025, 2025);
+        DateRange expected = new DateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+        assertThat(rangeCaptor.getAllValues()).containsExactly(expected, expected);
     }
 
     @Test
@@ -78,8 +84,10 @@ class GetMonthlySummaryUseCaseTest {
         BigDecimal monthlyIncome = new BigDecimal("1500.555");
         BigDecimal monthlyExpense = new BigDecimal("800.444");
 
-        when(transactionGateway.getMonthlyIncome(month, year)).thenReturn(monthlyIncome);
-        when(transactionGateway.getMonthlyExpense(month, year)).thenReturn(monthlyExpense);
+        DateRange monthPeriod = PeriodCalculator.getMonthPeriod(month, year);
+
+        when(transactionGateway.getIncomeByDateRange(monthPeriod)).thenReturn(monthlyIncome);
+        when(transactionGateway.getExpenseByDateRange(monthPeriod)).thenReturn(monthlyExpense);
 
         // Act
         MonthlySummary result = useCase.execute(month, year);
@@ -101,8 +109,10 @@ class GetMonthlySummaryUseCaseTest {
         // Arrange
         int month = 1;
         int year = 2024;
-        when(transactionGateway.getMonthlyIncome(month, year)).thenReturn(BigDecimal.ZERO);
-        when(transactionGateway.getMonthlyExpense(month, year)).thenReturn(BigDecimal.ZERO);
+        DateRange monthPeriod = PeriodCalculator.getMonthPeriod(month, year);
+
+        when(transactionGateway.getIncomeByDateRange(monthPeriod)).thenReturn(BigDecimal.ZERO);
+        when(transactionGateway.getExpenseByDateRange(monthPeriod)).thenReturn(BigDecimal.ZERO);
 
         // Act
         MonthlySummary result = useCase.execute(month, year);
@@ -113,4 +123,11 @@ class GetMonthlySummaryUseCaseTest {
         assertThat(result.totalExpense()).isEqualByComparingTo(new BigDecimal("0.00"));
         assertThat(result.netBalance()).isEqualByComparingTo(new BigDecimal("0.00"));
     }
+
+    @Test
+    void execute_ShouldThrowDateTimeException_WhenMonthIsInvalid() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(13, 2024)).isInstanceOf(DateTimeException.class);
+        verifyNoInteractions(transactionGateway);
+    }
 }
@@ -2,21 +2,28 @@ package dev.rogerbertan.cashflow.domain.usecases.insights;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-import dev.rogerbertan.cashflow.domain.entities.Category;
-import dev.rogerbertan.cashflow.domain.entities.Transaction;
-import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.AIInsightsGateway;
+import dev.rogerbertan.cashflow.domain.gateway.SpendingInsightsGateway;
 import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import dev.rogerbertan.cashflow.infra.util.PeriodCalculator;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -31,52 +38,32 @@ class GenerateSpendingInsightsUseCaseTest {
 
     @Mock private TransactionGateway transactionGateway;
 
-    @InjectMocks private GenerateSpendingInsightsUseCase useCase;
-
-    private List<Transaction> sampleTransactions;
-    private Category expenseCategory;
+    @Mock private SpendingInsightsGateway spendingInsightsGateway;
 
-    @BeforeEach
-    void setUp() {
-        expenseCategory = new Category(1L, "Groceries", Type.EXPENSE, LocalDateTime.now());
+    @InjectMocks private GenerateSpendingInsightsUseCase useCase;
 
-        sampleTransactions =
+    private TransactionAnalysisData analysisData(String period, Map<String, Long> counts) {
+        return new TransactionAnalysisData(
+                LocalDate.now(),
+                LocalDate.now(),
+                period,
+                BigDecimal.ZERO,
+                new BigDecimal("180.00"),
+                BigDecimal.ZERO,
+                BigDecimal.ZERO,
                 List.of(
-                        new Transaction(
-                                1L,
-                                Type.EXPENSE,
-                                new BigDecimal("50.00"),
-                                "Shopping",
-                                expenseCategory,
-                                LocalDate.now(),
-                                LocalDateTime.now()),
-                        new Transaction(
-                                2L,
-                                Type.EXPENSE,
-                                new BigDecimal("30.00"),
-                                "Coffee",
-                                expenseCategory,
-                                LocalDate.now(),
-                                LocalDateTime.now()),
-                        new Transaction(
-                                3L,
-                                Type.EXPENSE,
-                                new BigDecimal("100.00"),
-                                "Restaurant",
-                                expenseCategory,
-                                LocalDate.now(),
-                                LocalDateTime.now()));
+                        new CategorySummary(
+                                "Groceries", BigDecimal.ZERO, new BigDecimal("180.00"))),
+                List.of(),
+                new HashMap<>(),
+                counts,
+                new HashMap<>());
     }
 
     @Test
     void execute_ShouldReturnInsights_WhenValidPeriodProvided() {
-        when(transactionGateway.findTransactionsByDateRange(any(), any()))
-                .thenReturn(sampleTransactions);
-        when(transactionGateway.getExpensesByDayOfWeek(any(), any())).thenReturn(new HashMap<>());
-        when(transactionGateway.getTransactionCountByCategory(any(), any()))
-                .thenReturn(new HashMap<>());
-        when(transactionGateway.getAverageAmountByCategory(any(), any()))
-                .thenReturn(new HashMap<>());
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(analysisData("monthly", Map.of("Groceries", 3L)));
 
         SpendingInsights expectedInsights =
                 new SpendingInsights(
@@ -93,21 +80,36 @@ class GenerateSpendingInsightsUseCaseTest {
         verify(aiInsightsGateway).generateInsights(any(TransactionAnalysisData.class));
     }
 
+    @Test
+    void executeAsync_ShouldCompleteWithGatewayInsights_WhenEnoughTransactions() {
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(analysisData("monthly", Map.of("Groceries", 3L)));
+        SpendingInsights expectedInsights =
+                new SpendingInsights(List.of("Insight"), "monthly", "Summary", "raw_response");
+        when(aiInsightsGateway.generateInsightsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(expectedInsights));
+
+        SpendingInsights result = useCase.executeAsync("monthly").join();
+
+        assertSame(expectedInsights, result);
+        verify(aiInsightsGateway, never()).generateInsights(any());
+    }
+
+    @Test
+    void executeAsync_ShouldCompleteWithoutCallingGateway_WhenNoTransactions() {
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(analysisData("monthly", Map.of()));
+
+        SpendingInsights result = useCase.executeAsync("monthly").join();
+
+        assertTrue(result.insights().get(0).contains("No transactions found"));
+        verifyNoInteractions(aiInsightsGateway);
+    }
+
     @Test
     void execute_ShouldReturnInsufficientData_WhenLessThanThreeTransactions() {
-        List<Transaction> fewTransactions =
-                List.of(
-                        new Transaction(
-                                1L,
-                                Type.EXPENSE,
-                                new BigDecimal("50.00"),
-                                "Shopping",
-                                expenseCategory,
-                                LocalDate.now(),
-                                LocalDateTime.now()));
-
-        when(transactionGateway.findTransactionsByDateRange(any(), any()))
-                .thenReturn(fewTransactions);
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(analysisData("monthly", Map.of("Groceries", 1L)));
 
         SpendingInsights result = useCase.execute("monthly");
 
@@ -119,7 +121,8 @@ class GenerateSpendingInsightsUseCaseTest {
 
     @Test
     void execute_ShouldReturnNoData_WhenNoTransactions() {
-        when(transactionGateway.findTransactionsByDateRange(any(), any())).thenReturn(List.of());
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(analysisData("monthly", Map.of()));
 
         SpendingInsights result = useCase.execute("monthly");
 
@@ -131,13 +134,9 @@ class GenerateSpendingInsightsUseCaseTest {
 
     @Test
     void execute_ShouldPassCorrectDataToGateway() {
-        when(transactionGateway.findTransactionsByDateRange(any(), any()))
-                .thenReturn(sampleTransactions);
-        when(transactionGateway.getExpensesByDayOfWeek(any(), any())).thenReturn(new HashMap<>());
-        when(transactionGateway.getTransactionCountByCategory(any(), any()))
-                .thenReturn(new HashMap<>());
-        when(transactionGateway.getAverageAmountByCategory(any(), any()))
-                .thenReturn(new HashMap<>());
+        TransactionAnalysisData data =
+                analysisData("weekly", Map.of("Groceries", 2L, "Transport", 1L));
+        when(transactionGateway.getAnalysisData(eq("weekly"), any(), any())).thenReturn(data);
 
         SpendingInsights expectedInsights =
                 new SpendingInsights(List.of("Test insight"), "weekly", "Summary", "raw");
@@ -154,4 +153,155 @@ class GenerateSpendingInsightsUseCaseTest {
         assertNotNull(capturedData.startDate());
         assertNotNull(capturedData.endDate());
     }
+
+    @Test
+    void execute_ShouldRequestCurrentAndPreviousPeriodsInSingleGatewayCall() {
+        when(transactionGateway.getAnalysisData(eq("yearly"), any(), any()))
+                .thenReturn(analysisData("yearly", Map.of()));
+
+        useCase.execute("yearly");
+
+        ArgumentCaptor<DateRange> currentCaptor = ArgumentCaptor.forClass(DateRange.class);
+        ArgumentCaptor<DateRange> previousCaptor = ArgumentCaptor.forClass(DateRange.class);
+        verify(transactionGateway, times(1))
+                .getAnalysisData(eq("yearly"), currentCaptor.capture(), previousCaptor.capture());
+        verifyNoMoreInteractions(transactionGateway);
+
+        assertEquals(PeriodCalculator.getCurrentPeriod("yearly"), currentCaptor.getValue());
+        assertEquals(PeriodCalculator.getPreviousPeriod("yearly"), previousCaptor.getValue());
+    }
+
+    @Test
+    void findOrGenerateAsync_ShouldServeStoredInsights_WhenPeriodWasGeneratedBefore() {
+        LocalDate march = LocalDate.of(2026, 3, 1);
+        PeriodInsights stored =
+                new PeriodInsights(
+                        "monthly",
+                        march,
+                        LocalDate.of(2026, 3, 31),
+                        new SpendingInsights(List.of("Insight"), "monthly", "Summary", "raw"),
+                        LocalDateTime.of(2026, 4, 1, 0, 5));
+        when(spendingInsightsGateway.findInsights("monthly", march))
+                .thenReturn(Optional.of(stored));
+
+        PeriodInsights result =
+                useCase.findOrGenerateAsync("monthly", LocalDate.of(2026, 3, 15), false).join();
+
+        assertSame(stored, result);
+        verifyNoInteractions(transactionGateway, aiInsightsGateway);
+    }
+
+    @Test
+    void findOrGenerateAsync_ShouldGenerateAndStore_WhenRefreshRequested() {
+        DateRange march = new DateRange(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+        when(transactionGateway.getAnalysisData(
+                        "monthly",
+                        march,
+                        new DateRange(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28))))
+                .thenReturn(analysisData("monthly", Map.of("Groceries", 3L)));
+        SpendingInsights generated =
+                new SpendingInsights(List.of("Insight"), "monthly", "Summary", "raw_response");
+        when(aiInsightsGateway.generateInsightsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(generated));
+        PeriodInsights saved =
+                new PeriodInsights(
+                        "monthly",
+                        march.start(),
+                        march.end(),
+                        generated,
+                        LocalDateTime.of(2026, 4, 2, 9, 0));
+        when(spendingInsightsGateway.saveInsights("monthly", march, generated)).thenReturn(saved);
+
+        PeriodInsights result =
+                useCase.findOrGenerateAsync("Monthly", LocalDate.of(2026, 3, 15), true).join();
+
+        assertSame(saved, result);
+        verify(spendingInsightsGateway, never()).findInsights(any(), any());
+    }
+
+    @Test
+    void findOrGenerate_ShouldNotStorePlaceholder_WhenNotEnoughTransactions() {
+        when(spendingInsightsGateway.findInsights("weekly", LocalDate.of(2026, 3, 9)))
+                .thenReturn(Optional.empty());
+        when(transactionGateway.getAnalysisData(eq("weekly"), any(), any()))
+                .thenReturn(analysisData("weekly", Map.of("Groceries", 1L)));
+
+        PeriodInsights result = useCase.findOrGenerate("weekly", LocalDate.of(2026, 3, 12), false);
+
+        assertTrue(result.insights().isPlaceholder());
+        assertEquals(LocalDate.of(2026, 3, 9), result.startDate());
+        assertEquals(LocalDate.of(2026, 3, 15), result.endDate());
+        verify(spendingInsightsGateway, never()).saveInsights(any(), any(), any());
+        verifyNoInteractions(aiInsightsGateway);
+    }
+
+    @Test
+    void streamAsync_ShouldStreamGeneratedInsights_WhenPeriodIsOpen() {
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(analysisData("monthly", Map.of("Groceries", 3L)));
+        SpendingInsights generated =
+                new SpendingInsights(List.of("First", "Second"), "monthly", "Summary", "raw");
+        when(aiInsightsGateway.streamInsights(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<String> onInsight = invocation.getArgument(1);
+                            generated.insights().forEach(onInsight);
+                            return CompletableFuture.completedFuture(generated);
+                        });
+        List<String> streamed = new ArrayList<>();
+
+        PeriodInsights result =
+                useCase.streamAsync("monthly", LocalDate.now(), false, streamed::add).join();
+
+        assertEquals(List.of("First", "Second"), streamed);
+        assertSame(generated, result.insights());
+        verify(aiInsightsGateway, never()).generateInsightsAsync(any());
+        verifyNoInteractions(spendingInsightsGateway);
+    }
+
+    @Test
+    void findOrGenerateAsync_ShouldReflectNewTransactions_WhenPeriodIsOpen() {
+        SpendingInsights before =
+                new SpendingInsights(List.of("Three purchases"), "monthly", "Before", "raw");
+        SpendingInsights after =
+                new SpendingInsights(List.of("Four purchases"), "monthly", "After", "raw");
+        TransactionAnalysisData threeTransactions =
+                analysisData("monthly", Map.of("Groceries", 3L));
+        TransactionAnalysisData fourTransactions = analysisData("monthly", Map.of("Groceries", 4L));
+        when(transactionGateway.getAnalysisData(eq("monthly"), any(), any()))
+                .thenReturn(threeTransactions, fourTransactions);
+        when(aiInsightsGateway.generateInsightsAsync(threeTransactions))
+                .thenReturn(CompletableFuture.completedFuture(before));
+        when(aiInsightsGateway.generateInsightsAsync(fourTransactions))
+                .thenReturn(CompletableFuture.completedFuture(after));
+
+        PeriodInsights first =
+                useCase.findOrGenerateAsync("monthly", LocalDate.now(), false).join();
+        // A transaction is written in the current month
+        PeriodInsights second =
+                useCase.findOrGenerateAsync("monthly", LocalDate.now(), false).join();
+
+        assertSame(before, first.insights());
+        assertSame(after, second.insights());
+        verifyNoInteractions(spendingInsightsGateway);
+    }
+
+    @Test
+    void streamAsync_ShouldHandOutStoredInsightsAtOnce_WhenPeriodWasGeneratedBefore() {
+        PeriodInsights stored =
+                new PeriodInsights(
+                        "monthly",
+                        LocalDate.of(2026, 3, 1),
+                        LocalDate.of(2026, 3, 31),
+                        new SpendingInsights(List.of("Stored"), "monthly", "Summary", "raw"),
+                        LocalDateTime.of(2026, 4, 1, 0, 5));
+        when(spendingInsightsGateway.findInsights("monthly", LocalDate.of(2026, 3, 1)))
+                .thenReturn(Optional.of(stored));
+        List<String> streamed = new ArrayList<>();
+
+        useCase.streamAsync("monthly", LocalDate.of(2026, 3, 20), false, streamed::add).join();
+
+        assertEquals(List.of("Stored"), streamed);
+        verifyNoInteractions(aiInsightsGateway);
+    }
 }
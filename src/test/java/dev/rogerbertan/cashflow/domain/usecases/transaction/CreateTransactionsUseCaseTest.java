@@ -0,0 +1,40 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CreateTransactionsUseCaseTest {
+
+    @Mock private TransactionGateway transactionGateway;
+
+    @InjectMocks private CreateTransactionsUseCase useCase;
+
+    @Test
+    void execute_ShouldDelegateWholeBatchToGateway() {
+        // Arrange
+        List<Transaction> transactions =
+                List.of(
+                        TestDataFactory.createIncomeTransaction(),
+                        TestDataFactory.createExpenseTransaction());
+        when(transactionGateway.createTransactions(transactions)).thenReturn(transactions);
+
+        // Act
+        List<Transaction> result = useCase.execute(transactions);
+
+        // Assert
+        assertThat(result).isEqualTo(transactions);
+        verify(transactionGateway).createTransactions(transactions);
+        verifyNoMoreInteractions(transactionGateway);
+    }
+}
@@ -0,0 +1,38 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportTransactionsUseCaseTest {
+
+    @Mock private TransactionGateway transactionGateway;
+
+    @InjectMocks private ExportTransactionsUseCase useCase;
+
+    @Test
+    void execute_ShouldDelegateRangeAndConsumerToGateway_WhenExporting() {
+        // Arrange
+        DateRange range = new DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        List<Transaction> exported = new ArrayList<>();
+        Consumer<Transaction> consumer = exported::add;
+
+        // Act
+        useCase.execute(range, consumer);
+
+        // Assert
+        verify(transactionGateway, times(1)).exportTransactionsByDateRange(range, consumer);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportFailure;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportTransactionsUseCaseTest {
+
+    @Mock private TransactionGateway transactionGateway;
+
+    @InjectMocks private ImportTransactionsUseCase useCase;
+
+    @Test
+    void execute_ShouldDelegateRowsToGateway_WhenImporting() {
+        // Arrange
+        Iterator<TransactionImportRow> rows =
+                List.of(
+                                new TransactionImportRow(
+                                        1,
+                                        Type.EXPENSE,
+                                        new BigDecimal("12.50"),
+                                        "Coffee",
+                                        2L,
+                                        LocalDate.of(2024, 1, 5)),
+                                TransactionImportRow.malformed(2, "Invalid amount: abc"))
+                        .iterator();
+        ImportResult expected =
+                new ImportResult(1, 1, List.of(new ImportFailure(2, "Invalid amount: abc")));
+        when(transactionGateway.importTransactions(rows)).thenReturn(expected);
+
+        // Act
+        ImportResult result = useCase.execute(rows);
+
+        // Assert
+        assertThat(result).isEqualTo(expected);
+        verify(transactionGateway, times(1)).importTransactions(rows);
+    }
+}
@@ -0,0 +1,75 @@
+package dev.rogerbertan.cashflow.domain.usecases.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestTransactionCategoriesUseCaseTest {
+
+    @Mock private AICategorizerGateway localCategorizerGateway;
+
+    @Mock private AICategorizerGateway aiCategorizerGateway;
+
+    private SuggestTransactionCategoriesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase =
+                new SuggestTransactionCategoriesUseCase(
+                        localCategorizerGateway, aiCategorizerGateway, 0.8);
+    }
+
+    @Test
+    void execute_ShouldOnlySendUnconfidentQueriesToAIGateway_WhenLocalAnswersSome() {
+        // Arrange
+        CategorySuggestionQuery grocery =
+                new CategorySuggestionQuery("grocery shopping", Type.EXPENSE);
+        CategorySuggestionQuery salary = new CategorySuggestionQuery("monthly salary", Type.INCOME);
+        CategorySuggestion localHit =
+                new CategorySuggestion(
+                        TestDataFactory.createExpenseCategory(), "high", "Food", 0.9);
+        CategorySuggestion localMiss = new CategorySuggestion(null, "low", "No match", 0.0);
+        CategorySuggestion aiSuggestion = TestDataFactory.createHighConfidenceSuggestion();
+        when(localCategorizerGateway.suggestCategories(List.of(grocery, salary)))
+                .thenReturn(List.of(localHit, localMiss));
+        when(aiCategorizerGateway.suggestCategories(List.of(salary)))
+                .thenReturn(List.of(aiSuggestion));
+
+        // Act
+        List<CategorySuggestion> result = useCase.execute(List.of(grocery, salary));
+
+        // Assert
+        assertThat(result).containsExactly(localHit, aiSuggestion);
+        verify(aiCategorizerGateway, times(1)).suggestCategories(List.of(salary));
+    }
+
+    @Test
+    void execute_ShouldNotCallAIGateway_WhenLocalAnswersAll() {
+        // Arrange
+        List<CategorySuggestionQuery> queries =
+                List.of(new CategorySuggestionQuery("grocery shopping", Type.EXPENSE));
+        CategorySuggestion localHit =
+                new CategorySuggestion(
+                        TestDataFactory.createExpenseCategory(), "high", "Food", 0.9);
+        when(localCategorizerGateway.suggestCategories(queries)).thenReturn(List.of(localHit));
+
+        // Act
+        List<CategorySuggestion> result = useCase.execute(queries);
+
+        // Assert
+        assertThat(result).containsExactly(localHit);
+        verifyNoInteractions(aiCategorizerGateway);
+    }
+}
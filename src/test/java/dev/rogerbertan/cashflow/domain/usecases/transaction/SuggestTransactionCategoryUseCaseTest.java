@@ -8,21 +8,34 @@ import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
 import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
 import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class SuggestTransactionCategoryUseCaseTest {
 
+    private static final CategorySuggestion NO_LOCAL_MATCH =
+            new CategorySuggestion(null, "low", "No local training data", 0.0);
+
+    @Mock private AICategorizerGateway localCategorizerGateway;
+
     @Mock private AICategorizerGateway aiCategorizerGateway;
 
     @Mock private CategoryGateway categoryGateway;
 
-    @InjectMocks private SuggestTransactionCategoryUseCase useCase;
+    private SuggestTransactionCategoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase =
+                new SuggestTransactionCategoryUseCase(
+                        localCategorizerGateway, aiCategorizerGateway, categoryGateway, 0.8);
+    }
 
     @Test
     void execute_ShouldReturnCategorySuggestion_WhenValidParametersProvided() {
@@ -31,6 +44,7 @@ class SuggestTransactionCategoryUseCaseTest {
         Type type = Type.EXPENSE;
         CategorySuggestion expectedSuggestion = TestDataFactory.createHighConfidenceSuggestion();
 
+        when(localCategorizerGateway.suggestCategory(description, type)).thenReturn(NO_LOCAL_MATCH);
         when(aiCategorizerGateway.suggestCategory(description, type))
                 .thenReturn(expectedSuggestion);
 
@@ -53,6 +67,7 @@ class SuggestTransactionCategoryUseCaseTest {
         Type type = Type.INCOME;
         CategorySuggestion suggestion = TestDataFactory.createHighConfidenceSuggestion();
 
+        when(localCategorizerGateway.suggestCategory(description, type)).thenReturn(NO_LOCAL_MATCH);
         when(aiCategorizerGateway.suggestCategory(description, type)).thenReturn(suggestion);
 
         // Act
@@ -71,4 +86,73 @@ class SuggestTransactionCategoryUseCaseTest {
         verifyNoMoreInteractions(aiCategorizerGateway);
         verifyNoInteractions(categoryGateway);
     }
+
+    @Test
+    void execute_ShouldSkipAIGateway_WhenLocalScoreReachesThreshold() {
+        // Arrange
+        CategorySuggestion localSuggestion =
+                new CategorySuggestion(
+                        TestDataFactory.createExpenseCategory(), "high", "Food", 0.93);
+        when(localCategorizerGateway.suggestCategory("IFOOD *RESTAURANT", Type.EXPENSE))
+                .thenReturn(localSuggestion);
+
+        // Act
+        CategorySuggestion result = useCase.execute("IFOOD *RESTAURANT", Type.EXPENSE);
+
+        // Assert
+        assertThat(result).isSameAs(localSuggestion);
+        verifyNoInteractions(aiCategorizerGateway);
+    }
+
+    @Test
+    void execute_ShouldAskAIGateway_WhenLocalScoreIsBelowThreshold() {
+        // Arrange
+        CategorySuggestion localSuggestion =
+                new CategorySuggestion(
+                        TestDataFactory.createExpenseCategory(), "low", "Food", 0.42);
+        CategorySuggestion aiSuggestion = TestDataFactory.createHighConfidenceSuggestion();
+        when(localCategorizerGateway.suggestCategory("PIX JOAO", Type.EXPENSE))
+                .thenReturn(localSuggestion);
+        when(aiCategorizerGateway.suggestCategory("PIX JOAO", Type.EXPENSE))
+                .thenReturn(aiSuggestion);
+
+        // Act
+        CategorySuggestion result = useCase.execute("PIX JOAO", Type.EXPENSE);
+
+        // Assert
+        assertThat(result).isSameAs(aiSuggestion);
+    }
+
+    @Test
+    void executeAsync_ShouldFallBackToAIGateway_WhenLocalSuggestionIsNotConfident() {
+        // Arrange
+        CategorySuggestion aiSuggestion = TestDataFactory.createHighConfidenceSuggestion();
+        when(localCategorizerGateway.suggestCategoryAsync("grocery shopping", Type.EXPENSE))
+                .thenReturn(CompletableFuture.completedFuture(NO_LOCAL_MATCH));
+        when(aiCategorizerGateway.suggestCategoryAsync("grocery shopping", Type.EXPENSE))
+                .thenReturn(CompletableFuture.completedFuture(aiSuggestion));
+
+        // Act
+        CategorySuggestion result = useCase.executeAsync("grocery shopping", Type.EXPENSE).join();
+
+        // Assert
+        assertThat(result).isSameAs(aiSuggestion);
+    }
+
+    @Test
+    void execute_ShouldKeepLocalGuess_WhenAIGatewayIsUnavailable() {
+        // Arrange
+        CategorySuggestion localGuess =
+                new CategorySuggestion(TestDataFactory.createExpenseCategory(), "low", "Food", 0.4);
+        when(localCategorizerGateway.suggestCategory("grocery shopping", Type.EXPENSE))
+                .thenReturn(localGuess);
+        when(aiCategorizerGateway.suggestCategory("grocery shopping", Type.EXPENSE))
+                .thenReturn(CategorySuggestion.unavailable("Gemini API is unavailable"));
+
+        // Act
+        CategorySuggestion result = useCase.execute("grocery shopping", Type.EXPENSE);
+
+        // Assert
+        assertThat(result).isSameAs(localGuess);
+    }
 }
@@ -0,0 +1,157 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class CategorySuggestionCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<CategorySuggestion> loader =
+            () -> {
+                loads.incrementAndGet();
+                return TestDataFactory.createHighConfidenceSuggestion();
+            };
+
+    @Test
+    void get_ShouldCallLoaderOnce_WhenDescriptionsNormalizeToSameKey() {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofHours(1));
+
+        // Act
+        cache.get("  uber   trip ", Type.EXPENSE, loader);
+        CategorySuggestion first = cache.get("UBER TRIP", Type.EXPENSE, loader);
+        CategorySuggestion result = cache.get("Uber\tTrip", Type.EXPENSE, loader);
+
+        // Assert
+        assertThat(result).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldKeepTypesApart_WhenDescriptionIsTheSame() {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofHours(1));
+
+        // Act
+        cache.get("Transfer", Type.EXPENSE, loader);
+        cache.get("Transfer", Type.INCOME, loader);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onCategoriesChanged_ShouldForceReload_WhenKeyWasCached() {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofHours(1));
+        cache.get("NETFLIX.COM", Type.EXPENSE, loader);
+
+        // Act
+        cache.onCategoriesChanged(new CategoriesChangedEvent(1L));
+        cache.get("NETFLIX.COM", Type.EXPENSE, loader);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_ShouldNotCacheFailures_WhenLoaderThrows() {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofHours(1));
+
+        // Act & Assert
+        assertThatThrownBy(
+                        () ->
+                                cache.get(
+                                        "Coffee",
+                                        Type.EXPENSE,
+                                        () -> {
+                                            throw new IllegalStateException("Gemini down");
+                                        }))
+                .isInstanceOf(IllegalStateException.class);
+        cache.get("Coffee", Type.EXPENSE, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_ShouldNotKeepUnavailableFallbacks_WhenGeminiRefusedTheCall() {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofHours(1));
+        cache.get(
+                "Coffee",
+                Type.EXPENSE,
+                () -> CategorySuggestion.unavailable("Gemini API is unavailable"));
+
+        // Act
+        CategorySuggestion result = cache.get("Coffee", Type.EXPENSE, loader);
+
+        // Assert
+        assertThat(result.isUnavailable()).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_ShouldReload_WhenEntryExpired() throws InterruptedException {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofMillis(20));
+        cache.get("Coffee", Type.EXPENSE, loader);
+
+        // Act
+        Thread.sleep(50);
+        cache.get("Coffee", Type.EXPENSE, loader);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyMissingQueriesOnce_WhenBatchHasDuplicates() {
+        // Arrange
+        CategorySuggestionCache cache = createCache(Duration.ofHours(1));
+        CategorySuggestion cached = cache.get("Coffee", Type.EXPENSE, loader);
+        List<CategorySuggestionQuery> loaded = new ArrayList<>();
+
+        // Act
+        List<CategorySuggestion> result =
+                cache.getAll(
+                        List.of(
+                                new CategorySuggestionQuery("UBER TRIP", Type.EXPENSE),
+                                new CategorySuggestionQuery(" coffee ", Type.EXPENSE),
+                                new CategorySuggestionQuery("uber  trip", Type.EXPENSE)),
+                        missing -> {
+                            loaded.addAll(missing);
+                            return missing.stream()
+                                    .map(query -> TestDataFactory.createLowConfidenceSuggestion())
+                                    .toList();
+                        });
+
+        // Assert
+        assertThat(loaded).containsExactly(new CategorySuggestionQuery("UBER TRIP", Type.EXPENSE));
+        assertThat(result).hasSize(3);
+        assertThat(result.get(1)).isSameAs(cached);
+        assertThat(result.get(0)).isSameAs(result.get(2));
+        assertThat(result.get(0).confidence()).isEqualTo("low");
+    }
+
+    private static CategorySuggestionCache createCache(Duration ttl) {
+        CacheProperties properties = new CacheProperties();
+        properties.setSuggestions(new CacheProperties.Spec(100, ttl));
+        return new CategorySuggestionCache(properties);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.InsightsFingerprint;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class SpendingInsightsCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = LocalDate.of(2026, 3, 31);
+
+    private final SpendingInsightsCache cache = new SpendingInsightsCache(new CacheProperties());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<SpendingInsights> loader =
+            () -> {
+                loads.incrementAndGet();
+                return new SpendingInsights(
+                        List.of("Groceries are up 20%"), "monthly", "Summary", "raw_response");
+            };
+
+    @Test
+    void get_ShouldCallLoaderOnce_WhenAnalysedNumbersAreUnchanged() {
+        // Arrange
+        cache.get(fingerprint("180.00", 3L), loader);
+
+        // Act
+        SpendingInsights result = cache.get(fingerprint("180.0000", 3L), loader);
+
+        // Assert
+        assertThat(result.insights()).containsExactly("Groceries are up 20%");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldReload_WhenTotalsOrCountsChanged() {
+        // Arrange
+        cache.get(fingerprint("180.00", 3L), loader);
+
+        // Act
+        cache.get(fingerprint("200.00", 3L), loader);
+        cache.get(fingerprint("180.00", 4L), loader);
+
+        // Assert
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void onTransactionsChanged_ShouldDropEntry_WhenWriteFallsInsideCachedPeriod() {
+        // Arrange
+        cache.get(fingerprint("180.00", 3L), loader);
+
+        // Act
+        cache.onTransactionsChanged(
+                new TransactionsChangedEvent(
+                        new DateRange(LocalDate.of(2026, 2, 20), LocalDate.of(2026, 3, 1))));
+        cache.get(fingerprint("180.00", 3L), loader);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void onTransactionsChanged_ShouldKeepEntry_WhenWriteFallsOutsideCachedPeriod() {
+        // Arrange
+        cache.get(fingerprint("180.00", 3L), loader);
+
+        // Act
+        cache.onTransactionsChanged(
+                new TransactionsChangedEvent(
+                        new DateRange(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 1))));
+        cache.get(fingerprint("180.00", 3L), loader);
+
+        // Assert
+        assertThat(loads).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldNotKeepUnavailableFallbacks_WhenGeminiRefusedTheCall() {
+        // Arrange
+        cache.get(
+                fingerprint("180.00", 3L),
+                () -> SpendingInsights.unavailable("monthly", "Gemini API is unavailable"));
+
+        // Act
+        SpendingInsights result = cache.get(fingerprint("180.00", 3L), loader);
+
+        // Assert
+        assertThat(result.isUnavailable()).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    private static InsightsFingerprint fingerprint(String totalExpense, long groceries) {
+        return InsightsFingerprint.of(
+                new TransactionAnalysisData(
+                        START,
+                        END,
+                        "monthly",
+                        BigDecimal.ZERO,
+                        new BigDecimal(totalExpense),
+                        BigDecimal.ZERO,
+                        new BigDecimal("150.00"),
+                        List.of(),
+                        List.of(),
+                        Map.of(),
+                        Map.of("Groceries", groceries),
+                        Map.of()));
+    }
+}
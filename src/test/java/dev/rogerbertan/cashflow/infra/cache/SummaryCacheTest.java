@@ -0,0 +1,128 @@
+package dev.rogerbertan.cashflow.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.MonthlySummary;
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import dev.rogerbertan.cashflow.infra.replica.PrimaryReads;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class SummaryCacheTest {
+
+    private static final YearMonth CLOSED_MONTH = YearMonth.of(2020, 1);
+
+    private final SummaryCache cache = new SummaryCache(new CacheProperties());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Supplier<MonthlySummary> loader =
+            () -> {
+                loads.incrementAndGet();
+                return new MonthlySummary(
+                        new BigDecimal("100.00"), new BigDecimal("40.00"), new BigDecimal("60.00"));
+            };
+
+    private final Supplier<List<CategorySummary>> categoriesLoader =
+            () -> {
+                loads.incrementAndGet();
+                return List.of(
+                        new CategorySummary("Groceries", BigDecimal.ZERO, new BigDecimal("40.00")));
+            };
+
+    @Test
+    void getMonthlySummary_ShouldCallLoaderOnce_WhenMonthIsClosed() {
+        // Arrange
+        cache.getMonthlySummary(CLOSED_MONTH, loader);
+
+        // Act
+        MonthlySummary result = cache.getMonthlySummary(CLOSED_MONTH, loader);
+
+        // Assert
+        assertThat(result.netBalance()).isEqualByComparingTo("60.00");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void getMonthlySummary_ShouldAlwaysLoad_WhenMonthIsNotClosedYet() {
+        // Act
+        cache.getMonthlySummary(YearMonth.now(), loader);
+        cache.getMonthlySummary(YearMonth.now(), loader);
+        cache.getMonthlySummary(YearMonth.now().plusMonths(1), loader);
+
+        // Assert
+        assertThat(loads).hasValue(3);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getCategorySummaries_ShouldLoadClosedMonthsFromPrimary() {
+        // Arrange
+        AtomicBoolean closedFromPrimary = new AtomicBoolean();
+        AtomicBoolean openFromPrimary = new AtomicBoolean();
+
+        // Act
+        cache.getCategorySummaries(
+                CLOSED_MONTH,
+                () -> {
+                    closedFromPrimary.set(PrimaryReads.isActive());
+                    return categoriesLoader.get();
+                });
+        cache.getCategorySummaries(
+                YearMonth.now(),
+                () -> {
+                    openFromPrimary.set(PrimaryReads.isActive());
+                    return categoriesLoader.get();
+                });
+
+        // Assert
+        assertThat(closedFromPrimary).isTrue();
+        assertThat(openFromPrimary).isFalse();
+    }
+
+    @Test
+    void onTransactionsChanged_ShouldDropOnlyTheMonthsWritten() {
+        // Arrange
+        YearMonth otherMonth = CLOSED_MONTH.plusMonths(1);
+        cache.getMonthlySummary(CLOSED_MONTH, loader);
+        cache.getCategorySummaries(CLOSED_MONTH, categoriesLoader);
+        cache.getMonthlySummary(otherMonth, loader);
+
+        // Act
+        cache.onTransactionsChanged(
+                new TransactionsChangedEvent(
+                        new DateRange(LocalDate.of(2020, 1, 15), LocalDate.of(2020, 1, 15))));
+        cache.getMonthlySummary(CLOSED_MONTH, loader);
+        cache.getCategorySummaries(CLOSED_MONTH, categoriesLoader);
+        cache.getMonthlySummary(otherMonth, loader);
+
+        // Assert
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    void onCategoriesChanged_ShouldDropCategorySummariesOnly() {
+        // Arrange
+        cache.getMonthlySummary(CLOSED_MONTH, loader);
+        cache.getCategorySummaries(CLOSED_MONTH, categoriesLoader);
+
+        // Act
+        cache.onCategoriesChanged(new CategoriesChangedEvent(1L));
+        cache.getMonthlySummary(CLOSED_MONTH, loader);
+        cache.getCategorySummaries(CLOSED_MONTH, categoriesLoader);
+
+        // Assert
+        assertThat(loads).hasValue(3);
+    }
+}
@@ -0,0 +1,178 @@
+package dev.rogerbertan.cashflow.infra.categorizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCategoryModelTest {
+
+    private static final Long FOOD = 1L;
+    private static final Long TRANSPORT = 2L;
+
+    @Mock private TransactionRepository transactionRepository;
+
+    private LocalCategoryModel model;
+
+    @BeforeEach
+    void setUp() {
+        model = new LocalCategoryModel(transactionRepository);
+    }
+
+    @Test
+    void predict_ShouldPickTrainedCategoryWithHighScore_WhenTokensWereSeen() {
+        // Arrange
+        when(transactionRepository.streamTrainingSamples())
+                .thenReturn(
+                        Stream.of(
+                                new TrainingSample("IFOOD *Restaurant 123", FOOD, 12),
+                                new TrainingSample("Supermarket Extra", FOOD, 8),
+                                new TrainingSample("UBER *TRIP", TRANSPORT, 20)));
+        model.train();
+
+        // Act
+        LocalCategoryModel.Prediction food =
+                model.predict("ifood restaurant 9981", List.of(FOOD, TRANSPORT));
+        LocalCategoryModel.Prediction transport =
+                model.predict("Uber trip", List.of(FOOD, TRANSPORT));
+
+        // Assert
+        assertThat(food.categoryId()).isEqualTo(FOOD);
+        assertThat(food.score()).isGreaterThan(0.9);
+        assertThat(transport.categoryId()).isEqualTo(TRANSPORT);
+        assertThat(transport.score()).isGreaterThan(0.9);
+    }
+
+    @Test
+    void predict_ShouldScoreLow_WhenDescriptionHasUnknownWords() {
+        // Arrange
+        when(transactionRepository.streamTrainingSamples())
+                .thenReturn(Stream.of(new TrainingSample("UBER *TRIP", TRANSPORT, 20)));
+        model.train();
+
+        // Act
+        LocalCategoryModel.Prediction prediction =
+                model.predict("Pharmacy Sao Joao", List.of(TRANSPORT));
+
+        // Assert
+        assertThat(prediction.categoryId()).isEqualTo(TRANSPORT);
+        assertThat(prediction.score()).isZero();
+    }
+
+    @Test
+    void predict_ShouldReturnNull_WhenNoCandidateHasTrainingData() {
+        // Act
+        LocalCategoryModel.Prediction prediction = model.predict("Uber trip", List.of(FOOD));
+
+        // Assert
+        assertThat(prediction).isNull();
+    }
+
+    @Test
+    void onTrainingSamples_ShouldLearnAndForget_WhenSamplesArePublished() {
+        // Arrange
+        model.onTrainingSamples(
+                new TrainingSamplesEvent(List.of(new TrainingSample("Netflix.com", FOOD, 1))));
+
+        // Act
+        LocalCategoryModel.Prediction learned = model.predict("NETFLIX.COM", List.of(FOOD));
+        model.onTrainingSamples(
+                new TrainingSamplesEvent(List.of(new TrainingSample("Netflix.com", FOOD, -1))));
+        LocalCategoryModel.Prediction forgotten = model.predict("NETFLIX.COM", List.of(FOOD));
+
+        // Assert
+        assertThat(learned.categoryId()).isEqualTo(FOOD);
+        assertThat(forgotten).isNull();
+    }
+
+    @Test
+    void train_ShouldKeepSamplesPublishedDuringTheScan() {
+        // Arrange
+        // Netflix is deleted and Spotify created while the scan is halfway through
+        TrainingSamplesEvent duringScan =
+                new TrainingSamplesEvent(
+                        List.of(
+                                new TrainingSample("Netflix.com", FOOD, -1),
+                                new TrainingSample("Spotify", FOOD, 1)));
+        when(transactionRepository.streamTrainingSamples())
+                .thenReturn(
+                        Stream.of(
+                                        new TrainingSample("UBER *TRIP", TRANSPORT, 20),
+                                        new TrainingSample("Netflix.com", FOOD, 1))
+                                .peek(
+                                        sample -> {
+                                            if (TRANSPORT.equals(sample.categoryId())) {
+                                                model.onTrainingSamples(duringScan);
+                                            }
+                                        }));
+
+        // Act
+        model.train();
+
+        // Assert
+        assertThat(model.predict("Spotify", List.of(FOOD, TRANSPORT)).categoryId()).isEqualTo(FOOD);
+        assertThat(model.predict("Netflix.com", List.of(FOOD)).score()).isZero();
+    }
+
+    @Test
+    void train_ShouldNotCountTwice_WhenACommitInFlightLandsInTheSnapshot() throws Exception {
+        // Arrange
+        // Spotify is committing when training starts, so the snapshot ends up containing it
+        TrainingSamplesEvent committing =
+                new TrainingSamplesEvent(List.of(new TrainingSample("Spotify", FOOD, 1)));
+        when(transactionRepository.streamTrainingSamples())
+                .thenAnswer(invocation -> snapshotWithSpotify());
+        LocalCategoryModel reference = new LocalCategoryModel(transactionRepository);
+        reference.train();
+        TransactionSynchronizationManager.initSynchronization();
+        CompletableFuture<Void> training;
+        try {
+            model.onCommitting(committing);
+            training = CompletableFuture.runAsync(model::train);
+            Thread.sleep(200);
+            assertThat(training).isNotDone();
+
+            // Act
+            model.onTrainingSamples(committing);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        training.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(model.predict("Spotify", List.of(FOOD, TRANSPORT)).score())
+                .isEqualTo(reference.predict("Spotify", List.of(FOOD, TRANSPORT)).score());
+    }
+
+    private static Stream<TrainingSample> snapshotWithSpotify() {
+        return Stream.of(
+                new TrainingSample("UBER *TRIP", TRANSPORT, 20),
+                new TrainingSample("Spotify premium", TRANSPORT, 1),
+                new TrainingSample("Spotify", FOOD, 1));
+    }
+
+    @Test
+    void tokenize_ShouldDropNumbersAndSingleCharacters() {
+        // Act
+        List<String> tokens = LocalCategoryModel.tokenize("PIX * Joao 12/05 R$ 49,90 a3");
+
+        // Assert
+        assertThat(tokens).containsExactly("pix", "joao", "a3");
+    }
+}
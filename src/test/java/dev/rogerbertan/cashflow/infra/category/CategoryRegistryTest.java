@@ -0,0 +1,102 @@
+package dev.rogerbertan.cashflow.infra.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.infra.mapper.CategoryEntityMapper;
+import dev.rogerbertan.cashflow.infra.persistence.CategoryEntity;
+import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryRegistryTest {
+
+    @Mock private CategoryRepository categoryRepository;
+
+    private CategoryRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CategoryRegistry(categoryRepository, new CategoryEntityMapper());
+    }
+
+    @Test
+    void findById_ShouldLoadOnceAndServeFromMemory_WhenCalledRepeatedly() {
+        // Arrange
+        when(categoryRepository.findAll())
+                .thenReturn(
+                        List.of(
+                                TestDataFactory.createIncomeCategoryEntity(),
+                                TestDataFactory.createExpenseCategoryEntity()));
+
+        // Act
+        Category first = registry.findById(1L);
+        Category second = registry.findById(2L);
+        Category missing = registry.findById(99L);
+
+        // Assert
+        assertThat(first.name()).isEqualTo("Salary");
+        assertThat(second.name()).isEqualTo("Food");
+        assertThat(missing).isNull();
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findByTypeAndName_ShouldIgnoreCaseAndSurroundingWhitespace() {
+        // Arrange
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(TestDataFactory.createExpenseCategoryEntity()));
+
+        // Act
+        Category match = registry.findByTypeAndName(Type.EXPENSE, "  FOOD\n");
+        Category wrongType = registry.findByTypeAndName(Type.INCOME, "Food");
+
+        // Assert
+        assertThat(match).isNotNull();
+        assertThat(match.id()).isEqualTo(2L);
+        assertThat(wrongType).isNull();
+    }
+
+    @Test
+    void onCategoriesChanged_ShouldSwapInFreshSnapshot() {
+        // Arrange
+        CategoryEntity renamed =
+                TestDataFactory.createCategoryEntity(
+                        2L, "Groceries", Type.EXPENSE, LocalDateTime.now());
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(TestDataFactory.createExpenseCategoryEntity()))
+                .thenReturn(List.of(renamed));
+        List<Category> before = registry.findAll();
+
+        // Act
+        registry.onCategoriesChanged(new CategoriesChangedEvent(2L));
+
+        // Assert
+        assertThat(before).extracting(Category::name).containsExactly("Food");
+        assertThat(registry.findAll()).extracting(Category::name).containsExactly("Groceries");
+        assertThat(registry.findById(2L).name()).isEqualTo("Groceries");
+        assertThat(registry.findByTypeAndName(Type.EXPENSE, "food")).isNull();
+    }
+
+    @Test
+    void findAll_ShouldReturnImmutableSnapshot() {
+        // Arrange
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(TestDataFactory.createIncomeCategoryEntity()));
+
+        // Act
+        List<Category> categories = registry.findAll();
+
+        // Assert
+        assertThat(categories).isUnmodifiable();
+    }
+}
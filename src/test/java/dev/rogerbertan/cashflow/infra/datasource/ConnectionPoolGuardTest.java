@@ -0,0 +1,76 @@
+package dev.rogerbertan.cashflow.infra.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionPoolGuardTest {
+
+    @Mock private DataSource pool;
+
+    @Mock private Connection connection;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getConnection_ShouldRefuseStraightAway_WhenMaxWaitingThreadsAlreadyQueue()
+            throws Exception {
+        // Arrange
+        CountDownLatch waiting = new CountDownLatch(1);
+        CountDownLatch connectionFreed = new CountDownLatch(1);
+        when(pool.getConnection())
+                .thenAnswer(
+                        invocation -> {
+                            waiting.countDown();
+                            connectionFreed.await();
+                            return connection;
+                        });
+        ConnectionPoolGuard guard = new ConnectionPoolGuard(pool, 1);
+        Future<Connection> queued = executor.submit(() -> guard.getConnection());
+        assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act & Assert
+        assertThatThrownBy(guard::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessage("Too many requests are waiting for a database connection");
+        connectionFreed.countDown();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isSameAs(connection);
+    }
+
+    @Test
+    void getConnection_ShouldLetNextThreadWait_WhenPoolCallFailed() throws SQLException {
+        // Arrange
+        when(pool.getConnection())
+                .thenThrow(new SQLTransientConnectionException("Connection is not available"))
+                .thenReturn(connection);
+        ConnectionPoolGuard guard = new ConnectionPoolGuard(pool, 1);
+
+        // Act
+        assertThatThrownBy(guard::getConnection).hasMessage("Connection is not available");
+        Connection result = guard.getConnection();
+
+        // Assert
+        assertThat(result).isSameAs(connection);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.rogerbertan.cashflow.infra.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class TransactionExportWriterFactoryTest {
+
+    private final TransactionExportWriterFactory factory =
+            new TransactionExportWriterFactory(JsonMapper.builder().build());
+
+    @Test
+    void create_ShouldWriteQuotedCsvRows_WhenFormatIsCsv() {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TransactionExportWriter writer = factory.create(ExportFormat.CSV, output);
+
+        // Act
+        writer.writeHeader();
+        writer.accept(createTransaction(1L, "Dinner, with \"friends\""));
+        writer.accept(createTransaction(2L, "Groceries"));
+        writer.finish();
+
+        // Assert
+        assertThat(output.toString(StandardCharsets.UTF_8))
+                .isEqualTo(
+                        "id,type,amount,description,categoryId,categoryName,transactionDate,createdAt\n"
+                                + "1,EXPENSE,45.90,\"Dinner, with \"\"friends\"\"\",2,Food,"
+                                + "2024-03-10,2024-03-10T12:30\n"
+                                + "2,EXPENSE,45.90,Groceries,2,Food,2024-03-10,2024-03-10T12:30\n");
+    }
+
+    @Test
+    void create_ShouldWriteOneJsonObjectPerLine_WhenFormatIsNdjson() {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TransactionExportWriter writer = factory.create(ExportFormat.NDJSON, output);
+
+        // Act
+        writer.writeHeader();
+        writer.accept(createTransaction(1L, "Dinner"));
+        writer.accept(createTransaction(2L, "Groceries"));
+        writer.finish();
+
+        // Assert
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n", -1))
+                .containsExactly(
+                        "{\"id\":1,\"type\":\"EXPENSE\",\"amount\":45.90,\"description\":\"Dinner\","
+                                + "\"categoryId\":2,\"categoryName\":\"Food\","
+                                + "\"transactionDate\":\"2024-03-10\","
+                                + "\"createdAt\":\"2024-03-10T12:30:00\"}",
+                        "{\"id\":2,\"type\":\"EXPENSE\",\"amount\":45.90,\"description\":\"Groceries\","
+                                + "\"categoryId\":2,\"categoryName\":\"Food\","
+                                + "\"transactionDate\":\"2024-03-10\","
+                                + "\"createdAt\":\"2024-03-10T12:30:00\"}",
+                        "");
+    }
+
+    @Test
+    void create_ShouldWriteNothing_WhenNdjsonExportIsEmpty() {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        TransactionExportWriter writer = factory.create(ExportFormat.NDJSON, output);
+
+        // Act
+        writer.writeHeader();
+        writer.finish();
+
+        // Assert
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    void from_ShouldThrowInvalidTransactionException_WhenFormatIsUnsupported() {
+        // Act & Assert
+        assertThatThrownBy(() -> ExportFormat.from("xml"))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Unsupported export format: xml. Supported formats: csv, ndjson");
+    }
+
+    private Transaction createTransaction(Long id, String description) {
+        return new Transaction(
+                id,
+                Type.EXPENSE,
+                new BigDecimal("45.90"),
+                description,
+                new Category(2L, "Food", Type.EXPENSE, null),
+                LocalDate.of(2024, 3, 10),
+                LocalDateTime.of(2024, 3, 10, 12, 30));
+    }
+}
@@ -0,0 +1,82 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.cache.CategorySuggestionCache;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCategorizerGatewayTest {
+
+    @Mock private AICategorizerGateway delegate;
+
+    private CachingCategorizerGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway =
+                new CachingCategorizerGateway(
+                        delegate, new CategorySuggestionCache(new CacheProperties()));
+    }
+
+    @Test
+    void suggestCategory_ShouldCallDelegateOnce_WhenSameDescriptionRepeats() {
+        // Arrange
+        CategorySuggestion suggestion = TestDataFactory.createHighConfidenceSuggestion();
+        when(delegate.suggestCategory("UBER TRIP", Type.EXPENSE)).thenReturn(suggestion);
+
+        // Act
+        CategorySuggestion first = gateway.suggestCategory("UBER TRIP", Type.EXPENSE);
+        CategorySuggestion second = gateway.suggestCategory("uber trip", Type.EXPENSE);
+
+        // Assert
+        assertThat(first).isEqualTo(suggestion);
+        assertThat(second).isEqualTo(suggestion);
+        verify(delegate, times(1)).suggestCategory("UBER TRIP", Type.EXPENSE);
+    }
+
+    @Test
+    void suggestCategory_ShouldBypassCache_WhenDescriptionIsNull() {
+        // Arrange
+        CategorySuggestion suggestion = TestDataFactory.createLowConfidenceSuggestion();
+        when(delegate.suggestCategory(null, Type.EXPENSE)).thenReturn(suggestion);
+
+        // Act
+        gateway.suggestCategory(null, Type.EXPENSE);
+        gateway.suggestCategory(null, Type.EXPENSE);
+
+        // Assert
+        verify(delegate, times(2)).suggestCategory(null, Type.EXPENSE);
+    }
+
+    @Test
+    void suggestCategories_ShouldOnlyAskDelegateForUncachedDescriptions_WhenSomeAreCached() {
+        // Arrange
+        CategorySuggestion cached = TestDataFactory.createHighConfidenceSuggestion();
+        CategorySuggestion fresh = TestDataFactory.createLowConfidenceSuggestion();
+        CategorySuggestionQuery uber = new CategorySuggestionQuery("UBER TRIP", Type.EXPENSE);
+        CategorySuggestionQuery coffee = new CategorySuggestionQuery("Coffee", Type.EXPENSE);
+        when(delegate.suggestCategory("UBER TRIP", Type.EXPENSE)).thenReturn(cached);
+        when(delegate.suggestCategories(List.of(coffee))).thenReturn(List.of(fresh));
+        gateway.suggestCategory("UBER TRIP", Type.EXPENSE);
+
+        // Act
+        List<CategorySuggestion> result = gateway.suggestCategories(List.of(uber, coffee));
+
+        // Assert
+        assertThat(result).containsExactly(cached, fresh);
+        verify(delegate, times(1)).suggestCategories(List.of(coffee));
+    }
+}
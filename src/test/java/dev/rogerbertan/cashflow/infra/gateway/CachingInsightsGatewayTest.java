@@ -0,0 +1,97 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.gateway.AIInsightsGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.infra.cache.SpendingInsightsCache;
+import dev.rogerbertan.cashflow.infra.config.CacheProperties;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CachingInsightsGatewayTest {
+
+    @Mock private AIInsightsGateway delegate;
+
+    private CachingInsightsGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway =
+                new CachingInsightsGateway(
+                        delegate, new SpendingInsightsCache(new CacheProperties()));
+    }
+
+    @Test
+    void generateInsightsAsync_ShouldCallDelegateOnce_WhenDashboardReloadsUnchangedData() {
+        // Arrange
+        SpendingInsights insights =
+                new SpendingInsights(List.of("Insight"), "monthly", "Summary", "raw_response");
+        when(delegate.generateInsightsAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(insights));
+
+        // Act
+        SpendingInsights first = gateway.generateInsightsAsync(analysisData()).join();
+        SpendingInsights second = gateway.generateInsightsAsync(analysisData()).join();
+
+        // Assert
+        assertThat(first).isSameAs(insights);
+        assertThat(second).isSameAs(insights);
+        verify(delegate, times(1)).generateInsightsAsync(any());
+    }
+
+    @Test
+    void streamInsights_ShouldHandOutCachedInsightsAtOnce_WhenAlreadyGenerated() {
+        // Arrange
+        SpendingInsights insights =
+                new SpendingInsights(
+                        List.of("Insight", "Another insight"), "monthly", "Summary", "raw");
+        when(delegate.streamInsights(any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<String> onInsight = invocation.getArgument(1);
+                            insights.insights().forEach(onInsight);
+                            return CompletableFuture.completedFuture(insights);
+                        });
+        List<String> firstStream = new ArrayList<>();
+        List<String> secondStream = new ArrayList<>();
+
+        // Act
+        gateway.streamInsights(analysisData(), firstStream::add).join();
+        gateway.streamInsights(analysisData(), secondStream::add).join();
+
+        // Assert
+        assertThat(firstStream).containsExactly("Insight", "Another insight");
+        assertThat(secondStream).containsExactly("Insight", "Another insight");
+        verify(delegate, times(1)).streamInsights(any(), any());
+    }
+
+    private static TransactionAnalysisData analysisData() {
+        return new TransactionAnalysisData(
+                LocalDate.of(2026, 3, 1),
+                LocalDate.of(2026, 3, 31),
+                "monthly",
+                new BigDecimal("5000.00"),
+                new BigDecimal("3000.00"),
+                new BigDecimal("4800.00"),
+                new BigDecimal("2800.00"),
+                List.of(),
+                List.of(),
+                Map.of(),
+                Map.of("Groceries", 5L),
+                Map.of());
+    }
+}
@@ -8,21 +8,21 @@ import static org.mockito.Mockito.*;
 import dev.rogerbertan.cashflow.domain.entities.Category;
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
 import dev.rogerbertan.cashflow.infra.mapper.CategoryEntityMapper;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryEntity;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryRepositoryGatewayTest {
@@ -31,120 +31,73 @@ class CategoryRepositoryGatewayTest {
 
     @Mock private CategoryEntityMapper entityMapper;
 
-    @InjectMocks private CategoryRepositoryGateway gateway;
-
-    // findAllCategories tests
-
-    @Test
-    void findAllCategories_ShouldReturnEmptyList_WhenNoCategoriesExist() {
-        // Arrange
-        when(categoryRepository.findAll()).thenReturn(Collections.emptyList());
-
-        // Act
-        List<Category> result = gateway.findAllCategories();
-
-        // Assert
-        assertThat(result).isEmpty();
-        verify(categoryRepository, times(1)).findAll();
-        verifyNoMoreInteractions(categoryRepository);
-    }
-
-    @Test
-    void findAllCategories_ShouldReturnAllCategories_WhenCategoriesExist() {
-        // Arrange
-        CategoryEntity entity1 = TestDataFactory.createIncomeCategoryEntity();
-        CategoryEntity entity2 = TestDataFactory.createExpenseCategoryEntity();
-        Category category1 = TestDataFactory.createIncomeCategory();
-        Category category2 = TestDataFactory.createExpenseCategory();
+    @Mock private CategoryRegistry categoryRegistry;
 
-        when(categoryRepository.findAll()).thenReturn(Arrays.asList(entity1, entity2));
-        when(entityMapper.toDomain(entity1)).thenReturn(category1);
-        when(entityMapper.toDomain(entity2)).thenReturn(category2);
+    @Mock private ApplicationEventPublisher eventPublisher;
 
-        // Act
-        List<Category> result = gateway.findAllCategories();
+    @InjectMocks private CategoryRepositoryGateway gateway;
 
-        // Assert
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(category1, category2);
-        verify(categoryRepository, times(1)).findAll();
-        verify(entityMapper, times(1)).toDomain(entity1);
-        verify(entityMapper, times(1)).toDomain(entity2);
-    }
+    // findAllCategories tests
 
     @Test
-    void findAllCategories_ShouldMapEntitiesToDomain_WhenCategoriesExist() {
+    void findAllCategories_ShouldReturnRegistryCategories_WithoutQueryingRepository() {
         // Arrange
-        CategoryEntity entity = TestDataFactory.createIncomeCategoryEntity();
-        Category category = TestDataFactory.createIncomeCategory();
-
-        when(categoryRepository.findAll()).thenReturn(Arrays.asList(entity));
-        when(entityMapper.toDomain(entity)).thenReturn(category);
+        List<Category> categories =
+                List.of(
+                        TestDataFactory.createIncomeCategory(),
+                        TestDataFactory.createExpenseCategory());
+        when(categoryRegistry.findAll()).thenReturn(categories);
 
         // Act
         List<Category> result = gateway.findAllCategories();
 
         // Assert
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0)).isEqualTo(category);
-        verify(entityMapper, times(1)).toDomain(entity);
+        assertThat(result).containsExactlyElementsOf(categories);
+        verifyNoInteractions(categoryRepository);
     }
 
     // findCategoryById tests
 
     @Test
-    void findCategoryById_ShouldReturnCategory_WhenCategoryExists() {
+    void findCategoryById_ShouldReturnRegistryCategory_WithoutQueryingRepository() {
         // Arrange
-        Long categoryId = 1L;
-        CategoryEntity entity = TestDataFactory.createIncomeCategoryEntity();
         Category category = TestDataFactory.createIncomeCategory();
-
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(entity));
-        when(entityMapper.toDomain(entity)).thenReturn(category);
+        when(categoryRegistry.findById(1L)).thenReturn(category);
 
         // Act
-        Category result = gateway.findCategoryById(categoryId);
+        Category result = gateway.findCategoryById(1L);
 
         // Assert
-        assertThat(result).isNotNull();
         assertThat(result).isEqualTo(category);
-        verify(categoryRepository, times(1)).findById(categoryId);
-        verify(entityMapper, times(1)).toDomain(entity);
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
     void findCategoryById_ShouldReturnNull_WhenCategoryDoesNotExist() {
         // Arrange
-        Long categoryId = 999L;
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.empty());
+        when(categoryRegistry.findById(999L)).thenReturn(null);
 
         // Act
-        Category result = gateway.findCategoryById(categoryId);
+        Category result = gateway.findCategoryById(999L);
 
         // Assert
         assertThat(result).isNull();
-        verify(categoryRepository, times(1)).findById(categoryId);
-        verify(entityMapper, never()).toDomain(any(CategoryEntity.class));
     }
 
+    // findCategoryByTypeAndName tests
+
     @Test
-    void findCategoryById_ShouldMapEntityToDomain_WhenCategoryExists() {
+    void findCategoryByTypeAndName_ShouldReturnRegistryCategory() {
         // Arrange
-        Long categoryId = 1L;
-        CategoryEntity entity = TestDataFactory.createIncomeCategoryEntity();
-        Category category = TestDataFactory.createIncomeCategory();
-
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(entity));
-        when(entityMapper.toDomain(entity)).thenReturn(category);
+        Category category = TestDataFactory.createExpenseCategory();
+        when(categoryRegistry.findByTypeAndName(Type.EXPENSE, "food")).thenReturn(category);
 
         // Act
-        Category result = gateway.findCategoryById(categoryId);
+        Category result = gateway.findCategoryByTypeAndName(Type.EXPENSE, "food");
 
         // Assert
-        assertThat(result.id()).isEqualTo(category.id());
-        assertThat(result.name()).isEqualTo(category.name());
-        assertThat(result.type()).isEqualTo(category.type());
-        verify(entityMapper, times(1)).toDomain(entity);
+        assertThat(result).isEqualTo(category);
+        verifyNoInteractions(categoryRepository);
     }
 
     // createCategory tests
@@ -172,6 +125,7 @@ class CategoryRepositoryGatewayTest {
         verify(entityMapper, times(1)).toEntity(inputCategory);
         verify(categoryRepository, times(1)).save(inputEntity);
         verify(entityMapper, times(1)).toDomain(savedEntity);
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(1L));
     }
 
     @Test
@@ -248,6 +202,7 @@ class CategoryRepositoryGatewayTest {
         verify(entityMapper, times(1)).toEntity(inputCategory);
         verify(categoryRepository, times(1)).save(inputEntity);
         verify(entityMapper, times(1)).toDomain(updatedEntity);
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(1L));
     }
 
     @Test
@@ -289,5 +244,6 @@ class CategoryRepositoryGatewayTest {
         // Assert
         verify(categoryRepository, times(1)).deleteById(categoryId);
         verifyNoMoreInteractions(categoryRepository);
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(categoryId));
     }
 }
@@ -9,10 +9,16 @@ import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
 import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
 import dev.rogerbertan.cashflow.infra.config.AIProperties;
 import dev.rogerbertan.cashflow.infra.exception.AICategorizeException;
+import dev.rogerbertan.cashflow.infra.exception.AIUnavailableException;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -25,6 +31,10 @@ class GeminiCategorizerGatewayTest {
 
     @Mock private AIProperties aiProperties;
 
+    @Mock private ExecutorService aiExecutor;
+
+    @Mock private GeminiResilience geminiResilience;
+
     @Test
     void suggestCategory_ShouldReturnDisabledSuggestion_WhenAIIsDisabled() {
         // Arrange
@@ -33,7 +43,8 @@ class GeminiCategorizerGatewayTest {
         when(aiProperties.getModelName()).thenReturn("gemini-pro");
 
         GeminiCategorizerGateway gateway =
-                new GeminiCategorizerGateway(categoryGateway, aiProperties);
+                new GeminiCategorizerGateway(
+                        categoryGateway, aiProperties, aiExecutor, geminiResilience);
 
         // Act
         CategorySuggestion result = gateway.suggestCategory("grocery shopping", Type.EXPENSE);
@@ -57,7 +68,8 @@ class GeminiCategorizerGatewayTest {
         when(categoryGateway.findAllCategories()).thenReturn(Collections.emptyList());
 
         GeminiCategorizerGateway gateway =
-                new GeminiCategorizerGateway(categoryGateway, aiProperties);
+                new GeminiCategorizerGateway(
+                        categoryGateway, aiProperties, aiExecutor, geminiResilience);
 
         // Act
         CategorySuggestion result = gateway.suggestCategory("grocery shopping", Type.EXPENSE);
@@ -82,7 +94,8 @@ class GeminiCategorizerGatewayTest {
         when(categoryGateway.findAllCategories()).thenReturn(List.of(incomeCategory));
 
         GeminiCategorizerGateway gateway =
-                new GeminiCategorizerGateway(categoryGateway, aiProperties);
+                new GeminiCategorizerGateway(
+                        categoryGateway, aiProperties, aiExecutor, geminiResilience);
 
         // Act & Assert
         assertThatThrownBy(() -> gateway.suggestCategory("grocery shopping", Type.EXPENSE))
@@ -93,6 +106,36 @@ class GeminiCategorizerGatewayTest {
         verify(categoryGateway, times(1)).findAllCategories();
     }
 
+    @Test
+    void suggestCategory_ShouldReturnUnavailableSuggestion_WhenGeminiCallIsRefused() {
+        // Arrange
+        Category expenseCategory = TestDataFactory.createExpenseCategory();
+        when(aiProperties.isEnabled()).thenReturn(true);
+        when(aiProperties.getApiKey()).thenReturn("test-api-key");
+        when(aiProperties.getModelName()).thenReturn("gemini-pro");
+        when(categoryGateway.findAllCategories()).thenReturn(List.of(expenseCategory));
+        when(geminiResilience.<String>call(any()))
+                .thenReturn(
+                        CompletableFuture.failedFuture(
+                                new AIUnavailableException(
+                                        "Gemini API is unavailable: circuit breaker is open",
+                                        null)));
+
+        GeminiCategorizerGateway gateway =
+                new GeminiCategorizerGateway(
+                        categoryGateway, aiProperties, aiExecutor, geminiResilience);
+
+        // Act
+        CategorySuggestion result = gateway.suggestCategory("grocery shopping", Type.EXPENSE);
+
+        // Assert
+        assertThat(result.isUnavailable()).isTrue();
+        assertThat(result.category()).isNull();
+        assertThat(result.rawAiResponse())
+                .isEqualTo("Gemini API is unavailable: circuit breaker is open");
+        verifyNoInteractions(aiExecutor);
+    }
+
     @Test
     void suggestCategory_ShouldThrowException_WhenAPIKeyIsNull() {
         // Arrange
@@ -100,7 +143,13 @@ class GeminiCategorizerGatewayTest {
         when(aiProperties.getModelName()).thenReturn("gemini-pro");
 
         // Act & Assert
-        assertThatThrownBy(() -> new GeminiCategorizerGateway(categoryGateway, aiProperties))
+        assertThatThrownBy(
+                        () ->
+                                new GeminiCategorizerGateway(
+                                        categoryGateway,
+                                        aiProperties,
+                                        aiExecutor,
+                                        geminiResilience))
                 .isInstanceOf(AICategorizeException.class)
                 .hasMessageContaining("Failed to initialize Gemini client");
 
@@ -114,10 +163,77 @@ class GeminiCategorizerGatewayTest {
         when(aiProperties.getModelName()).thenReturn("gemini-pro");
 
         // Act & Assert
-        assertThatThrownBy(() -> new GeminiCategorizerGateway(categoryGateway, aiProperties))
+        assertThatThrownBy(
+                        () ->
+                                new GeminiCategorizerGateway(
+                                        categoryGateway,
+                                        aiProperties,
+                                        aiExecutor,
+                                        geminiResilience))
                 .isInstanceOf(AICategorizeException.class)
                 .hasMessageContaining("Failed to initialize Gemini client");
 
         verify(aiProperties, atLeastOnce()).getApiKey();
     }
+
+    @Test
+    void suggestCategories_ShouldReturnDisabledSuggestionPerQuery_WhenAIIsDisabled() {
+        // Arrange
+        when(aiProperties.isEnabled()).thenReturn(false);
+        when(aiProperties.getApiKey()).thenReturn("test-api-key");
+        when(aiProperties.getModelName()).thenReturn("gemini-pro");
+
+        GeminiCategorizerGateway gateway =
+                new GeminiCategorizerGateway(
+                        categoryGateway, aiProperties, aiExecutor, geminiResilience);
+
+        // Act
+        List<CategorySuggestion> result =
+                gateway.suggestCategories(
+                        List.of(
+                                new CategorySuggestionQuery("grocery shopping", Type.EXPENSE),
+                                new CategorySuggestionQuery("monthly salary", Type.INCOME)));
+
+        // Assert
+        assertThat(result).hasSize(2).allMatch(s -> s.confidence().equals("disabled"));
+        verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    void chunkByType_ShouldSplitEachTypeIntoChunks_WhenQueriesExceedChunkSize() {
+        // Arrange
+        List<CategorySuggestionQuery> queries =
+                List.of(
+                        new CategorySuggestionQuery("a", Type.EXPENSE),
+                        new CategorySuggestionQuery("b", Type.INCOME),
+                        new CategorySuggestionQuery("c", Type.EXPENSE),
+                        new CategorySuggestionQuery("d", Type.EXPENSE));
+
+        // Act
+        List<List<Integer>> chunks = GeminiCategorizerGateway.chunkByType(queries, 2);
+
+        // Assert
+        assertThat(chunks).containsExactly(List.of(0, 2), List.of(3), List.of(1));
+    }
+
+    @Test
+    void parseBatchResponse_ShouldMapAnswersByIndex_WhenResponseIsStructured() {
+        // Act
+        Map<Integer, String> answers =
+                GeminiCategorizerGateway.parseBatchResponse(
+                        "[{\"index\": 1, \"category\": \" Food \"},"
+                                + "{\"index\": 0, \"category\": \"Transport\"},"
+                                + "{\"category\": \"Orphan\"}]");
+
+        // Assert
+        assertThat(answers).containsExactlyInAnyOrderEntriesOf(Map.of(0, "Transport", 1, "Food"));
+    }
+
+    @Test
+    void parseBatchResponse_ShouldThrowException_WhenResponseIsNotJson() {
+        // Act & Assert
+        assertThatThrownBy(() -> GeminiCategorizerGateway.parseBatchResponse("Food"))
+                .isInstanceOf(AICategorizeException.class)
+                .hasMessageContaining("invalid JSON");
+    }
 }
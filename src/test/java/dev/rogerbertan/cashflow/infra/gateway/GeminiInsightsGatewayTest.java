@@ -7,23 +7,30 @@ import static org.mockito.Mockito.when;
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
 import dev.rogerbertan.cashflow.infra.config.AIProperties;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class GeminiInsightsGatewayTest {
 
     private AIProperties aiProperties;
+    private ExecutorService aiExecutor;
+    private GeminiResilience geminiResilience;
     private TransactionAnalysisData sampleData;
 
     @BeforeEach
     void setUp() {
         aiProperties = mock(AIProperties.class);
+        aiExecutor = mock(ExecutorService.class);
+        geminiResilience = mock(GeminiResilience.class);
         when(aiProperties.getModelName()).thenReturn("gemini-2.5-flash-lite");
         when(aiProperties.isEnabled()).thenReturn(false);
 
@@ -48,7 +55,8 @@ class GeminiInsightsGatewayTest {
 
     @Test
     void generateInsights_ShouldReturnDisabledMessage_WhenAIDisabled() {
-        GeminiInsightsGateway gateway = new GeminiInsightsGateway(aiProperties);
+        GeminiInsightsGateway gateway =
+                new GeminiInsightsGateway(aiProperties, aiExecutor, geminiResilience);
 
         SpendingInsights result = gateway.generateInsights(sampleData);
 
@@ -57,12 +65,25 @@ class GeminiInsightsGatewayTest {
         assertTrue(result.insights().get(0).contains("disabled"));
     }
 
+    @Test
+    void streamInsights_ShouldHandOutDisabledMessage_WhenAIDisabled() {
+        GeminiInsightsGateway gateway =
+                new GeminiInsightsGateway(aiProperties, aiExecutor, geminiResilience);
+        List<String> streamed = new ArrayList<>();
+
+        SpendingInsights result = gateway.streamInsights(sampleData, streamed::add).join();
+
+        assertEquals(result.insights(), streamed);
+        assertTrue(result.isPlaceholder());
+    }
+
     @Test
     void generateInsights_ShouldReturnDisabledMessage_WhenApiKeyMissing() {
         when(aiProperties.isEnabled()).thenReturn(true);
         when(aiProperties.getApiKey()).thenReturn(null);
 
-        GeminiInsightsGateway gateway = new GeminiInsightsGateway(aiProperties);
+        GeminiInsightsGateway gateway =
+                new GeminiInsightsGateway(aiProperties, aiExecutor, geminiResilience);
         SpendingInsights result = gateway.generateInsights(sampleData);
 
         assertNotNull(result);
@@ -74,7 +95,8 @@ class GeminiInsightsGatewayTest {
         when(aiProperties.isEnabled()).thenReturn(true);
         when(aiProperties.getApiKey()).thenReturn("");
 
-        GeminiInsightsGateway gateway = new GeminiInsightsGateway(aiProperties);
+        GeminiInsightsGateway gateway =
+                new GeminiInsightsGateway(aiProperties, aiExecutor, geminiResilience);
         SpendingInsights result = gateway.generateInsights(sampleData);
 
         assertNotNull(result);
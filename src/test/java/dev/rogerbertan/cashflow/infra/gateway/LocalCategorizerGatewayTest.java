@@ -0,0 +1,84 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.infra.categorizer.LocalCategoryModel;
+import dev.rogerbertan.cashflow.infra.config.CategorizerProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCategorizerGatewayTest {
+
+    @Mock private LocalCategoryModel localCategoryModel;
+
+    @Mock private CategoryGateway categoryGateway;
+
+    private final CategorizerProperties categorizerProperties = new CategorizerProperties();
+
+    private LocalCategorizerGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway =
+                new LocalCategorizerGateway(
+                        localCategoryModel, categoryGateway, categorizerProperties);
+    }
+
+    @Test
+    void suggestCategory_ShouldOnlyOfferCategoriesOfRequestedType() {
+        // Arrange
+        Category food = TestDataFactory.createExpenseCategory();
+        when(categoryGateway.findAllCategories())
+                .thenReturn(List.of(TestDataFactory.createIncomeCategory(), food));
+        when(localCategoryModel.predict("Supermarket", List.of(food.id())))
+                .thenReturn(new LocalCategoryModel.Prediction(food.id(), 0.95));
+        when(categoryGateway.findCategoryById(food.id())).thenReturn(food);
+
+        // Act
+        CategorySuggestion result = gateway.suggestCategory("Supermarket", Type.EXPENSE);
+
+        // Assert
+        assertThat(result.category()).isEqualTo(food);
+        assertThat(result.confidence()).isEqualTo("high");
+        assertThat(result.score()).isEqualTo(0.95);
+    }
+
+    @Test
+    void suggestCategory_ShouldReturnZeroScore_WhenModelHasNoPrediction() {
+        // Arrange
+        when(categoryGateway.findAllCategories())
+                .thenReturn(List.of(TestDataFactory.createExpenseCategory()));
+
+        // Act
+        CategorySuggestion result = gateway.suggestCategory("Unknown shop", Type.EXPENSE);
+
+        // Assert
+        assertThat(result.category()).isNull();
+        assertThat(result.confidence()).isEqualTo("low");
+        assertThat(result.score()).isZero();
+    }
+
+    @Test
+    void suggestCategory_ShouldSkipModel_WhenLocalCategorizerIsDisabled() {
+        // Arrange
+        categorizerProperties.setLocalEnabled(false);
+
+        // Act
+        CategorySuggestion result = gateway.suggestCategory("Supermarket", Type.EXPENSE);
+
+        // Assert
+        assertThat(result.confidence()).isEqualTo("disabled");
+        verifyNoInteractions(localCategoryModel, categoryGateway);
+    }
+}
@@ -0,0 +1,182 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Run with: ./mvnw test -Dtest=TransactionInsertBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(
+        properties = {
+            "ai.gemini.api-key=test",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+class TransactionInsertBenchmarkTest {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(TransactionInsertBenchmarkTest.class);
+
+    private static final int TRANSACTIONS = 50_000;
+    private static final int TRANSACTIONS_PER_UNIT_OF_WORK = 1_000;
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired private TransactionGateway transactionGateway;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Autowired private CategoryRegistry categoryRegistry;
+
+    private Statistics statistics;
+    private Category food;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        POSTGRES.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        jdbcTemplate.execute("TRUNCATE transactions, monthly_category_totals");
+        jdbcTemplate.execute(
+                "INSERT INTO categories (name, type) VALUES ('Food', 'EXPENSE') "
+                        + "ON CONFLICT (name) DO NOTHING");
+        Long foodId =
+                jdbcTemplate.queryForObject(
+                        "SELECT id FROM categories WHERE name = 'Food'", Long.class);
+        categoryRegistry.reload();
+        food = new Category(foodId, "Food", Type.EXPENSE, null);
+    }
+
+    @Test
+    void createTransaction_OneTransactionPerInsert() {
+        // Act
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactionGateway.createTransaction(transaction(i));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        report("one transaction per insert", elapsedMillis);
+        assertThat(countTransactions()).isEqualTo(TRANSACTIONS);
+    }
+
+    @Test
+    void createTransaction_ManyInsertsPerTransaction() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Act
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int offset = 0; offset < TRANSACTIONS; offset += TRANSACTIONS_PER_UNIT_OF_WORK) {
+            int first = offset;
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        for (int i = first; i < first + TRANSACTIONS_PER_UNIT_OF_WORK; i++) {
+                            transactionGateway.createTransaction(transaction(i));
+                        }
+                    });
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        report(TRANSACTIONS_PER_UNIT_OF_WORK + " inserts per transaction", elapsedMillis);
+        assertThat(countTransactions()).isEqualTo(TRANSACTIONS);
+    }
+
+    @Test
+    void createTransactions_OneBatchPerTransaction() {
+        // Act
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int offset = 0; offset < TRANSACTIONS; offset += TRANSACTIONS_PER_UNIT_OF_WORK) {
+            List<Transaction> batch = new ArrayList<>(TRANSACTIONS_PER_UNIT_OF_WORK);
+            for (int i = offset; i < offset + TRANSACTIONS_PER_UNIT_OF_WORK; i++) {
+                batch.add(transaction(i));
+            }
+            transactionGateway.createTransactions(batch);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        report(TRANSACTIONS_PER_UNIT_OF_WORK + " per createTransactions call", elapsedMillis);
+        assertThat(countTransactions()).isEqualTo(TRANSACTIONS);
+    }
+
+    private Transaction transaction(int i) {
+        return new Transaction(
+                null,
+                Type.EXPENSE,
+                BigDecimal.valueOf(i % 500 + 1),
+                "Benchmark " + i,
+                food,
+                LocalDate.of(2024, 1, 1).plusDays(i % 365),
+                null);
+    }
+
+    private long countTransactions() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE description LIKE 'Benchmark%'",
+                Long.class);
+    }
+
+    private void report(String scenario, long elapsedMillis) {
+        LOGGER.info(
+                "{} inserts, {}: {} ms, {} statements prepared, {} rows/s",
+                TRANSACTIONS,
+                scenario,
+                elapsedMillis,
+                statistics.getPrepareStatementCount(),
+                TRANSACTIONS * 1000L / Math.max(elapsedMillis, 1));
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
+import dev.rogerbertan.cashflow.infra.exception.ResourceNotFoundException;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = "ai.gemini.api-key=test")
+class TransactionRepositoryGatewayConcurrencyTest {
+
+    private static final int ROUNDS = 20;
+
+    // Rows of the rollup that disagree with the transactions they summarize
+    private static final String ROLLUP_DRIFT_SQL =
+            "SELECT COUNT(*) FROM monthly_category_totals m FULL JOIN ("
+                    + "SELECT EXTRACT(YEAR FROM transaction_date)::int AS year, "
+                    + "EXTRACT(MONTH FROM transaction_date)::int AS month, category_id, type, "
+                    + "SUM(amount) AS total_amount, COUNT(*) AS transaction_count "
+                    + "FROM transactions GROUP BY 1, 2, 3, 4) t "
+                    + "USING (year, month, category_id, type) "
+                    + "WHERE COALESCE(m.total_amount, 0) <> COALESCE(t.total_amount, 0) "
+                    + "OR COALESCE(m.transaction_count, 0) <> COALESCE(t.transaction_count, 0)";
+
+    private static final String SNAPSHOT_DRIFT_SQL =
+            "SELECT s.total_income <> t.income OR s.total_expense <> t.expense "
+                    + "FROM balance_snapshot s, ("
+                    + "SELECT COALESCE(SUM(amount) FILTER (WHERE type = 'INCOME'), 0) AS income, "
+                    + "COALESCE(SUM(amount) FILTER (WHERE type = 'EXPENSE'), 0) AS expense "
+                    + "FROM transactions) t";
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired private TransactionGateway transactionGateway;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private CategoryRegistry categoryRegistry;
+
+    private Category food;
+    private Category rent;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        POSTGRES.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Integer categories =
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Integer.class);
+        if (categories == 0) {
+            jdbcTemplate.execute(
+                    "INSERT INTO categories (name, type) VALUES ('Food', 'EXPENSE'), "
+                            + "('Rent', 'EXPENSE')");
+            // Seeded behind the registry's back
+            categoryRegistry.reload();
+        }
+        food = categoryRegistry.findByTypeAndName(Type.EXPENSE, "Food");
+        rent = categoryRegistry.findByTypeAndName(Type.EXPENSE, "Rent");
+    }
+
+    @Test
+    void updateTransaction_ShouldKeepMonthlyTotalsExact_WhenSameTransactionIsUpdatedConcurrently()
+            throws Exception {
+        // Arrange
+        Transaction created =
+                transactionGateway.createTransaction(
+                        expense(null, "100.00", food, LocalDate.of(2024, 1, 10)));
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+
+        // Act
+        for (int round = 0; round < ROUNDS; round++) {
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Transaction january =
+                    expense(created.id(), (round + 1) + ".00", food, LocalDate.of(2024, 1, 10));
+            Transaction february =
+                    expense(created.id(), (round + 500) + ".00", rent, LocalDate.of(2024, 2, 20));
+            Future<Transaction> first =
+                    threads.submit(
+                            () -> {
+                                barrier.await();
+                                return transactionGateway.updateTransaction(january);
+                            });
+            Future<Transaction> second =
+                    threads.submit(
+                            () -> {
+                                barrier.await();
+                                return transactionGateway.updateTransaction(february);
+                            });
+            first.get();
+            second.get();
+        }
+        threads.shutdown();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject(ROLLUP_DRIFT_SQL, Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(SNAPSHOT_DRIFT_SQL, Boolean.class)).isFalse();
+    }
+
+    @Test
+    void deleteTransaction_ShouldKeepBalanceSnapshotExact_WhenRacingAnUpdateOfTheSameTransaction()
+            throws Exception {
+        // Arrange
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+
+        // Act
+        for (int round = 0; round < ROUNDS; round++) {
+            Transaction created =
+                    transactionGateway.createTransaction(
+                            expense(null, "100.00", food, LocalDate.of(2024, 3, 5)));
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Transaction updated =
+                    expense(created.id(), (round + 250) + ".00", rent, LocalDate.of(2024, 4, 5));
+            Future<?> update =
+                    threads.submit(
+                            () -> {
+                                barrier.await();
+                                try {
+                                    return transactionGateway.updateTransaction(updated);
+                                } catch (ResourceNotFoundException e) {
+                                    // The delete got there first
+                                    return null;
+                                }
+                            });
+            Future<?> delete =
+                    threads.submit(
+                            () -> {
+                                barrier.await();
+                                transactionGateway.deleteTransaction(created.id());
+                                return null;
+                            });
+            update.get();
+            delete.get();
+        }
+        threads.shutdown();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject(SNAPSHOT_DRIFT_SQL, Boolean.class)).isFalse();
+        assertThat(jdbcTemplate.queryForObject(ROLLUP_DRIFT_SQL, Long.class)).isZero();
+    }
+
+    @Test
+    void updateTransaction_ShouldNotDeadlock_WhenTwoTransactionsSwapBucketsConcurrently()
+            throws Exception {
+        // Arrange
+        LocalDate january = LocalDate.of(2024, 5, 10);
+        LocalDate february = LocalDate.of(2024, 6, 20);
+        Transaction first =
+                transactionGateway.createTransaction(expense(null, "10.00", food, january));
+        Transaction second =
+                transactionGateway.createTransaction(expense(null, "20.00", rent, february));
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+
+        // Act
+        for (int round = 0; round < ROUNDS; round++) {
+            // Each round moves one transaction A to B and the other B to A
+            boolean even = round % 2 == 0;
+            Transaction firstMoved =
+                    even
+                            ? expense(first.id(), "10.00", rent, february)
+                            : expense(first.id(), "10.00", food, january);
+            Transaction secondMoved =
+                    even
+                            ? expense(second.id(), "20.00", food, january)
+                            : expense(second.id(), "20.00", rent, february);
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Future<Transaction> firstUpdate =
+                    threads.submit(
+                            () -> {
+                                barrier.await();
+                                return transactionGateway.updateTransaction(firstMoved);
+                            });
+            Future<Transaction> secondUpdate =
+                    threads.submit(
+                            () -> {
+                                barrier.await();
+                                return transactionGateway.updateTransaction(secondMoved);
+                            });
+            firstUpdate.get();
+            secondUpdate.get();
+        }
+        threads.shutdown();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject(ROLLUP_DRIFT_SQL, Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(SNAPSHOT_DRIFT_SQL, Boolean.class)).isFalse();
+    }
+
+    private static Transaction expense(
+            Long id, String amount, Category category, LocalDate transactionDate) {
+        return new Transaction(
+                id,
+                Type.EXPENSE,
+                new BigDecimal(amount),
+                "Concurrent edit",
+                category,
+                transactionDate,
+                null);
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+}
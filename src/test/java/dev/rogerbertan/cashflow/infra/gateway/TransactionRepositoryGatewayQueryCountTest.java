@@ -0,0 +1,238 @@
+package dev.rogerbertan.cashflow.infra.gateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.entities.Category;
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.CategoryGateway;
+import dev.rogerbertan.cashflow.domain.gateway.TransactionGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
+import dev.rogerbertan.cashflow.infra.persistence.CategoryEntity;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(
+        properties = {
+            "ai.gemini.api-key=test",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+class TransactionRepositoryGatewayQueryCountTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired private TransactionGateway transactionGateway;
+
+    @Autowired private CategoryGateway categoryGateway;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Autowired private CategoryRegistry categoryRegistry;
+
+    private Statistics statistics;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        POSTGRES.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Integer categories =
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Integer.class);
+        if (categories == 0) {
+            jdbcTemplate.execute(
+                    "INSERT INTO categories (name, type) VALUES "
+                            + "('Salary', 'INCOME'), ('Food', 'EXPENSE'), ('Rent', 'EXPENSE'), "
+                            + "('Fuel', 'EXPENSE'), ('Freelance', 'INCOME')");
+            jdbcTemplate.execute(
+                    "INSERT INTO transactions (type, amount, description, category_id,"
+                            + " transaction_date) "
+                            + "SELECT CASE WHEN i % 5 IN (0, 4) THEN 'INCOME' ELSE 'EXPENSE' END, "
+                            + "(i % 50) + 1, 'Transaction ' || i, c.ids[(i % 5) + 1], "
+                            + "DATE '2024-01-01' + (i % 300) "
+                            + "FROM generate_series(1, 200) AS i, "
+                            + "(SELECT array_agg(id ORDER BY id) AS ids FROM categories) AS c");
+            // Seeded behind the registry's back
+            categoryRegistry.reload();
+        }
+    }
+
+    @Test
+    void findAllTransactions_ShouldRunSameStatementCount_WhenPageSizeGrows() {
+        // Act
+        long smallPage = countStatements(() -> findPage(5));
+        long largePage = countStatements(() -> findPage(100));
+
+        // Assert
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void findTransactionsAfter_ShouldRunSingleStatement_WhenSliceSizeGrows() {
+        // Act
+        long smallSlice = countStatements(() -> findSlice(5));
+        long largeSlice = countStatements(() -> findSlice(100));
+
+        // Assert
+        assertThat(smallSlice).isEqualTo(1);
+        assertThat(largeSlice).isEqualTo(1);
+    }
+
+    @Test
+    void findTransactionById_ShouldLoadCategoryInSameStatement_WhenTransactionExists() {
+        // Arrange
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM transactions", Long.class);
+
+        // Act
+        long statements =
+                countStatements(() -> transactionGateway.findTransactionById(id).category().name());
+
+        // Assert
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void dateRangeReads_ShouldRunSingleStatement_WhenRangeSpansEveryCategory() {
+        // Act
+        long transactions =
+                countStatements(
+                        () ->
+                                transactionGateway
+                                        .findTransactionsByDateRange(START_DATE, END_DATE)
+                                        .stream()
+                                        .map(transaction -> transaction.category().name())
+                                        .toList());
+        long counts =
+                countStatements(
+                        () ->
+                                transactionGateway.getTransactionCountByCategory(
+                                        START_DATE, END_DATE));
+        long averages =
+                countStatements(
+                        () -> transactionGateway.getAverageAmountByCategory(START_DATE, END_DATE));
+
+        // Assert
+        assertThat(transactions).isEqualTo(1);
+        assertThat(counts).isEqualTo(1);
+        assertThat(averages).isEqualTo(1);
+    }
+
+    @Test
+    void createTransaction_ShouldNotLoadCategory_WhenCategoryIsRegistered() {
+        // Arrange
+        Category food = categoryRegistry.findByTypeAndName(Type.EXPENSE, "Food");
+        Transaction transaction =
+                new Transaction(
+                        null,
+                        Type.EXPENSE,
+                        new BigDecimal("12.50"),
+                        "Lunch",
+                        new Category(food.id(), null, null, null),
+                        START_DATE,
+                        null);
+        statistics.clear();
+
+        // Act
+        Transaction created = transactionGateway.createTransaction(transaction);
+
+        // Assert
+        assertThat(created.category().name()).isEqualTo("Food");
+        assertThat(statistics.getEntityStatistics(CategoryEntity.class.getName()).getLoadCount())
+                .isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void categoryLookups_ShouldRunNoStatement_WhenCategoryWasCreatedThroughGateway() {
+        // Arrange
+        Category created =
+                categoryGateway.createCategory(
+                        new Category(null, "Bonus " + System.nanoTime(), Type.INCOME, null));
+
+        // Act
+        statistics.clear();
+        Category byId = categoryGateway.findCategoryById(created.id());
+        Category byName =
+                categoryGateway.findCategoryByTypeAndName(
+                        Type.INCOME, created.name().toUpperCase());
+
+        // Assert
+        assertThat(byId.name()).isEqualTo(created.name());
+        assertThat(byName.id()).isEqualTo(created.id());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private List<String> findPage(int size) {
+        Page<Transaction> page =
+                transactionGateway.findAllTransactions(
+                        PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+        return page.getContent().stream()
+                .map(transaction -> transaction.category().name())
+                .toList();
+    }
+
+    private List<String> findSlice(int size) {
+        TransactionSlice slice = transactionGateway.findTransactionsAfter(null, size);
+        return slice.transactions().stream()
+                .map(transaction -> transaction.category().name())
+                .toList();
+    }
+
+    // Runs inside a read-only transaction, like open-in-view does for web requests, so lazy
+    // category proxies would be initialized one SELECT at a time instead of failing.
+    private long countStatements(Supplier<?> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        statistics.clear();
+        transactionTemplate.execute(status -> action.get());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+}
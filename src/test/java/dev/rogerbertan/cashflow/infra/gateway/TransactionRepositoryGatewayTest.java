@@ -2,6 +2,7 @@ package dev.rogerbertan.cashflow.infra.gateway;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -10,24 +11,51 @@ import dev.rogerbertan.cashflow.domain.entities.Transaction;
 import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySummary;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportFailure;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionAnalysisData;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
+import dev.rogerbertan.cashflow.infra.categorizer.TrainingSample;
+import dev.rogerbertan.cashflow.infra.categorizer.TrainingSamplesEvent;
+import dev.rogerbertan.cashflow.infra.category.CategoryRegistry;
 import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
 import dev.rogerbertan.cashflow.infra.exception.ResourceNotFoundException;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionEntityMapper;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotEntity;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotRepository;
 import dev.rogerbertan.cashflow.infra.persistence.CategoryEntity;
-import dev.rogerbertan.cashflow.infra.persistence.CategoryRepository;
+import dev.rogerbertan.cashflow.infra.persistence.CategoryPeriodTotals;
+import dev.rogerbertan.cashflow.infra.persistence.DailyTotal;
+import dev.rogerbertan.cashflow.infra.persistence.MonthlyCategoryTotalRepository;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionCopyWriter;
 import dev.rogerbertan.cashflow.infra.persistence.TransactionEntity;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionExportRow;
 import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
 import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -38,10 +66,18 @@ class TransactionRepositoryGatewayTest {
 
     @Mock private TransactionRepository transactionRepository;
 
-    @Mock private CategoryRepository categoryRepository;
+    @Mock private CategoryRegistry categoryRegistry;
+
+    @Mock private MonthlyCategoryTotalRepository monthlyCategoryTotalRepository;
+
+    @Mock private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Mock private TransactionCopyWriter transactionCopyWriter;
 
     @Mock private TransactionEntityMapper entityMapper;
 
+    @Mock private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks private TransactionRepositoryGateway gateway;
 
     // findAllTransactions tests (Pagination)
@@ -108,6 +144,54 @@ class TransactionRepositoryGatewayTest {
         assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    // findTransactionsAfter tests (Keyset pagination)
+
+    @Test
+    void findTransactionsAfter_ShouldReturnFirstSliceWithNextCursor_WhenMoreRowsExist() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 12, 0);
+        TransactionEntity entity1 = createEntity(3L, createdAt);
+        TransactionEntity entity2 = createEntity(2L, createdAt);
+        TransactionEntity entity3 = createEntity(1L, createdAt.minusMinutes(1));
+        Transaction transaction1 = TestDataFactory.createIncomeTransaction();
+        Transaction transaction2 = TestDataFactory.createExpenseTransaction();
+        when(transactionRepository.findLatest(Limit.of(3)))
+                .thenReturn(List.of(entity1, entity2, entity3));
+        when(entityMapper.toDomain(entity1)).thenReturn(transaction1);
+        when(entityMapper.toDomain(entity2)).thenReturn(transaction2);
+
+        // Act
+        TransactionSlice result = gateway.findTransactionsAfter(null, 2);
+
+        // Assert
+        assertThat(result.transactions()).containsExactly(transaction1, transaction2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(new TransactionCursor(createdAt, 2L));
+        verify(entityMapper, never()).toDomain(entity3);
+        verify(transactionRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void findTransactionsAfter_ShouldSeekPastCursorWithoutNextCursor_WhenLastSliceReached() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 12, 0);
+        TransactionCursor cursor = new TransactionCursor(createdAt, 2L);
+        TransactionEntity entity = createEntity(1L, createdAt.minusMinutes(1));
+        Transaction transaction = TestDataFactory.createExpenseTransaction();
+        when(transactionRepository.findLatestBefore(createdAt, 2L, Limit.of(3)))
+                .thenReturn(List.of(entity));
+        when(entityMapper.toDomain(entity)).thenReturn(transaction);
+
+        // Act
+        TransactionSlice result = gateway.findTransactionsAfter(cursor, 2);
+
+        // Assert
+        assertThat(result.transactions()).containsExactly(transaction);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(transactionRepository, never()).findLatest(any());
+    }
+
     // findTransactionById tests
 
     @Test
@@ -157,8 +241,7 @@ class TransactionRepositoryGatewayTest {
         TransactionEntity savedEntity = TestDataFactory.createIncomeTransactionEntity();
         Transaction savedTransaction = TestDataFactory.createIncomeTransaction();
 
-        when(categoryRepository.findById(incomeCategory.id()))
-                .thenReturn(Optional.of(categoryEntity));
+        when(categoryRegistry.findById(incomeCategory.id())).thenReturn(toDomain(categoryEntity));
         when(entityMapper.toEntity(inputTransaction)).thenReturn(inputEntity);
         when(transactionRepository.save(any(TransactionEntity.class))).thenReturn(savedEntity);
         when(entityMapper.toDomain(savedEntity)).thenReturn(savedTransaction);
@@ -169,8 +252,18 @@ class TransactionRepositoryGatewayTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(savedTransaction);
-        verify(categoryRepository, times(1)).findById(incomeCategory.id());
+        verify(categoryRegistry, times(1)).findById(incomeCategory.id());
         verify(transactionRepository, times(1)).save(any(TransactionEntity.class));
+        verify(monthlyCategoryTotalRepository, times(1))
+                .addToTotal(
+                        savedEntity.getTransactionDate().getYear(),
+                        savedEntity.getTransactionDate().getMonthValue(),
+                        categoryEntity.getId(),
+                        "INCOME",
+                        savedEntity.getAmount(),
+                        1);
+        verify(balanceSnapshotRepository, times(1))
+                .addToTotals(savedEntity.getAmount(), BigDecimal.ZERO);
     }
 
     @Test
@@ -183,8 +276,7 @@ class TransactionRepositoryGatewayTest {
         TransactionEntity savedEntity = TestDataFactory.createExpenseTransactionEntity();
         Transaction savedTransaction = TestDataFactory.createExpenseTransaction();
 
-        when(categoryRepository.findById(expenseCategory.id()))
-                .thenReturn(Optional.of(categoryEntity));
+        when(categoryRegistry.findById(expenseCategory.id())).thenReturn(toDomain(categoryEntity));
         when(entityMapper.toEntity(inputTransaction)).thenReturn(inputEntity);
         when(transactionRepository.save(any(TransactionEntity.class))).thenReturn(savedEntity);
         when(entityMapper.toDomain(savedEntity)).thenReturn(savedTransaction);
@@ -195,7 +287,7 @@ class TransactionRepositoryGatewayTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(savedTransaction);
-        verify(categoryRepository, times(1)).findById(expenseCategory.id());
+        verify(categoryRegistry, times(1)).findById(expenseCategory.id());
         verify(transactionRepository, times(1)).save(any(TransactionEntity.class));
     }
 
@@ -208,8 +300,8 @@ class TransactionRepositoryGatewayTest {
         TransactionEntity savedEntity = TestDataFactory.createIncomeTransactionEntity();
         Transaction savedTransaction = TestDataFactory.createIncomeTransaction();
 
-        when(categoryRepository.findById(inputTransaction.category().id()))
-                .thenReturn(Optional.of(categoryEntity));
+        when(categoryRegistry.findById(inputTransaction.category().id()))
+                .thenReturn(toDomain(categoryEntity));
         when(entityMapper.toEntity(inputTransaction)).thenReturn(inputEntity);
         when(transactionRepository.save(any(TransactionEntity.class))).thenReturn(savedEntity);
         when(entityMapper.toDomain(savedEntity)).thenReturn(savedTransaction);
@@ -230,8 +322,8 @@ class TransactionRepositoryGatewayTest {
         TransactionEntity savedEntity = TestDataFactory.createIncomeTransactionEntity();
         Transaction savedTransaction = TestDataFactory.createIncomeTransaction();
 
-        when(categoryRepository.findById(inputTransaction.category().id()))
-                .thenReturn(Optional.of(categoryEntity));
+        when(categoryRegistry.findById(inputTransaction.category().id()))
+                .thenReturn(toDomain(categoryEntity));
         when(entityMapper.toEntity(inputTransaction)).thenReturn(inputEntity);
         when(transactionRepository.save(any(TransactionEntity.class))).thenReturn(savedEntity);
         when(entityMapper.toDomain(savedEntity)).thenReturn(savedTransaction);
@@ -252,8 +344,7 @@ class TransactionRepositoryGatewayTest {
     void createTransaction_ShouldThrowResourceNotFoundException_WhenCategoryDoesNotExist() {
         // Arrange
         Transaction inputTransaction = TestDataFactory.createIncomeTransaction();
-        when(categoryRepository.findById(inputTransaction.category().id()))
-                .thenReturn(Optional.empty());
+        when(categoryRegistry.findById(inputTransaction.category().id())).thenReturn(null);
 
         // Act & Assert
         assertThatThrownBy(() -> gateway.createTransaction(inputTransaction))
@@ -261,7 +352,7 @@ class TransactionRepositoryGatewayTest {
                 .hasMessageContaining("Category")
                 .hasMessageContaining("id: " + inputTransaction.category().id());
 
-        verify(categoryRepository, times(1)).findById(inputTransaction.category().id());
+        verify(categoryRegistry, times(1)).findById(inputTransaction.category().id());
         verify(transactionRepository, never()).save(any(TransactionEntity.class));
     }
 
@@ -327,15 +418,15 @@ class TransactionRepositoryGatewayTest {
                         java.time.LocalDateTime.now());
         CategoryEntity expenseCategoryEntity = TestDataFactory.createExpenseCategoryEntity();
 
-        when(categoryRepository.findById(expenseCategory.id()))
-                .thenReturn(Optional.of(expenseCategoryEntity));
+        when(categoryRegistry.findById(expenseCategory.id()))
+                .thenReturn(toDomain(expenseCategoryEntity));
 
         // Act & Assert
         assertThatThrownBy(() -> gateway.createTransaction(incomeTransactionWithExpenseCategory))
                 .isInstanceOf(InvalidTransactionException.class)
                 .hasMessageContaining("Transaction type must be equal to category type");
 
-        verify(categoryRepository, times(1)).findById(expenseCategory.id());
+        verify(categoryRegistry, times(1)).findById(expenseCategory.id());
         verify(transactionRepository, never()).save(any(TransactionEntity.class));
     }
 
@@ -355,18 +446,130 @@ class TransactionRepositoryGatewayTest {
                         java.time.LocalDateTime.now());
         CategoryEntity incomeCategoryEntity = TestDataFactory.createIncomeCategoryEntity();
 
-        when(categoryRepository.findById(incomeCategory.id()))
-                .thenReturn(Optional.of(incomeCategoryEntity));
+        when(categoryRegistry.findById(incomeCategory.id()))
+                .thenReturn(toDomain(incomeCategoryEntity));
 
         // Act & Assert
         assertThatThrownBy(() -> gateway.createTransaction(expenseTransactionWithIncomeCategory))
                 .isInstanceOf(InvalidTransactionException.class)
                 .hasMessageContaining("Transaction type must be equal to category type");
 
-        verify(categoryRepository, times(1)).findById(incomeCategory.id());
+        verify(categoryRegistry, times(1)).findById(incomeCategory.id());
         verify(transactionRepository, never()).save(any(TransactionEntity.class));
     }
 
+    // createTransactions tests
+
+    @Test
+    void createTransactions_ShouldSaveAllAndUpdateRunningTotalsOncePerBucket_WhenValid() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        Category incomeCategory = TestDataFactory.createIncomeCategory();
+        Category expenseCategory = TestDataFactory.createExpenseCategory();
+        List<Transaction> transactions =
+                List.of(
+                        new Transaction(
+                                null,
+                                Type.INCOME,
+                                new BigDecimal("1000.00"),
+                                "Salary",
+                                incomeCategory,
+                                date,
+                                null),
+                        new Transaction(
+                                null,
+                                Type.EXPENSE,
+                                new BigDecimal("40.00"),
+                                "Lunch",
+                                expenseCategory,
+                                date,
+                                null),
+                        new Transaction(
+                                null,
+                                Type.EXPENSE,
+                                new BigDecimal("60.00"),
+                                "Dinner",
+                                expenseCategory,
+                                date,
+                                null));
+        when(categoryRegistry.findById(1L)).thenReturn(incomeCategory);
+        when(categoryRegistry.findById(2L)).thenReturn(expenseCategory);
+        when(entityMapper.toEntity(any(Transaction.class)))
+                .thenAnswer(invocation -> new TransactionEntity());
+        when(transactionRepository.saveAll(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(entityMapper.toDomain(any(TransactionEntity.class)))
+                .thenReturn(TestDataFactory.createIncomeTransaction());
+
+        // Act
+        List<Transaction> result = gateway.createTransactions(transactions);
+
+        // Assert
+        assertThat(result).hasSize(3);
+        verify(transactionRepository).saveAll(any());
+        verify(transactionRepository, never()).save(any());
+        verify(monthlyCategoryTotalRepository)
+                .addToTotal(2024, 3, 1L, "INCOME", new BigDecimal("1000.00"), 1L);
+        verify(monthlyCategoryTotalRepository)
+                .addToTotal(2024, 3, 2L, "EXPENSE", new BigDecimal("100.00"), 2L);
+        verify(balanceSnapshotRepository)
+                .addToTotals(new BigDecimal("1000.00"), new BigDecimal("100.00"));
+    }
+
+    @Test
+    void createTransactions_ShouldThrowResourceNotFoundException_WhenCategoryDoesNotExist() {
+        // Arrange
+        Category missingCategory = TestDataFactory.createCategory(99L, "Missing", Type.EXPENSE);
+        List<Transaction> transactions =
+                List.of(
+                        TestDataFactory.createTransaction(
+                                null, missingCategory, new BigDecimal("10.00")));
+        when(categoryRegistry.findById(99L)).thenReturn(null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> gateway.createTransactions(transactions))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(transactionRepository, never()).saveAll(any());
+        verifyNoInteractions(monthlyCategoryTotalRepository, balanceSnapshotRepository);
+    }
+
+    @Test
+    void createTransactions_ShouldThrowInvalidTransactionException_WhenTypeDoesNotMatchCategory() {
+        // Arrange
+        Transaction mismatched =
+                new Transaction(
+                        null,
+                        Type.INCOME,
+                        new BigDecimal("10.00"),
+                        "Lunch",
+                        TestDataFactory.createExpenseCategory(),
+                        LocalDate.now(),
+                        null);
+        when(categoryRegistry.findById(2L)).thenReturn(TestDataFactory.createExpenseCategory());
+
+        // Act & Assert
+        assertThatThrownBy(() -> gateway.createTransactions(List.of(mismatched)))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Transaction type must be equal to category type");
+        verify(transactionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createTransactions_ShouldThrowInvalidTransactionException_WhenAmountIsNotPositive() {
+        // Arrange
+        List<Transaction> transactions =
+                List.of(
+                        TestDataFactory.createTransaction(
+                                null,
+                                TestDataFactory.createExpenseCategory(),
+                                new BigDecimal("-1.00")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> gateway.createTransactions(transactions))
+                .isInstanceOf(InvalidTransactionException.class);
+        verify(transactionRepository, never()).saveAll(any());
+    }
+
     // updateTransaction tests (Success Cases)
 
     @Test
@@ -374,15 +577,15 @@ class TransactionRepositoryGatewayTest {
         // Arrange
         Transaction inputTransaction = TestDataFactory.createIncomeTransaction();
         CategoryEntity categoryEntity = TestDataFactory.createIncomeCategoryEntity();
-        TransactionEntity inputEntity = TestDataFactory.createIncomeTransactionEntity();
-        TransactionEntity updatedEntity = TestDataFactory.createIncomeTransactionEntity();
+        TransactionEntity existingEntity = TestDataFactory.createIncomeTransactionEntity();
         Transaction updatedTransaction = TestDataFactory.createIncomeTransaction();
 
-        when(categoryRepository.findById(inputTransaction.category().id()))
-                .thenReturn(Optional.of(categoryEntity));
-        when(entityMapper.toEntity(inputTransaction)).thenReturn(inputEntity);
-        when(transactionRepository.save(inputEntity)).thenReturn(updatedEntity);
-        when(entityMapper.toDomain(updatedEntity)).thenReturn(updatedTransaction);
+        when(categoryRegistry.findById(inputTransaction.category().id()))
+                .thenReturn(toDomain(categoryEntity));
+        when(transactionRepository.findByIdForUpdate(inputTransaction.id()))
+                .thenReturn(Optional.of(existingEntity));
+        when(transactionRepository.save(existingEntity)).thenReturn(existingEntity);
+        when(entityMapper.toDomain(existingEntity)).thenReturn(updatedTransaction);
 
         // Act
         Transaction result = gateway.updateTransaction(inputTransaction);
@@ -390,8 +593,9 @@ class TransactionRepositoryGatewayTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(updatedTransaction);
-        verify(categoryRepository, times(1)).findById(inputTransaction.category().id());
-        verify(transactionRepository, times(1)).save(inputEntity);
+        verify(categoryRegistry, times(1)).findById(inputTransaction.category().id());
+        verify(transactionRepository, times(1)).save(existingEntity);
+        verify(entityMapper, never()).toEntity(any(Transaction.class));
     }
 
     @Test
@@ -399,15 +603,15 @@ class TransactionRepositoryGatewayTest {
         // Arrange
         Transaction inputTransaction = TestDataFactory.createExpenseTransaction();
         CategoryEntity categoryEntity = TestDataFactory.createExpenseCategoryEntity();
-        TransactionEntity inputEntity = TestDataFactory.createExpenseTransactionEntity();
-        TransactionEntity updatedEntity = TestDataFactory.createExpenseTransactionEntity();
+        TransactionEntity existingEntity = TestDataFactory.createExpenseTransactionEntity();
         Transaction updatedTransaction = TestDataFactory.createExpenseTransaction();
 
-        when(categoryRepository.findById(inputTransaction.category().id()))
-                .thenReturn(Optional.of(categoryEntity));
-        when(entityMapper.toEntity(inputTransaction)).thenReturn(inputEntity);
-        when(transactionRepository.save(inputEntity)).thenReturn(updatedEntity);
-        when(entityMapper.toDomain(updatedEntity)).thenReturn(updatedTransaction);
+        when(categoryRegistry.findById(inputTransaction.category().id()))
+                .thenReturn(toDomain(categoryEntity));
+        when(transactionRepository.findByIdForUpdate(inputTransaction.id()))
+                .thenReturn(Optional.of(existingEntity));
+        when(transactionRepository.save(existingEntity)).thenReturn(existingEntity);
+        when(entityMapper.toDomain(existingEntity)).thenReturn(updatedTransaction);
 
         // Act
         Transaction result = gateway.updateTransaction(inputTransaction);
@@ -415,26 +619,109 @@ class TransactionRepositoryGatewayTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result).isEqualTo(updatedTransaction);
-        verify(categoryRepository, times(1)).findById(inputTransaction.category().id());
-        verify(transactionRepository, times(1)).save(inputEntity);
+        verify(categoryRegistry, times(1)).findById(inputTransaction.category().id());
+        verify(transactionRepository, times(1)).save(existingEntity);
+        verify(entityMapper, never()).toEntity(any(Transaction.class));
+    }
+
+    @Test
+    void updateTransaction_ShouldMoveAmountBetweenMonthlyTotals_WhenDateAndCategoryChange() {
+        // Arrange
+        CategoryEntity oldCategory =
+                TestDataFactory.createCategoryEntity(
+                        3L, "Rent", Type.EXPENSE, java.time.LocalDateTime.now());
+        CategoryEntity newCategory = TestDataFactory.createExpenseCategoryEntity();
+        TransactionEntity existingEntity =
+                TestDataFactory.createTransactionEntity(
+                        5L,
+                        Type.EXPENSE,
+                        new BigDecimal("300.00"),
+                        "Old",
+                        oldCategory,
+                        LocalDate.of(2025, 1, 31),
+                        java.time.LocalDateTime.now());
+        Transaction inputTransaction =
+                new Transaction(
+                        5L,
+                        Type.EXPENSE,
+                        new BigDecimal("450.00"),
+                        "New",
+                        TestDataFactory.createExpenseCategory(),
+                        LocalDate.of(2025, 2, 1),
+                        java.time.LocalDateTime.now());
+
+        when(categoryRegistry.findById(inputTransaction.category().id()))
+                .thenReturn(toDomain(newCategory));
+        when(transactionRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(existingEntity));
+        when(transactionRepository.save(existingEntity)).thenReturn(existingEntity);
+
+        // Act
+        gateway.updateTransaction(inputTransaction);
+
+        // Assert
+        // Buckets in (year, month, category, type) order, then the balance snapshot once
+        InOrder inOrder = inOrder(monthlyCategoryTotalRepository, balanceSnapshotRepository);
+        inOrder.verify(monthlyCategoryTotalRepository)
+                .addToTotal(2025, 1, 3L, "EXPENSE", new BigDecimal("-300.00"), -1);
+        inOrder.verify(monthlyCategoryTotalRepository)
+                .addToTotal(2025, 2, 2L, "EXPENSE", new BigDecimal("450.00"), 1);
+        inOrder.verify(balanceSnapshotRepository)
+                .addToTotals(BigDecimal.ZERO, new BigDecimal("150.00"));
+        verifyNoMoreInteractions(balanceSnapshotRepository);
+        assertThat(existingEntity.getCategory()).isEqualTo(newCategory);
+        assertThat(existingEntity.getTransactionDate()).isEqualTo(LocalDate.of(2025, 2, 1));
+        assertThat(existingEntity.getAmount()).isEqualByComparingTo("450.00");
+        assertThat(existingEntity.getDescription()).isEqualTo("New");
+        verify(eventPublisher)
+                .publishEvent(
+                        new TrainingSamplesEvent(
+                                List.of(
+                                        new TrainingSample("Old", 3L, -1),
+                                        new TrainingSample("New", 2L, 1))));
+        verify(eventPublisher)
+                .publishEvent(
+                        new TransactionsChangedEvent(
+                                new DateRange(
+                                        LocalDate.of(2025, 1, 31), LocalDate.of(2025, 1, 31))));
+        verify(eventPublisher)
+                .publishEvent(
+                        new TransactionsChangedEvent(
+                                new DateRange(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 1))));
     }
 
     // updateTransaction tests (Validation Failures)
 
     @Test
-    void updateTransaction_ShouldThrowResourceNotFoundException_WhenCategoryDoesNotExist() {
+    void updateTransaction_ShouldThrowResourceNotFoundException_WhenTransactionDoesNotExist() {
         // Arrange
         Transaction inputTransaction = TestDataFactory.createIncomeTransaction();
-        when(categoryRepository.findById(inputTransaction.category().id()))
+        when(categoryRegistry.findById(inputTransaction.category().id()))
+                .thenReturn(toDomain(TestDataFactory.createIncomeCategoryEntity()));
+        when(transactionRepository.findByIdForUpdate(inputTransaction.id()))
                 .thenReturn(Optional.empty());
 
+        // Act & Assert
+        assertThatThrownBy(() -> gateway.updateTransaction(inputTransaction))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Transaction");
+
+        verify(transactionRepository, never()).save(any(TransactionEntity.class));
+        verifyNoInteractions(monthlyCategoryTotalRepository, balanceSnapshotRepository);
+    }
+
+    @Test
+    void updateTransaction_ShouldThrowResourceNotFoundException_WhenCategoryDoesNotExist() {
+        // Arrange
+        Transaction inputTransaction = TestDataFactory.createIncomeTransaction();
+        when(categoryRegistry.findById(inputTransaction.category().id())).thenReturn(null);
+
         // Act & Assert
         assertThatThrownBy(() -> gateway.updateTransaction(inputTransaction))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Category")
                 .hasMessageContaining("id: " + inputTransaction.category().id());
 
-        verify(categoryRepository, times(1)).findById(inputTransaction.category().id());
+        verify(categoryRegistry, times(1)).findById(inputTransaction.category().id());
         verify(transactionRepository, never()).save(any(TransactionEntity.class));
     }
 
@@ -497,220 +784,501 @@ class TransactionRepositoryGatewayTest {
                         java.time.LocalDateTime.now());
         CategoryEntity expenseCategoryEntity = TestDataFactory.createExpenseCategoryEntity();
 
-        when(categoryRepository.findById(expenseCategory.id()))
-                .thenReturn(Optional.of(expenseCategoryEntity));
+        when(categoryRegistry.findById(expenseCategory.id()))
+                .thenReturn(toDomain(expenseCategoryEntity));
 
         // Act & Assert
         assertThatThrownBy(() -> gateway.updateTransaction(incomeTransactionWithExpenseCategory))
                 .isInstanceOf(InvalidTransactionException.class)
                 .hasMessageContaining("Transaction type must be equal to category type");
 
-        verify(categoryRepository, times(1)).findById(expenseCategory.id());
+        verify(categoryRegistry, times(1)).findById(expenseCategory.id());
         verify(transactionRepository, never()).save(any(TransactionEntity.class));
     }
 
     // deleteTransaction tests
 
     @Test
-    void deleteTransaction_ShouldDelegateToRepository_WhenCalled() {
+    void deleteTransaction_ShouldDeleteAndSubtractFromMonthlyTotals_WhenTransactionExists() {
         // Arrange
-        Long transactionId = 1L;
-        doNothing().when(transactionRepository).deleteById(transactionId);
+        TransactionEntity entity = TestDataFactory.createExpenseTransactionEntity();
+        LocalDate date = entity.getTransactionDate();
+        when(transactionRepository.findByIdForUpdate(entity.getId()))
+                .thenReturn(Optional.of(entity));
 
         // Act
-        gateway.deleteTransaction(transactionId);
+        gateway.deleteTransaction(entity.getId());
 
         // Assert
-        verify(transactionRepository, times(1)).deleteById(transactionId);
-        verifyNoMoreInteractions(transactionRepository);
+        verify(transactionRepository, times(1)).delete(entity);
+        verify(monthlyCategoryTotalRepository, times(1))
+                .addToTotal(
+                        date.getYear(),
+                        date.getMonthValue(),
+                        entity.getCategory().getId(),
+                        "EXPENSE",
+                        new BigDecimal("-500.00"),
+                        -1);
+        verify(balanceSnapshotRepository, times(1))
+                .addToTotals(BigDecimal.ZERO, new BigDecimal("-500.00"));
+        verify(eventPublisher)
+                .publishEvent(
+                        new TrainingSamplesEvent(
+                                List.of(
+                                        new TrainingSample(
+                                                entity.getDescription(),
+                                                entity.getCategory().getId(),
+                                                -1))));
+        verify(eventPublisher)
+                .publishEvent(new TransactionsChangedEvent(new DateRange(date, date)));
     }
 
-    // getTotalIncome tests
-
     @Test
-    void getTotalIncome_ShouldReturnTotal_WhenIncomeTransactionsExist() {
+    void deleteTransaction_ShouldDoNothing_WhenTransactionDoesNotExist() {
         // Arrange
-        BigDecimal expectedTotal = new BigDecimal("5000.00");
-        when(transactionRepository.sumAmountByType(Type.INCOME)).thenReturn(expectedTotal);
+        when(transactionRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
 
         // Act
-        BigDecimal result = gateway.getTotalIncome();
+        gateway.deleteTransaction(99L);
 
         // Assert
-        assertThat(result).isEqualByComparingTo(expectedTotal);
-        verify(transactionRepository, times(1)).sumAmountByType(Type.INCOME);
+        verify(transactionRepository, never()).delete(any(TransactionEntity.class));
+        verifyNoInteractions(monthlyCategoryTotalRepository, balanceSnapshotRepository);
     }
 
+    // importTransactions tests
+
     @Test
-    void getTotalIncome_ShouldDelegateToRepository_WhenCalled() {
+    void importTransactions_ShouldCopyValidRowsAndUpdateRunningTotals_WhenRowsAreValid() {
         // Arrange
-        when(transactionRepository.sumAmountByType(Type.INCOME)).thenReturn(BigDecimal.ZERO);
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        Iterator<TransactionImportRow> rows =
+                List.of(
+                                new TransactionImportRow(
+                                        1,
+                                        Type.INCOME,
+                                        new BigDecimal("1000.00"),
+                                        "Salary",
+                                        1L,
+                                        date),
+                                new TransactionImportRow(
+                                        2,
+                                        Type.EXPENSE,
+                                        new BigDecimal("40.00"),
+                                        "Lunch",
+                                        2L,
+                                        date),
+                                new TransactionImportRow(
+                                        3,
+                                        Type.EXPENSE,
+                                        new BigDecimal("60.00"),
+                                        "Dinner",
+                                        2L,
+                                        date))
+                        .iterator();
+        when(categoryRegistry.findAll())
+                .thenReturn(
+                        List.of(
+                                TestDataFactory.createIncomeCategory(),
+                                TestDataFactory.createExpenseCategory()));
+        when(transactionCopyWriter.copy(any()))
+                .thenAnswer(invocation -> (long) invocation.<List<?>>getArgument(0).size());
 
         // Act
-        gateway.getTotalIncome();
+        ImportResult result = gateway.importTransactions(rows);
 
         // Assert
-        ArgumentCaptor<Type> typeCaptor = ArgumentCaptor.forClass(Type.class);
-        verify(transactionRepository).sumAmountByType(typeCaptor.capture());
-        assertThat(typeCaptor.getValue()).isEqualTo(Type.INCOME);
+        assertThat(result.importedCount()).isEqualTo(3);
+        assertThat(result.failedCount()).isZero();
+        assertThat(result.failures()).isEmpty();
+        verify(transactionCopyWriter).copy(any());
+        verify(monthlyCategoryTotalRepository)
+                .addToTotal(2024, 3, 1L, "INCOME", new BigDecimal("1000.00"), 1L);
+        verify(monthlyCategoryTotalRepository)
+                .addToTotal(2024, 3, 2L, "EXPENSE", new BigDecimal("100.00"), 2L);
+        verify(balanceSnapshotRepository)
+                .addToTotals(new BigDecimal("1000.00"), new BigDecimal("100.00"));
+        verify(categoryRegistry, never()).findById(any());
+        verify(transactionRepository, never()).save(any());
     }
 
-    // getTotalExpense tests
+    @Test
+    void importTransactions_ShouldReportFailuresAndSkipRows_WhenRowsAreInvalid() {
+        // Arrange
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        Iterator<TransactionImportRow> rows =
+                List.of(
+                                new TransactionImportRow(
+                                        1,
+                                        Type.EXPENSE,
+                                        new BigDecimal("-5.00"),
+                                        "Refund",
+                                        2L,
+                                        date),
+                                new TransactionImportRow(
+                                        2, Type.INCOME, new BigDecimal("5.00"), "Lunch", 2L, date),
+                                new TransactionImportRow(
+                                        3,
+                                        Type.EXPENSE,
+                                        new BigDecimal("5.00"),
+                                        "Lunch",
+                                        99L,
+                                        date),
+                                new TransactionImportRow(
+                                        4, Type.EXPENSE, new BigDecimal("5.00"), " ", 2L, date),
+                                TransactionImportRow.malformed(5, "Invalid amount: abc"))
+                        .iterator();
+        when(categoryRegistry.findAll())
+                .thenReturn(List.of(TestDataFactory.createExpenseCategory()));
+
+        // Act
+        ImportResult result = gateway.importTransactions(rows);
+
+        // Assert
+        assertThat(result.importedCount()).isZero();
+        assertThat(result.failedCount()).isEqualTo(5);
+        assertThat(result.failures())
+                .containsExactly(
+                        new ImportFailure(1, "Amount must be positive: -5.00"),
+                        new ImportFailure(2, "Transaction type must be equal to category type"),
+                        new ImportFailure(3, "Category not found: id: 99"),
+                        new ImportFailure(4, "Description is required"),
+                        new ImportFailure(5, "Invalid amount: abc"));
+        verifyNoInteractions(monthlyCategoryTotalRepository, balanceSnapshotRepository);
+    }
 
     @Test
-    void getTotalExpense_ShouldReturnTotal_WhenExpenseTransactionsExist() {
+    void importTransactions_ShouldCopyInChunks_WhenRowsExceedChunkSize() {
         // Arrange
-        BigDecimal expectedTotal = new BigDecimal("2000.00");
-        when(transactionRepository.sumAmountByType(Type.EXPENSE)).thenReturn(expectedTotal);
+        LocalDate date = LocalDate.of(2024, 3, 10);
+        List<TransactionImportRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 12_000; i++) {
+            rows.add(
+                    new TransactionImportRow(
+                            i, Type.EXPENSE, BigDecimal.ONE, "Row " + i, 2L, date));
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(categoryRegistry.findAll())
+                .thenReturn(List.of(TestDataFactory.createExpenseCategory()));
+        when(transactionCopyWriter.copy(any()))
+                .thenAnswer(
+                        invocation -> {
+                            int size = invocation.<List<?>>getArgument(0).size();
+                            chunkSizes.add(size);
+                            return (long) size;
+                        });
 
         // Act
-        BigDecimal result = gateway.getTotalExpense();
+        ImportResult result = gateway.importTransactions(rows.iterator());
 
         // Assert
-        assertThat(result).isEqualByComparingTo(expectedTotal);
-        verify(transactionRepository, times(1)).sumAmountByType(Type.EXPENSE);
+        assertThat(result.importedCount()).isEqualTo(12_000);
+        assertThat(chunkSizes).containsExactly(5000, 5000, 2000);
+        verify(monthlyCategoryTotalRepository)
+                .addToTotal(2024, 3, 2L, "EXPENSE", new BigDecimal("12000"), 12_000L);
+        verify(balanceSnapshotRepository).addToTotals(BigDecimal.ZERO, new BigDecimal("12000"));
     }
 
+    // getNetBalance tests
+
     @Test
-    void getTotalExpense_ShouldDelegateToRepository_WhenCalled() {
+    void getNetBalance_ShouldReturnIncomeMinusExpense_FromBalanceSnapshot() {
         // Arrange
-        when(transactionRepository.sumAmountByType(Type.EXPENSE)).thenReturn(BigDecimal.ZERO);
+        BalanceSnapshotEntity snapshot =
+                new BalanceSnapshotEntity(
+                        BalanceSnapshotEntity.SNAPSHOT_ID,
+                        new BigDecimal("5000.00"),
+                        new BigDecimal("2000.00"),
+                        java.time.LocalDateTime.now());
+        when(balanceSnapshotRepository.findById(BalanceSnapshotEntity.SNAPSHOT_ID))
+                .thenReturn(Optional.of(snapshot));
 
         // Act
-        gateway.getTotalExpense();
+        BigDecimal result = gateway.getNetBalance();
 
         // Assert
-        ArgumentCaptor<Type> typeCaptor = ArgumentCaptor.forClass(Type.class);
-        verify(transactionRepository).sumAmountByType(typeCaptor.capture());
-        assertThat(typeCaptor.getValue()).isEqualTo(Type.EXPENSE);
+        assertThat(result).isEqualByComparingTo("3000.00");
+        verify(balanceSnapshotRepository, times(1)).findById(BalanceSnapshotEntity.SNAPSHOT_ID);
+        verifyNoInteractions(transactionRepository, monthlyCategoryTotalRepository);
     }
 
-    // getMonthlyIncome tests
+    @Test
+    void getNetBalance_ShouldThrowIllegalStateException_WhenSnapshotIsMissing() {
+        // Arrange
+        when(balanceSnapshotRepository.findById(BalanceSnapshotEntity.SNAPSHOT_ID))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> gateway.getNetBalance())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Balance snapshot");
+    }
+
+    // getIncomeByDateRange tests
 
     @Test
-    void getMonthlyIncome_ShouldReturnTotal_WhenIncomeTransactionsExistForMonth() {
+    void getIncomeByDateRange_ShouldReadMonthlyTotals_WhenRangeCoversWholeMonths() {
         // Arrange
-        int month = 3;
-        int year = 2024;
+        DateRange range = new DateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
         BigDecimal expectedTotal = new BigDecimal("3000.00");
-        when(transactionRepository.sumAmountByMonthAndYearAndType(month, year, Type.INCOME))
+        when(monthlyCategoryTotalRepository.sumAmountByTypeAndMonthRange(
+                        Type.INCOME, 2024, 3, 2024, 4))
                 .thenReturn(expectedTotal);
 
         // Act
-        BigDecimal result = gateway.getMonthlyIncome(month, year);
+        BigDecimal result = gateway.getIncomeByDateRange(range);
 
         // Assert
         assertThat(result).isEqualByComparingTo(expectedTotal);
-        verify(transactionRepository, times(1))
-                .sumAmountByMonthAndYearAndType(month, year, Type.INCOME);
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
-    void getMonthlyIncome_ShouldPassCorrectParameters_WhenCalled() {
+    void getIncomeByDateRange_ShouldPassHalfOpenRange_WhenRangeIsNotMonthAligned() {
         // Arrange
-        int month = 5;
-        int year = 2025;
-        when(transactionRepository.sumAmountByMonthAndYearAndType(month, year, Type.INCOME))
+        DateRange range = new DateRange(LocalDate.of(2025, 12, 10), LocalDate.of(2025, 12, 31));
+        when(transactionRepository.sumAmountByTypeAndDateRange(any(), any(), any()))
                 .thenReturn(BigDecimal.ZERO);
 
         // Act
-        gateway.getMonthlyIncome(month, year);
+        gateway.getIncomeByDateRange(range);
 
         // Assert
-        ArgumentCaptor<Integer> monthCaptor = ArgumentCaptor.forClass(Integer.class);
-        ArgumentCaptor<Integer> yearCaptor = ArgumentCaptor.forClass(Integer.class);
         ArgumentCaptor<Type> typeCaptor = ArgumentCaptor.forClass(Type.class);
+        ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
         verify(transactionRepository)
-                .sumAmountByMonthAndYearAndType(
-                        monthCaptor.capture(), yearCaptor.capture(), typeCaptor.capture());
-        assertThat(monthCaptor.getValue()).isEqualTo(5);
-        assertThat(yearCaptor.getValue()).isEqualTo(2025);
+                .sumAmountByTypeAndDateRange(
+                        typeCaptor.capture(), startCaptor.capture(), endCaptor.capture());
         assertThat(typeCaptor.getValue()).isEqualTo(Type.INCOME);
+        assertThat(startCaptor.getValue()).isEqualTo(LocalDate.of(2025, 12, 10));
+        assertThat(endCaptor.getValue()).isEqualTo(LocalDate.of(2026, 1, 1));
+        verifyNoInteractions(monthlyCategoryTotalRepository);
     }
 
-    // getMonthlyExpense tests
+    // getExpenseByDateRange tests
 
     @Test
-    void getMonthlyExpense_ShouldReturnTotal_WhenExpenseTransactionsExistForMonth() {
+    void getExpenseByDateRange_ShouldReadMonthlyTotals_WhenRangeSpansYearBoundary() {
         // Arrange
-        int month = 6;
-        int year = 2024;
+        DateRange range = new DateRange(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 12, 31));
         BigDecimal expectedTotal = new BigDecimal("1500.00");
-        when(transactionRepository.sumAmountByMonthAndYearAndType(month, year, Type.EXPENSE))
+        when(monthlyCategoryTotalRepository.sumAmountByTypeAndMonthRange(
+                        Type.EXPENSE, 2024, 10, 2025, 1))
                 .thenReturn(expectedTotal);
 
         // Act
-        BigDecimal result = gateway.getMonthlyExpense(month, year);
+        BigDecimal result = gateway.getExpenseByDateRange(range);
 
         // Assert
         assertThat(result).isEqualByComparingTo(expectedTotal);
-        verify(transactionRepository, times(1))
-                .sumAmountByMonthAndYearAndType(month, year, Type.EXPENSE);
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
-    void getMonthlyExpense_ShouldPassCorrectParameters_WhenCalled() {
+    void getExpenseByDateRange_ShouldPassHalfOpenRange_WhenRangeIsNotMonthAligned() {
         // Arrange
-        int month = 12;
-        int year = 2026;
-        when(transactionRepository.sumAmountByMonthAndYearAndType(month, year, Type.EXPENSE))
+        DateRange range = new DateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 28));
+        when(transactionRepository.sumAmountByTypeAndDateRange(any(), any(), any()))
                 .thenReturn(BigDecimal.ZERO);
 
         // Act
-        gateway.getMonthlyExpense(month, year);
+        gateway.getExpenseByDateRange(range);
 
         // Assert
-        ArgumentCaptor<Integer> monthCaptor = ArgumentCaptor.forClass(Integer.class);
-        ArgumentCaptor<Integer> yearCaptor = ArgumentCaptor.forClass(Integer.class);
         ArgumentCaptor<Type> typeCaptor = ArgumentCaptor.forClass(Type.class);
+        ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
         verify(transactionRepository)
-                .sumAmountByMonthAndYearAndType(
-                        monthCaptor.capture(), yearCaptor.capture(), typeCaptor.capture());
-        assertThat(monthCaptor.getValue()).isEqualTo(12);
-        assertThat(yearCaptor.getValue()).isEqualTo(2026);
+                .sumAmountByTypeAndDateRange(
+                        typeCaptor.capture(), startCaptor.capture(), endCaptor.capture());
         assertThat(typeCaptor.getValue()).isEqualTo(Type.EXPENSE);
+        assertThat(startCaptor.getValue()).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(endCaptor.getValue()).isEqualTo(LocalDate.of(2024, 2, 29));
     }
 
-    // getCategorySummaries tests
+    // getCategorySummariesByDateRange tests
 
     @Test
-    void getCategorySummaries_ShouldReturnSummaries_WhenTransactionsExist() {
+    void getCategorySummariesByDateRange_ShouldReadMonthlyTotals_WhenRangeCoversWholeMonths() {
         // Arrange
-        int month = 8;
-        int year = 2024;
+        DateRange range = new DateRange(LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 31));
         List<CategorySummary> expectedSummaries =
                 Arrays.asList(
                         new CategorySummary("Salary", new BigDecimal("3000.00"), BigDecimal.ZERO),
                         new CategorySummary("Food", BigDecimal.ZERO, new BigDecimal("800.00")));
-        when(transactionRepository.findCategorySummariesByMonthAndYear(month, year))
+        when(monthlyCategoryTotalRepository.findCategorySummariesByMonthRange(2024, 8, 2024, 9))
                 .thenReturn(expectedSummaries);
 
         // Act
-        List<CategorySummary> result = gateway.getCategorySummaries(month, year);
+        List<CategorySummary> result = gateway.getCategorySummariesByDateRange(range);
 
         // Assert
         assertThat(result).hasSize(2);
         assertThat(result).isEqualTo(expectedSummaries);
-        verify(transactionRepository, times(1)).findCategorySummariesByMonthAndYear(month, year);
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
-    void getCategorySummaries_ShouldPassCorrectParameters_WhenCalled() {
+    void getCategorySummariesByDateRange_ShouldPassHalfOpenRange_WhenRangeIsNotMonthAligned() {
         // Arrange
-        int month = 11;
-        int year = 2025;
-        when(transactionRepository.findCategorySummariesByMonthAndYear(month, year))
+        DateRange range = new DateRange(LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 30));
+        when(transactionRepository.findCategorySummariesByDateRange(any(), any()))
                 .thenReturn(Collections.emptyList());
 
         // Act
-        gateway.getCategorySummaries(month, year);
+        gateway.getCategorySummariesByDateRange(range);
 
         // Assert
-        ArgumentCaptor<Integer> monthCaptor = ArgumentCaptor.forClass(Integer.class);
-        ArgumentCaptor<Integer> yearCaptor = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
         verify(transactionRepository)
-                .findCategorySummariesByMonthAndYear(monthCaptor.capture(), yearCaptor.capture());
-        assertThat(monthCaptor.getValue()).isEqualTo(11);
-        assertThat(yearCaptor.getValue()).isEqualTo(2025);
+                .findCategorySummariesByDateRange(startCaptor.capture(), endCaptor.capture());
+        assertThat(startCaptor.getValue()).isEqualTo(LocalDate.of(2025, 11, 3));
+        assertThat(endCaptor.getValue()).isEqualTo(LocalDate.of(2025, 12, 1));
+        verifyNoInteractions(monthlyCategoryTotalRepository);
+    }
+
+    // exportTransactionsByDateRange tests
+
+    @Test
+    void exportTransactionsByDateRange_ShouldStreamMappedRowsAndCloseStream_WhenRangeIsGiven() {
+        // Arrange
+        DateRange range = new DateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<TransactionExportRow> rows =
+                Stream.of(
+                                new TransactionExportRow(
+                                        7L,
+                                        Type.EXPENSE,
+                                        new BigDecimal("45.90"),
+                                        "Groceries",
+                                        2L,
+                                        "Food",
+                                        Type.EXPENSE,
+                                        LocalDate.of(2024, 3, 10),
+                                        LocalDateTime.of(2024, 3, 10, 12, 30)))
+                        .onClose(() -> closed.set(true));
+        when(transactionRepository.streamExportRowsByDateRange(
+                        LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 1)))
+                .thenReturn(rows);
+        List<Transaction> exported = new ArrayList<>();
+
+        // Act
+        gateway.exportTransactionsByDateRange(range, exported::add);
+
+        // Assert
+        assertThat(exported).hasSize(1);
+        Transaction transaction = exported.get(0);
+        assertThat(transaction.id()).isEqualTo(7L);
+        assertThat(transaction.description()).isEqualTo("Groceries");
+        assertThat(transaction.category().id()).isEqualTo(2L);
+        assertThat(transaction.category().name()).isEqualTo("Food");
+        assertThat(transaction.createdAt()).isEqualTo(LocalDateTime.of(2024, 3, 10, 12, 30));
+        assertThat(closed).isTrue();
+    }
+
+    // getAnalysisData tests
+
+    @Test
+    void getAnalysisData_ShouldAggregateTotalsAndCategories_FromGroupedRows() {
+        // Arrange
+        DateRange current = new DateRange(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+        DateRange previous = new DateRange(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31));
+        when(transactionRepository.findCategoryPeriodTotals(
+                        current.start(), current.end(), previous.start(), previous.end()))
+                .thenReturn(
+                        List.of(
+                                new CategoryPeriodTotals(
+                                        "Salary",
+                                        new BigDecimal("3000.00"),
+                                        BigDecimal.ZERO,
+                                        1L,
+                                        new BigDecimal("2800.00"),
+                                        BigDecimal.ZERO,
+                                        1L),
+                                new CategoryPeriodTotals(
+                                        "Food",
+                                        BigDecimal.ZERO,
+                                        new BigDecimal("100.00"),
+                                        3L,
+                                        BigDecimal.ZERO,
+                                        BigDecimal.ZERO,
+                                        0L),
+                                new CategoryPeriodTotals(
+                                        "Rent",
+                                        BigDecimal.ZERO,
+                                        BigDecimal.ZERO,
+                                        0L,
+                                        BigDecimal.ZERO,
+                                        new BigDecimal("900.00"),
+                                        1L)));
+        when(transactionRepository.sumAmountByDayAndType(
+                        Type.EXPENSE, current.start(), current.end()))
+                .thenReturn(
+                        List.of(
+                                new DailyTotal(LocalDate.of(2025, 6, 2), new BigDecimal("40.00")),
+                                new DailyTotal(LocalDate.of(2025, 6, 9), new BigDecimal("60.00"))));
+
+        // Act
+        TransactionAnalysisData result = gateway.getAnalysisData("monthly", current, previous);
+
+        // Assert
+        assertThat(result.startDate()).isEqualTo(current.start());
+        assertThat(result.endDate()).isEqualTo(current.end());
+        assertThat(result.period()).isEqualTo("monthly");
+        assertThat(result.totalIncome()).isEqualByComparingTo("3000.00");
+        assertThat(result.totalExpense()).isEqualByComparingTo("100.00");
+        assertThat(result.previousPeriodIncome()).isEqualByComparingTo("2800.00");
+        assertThat(result.previousPeriodExpense()).isEqualByComparingTo("900.00");
+        assertThat(result.categorySummaries())
+                .extracting(CategorySummary::categoryName)
+                .containsExactly("Salary", "Food");
+        assertThat(result.previousCategorySummaries())
+                .extracting(CategorySummary::categoryName)
+                .containsExactly("Salary", "Rent");
+        assertThat(result.transactionCountByCategory())
+                .containsOnly(entry("Salary", 1L), entry("Food", 3L));
+        assertThat(result.averageAmountByCategory().get("Food")).isEqualByComparingTo("33.33");
+        assertThat(result.expensesByDayOfWeek().get(DayOfWeek.MONDAY))
+                .isEqualByComparingTo("100.00");
+        assertThat(result.expensesByDayOfWeek().get(DayOfWeek.SUNDAY))
+                .isEqualByComparingTo(BigDecimal.ZERO);
+        verify(transactionRepository, never()).findByDateRange(any(), any());
+    }
+
+    @Test
+    void getAnalysisData_ShouldSkipDailyHistogram_WhenCurrentPeriodIsEmpty() {
+        // Arrange
+        DateRange current = new DateRange(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+        DateRange previous = new DateRange(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 31));
+        when(transactionRepository.findCategoryPeriodTotals(
+                        current.start(), current.end(), previous.start(), previous.end()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        TransactionAnalysisData result = gateway.getAnalysisData("monthly", current, previous);
+
+        // Assert
+        assertThat(result.totalIncome()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.transactionCountByCategory()).isEmpty();
+        assertThat(result.expensesByDayOfWeek()).hasSize(7);
+        verify(transactionRepository, never()).sumAmountByDayAndType(any(), any(), any());
+    }
+
+    private TransactionEntity createEntity(Long id, LocalDateTime createdAt) {
+        return TestDataFactory.createTransactionEntity(
+                id,
+                Type.EXPENSE,
+                new BigDecimal("10.00"),
+                "Transaction " + id,
+                TestDataFactory.createExpenseCategoryEntity(),
+                LocalDate.of(2024, 3, 10),
+                createdAt);
+    }
+
+    private static Category toDomain(CategoryEntity entity) {
+        return new Category(
+                entity.getId(), entity.getName(), entity.getType(), entity.getCreatedAt());
     }
 }
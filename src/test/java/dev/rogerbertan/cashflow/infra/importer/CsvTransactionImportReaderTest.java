@@ -0,0 +1,110 @@
+package dev.rogerbertan.cashflow.infra.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvTransactionImportReaderTest {
+
+    @Test
+    void next_ShouldParseRows_WhenColumnsAreInAnyOrder() {
+        // Arrange
+        String csv =
+                "transactionDate,type,categoryId,amount,description\n"
+                        + "2024-03-10,EXPENSE,2,45.90,\"Dinner, with \"\"friends\"\"\"\n"
+                        + "\n"
+                        + "2024-03-11,income,1,1000,Salary\n";
+
+        // Act
+        List<TransactionImportRow> rows = readAll(csv);
+
+        // Assert
+        assertThat(rows)
+                .containsExactly(
+                        new TransactionImportRow(
+                                1,
+                                Type.EXPENSE,
+                                new BigDecimal("45.90"),
+                                "Dinner, with \"friends\"",
+                                2L,
+                                LocalDate.of(2024, 3, 10)),
+                        new TransactionImportRow(
+                                2,
+                                Type.INCOME,
+                                new BigDecimal("1000"),
+                                "Salary",
+                                1L,
+                                LocalDate.of(2024, 3, 11)));
+    }
+
+    @Test
+    void next_ShouldReturnMalformedRows_WhenFieldsCannotBeParsed() {
+        // Arrange
+        String csv =
+                "type,amount,description,categoryId,transactionDate\n"
+                        + "EXPENSE,abc,Lunch,2,2024-03-10\n"
+                        + "TRANSFER,10,Lunch,2,2024-03-10\n"
+                        + "EXPENSE,10,Lunch,2,10/03/2024\n"
+                        + "EXPENSE,10,Lunch,2\n"
+                        + "EXPENSE,10,\"Lunch,2,2024-03-10\n"
+                        + "EXPENSE,10,,2,2024-03-10\n";
+
+        // Act
+        List<TransactionImportRow> rows = readAll(csv);
+
+        // Assert
+        assertThat(rows)
+                .extracting(TransactionImportRow::malformedReason)
+                .containsExactly(
+                        "Invalid amount: abc",
+                        "Invalid type: TRANSFER",
+                        "Invalid transaction date: 10/03/2024",
+                        "Expected 5 columns but found 4",
+                        "Unterminated quoted field",
+                        null);
+        assertThat(rows.get(5).description()).isNull();
+        assertThat(rows)
+                .extracting(TransactionImportRow::rowNumber)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void constructor_ShouldThrowInvalidTransactionException_WhenHeaderIsMissingColumns() {
+        // Arrange
+        String csv = "type,amount,description\nEXPENSE,10,Lunch\n";
+
+        // Act & Assert
+        assertThatThrownBy(() -> new CsvTransactionImportReader(toStream(csv)))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("CSV header is missing columns: categoryId, transactionDate");
+    }
+
+    @Test
+    void constructor_ShouldThrowInvalidTransactionException_WhenPayloadIsEmpty() {
+        // Act & Assert
+        assertThatThrownBy(() -> new CsvTransactionImportReader(toStream("")))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("CSV payload is empty");
+    }
+
+    private List<TransactionImportRow> readAll(String csv) {
+        List<TransactionImportRow> rows = new ArrayList<>();
+        new CsvTransactionImportReader(toStream(csv)).forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package dev.rogerbertan.cashflow.infra.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+class JsonTransactionImportReaderTest {
+
+    private final TransactionImportReaderFactory factory =
+            new TransactionImportReaderFactory(JsonMapper.builder().build());
+
+    @Test
+    void next_ShouldParseRows_WhenPayloadIsAnArrayOfObjects() {
+        // Arrange
+        String json =
+                "[{\"type\":\"EXPENSE\",\"amount\":45.90,\"description\":\"Dinner\","
+                        + "\"categoryId\":2,\"transactionDate\":\"2024-03-10\"},"
+                        + "{\"type\":\"INCOME\",\"amount\":\"1000\",\"description\":\"Salary\","
+                        + "\"categoryId\":\"1\",\"transactionDate\":\"2024-03-11\"}]";
+
+        // Act
+        List<TransactionImportRow> rows = readAll(factory.json(toStream(json)));
+
+        // Assert
+        assertThat(rows)
+                .containsExactly(
+                        new TransactionImportRow(
+                                1,
+                                Type.EXPENSE,
+                                new BigDecimal("45.90"),
+                                "Dinner",
+                                2L,
+                                LocalDate.of(2024, 3, 10)),
+                        new TransactionImportRow(
+                                2,
+                                Type.INCOME,
+                                new BigDecimal("1000"),
+                                "Salary",
+                                1L,
+                                LocalDate.of(2024, 3, 11)));
+    }
+
+    @Test
+    void next_ShouldReturnMalformedRows_WhenElementsCannotBeParsed() {
+        // Arrange
+        String json =
+                "[42, {\"type\":\"TRANSFER\"}, {\"type\":\"EXPENSE\",\"amount\":10,"
+                        + "\"description\":null,\"categoryId\":2,\"transactionDate\":\"2024-03-10\"}]";
+
+        // Act
+        List<TransactionImportRow> rows = readAll(factory.json(toStream(json)));
+
+        // Assert
+        assertThat(rows)
+                .extracting(TransactionImportRow::malformedReason)
+                .containsExactly("Expected a JSON object", "Invalid type: TRANSFER", null);
+        assertThat(rows.get(2).description()).isNull();
+    }
+
+    @Test
+    void json_ShouldThrowInvalidTransactionException_WhenPayloadIsNotAnArray() {
+        // Act & Assert
+        assertThatThrownBy(() -> factory.json(toStream("{\"type\":\"EXPENSE\"}")))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("JSON payload must be an array");
+    }
+
+    @Test
+    void hasNext_ShouldThrowInvalidTransactionException_WhenPayloadIsTruncated() {
+        // Arrange
+        Iterator<TransactionImportRow> reader =
+                factory.json(toStream("[{\"type\":\"EXPENSE\"}, {\"type\":"));
+        reader.next();
+
+        // Act & Assert
+        assertThatThrownBy(reader::hasNext)
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Malformed JSON payload near row 2");
+    }
+
+    private List<TransactionImportRow> readAll(Iterator<TransactionImportRow> reader) {
+        List<TransactionImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
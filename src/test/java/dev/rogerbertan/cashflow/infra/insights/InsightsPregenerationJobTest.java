@@ -0,0 +1,82 @@
+package dev.rogerbertan.cashflow.infra.insights;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.usecases.insights.GenerateSpendingInsightsUseCase;
+import dev.rogerbertan.cashflow.infra.exception.AIInsightsException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InsightsPregenerationJobTest {
+
+    @Mock private GenerateSpendingInsightsUseCase generateSpendingInsightsUseCase;
+
+    @InjectMocks private InsightsPregenerationJob job;
+
+    @Test
+    void generateClosedPeriods_ShouldRegenerateEveryPeriodThatClosedYesterday() {
+        // Arrange
+        LocalDate firstOfApril = LocalDate.of(2026, 4, 1);
+
+        // Act
+        job.generateClosedPeriods(firstOfApril);
+
+        // Assert
+        LocalDate lastOfMarch = LocalDate.of(2026, 3, 31);
+        verify(generateSpendingInsightsUseCase).findOrGenerate("monthly", lastOfMarch, true);
+        verify(generateSpendingInsightsUseCase).findOrGenerate("quarterly", lastOfMarch, true);
+        verifyNoMoreInteractions(generateSpendingInsightsUseCase);
+    }
+
+    @Test
+    void generateClosedPeriods_ShouldDoNothing_WhenNoPeriodClosed() {
+        // Act
+        job.generateClosedPeriods(LocalDate.of(2026, 4, 15));
+
+        // Assert
+        verifyNoInteractions(generateSpendingInsightsUseCase);
+    }
+
+    @Test
+    void refreshRecentPeriods_ShouldRefreshOpenPeriodsAndFillInClosedOnes() {
+        // Arrange
+        LocalDate today = LocalDate.of(2026, 4, 15);
+
+        // Act
+        job.refreshRecentPeriods(today);
+
+        // Assert
+        verify(generateSpendingInsightsUseCase, times(4))
+                .findOrGenerate(any(), eq(today), eq(true));
+        verify(generateSpendingInsightsUseCase)
+                .findOrGenerate("weekly", LocalDate.of(2026, 4, 6), false);
+        verify(generateSpendingInsightsUseCase)
+                .findOrGenerate("monthly", LocalDate.of(2026, 3, 1), false);
+        verify(generateSpendingInsightsUseCase)
+                .findOrGenerate("quarterly", LocalDate.of(2026, 1, 1), false);
+        verify(generateSpendingInsightsUseCase)
+                .findOrGenerate("yearly", LocalDate.of(2025, 1, 1), false);
+    }
+
+    @Test
+    void refreshRecentPeriods_ShouldCarryOn_WhenOnePeriodFails() {
+        // Arrange
+        LocalDate today = LocalDate.of(2026, 4, 15);
+        when(generateSpendingInsightsUseCase.findOrGenerate("weekly", today, true))
+                .thenThrow(new AIInsightsException("Failed to generate spending insights"));
+
+        // Act
+        job.refreshRecentPeriods(today);
+
+        // Assert
+        verify(generateSpendingInsightsUseCase, times(8))
+                .findOrGenerate(any(), any(), anyBoolean());
+    }
+}
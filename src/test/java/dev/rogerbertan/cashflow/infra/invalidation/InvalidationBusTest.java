@@ -0,0 +1,216 @@
+package dev.rogerbertan.cashflow.infra.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.config.InvalidationProperties;
+import dev.rogerbertan.cashflow.infra.rollup.BalanceCorrectedEvent;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidationBusTest {
+
+    private static final DateRange JANUARY =
+            new DateRange(LocalDate.of(2020, 1, 15), LocalDate.of(2020, 1, 31));
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private InvalidationBus bus;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSourceProperties.setUsername("postgres");
+        InvalidationProperties properties = new InvalidationProperties();
+        properties.setPollInterval(Duration.ofMillis(200));
+        properties.setReconnectDelay(Duration.ofMillis(100));
+
+        bus = new InvalidationBus(dataSource, dataSourceProperties, properties, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bus.isRunning()) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    void onTransactionsChanged_ShouldNotifyOtherNodes_WithTheDatesWritten() throws Exception {
+        // Arrange
+        try (Connection listener = dataSource.getConnection()) {
+            listen(listener);
+
+            // Act
+            bus.onTransactionsChanged(new TransactionsChangedEvent(JANUARY));
+
+            // Assert
+            PGNotification[] notifications =
+                    listener.unwrap(PGConnection.class).getNotifications(5000);
+            assertThat(notifications).hasSize(1);
+            assertThat(notifications[0].getParameter())
+                    .isEqualTo(bus.nodeId() + " transactions 2020-01-15 2020-01-31");
+        }
+    }
+
+    @Test
+    void onCategoriesChanged_ShouldNotNotify_WhenWritingTransactionRollsBack() throws Exception {
+        // Arrange
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        try (Connection listener = dataSource.getConnection()) {
+            listen(listener);
+
+            // Act
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        bus.onCategoriesChanged(new CategoriesChangedEvent(3L));
+                        status.setRollbackOnly();
+                    });
+            bus.onCategoriesChanged(new CategoriesChangedEvent(4L));
+
+            // Assert
+            PGNotification[] notifications =
+                    listener.unwrap(PGConnection.class).getNotifications(5000);
+            assertThat(notifications).hasSize(1);
+            assertThat(notifications[0].getParameter()).isEqualTo(bus.nodeId() + " categories 4");
+        }
+    }
+
+    @Test
+    void onBalanceCorrected_ShouldNotifyOtherNodes() throws Exception {
+        // Arrange
+        try (Connection listener = dataSource.getConnection()) {
+            listen(listener);
+
+            // Act
+            bus.onBalanceCorrected(new BalanceCorrectedEvent());
+
+            // Assert
+            PGNotification[] notifications =
+                    listener.unwrap(PGConnection.class).getNotifications(5000);
+            assertThat(notifications).hasSize(1);
+            assertThat(notifications[0].getParameter()).isEqualTo(bus.nodeId() + " balance");
+        }
+    }
+
+    @Test
+    void start_ShouldReplayOtherNodesChanges_AndSkipItsOwn() throws Exception {
+        // Arrange
+        bus.start();
+        awaitListener();
+
+        // Act
+        bus.onCategoriesChanged(new CategoriesChangedEvent(3L));
+        notifyAsOtherNode("transactions 2020-01-15 2020-01-31");
+        notifyAsOtherNode("categories");
+        notifyAsOtherNode("balance");
+        notifyAsOtherNode("everything");
+
+        // Assert
+        verify(eventPublisher, timeout(5000)).publishEvent(new InvalidationsMissedEvent());
+        verify(eventPublisher).publishEvent(new BalanceCorrectedEvent());
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(null));
+        verify(eventPublisher).publishEvent(new TransactionsChangedEvent(JANUARY));
+        verify(eventPublisher, never()).publishEvent(new CategoriesChangedEvent(3L));
+    }
+
+    @Test
+    void start_ShouldDropEverything_WhenListenerReconnects() throws Exception {
+        // Arrange
+        bus.start();
+        awaitListener();
+
+        // Act
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "SELECT pg_terminate_backend(pid) FROM pg_stat_activity "
+                            + "WHERE application_name = '"
+                            + InvalidationBus.APPLICATION_NAME
+                            + "'");
+        }
+
+        // Assert
+        verify(eventPublisher, timeout(10_000)).publishEvent(new InvalidationsMissedEvent());
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(null));
+    }
+
+    private static void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + InvalidationBus.CHANNEL);
+        }
+    }
+
+    private static void notifyAsOtherNode(String change) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "SELECT pg_notify('"
+                            + InvalidationBus.CHANNEL
+                            + "', 'other-node "
+                            + change
+                            + "')");
+        }
+    }
+
+    private static void awaitListener() throws Exception {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet =
+                            statement.executeQuery(
+                                    "SELECT count(*) FROM pg_stat_activity "
+                                            + "WHERE application_name = '"
+                                            + InvalidationBus.APPLICATION_NAME
+                                            + "' AND query LIKE 'LISTEN%'")) {
+                resultSet.next();
+                if (resultSet.getInt(1) > 0) {
+                    return;
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException("Invalidation listener did not start listening");
+    }
+}
@@ -0,0 +1,92 @@
+package dev.rogerbertan.cashflow.infra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.rogerbertan.cashflow.infra.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MethodMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MethodMetrics methodMetrics = new MethodMetrics(meterRegistry);
+
+    @Test
+    void instrument_ShouldTimeCalls_TaggedWithClassAndMethod() {
+        // Arrange
+        Lookup lookup = methodMetrics.instrument(new Lookup(), "cashflow.usecase", "LookupUseCase");
+
+        // Act
+        String result = lookup.find(1L);
+
+        // Assert
+        assertThat(result).isEqualTo("Food");
+        assertThat(timer("find", "none").count()).isOne();
+        assertThat(timer("find", "none").totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void instrument_ShouldTagFailedCalls_WithTheExceptionType() {
+        // Arrange
+        Lookup lookup = methodMetrics.instrument(new Lookup(), "cashflow.usecase", "LookupUseCase");
+
+        // Act & Assert
+        assertThatThrownBy(() -> lookup.find(99L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(timer("find", "ResourceNotFoundException").count()).isOne();
+    }
+
+    @Test
+    void instrument_ShouldTimeAsyncCallsUntilTheFutureCompletes() {
+        // Arrange
+        Lookup lookup = methodMetrics.instrument(new Lookup(), "cashflow.usecase", "LookupUseCase");
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // Act
+        CompletableFuture<String> result = lookup.findAsync(pending);
+        double inFlight =
+                meterRegistry
+                        .get("cashflow.usecase.active")
+                        .tag("method", "findAsync")
+                        .gauge()
+                        .value();
+        pending.completeExceptionally(new ResourceNotFoundException("Category", "id: 99"));
+
+        // Assert
+        assertThat(result).isSameAs(pending);
+        assertThat(inFlight).isEqualTo(1.0);
+        assertThat(
+                        meterRegistry
+                                .get("cashflow.usecase.active")
+                                .tag("method", "findAsync")
+                                .gauge()
+                                .value())
+                .isZero();
+        assertThat(timer("findAsync", "ResourceNotFoundException").count()).isOne();
+    }
+
+    private Timer timer(String method, String exception) {
+        return meterRegistry
+                .get("cashflow.usecase")
+                .tags("class", "LookupUseCase", "method", method, "exception", exception)
+                .timer();
+    }
+
+    static class Lookup {
+
+        public String find(Long id) {
+            if (id == 99L) {
+                throw new ResourceNotFoundException("Category", "id: " + id);
+            }
+            return "Food";
+        }
+
+        public CompletableFuture<String> findAsync(CompletableFuture<String> pending) {
+            return pending;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package dev.rogerbertan.cashflow.infra.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "ai.gemini.api-key=test")
+class PrometheusEndpointTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @LocalServerPort private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void prometheus_ShouldExposeUseCaseTimingsAndPoolMetrics() throws Exception {
+        // Arrange
+        HttpResponse<String> summary = get("/api/summary/monthly?month=1&year=2020");
+
+        // Act
+        HttpResponse<String> response = get("/actuator/prometheus");
+
+        // Assert
+        assertThat(summary.statusCode()).isEqualTo(200);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body())
+                .contains(
+                        "cashflow_usecase_seconds_bucket{class=\"GetMonthlySummaryUseCase\","
+                                + "exception=\"none\",method=\"execute\"")
+                .contains("cashflow_usecase_active{class=\"GetMonthlySummaryUseCase\"")
+                .contains("hikaricp_connections_active");
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+}
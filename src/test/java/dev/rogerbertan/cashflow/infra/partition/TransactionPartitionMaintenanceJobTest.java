@@ -0,0 +1,92 @@
+package dev.rogerbertan.cashflow.infra.partition;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.infra.config.PartitionProperties;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionMaintenanceJobTest {
+
+    @Mock private TransactionRepository transactionRepository;
+
+    private TransactionPartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        PartitionProperties partitionProperties = new PartitionProperties();
+        partitionProperties.setMonthsAhead(2);
+        job = new TransactionPartitionMaintenanceJob(transactionRepository, partitionProperties);
+    }
+
+    @Test
+    void maintain_ShouldCreateMissingFuturePartitions_WhenSomeAlreadyExist() {
+        // Arrange
+        when(transactionRepository.findMonthsInDefaultTransactionPartition())
+                .thenReturn(Collections.emptyList());
+        when(transactionRepository.findTransactionPartitionNames())
+                .thenReturn(List.of("transactions_default", "transactions_2025_11"));
+
+        // Act
+        job.maintain(YearMonth.of(2025, 11));
+
+        // Assert
+        verify(transactionRepository).createTransactionPartition(LocalDate.of(2025, 12, 1));
+        verify(transactionRepository).createTransactionPartition(LocalDate.of(2026, 1, 1));
+        verify(transactionRepository, times(2)).createTransactionPartition(any());
+    }
+
+    @Test
+    void maintain_ShouldCreatePartitionsForMonthsInDefaultPartition_InChronologicalOrder() {
+        // Arrange
+        when(transactionRepository.findMonthsInDefaultTransactionPartition())
+                .thenReturn(List.of(LocalDate.of(2019, 4, 1), LocalDate.of(2012, 8, 1)));
+        when(transactionRepository.findTransactionPartitionNames())
+                .thenReturn(
+                        List.of(
+                                "transactions_default",
+                                "transactions_2025_11",
+                                "transactions_2025_12",
+                                "transactions_2026_01"));
+
+        // Act
+        job.maintain(YearMonth.of(2025, 11));
+
+        // Assert
+        InOrder inOrder = inOrder(transactionRepository);
+        inOrder.verify(transactionRepository).createTransactionPartition(LocalDate.of(2012, 8, 1));
+        inOrder.verify(transactionRepository).createTransactionPartition(LocalDate.of(2019, 4, 1));
+        verify(transactionRepository, times(2)).createTransactionPartition(any());
+    }
+
+    @Test
+    void maintain_ShouldCreateNothing_WhenAllPartitionsExist() {
+        // Arrange
+        when(transactionRepository.findMonthsInDefaultTransactionPartition())
+                .thenReturn(Collections.emptyList());
+        when(transactionRepository.findTransactionPartitionNames())
+                .thenReturn(
+                        List.of(
+                                "transactions_default",
+                                "transactions_2025_11",
+                                "transactions_2025_12",
+                                "transactions_2026_01"));
+
+        // Act
+        job.maintain(YearMonth.of(2025, 11));
+
+        // Assert
+        verify(transactionRepository, never()).createTransactionPartition(any());
+    }
+}
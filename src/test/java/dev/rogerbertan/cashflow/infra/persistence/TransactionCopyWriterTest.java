@@ -0,0 +1,172 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionCopyWriterTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    private final TransactionCopyWriter copyWriter = new TransactionCopyWriter(dataSource);
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "INSERT INTO categories (id, name, type) VALUES (1, 'Salary', 'INCOME'), "
+                            + "(2, 'Food', 'EXPENSE')");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void clearTransactions() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM transactions");
+        }
+    }
+
+    @Test
+    void copy_ShouldInsertRowsVerbatim_WhenDescriptionsContainCsvSpecialCharacters()
+            throws SQLException {
+        // Arrange
+        List<TransactionImportRow> rows =
+                List.of(
+                        new TransactionImportRow(
+                                1,
+                                Type.EXPENSE,
+                                new BigDecimal("45.90"),
+                                "Dinner, with \"friends\"",
+                                2L,
+                                LocalDate.of(2024, 3, 10)),
+                        new TransactionImportRow(
+                                2,
+                                Type.INCOME,
+                                new BigDecimal("1000.00"),
+                                "Salary \\ March",
+                                1L,
+                                LocalDate.of(2024, 3, 28)));
+
+        // Act
+        long copied = copyWriter.copy(rows);
+
+        // Assert
+        assertThat(copied).isEqualTo(2);
+        assertThat(queryDescriptions())
+                .containsExactly("Dinner, with \"friends\"", "Salary \\ March");
+    }
+
+    @Test
+    void copy_ShouldInsertLargeBatch_WhenImportingManyRows() throws SQLException {
+        // Arrange
+        List<TransactionImportRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 20_000; i++) {
+            rows.add(
+                    new TransactionImportRow(
+                            i,
+                            Type.EXPENSE,
+                            new BigDecimal("1.50"),
+                            "Row " + i,
+                            2L,
+                            LocalDate.of(2024, 1, 1).plusDays(i % 365)));
+        }
+
+        // Act
+        long copied = copyWriter.copy(rows);
+
+        // Assert
+        assertThat(copied).isEqualTo(20_000);
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet =
+                        statement.executeQuery("SELECT COUNT(*), SUM(amount) FROM transactions")) {
+            resultSet.next();
+            assertThat(resultSet.getLong(1)).isEqualTo(20_000);
+            assertThat(resultSet.getBigDecimal(2)).isEqualByComparingTo("30000");
+        }
+    }
+
+    @Test
+    void copy_ShouldAssignDenseIdsFromReservedSequenceBlocks() throws SQLException {
+        // Arrange
+        List<TransactionImportRow> rows = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            rows.add(
+                    new TransactionImportRow(
+                            i,
+                            Type.EXPENSE,
+                            new BigDecimal("1.00"),
+                            "Row " + i,
+                            2L,
+                            LocalDate.of(2024, 1, 1)));
+        }
+
+        // Act
+        copyWriter.copy(rows);
+
+        // Assert
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet =
+                        statement.executeQuery(
+                                "SELECT COUNT(DISTINCT id), MAX(id) - MIN(id) FROM transactions")) {
+            resultSet.next();
+            assertThat(resultSet.getLong(1)).isEqualTo(120);
+            // 120 rows fit in three blocks of 50
+            assertThat(resultSet.getLong(2)).isLessThan(150);
+        }
+    }
+
+    @Test
+    void copy_ShouldSkipDatabase_WhenNoRowsProvided() {
+        // Act
+        long copied = copyWriter.copy(List.of());
+
+        // Assert
+        assertThat(copied).isZero();
+    }
+
+    private List<String> queryDescriptions() throws SQLException {
+        List<String> descriptions = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet =
+                        statement.executeQuery(
+                                "SELECT description FROM transactions ORDER BY id")) {
+            while (resultSet.next()) {
+                descriptions.add(resultSet.getString(1));
+            }
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,197 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TransactionIndexUsageTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().setServerConfig("synchronous_commit", "on").start();
+        dataSource = postgres.getPostgresDatabase();
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "INSERT INTO categories (name, type) VALUES "
+                            + "('Salary', 'INCOME'), ('Food', 'EXPENSE'), ('Rent', 'EXPENSE')");
+            statement.execute(
+                    "INSERT INTO transactions (type, amount, description, category_id,"
+                            + " transaction_date, created_at) "
+                            + "SELECT CASE WHEN i % 3 = 0 THEN 'INCOME' ELSE 'EXPENSE' END, "
+                            + "(i % 500) + 0.99, 'Transaction ' || i, "
+                            + "c.ids[(i % 3) + 1], "
+                            + "DATE '2020-01-01' + i / 100, "
+                            + "TIMESTAMP '2020-01-01 00:00:00' + i * INTERVAL '10 minutes' "
+                            + "FROM generate_series(1, 200000) AS i, "
+                            + "(SELECT array_agg(id ORDER BY id) AS ids FROM categories) AS c");
+            // Same as the partition maintenance job: give every seeded month its own partition
+            statement.execute(
+                    "DO $$ DECLARE v_month DATE; BEGIN "
+                            + "FOR v_month IN SELECT DISTINCT "
+                            + "date_trunc('month', transaction_date)::DATE "
+                            + "FROM transactions_default LOOP "
+                            + "CALL create_transactions_partition(v_month); "
+                            + "END LOOP; END $$");
+            statement.execute("VACUUM (FREEZE, ANALYZE) transactions");
+            statement.execute("VACUUM (FREEZE, ANALYZE) categories");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void monthlySumByType_ShouldScanOnlyThatMonthsPartition_WhenFilteringByHalfOpenRange()
+            throws SQLException {
+        // Act
+        String plan =
+                explain(
+                        "SELECT COALESCE(SUM(t.amount), 0) FROM transactions t "
+                                + "WHERE t.type = 'INCOME' "
+                                + "AND t.transaction_date >= DATE '2024-03-01' "
+                                + "AND t.transaction_date < DATE '2024-04-01'");
+
+        // Assert
+        assertThat(plan)
+                .contains("on transactions_2024_03 ")
+                .doesNotContain("transactions_2024_02")
+                .doesNotContain("transactions_2024_04")
+                .doesNotContain("transactions_default");
+    }
+
+    @Test
+    void partialMonthSumByType_ShouldUseIndexOnlyScanOnPartition_WhenFilteringByHalfOpenRange()
+            throws SQLException {
+        // Act
+        String plan =
+                explain(
+                        "SELECT COALESCE(SUM(t.amount), 0) FROM transactions t "
+                                + "WHERE t.type = 'INCOME' "
+                                + "AND t.transaction_date >= DATE '2024-03-05' "
+                                + "AND t.transaction_date < DATE '2024-03-12'");
+
+        // Assert
+        assertThat(plan)
+                .contains("Index Only Scan using transactions_2024_03_transaction_date_type")
+                .contains("Index Cond: ((transaction_date >= '2024-03-05'::date)")
+                .doesNotContain("Seq Scan on transactions");
+    }
+
+    @Test
+    void monthlyCategorySummaries_ShouldScanOnlyThatMonthsPartition_WhenFilteringByHalfOpenRange()
+            throws SQLException {
+        // Act
+        String plan =
+                explain(
+                        "SELECT c.name, "
+                                + "COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount "
+                                + "ELSE 0 END), 0), "
+                                + "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount "
+                                + "ELSE 0 END), 0) "
+                                + "FROM transactions t "
+                                + "JOIN categories c ON c.id = t.category_id "
+                                + "WHERE t.transaction_date >= DATE '2024-03-01' "
+                                + "AND t.transaction_date < DATE '2024-04-01' "
+                                + "GROUP BY c.id, c.name");
+
+        // Assert
+        assertThat(plan)
+                .contains("on transactions_2024_03 ")
+                .doesNotContain("transactions_2024_02")
+                .doesNotContain("transactions_2024_04")
+                .doesNotContain("transactions_default");
+    }
+
+    @Test
+    void periodComparison_ShouldScanOnlyBothPeriodsPartitions_WhenRangesAreCombinedWithOr()
+            throws SQLException {
+        // Act
+        String plan =
+                explain(
+                        "SELECT c.name, SUM(t.amount) FROM transactions t "
+                                + "JOIN categories c ON c.id = t.category_id "
+                                + "WHERE t.transaction_date "
+                                + "BETWEEN DATE '2024-03-01' AND DATE '2024-03-31' "
+                                + "OR t.transaction_date "
+                                + "BETWEEN DATE '2024-02-01' AND DATE '2024-02-29' "
+                                + "GROUP BY c.id, c.name");
+
+        // Assert
+        assertThat(plan)
+                .contains("on transactions_2024_02 ")
+                .contains("on transactions_2024_03 ")
+                .doesNotContain("transactions_2024_01")
+                .doesNotContain("transactions_2024_04")
+                .doesNotContain("transactions_default");
+    }
+
+    @Test
+    void monthlySumByType_ShouldScanEveryPartition_WhenFilteringByExtractedYearAndMonth()
+            throws SQLException {
+        // Act
+        String plan =
+                explain(
+                        "SELECT COALESCE(SUM(t.amount), 0) FROM transactions t "
+                                + "WHERE t.type = 'INCOME' "
+                                + "AND EXTRACT(YEAR FROM t.transaction_date) = 2024 "
+                                + "AND EXTRACT(MONTH FROM t.transaction_date) = 3");
+
+        // Assert
+        assertThat(plan)
+                .contains("Seq Scan on transactions_2020_01 ")
+                .contains("Seq Scan on transactions_2024_03 ");
+    }
+
+    @Test
+    void keysetPage_ShouldMergePartitionIndexesWithoutSorting_WhenSeekingDeepIntoHistory()
+            throws SQLException {
+        // Act
+        String plan =
+                explain(
+                        "SELECT t.id, t.amount, c.name FROM transactions t "
+                                + "JOIN categories c ON c.id = t.category_id "
+                                + "WHERE (t.created_at, t.id) < "
+                                + "(TIMESTAMP '2020-01-07 22:40:00', 1000) "
+                                + "ORDER BY t.created_at DESC, t.id DESC "
+                                + "FETCH FIRST 21 ROWS ONLY");
+
+        // Assert
+        assertThat(plan)
+                .contains("Merge Append")
+                .contains("Index Scan using transactions_2020_01_created_at_id_idx")
+                .contains("Index Cond: (ROW(created_at, id) < ROW(")
+                .doesNotContain("->  Sort")
+                .doesNotContain("Seq Scan on transactions");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
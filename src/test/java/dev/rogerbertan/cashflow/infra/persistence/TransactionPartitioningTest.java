@@ -0,0 +1,153 @@
+package dev.rogerbertan.cashflow.infra.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TransactionPartitioningTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void setUp() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+
+        // Seed the unpartitioned table so the partitioning migration has rows to carry over
+        Flyway.configure().dataSource(dataSource).target("6").load().migrate();
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "INSERT INTO categories (name, type) VALUES "
+                            + "('Salary', 'INCOME'), ('Food', 'EXPENSE')");
+            statement.execute(
+                    "INSERT INTO transactions (type, amount, description, category_id,"
+                            + " transaction_date) "
+                            + "SELECT 'EXPENSE', 10.00, 'Seeded ' || i, 2, "
+                            + "DATE '2023-11-01' + i "
+                            + "FROM generate_series(0, 99) AS i");
+        }
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void migration_ShouldCarryRowsIntoMonthlyPartitions_WhenTableHadData() throws SQLException {
+        // Act
+        long total =
+                queryForLong("SELECT COUNT(*) FROM transactions WHERE description LIKE 'Seeded%'");
+        long maxId =
+                queryForLong("SELECT MAX(id) FROM transactions WHERE description LIKE 'Seeded%'");
+        long december =
+                queryForLong(
+                        "SELECT COUNT(*) FROM transactions_2023_12 "
+                                + "WHERE description LIKE 'Seeded%'");
+        long inDefault =
+                queryForLong(
+                        "SELECT COUNT(*) FROM transactions_default "
+                                + "WHERE description LIKE 'Seeded%'");
+
+        // Assert
+        assertThat(total).isEqualTo(100);
+        assertThat(maxId).isEqualTo(100);
+        assertThat(december).isEqualTo(31);
+        assertThat(inDefault).isZero();
+    }
+
+    @Test
+    void insert_ShouldContinueIdsAfterMigratedRows_WhenRowIsInserted() throws SQLException {
+        // Act
+        long id =
+                queryForLong(
+                        "INSERT INTO transactions (type, amount, description, category_id,"
+                                + " transaction_date) "
+                                + "VALUES ('INCOME', 500.00, 'Next id', 1, DATE '2024-01-15') "
+                                + "RETURNING id");
+
+        // Assert
+        assertThat(id).isGreaterThan(100);
+    }
+
+    @Test
+    void createPartition_ShouldMoveRowsOutOfDefaultPartition_WhenMonthHadNoPartition()
+            throws SQLException {
+        // Arrange
+        execute(
+                "INSERT INTO transactions (type, amount, description, category_id,"
+                        + " transaction_date) "
+                        + "VALUES ('EXPENSE', 12.00, 'Old receipt', 2, DATE '2015-06-20')");
+        String before =
+                queryForString(
+                        "SELECT tableoid::regclass::text FROM transactions "
+                                + "WHERE description = 'Old receipt'");
+
+        // Act
+        execute("CALL create_transactions_partition(DATE '2015-06-01')");
+        execute("CALL create_transactions_partition(DATE '2015-06-01')");
+
+        // Assert
+        String after =
+                queryForString(
+                        "SELECT tableoid::regclass::text FROM transactions "
+                                + "WHERE description = 'Old receipt'");
+        assertThat(before).isEqualTo("transactions_default");
+        assertThat(after).isEqualTo("transactions_2015_06");
+    }
+
+    @Test
+    void update_ShouldMoveRowToOtherPartition_WhenTransactionDateChangesMonth()
+            throws SQLException {
+        // Arrange
+        execute(
+                "INSERT INTO transactions (type, amount, description, category_id,"
+                        + " transaction_date) "
+                        + "VALUES ('EXPENSE', 8.00, 'Moved', 2, DATE '2024-01-31')");
+
+        // Act
+        execute(
+                "UPDATE transactions SET transaction_date = DATE '2024-02-01' "
+                        + "WHERE description = 'Moved'");
+
+        // Assert
+        assertThat(
+                        queryForString(
+                                "SELECT tableoid::regclass::text FROM transactions "
+                                        + "WHERE description = 'Moved'"))
+                .isEqualTo("transactions_2024_02");
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long queryForLong(String sql) throws SQLException {
+        return Long.parseLong(queryForString(sql));
+    }
+
+    private static String queryForString(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -2,14 +2,24 @@ package dev.rogerbertan.cashflow.infra.presentation;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 import dev.rogerbertan.cashflow.domain.usecases.insights.GenerateSpendingInsightsUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.PeriodInsights;
 import dev.rogerbertan.cashflow.domain.valueobjects.SpendingInsights;
 import dev.rogerbertan.cashflow.infra.dto.SpendingInsightsResponse;
+import dev.rogerbertan.cashflow.infra.exception.AITimeoutException;
 import dev.rogerbertan.cashflow.infra.mapper.SpendingInsightsMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,7 +27,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 @ExtendWith(MockitoExtension.class)
 class AIInsightsControllerTest {
@@ -28,33 +42,36 @@ class AIInsightsControllerTest {
 
     @InjectMocks private AIInsightsController controller;
 
-    private SpendingInsights sampleInsights;
+    private PeriodInsights sampleInsights;
     private SpendingInsightsResponse sampleResponse;
 
     @BeforeEach
     void setUp() {
         sampleInsights =
-                new SpendingInsights(
-                        List.of("Your spending increased 20%", "Good saving habits"),
-                        "monthly",
-                        "Overall positive trends",
-                        "raw_response");
+                periodInsights(
+                        new SpendingInsights(
+                                List.of("Your spending increased 20%", "Good saving habits"),
+                                "monthly",
+                                "Overall positive trends",
+                                "raw_response"));
 
         sampleResponse =
                 new SpendingInsightsResponse(
-                        sampleInsights.insights(),
+                        sampleInsights.insights().insights(),
                         sampleInsights.period(),
-                        sampleInsights.summary(),
+                        sampleInsights.insights().summary(),
                         "2026-01-29T12:00:00");
     }
 
     @Test
     void getSpendingInsights_ShouldReturnInsights_WhenValidPeriodProvided() {
-        when(generateSpendingInsightsUseCase.execute("monthly")).thenReturn(sampleInsights);
-        when(spendingInsightsMapper.toDTO(any())).thenReturn(sampleResponse);
+        when(generateSpendingInsightsUseCase.findOrGenerateAsync(
+                        eq("monthly"), any(LocalDate.class), eq(false)))
+                .thenReturn(CompletableFuture.completedFuture(sampleInsights));
+        when(spendingInsightsMapper.toDTO(any(PeriodInsights.class))).thenReturn(sampleResponse);
 
         ResponseEntity<SpendingInsightsResponse> response =
-                controller.getSpendingInsights("monthly");
+                controller.getSpendingInsights("monthly", null, false).join();
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -62,20 +79,23 @@ class AIInsightsControllerTest {
         assertEquals("monthly", response.getBody().period());
         assertEquals(2, response.getBody().insights().size());
 
-        verify(generateSpendingInsightsUseCase).execute("monthly");
+        verify(generateSpendingInsightsUseCase)
+                .findOrGenerateAsync("monthly", LocalDate.now(), false);
         verify(spendingInsightsMapper).toDTO(sampleInsights);
     }
 
     @Test
-    void getSpendingInsights_ShouldUseDefaultPeriod_WhenNoParameterProvided() {
-        when(generateSpendingInsightsUseCase.execute("monthly")).thenReturn(sampleInsights);
-        when(spendingInsightsMapper.toDTO(any())).thenReturn(sampleResponse);
+    void getSpendingInsights_ShouldRegenerateClosedPeriod_WhenDateAndRefreshProvided() {
+        LocalDate lastMonth = LocalDate.of(2026, 3, 15);
+        when(generateSpendingInsightsUseCase.findOrGenerateAsync("monthly", lastMonth, true))
+                .thenReturn(CompletableFuture.completedFuture(sampleInsights));
+        when(spendingInsightsMapper.toDTO(any(PeriodInsights.class))).thenReturn(sampleResponse);
 
         ResponseEntity<SpendingInsightsResponse> response =
-                controller.getSpendingInsights("monthly");
+                controller.getSpendingInsights("monthly", lastMonth, true).join();
 
         assertNotNull(response);
-        verify(generateSpendingInsightsUseCase).execute("monthly");
+        verify(generateSpendingInsightsUseCase).findOrGenerateAsync("monthly", lastMonth, true);
     }
 
     @Test
@@ -89,14 +109,76 @@ class AIInsightsControllerTest {
                         weeklyInsights.summary(),
                         "2026-01-29T12:00:00");
 
-        when(generateSpendingInsightsUseCase.execute("weekly")).thenReturn(weeklyInsights);
-        when(spendingInsightsMapper.toDTO(any())).thenReturn(weeklyResponse);
+        when(generateSpendingInsightsUseCase.findOrGenerateAsync(
+                        eq("weekly"), any(LocalDate.class), eq(false)))
+                .thenReturn(CompletableFuture.completedFuture(periodInsights(weeklyInsights)));
+        when(spendingInsightsMapper.toDTO(any(PeriodInsights.class))).thenReturn(weeklyResponse);
 
         ResponseEntity<SpendingInsightsResponse> response =
-                controller.getSpendingInsights("weekly");
+                controller.getSpendingInsights("weekly", null, false).join();
 
         assertNotNull(response);
         assertEquals("weekly", response.getBody().period());
-        verify(generateSpendingInsightsUseCase).execute("weekly");
+        verify(generateSpendingInsightsUseCase)
+                .findOrGenerateAsync(eq("weekly"), any(LocalDate.class), eq(false));
+    }
+
+    @Test
+    void streamSpendingInsights_ShouldSendEachInsightThenSummary_WhenAcceptingEventStream()
+            throws Exception {
+        when(generateSpendingInsightsUseCase.streamAsync(
+                        eq("monthly"), any(LocalDate.class), eq(false), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<String> onInsight = invocation.getArgument(3);
+                            sampleInsights.insights().insights().forEach(onInsight);
+                            return CompletableFuture.completedFuture(sampleInsights);
+                        });
+        when(spendingInsightsMapper.toDTO(sampleInsights)).thenReturn(sampleResponse);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        MvcResult result =
+                mockMvc.perform(
+                                get("/api/ai/insights")
+                                        .param("period", "monthly")
+                                        .accept(MediaType.TEXT_EVENT_STREAM))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("event:insight\ndata:Your spending increased 20%\n\n"));
+        assertTrue(body.contains("event:insight\ndata:Good saving habits\n\n"));
+        assertTrue(body.indexOf("event:summary") > body.indexOf("Good saving habits"));
+        assertTrue(body.contains("\"summary\":\"Overall positive trends\""));
+    }
+
+    @Test
+    void streamSpendingInsights_ShouldSendErrorEvent_WhenGenerationFails() throws Exception {
+        when(generateSpendingInsightsUseCase.streamAsync(
+                        eq("monthly"), any(LocalDate.class), eq(false), any()))
+                .thenReturn(
+                        CompletableFuture.failedFuture(
+                                new AITimeoutException(
+                                        "Gemini API did not answer within 10 seconds",
+                                        new TimeoutException())));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        MvcResult result =
+                mockMvc.perform(get("/api/ai/insights").accept(MediaType.TEXT_EVENT_STREAM))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("event:error"));
+        assertTrue(body.contains("Gemini API did not answer within 10 seconds"));
+    }
+
+    private static PeriodInsights periodInsights(SpendingInsights insights) {
+        return new PeriodInsights(
+                insights.period(),
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 1, 31),
+                insights,
+                LocalDateTime.of(2026, 1, 29, 12, 0));
     }
 }
@@ -0,0 +1,34 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.infra.config.GeminiResilienceProperties;
+import dev.rogerbertan.cashflow.infra.dto.AIResilienceResponse;
+import dev.rogerbertan.cashflow.infra.mapper.AIResilienceMapper;
+import dev.rogerbertan.cashflow.infra.resilience.GeminiResilience;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class AIResilienceControllerTest {
+
+    @Test
+    void status_ShouldReportClosedBreakerAndFullCapacity_WhenNoCallsWereMade() {
+        // Arrange
+        AIResilienceController controller =
+                new AIResilienceController(
+                        new GeminiResilience(new GeminiResilienceProperties()),
+                        new AIResilienceMapper());
+
+        // Act
+        ResponseEntity<AIResilienceResponse> response = controller.status();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().circuitBreakerState()).isEqualTo("CLOSED");
+        assertThat(response.getBody().availableConcurrentCalls()).isEqualTo(8);
+        assertThat(response.getBody().maxConcurrentCalls()).isEqualTo(8);
+        assertThat(response.getBody().availableRequestPermits()).isEqualTo(60);
+        assertThat(response.getBody().notPermittedCalls()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rogerbertan.cashflow.infra.cache.CategorySuggestionCache;
+import dev.rogerbertan.cashflow.infra.cache.SpendingInsightsCache;
+import dev.rogerbertan.cashflow.infra.cache.SummaryCache;
+import dev.rogerbertan.cashflow.infra.dto.CacheStatsResponse;
+import dev.rogerbertan.cashflow.infra.mapper.CacheStatsMapper;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CacheStatsControllerTest {
+
+    @Mock private CategorySuggestionCache categorySuggestionCache;
+
+    @Mock private SpendingInsightsCache spendingInsightsCache;
+
+    @Mock private SummaryCache summaryCache;
+
+    @Test
+    void stats_ShouldReportSuggestionCacheCounters() {
+        // Arrange
+        CacheStatsController controller =
+                new CacheStatsController(
+                        categorySuggestionCache,
+                        spendingInsightsCache,
+                        summaryCache,
+                        new CacheStatsMapper());
+        when(categorySuggestionCache.stats())
+                .thenReturn(CacheStats.of(3, 1, 1, 0, 1_000_000, 2, 2));
+        when(categorySuggestionCache.size()).thenReturn(5L);
+        when(spendingInsightsCache.stats()).thenReturn(CacheStats.of(1, 1, 1, 0, 2_000_000, 0, 0));
+        when(spendingInsightsCache.size()).thenReturn(1L);
+        when(summaryCache.stats()).thenReturn(CacheStats.of(9, 1, 1, 0, 3_000_000, 0, 0));
+        when(summaryCache.size()).thenReturn(4L);
+
+        // Act
+        ResponseEntity<Map<String, CacheStatsResponse>> response = controller.stats();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .containsEntry("categorySuggestions", new CacheStatsResponse(3, 1, 0.75, 2, 5))
+                .containsEntry("spendingInsights", new CacheStatsResponse(1, 1, 0.5, 0, 1))
+                .containsEntry("summaries", new CacheStatsResponse(9, 1, 0.9, 0, 4));
+    }
+}
@@ -0,0 +1,92 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.SuggestTransactionCategoriesUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionRequest;
+import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionResponse;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import dev.rogerbertan.cashflow.infra.mapper.CategorySuggestionMapper;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySuggestionBatchControllerTest {
+
+    @Mock private SuggestTransactionCategoriesUseCase suggestTransactionCategoriesUseCase;
+
+    @Mock private CategorySuggestionMapper categorySuggestionMapper;
+
+    @InjectMocks private CategorySuggestionBatchController controller;
+
+    @Test
+    void suggestCategories_ShouldReturnSuggestionsInRequestOrder_WhenBatchIsValid() {
+        // Arrange
+        CategorySuggestionRequest grocery =
+                new CategorySuggestionRequest("grocery shopping", Type.EXPENSE);
+        CategorySuggestionRequest salary =
+                new CategorySuggestionRequest("monthly salary", Type.INCOME);
+        CategorySuggestionQuery groceryQuery =
+                new CategorySuggestionQuery("grocery shopping", Type.EXPENSE);
+        CategorySuggestionQuery salaryQuery =
+                new CategorySuggestionQuery("monthly salary", Type.INCOME);
+        CategorySuggestion high = TestDataFactory.createHighConfidenceSuggestion();
+        CategorySuggestion low = TestDataFactory.createLowConfidenceSuggestion();
+        CategorySuggestionResponse highResponse =
+                new CategorySuggestionResponse(null, "high", "Category suggestion successful");
+        CategorySuggestionResponse lowResponse =
+                new CategorySuggestionResponse(
+                        null, "low", "No matching category found for this transaction");
+        when(categorySuggestionMapper.toQuery(grocery)).thenReturn(groceryQuery);
+        when(categorySuggestionMapper.toQuery(salary)).thenReturn(salaryQuery);
+        when(suggestTransactionCategoriesUseCase.executeAsync(List.of(groceryQuery, salaryQuery)))
+                .thenReturn(CompletableFuture.completedFuture(List.of(high, low)));
+        when(categorySuggestionMapper.toDTO(high)).thenReturn(highResponse);
+        when(categorySuggestionMapper.toDTO(low)).thenReturn(lowResponse);
+
+        // Act
+        ResponseEntity<List<CategorySuggestionResponse>> response =
+                controller.suggestCategories(List.of(grocery, salary)).join();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(highResponse, lowResponse);
+    }
+
+    @Test
+    void suggestCategories_ShouldThrowInvalidTransactionException_WhenBatchIsEmpty() {
+        // Act & Assert
+        assertThatThrownBy(() -> controller.suggestCategories(List.of()))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Batch must contain between 1 and 1000 descriptions: 0");
+        verifyNoInteractions(suggestTransactionCategoriesUseCase);
+    }
+
+    @Test
+    void suggestCategories_ShouldThrowInvalidTransactionException_WhenDescriptionIsBlank() {
+        // Arrange
+        List<CategorySuggestionRequest> requests =
+                List.of(
+                        new CategorySuggestionRequest("grocery shopping", Type.EXPENSE),
+                        new CategorySuggestionRequest("  ", Type.EXPENSE));
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.suggestCategories(requests))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Description and type are required at index 1");
+        verifyNoInteractions(suggestTransactionCategoriesUseCase);
+    }
+}
@@ -0,0 +1,174 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.domain.gateway.AICategorizerGateway;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestionQuery;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// Run with: ./mvnw test -Dtest=SuggestCategoryLoadTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"ai.gemini.api-key=test", "spring.threads.virtual.enabled=true"})
+class SuggestCategoryLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuggestCategoryLoadTest.class);
+
+    private static final int REQUESTS = 1_000;
+    private static final Duration GEMINI_LATENCY = Duration.ofMillis(500);
+    // Tomcat's platform worker pool tops out at 200 threads
+    private static final int PLATFORM_WORKERS = 200;
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @LocalServerPort private int port;
+
+    @Autowired private BlockingCategorizerGateway gateway;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void suggestCategory_ShouldKeepAllRequestsInFlight_WhenGatewayBlocks() {
+        // Arrange
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient httpClient =
+                HttpClient.newBuilder()
+                        .executor(clients)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+
+        // Act
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            responses.add(httpClient.sendAsync(request(i), HttpResponse.BodyHandlers.ofString()));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        clients.close();
+
+        // Assert
+        LOGGER.info(
+                "{} suggestion requests took {} ms, peak in flight {}",
+                REQUESTS,
+                elapsedMillis,
+                gateway.peakInFlight.get());
+        assertThat(responses)
+                .allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        assertThat(gateway.platformThreadCalls).hasValue(0);
+        assertThat(gateway.peakInFlight.get()).isGreaterThan(PLATFORM_WORKERS);
+    }
+
+    private HttpRequest request(int i) {
+        return HttpRequest.newBuilder(
+                        URI.create(
+                                "http://localhost:" + port + "/api/transactions/suggest-category"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(
+                        HttpRequest.BodyPublishers.ofString(
+                                "{\"description\":\"Load test purchase "
+                                        + i
+                                        + "\",\"type\":\"EXPENSE\"}"))
+                .build();
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfiguration {
+
+        @Bean
+        @Primary
+        BlockingCategorizerGateway blockingCategorizerGateway() {
+            return new BlockingCategorizerGateway();
+        }
+    }
+
+    // Stands in for a gateway that blocks its caller on Gemini's latency
+    static class BlockingCategorizerGateway implements AICategorizerGateway {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final AtomicInteger platformThreadCalls = new AtomicInteger();
+
+        @Override
+        public CategorySuggestion suggestCategory(String description, Type type) {
+            if (!Thread.currentThread().isVirtual()) {
+                platformThreadCalls.incrementAndGet();
+            }
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(GEMINI_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return new CategorySuggestion(null, "low", "load test");
+        }
+
+        @Override
+        public CompletableFuture<CategorySuggestion> suggestCategoryAsync(
+                String description, Type type) {
+            return CompletableFuture.completedFuture(suggestCategory(description, type));
+        }
+
+        @Override
+        public List<CategorySuggestion> suggestCategories(List<CategorySuggestionQuery> queries) {
+            return queries.stream()
+                    .map(query -> suggestCategory(query.description(), query.type()))
+                    .toList();
+        }
+
+        @Override
+        public CompletableFuture<List<CategorySuggestion>> suggestCategoriesAsync(
+                List<CategorySuggestionQuery> queries) {
+            return CompletableFuture.completedFuture(suggestCategories(queries));
+        }
+    }
+}
@@ -17,17 +17,29 @@ import dev.rogerbertan.cashflow.infra.dto.MonthlySummaryResponse;
 import dev.rogerbertan.cashflow.infra.mapper.BalanceResponseMapper;
 import dev.rogerbertan.cashflow.infra.mapper.CategorySummaryResponseMapper;
 import dev.rogerbertan.cashflow.infra.mapper.MonthlySummaryResponseMapper;
+import dev.rogerbertan.cashflow.infra.replica.PrimaryReads;
+import dev.rogerbertan.cashflow.infra.transaction.DataVersions;
+import dev.rogerbertan.cashflow.infra.transaction.TransactionsChangedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @ExtendWith(MockitoExtension.class)
 class SummaryControllerTest {
@@ -44,6 +56,8 @@ class SummaryControllerTest {
 
     @Mock private CategorySummaryResponseMapper categorySummaryResponseMapper;
 
+    @Spy private DataVersions dataVersions = new DataVersions();
+
     @InjectMocks private SummaryController controller;
 
     // getBalance tests
@@ -58,7 +72,7 @@ class SummaryControllerTest {
         when(balanceResponseMapper.toDTO(balance)).thenReturn(response);
 
         // Act
-        ResponseEntity<BalanceResponse> result = controller.getBalance();
+        ResponseEntity<BalanceResponse> result = controller.getBalance(request());
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -77,7 +91,7 @@ class SummaryControllerTest {
         when(balanceResponseMapper.toDTO(any())).thenReturn(response);
 
         // Act
-        controller.getBalance();
+        controller.getBalance(request());
 
         // Assert
         verify(getBalanceUseCase, times(1)).execute();
@@ -94,7 +108,7 @@ class SummaryControllerTest {
         when(balanceResponseMapper.toDTO(balance)).thenReturn(response);
 
         // Act
-        controller.getBalance();
+        controller.getBalance(request());
 
         // Assert
         ArgumentCaptor<Balance> balanceCaptor = ArgumentCaptor.forClass(Balance.class);
@@ -116,7 +130,8 @@ class SummaryControllerTest {
         when(monthlySummaryResponseMapper.toDTO(monthlySummary)).thenReturn(response);
 
         // Act
-        ResponseEntity<MonthlySummaryResponse> result = controller.getMonthlySummary(month, year);
+        ResponseEntity<MonthlySummaryResponse> result =
+                controller.getMonthlySummary(month, year, request());
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -139,7 +154,7 @@ class SummaryControllerTest {
         when(monthlySummaryResponseMapper.toDTO(any())).thenReturn(response);
 
         // Act
-        controller.getMonthlySummary(month, year);
+        controller.getMonthlySummary(month, year, request());
 
         // Assert
         ArgumentCaptor<Integer> monthCaptor = ArgumentCaptor.forClass(Integer.class);
@@ -162,7 +177,7 @@ class SummaryControllerTest {
         when(monthlySummaryResponseMapper.toDTO(monthlySummary)).thenReturn(response);
 
         // Act
-        controller.getMonthlySummary(month, year);
+        controller.getMonthlySummary(month, year, request());
 
         // Assert
         ArgumentCaptor<MonthlySummary> summaryCaptor =
@@ -183,7 +198,7 @@ class SummaryControllerTest {
         when(monthlySummaryResponseMapper.toDTO(any())).thenReturn(response);
 
         // Act
-        controller.getMonthlySummary(month, year);
+        controller.getMonthlySummary(month, year, request());
 
         // Assert
         verify(getMonthlySummaryUseCase, times(1)).execute(12, 2023);
@@ -210,7 +225,7 @@ class SummaryControllerTest {
 
         // Act
         ResponseEntity<List<CategoriesSummaryResponse>> result =
-                controller.getCategoriesSummary(month, year);
+                controller.getCategoriesSummary(month, year, request());
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -232,7 +247,7 @@ class SummaryControllerTest {
         when(categorySummaryResponseMapper.toListDTO(any())).thenReturn(List.of(response));
 
         // Act
-        controller.getCategoriesSummary(month, year);
+        controller.getCategoriesSummary(month, year, request());
 
         // Assert
         ArgumentCaptor<Integer> monthCaptor = ArgumentCaptor.forClass(Integer.class);
@@ -257,7 +272,7 @@ class SummaryControllerTest {
                 .thenReturn(List.of(response));
 
         // Act
-        controller.getCategoriesSummary(month, year);
+        controller.getCategoriesSummary(month, year, request());
 
         // Assert
         verify(categorySummaryResponseMapper, times(1)).toListDTO(List.of(categorySummary));
@@ -275,11 +290,87 @@ class SummaryControllerTest {
 
         // Act
         ResponseEntity<List<CategoriesSummaryResponse>> result =
-                controller.getCategoriesSummary(month, year);
+                controller.getCategoriesSummary(month, year, request());
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(result.getBody()).isEmpty();
         verify(getCategoriesSummaryUseCase, times(1)).execute(month, year);
     }
+
+    // conditional request tests
+
+    @Test
+    void getBalance_ShouldAnswerNotModifiedWithoutUseCase_WhenETagStillMatches() {
+        // Arrange
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + dataVersions.globalTag() + "\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<BalanceResponse> result =
+                controller.getBalance(new ServletWebRequest(servletRequest, servletResponse));
+
+        // Assert
+        assertThat(result).isNull();
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        verifyNoInteractions(getBalanceUseCase);
+    }
+
+    @Test
+    void getMonthlySummary_ShouldSendNewETag_WhenTransactionLandedInThatMonth() {
+        // Arrange
+        String staleETag = dataVersions.monthTag(YearMonth.of(2024, 1));
+        dataVersions.onTransactionsChanged(
+                new TransactionsChangedEvent(
+                        new DateRange(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 15))));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + staleETag + "\"");
+        MonthlySummary summary = TestDataFactory.createDefaultMonthlySummary();
+        when(getMonthlySummaryUseCase.execute(1, 2024)).thenReturn(summary);
+        when(monthlySummaryResponseMapper.toDTO(summary))
+                .thenReturn(TestDataFactory.createDefaultMonthlySummaryResponse());
+
+        // Act
+        ResponseEntity<MonthlySummaryResponse> result =
+                controller.getMonthlySummary(
+                        1,
+                        2024,
+                        new ServletWebRequest(servletRequest, new MockHttpServletResponse()));
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getETag())
+                .isEqualTo("\"" + dataVersions.monthTag(YearMonth.of(2024, 1)) + "\"")
+                .isNotEqualTo("\"" + staleETag + "\"");
+    }
+
+    @Test
+    void getMonthlySummary_ShouldReadFromPrimary_WhenSendingAnETag() {
+        // Arrange
+        AtomicBoolean readFromPrimary = new AtomicBoolean();
+        MonthlySummary summary = TestDataFactory.createDefaultMonthlySummary();
+        when(getMonthlySummaryUseCase.execute(1, 2024))
+                .thenAnswer(
+                        invocation -> {
+                            readFromPrimary.set(PrimaryReads.isActive());
+                            return summary;
+                        });
+        when(monthlySummaryResponseMapper.toDTO(summary))
+                .thenReturn(TestDataFactory.createDefaultMonthlySummaryResponse());
+
+        // Act
+        ResponseEntity<MonthlySummaryResponse> result =
+                controller.getMonthlySummary(1, 2024, request());
+
+        // Assert
+        assertThat(result.getHeaders().getETag()).isNotNull();
+        assertThat(readFromPrimary).isTrue();
+        assertThat(PrimaryReads.isActive()).isFalse();
+    }
+
+    private static ServletWebRequest request() {
+        return new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+    }
 }
@@ -0,0 +1,87 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.entities.Transaction;
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.CreateTransactionsUseCase;
+import dev.rogerbertan.cashflow.infra.dto.TransactionCreateRequest;
+import dev.rogerbertan.cashflow.infra.dto.TransactionResponse;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import dev.rogerbertan.cashflow.infra.mapper.TransactionCreateMapper;
+import dev.rogerbertan.cashflow.infra.mapper.TransactionResponseMapper;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchControllerTest {
+
+    @Mock private CreateTransactionsUseCase createTransactionsUseCase;
+
+    @Mock private TransactionCreateMapper transactionCreateMapper;
+
+    @Mock private TransactionResponseMapper transactionResponseMapper;
+
+    @InjectMocks private TransactionBatchController controller;
+
+    @Test
+    void createTransactions_ShouldReturnCreatedTransactions_WhenBatchIsValid() {
+        // Arrange
+        TransactionCreateRequest incomeRequest =
+                TestDataFactory.createIncomeTransactionCreateRequest();
+        TransactionCreateRequest expenseRequest =
+                TestDataFactory.createExpenseTransactionCreateRequest();
+        Transaction income = TestDataFactory.createIncomeTransaction();
+        Transaction expense = TestDataFactory.createExpenseTransaction();
+        TransactionResponse incomeResponse = TestDataFactory.createIncomeTransactionResponse();
+        TransactionResponse expenseResponse = TestDataFactory.createExpenseTransactionResponse();
+        when(transactionCreateMapper.toEntity(incomeRequest)).thenReturn(income);
+        when(transactionCreateMapper.toEntity(expenseRequest)).thenReturn(expense);
+        when(createTransactionsUseCase.execute(List.of(income, expense)))
+                .thenReturn(List.of(income, expense));
+        when(transactionResponseMapper.toDTO(income)).thenReturn(incomeResponse);
+        when(transactionResponseMapper.toDTO(expense)).thenReturn(expenseResponse);
+
+        // Act
+        ResponseEntity<List<TransactionResponse>> response =
+                controller.createTransactions(List.of(incomeRequest, expenseRequest));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).containsExactly(incomeResponse, expenseResponse);
+        verify(createTransactionsUseCase).execute(List.of(income, expense));
+    }
+
+    @Test
+    void createTransactions_ShouldThrowInvalidTransactionException_WhenBatchIsEmpty() {
+        // Act & Assert
+        assertThatThrownBy(() -> controller.createTransactions(List.of()))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Batch must contain between 1 and 1000 transactions: 0");
+        verifyNoInteractions(createTransactionsUseCase);
+    }
+
+    @Test
+    void createTransactions_ShouldThrowInvalidTransactionException_WhenBatchIsTooLarge() {
+        // Arrange
+        List<TransactionCreateRequest> requests =
+                Collections.nCopies(1001, TestDataFactory.createIncomeTransactionCreateRequest());
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.createTransactions(requests))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Batch must contain between 1 and 1000 transactions: 1001");
+        verify(transactionCreateMapper, never()).toEntity(any());
+        verifyNoInteractions(createTransactionsUseCase);
+    }
+}
@@ -1,6 +1,7 @@
 package dev.rogerbertan.cashflow.infra.presentation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -10,17 +11,24 @@ import dev.rogerbertan.cashflow.domain.enums.Type;
 import dev.rogerbertan.cashflow.domain.usecases.*;
 import dev.rogerbertan.cashflow.domain.usecases.transaction.*;
 import dev.rogerbertan.cashflow.domain.valueobjects.CategorySuggestion;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionCursor;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionSlice;
 import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionRequest;
 import dev.rogerbertan.cashflow.infra.dto.CategorySuggestionResponse;
 import dev.rogerbertan.cashflow.infra.dto.TransactionCreateRequest;
 import dev.rogerbertan.cashflow.infra.dto.TransactionResponse;
+import dev.rogerbertan.cashflow.infra.dto.TransactionSliceResponse;
 import dev.rogerbertan.cashflow.infra.dto.TransactionUpdateRequest;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
 import dev.rogerbertan.cashflow.infra.mapper.CategorySuggestionMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionCreateMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionResponseMapper;
 import dev.rogerbertan.cashflow.infra.mapper.TransactionUpdateRequestMapper;
+import dev.rogerbertan.cashflow.infra.util.TransactionCursorCodec;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -190,6 +198,60 @@ class TransactionControllerTest {
                 .isEqualTo(Sort.Direction.ASC);
     }
 
+    // getTransactionsByCursor tests (keyset pagination)
+
+    @Test
+    void getTransactionsByCursor_ShouldStartFromNewest_WhenCursorIsEmpty() {
+        // Arrange
+        TransactionSlice slice = new TransactionSlice(List.of(), null);
+        TransactionSliceResponse response = new TransactionSliceResponse(List.of(), 0, false, null);
+        when(findAllTransactionUseCase.execute(null, 20)).thenReturn(slice);
+        when(transactionResponseMapper.toSliceDTO(slice)).thenReturn(response);
+
+        // Act
+        ResponseEntity<TransactionSliceResponse> result =
+                controller.getTransactionsByCursor("", 20);
+
+        // Assert
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isEqualTo(response);
+        verify(findAllTransactionUseCase, never()).execute(any(Pageable.class));
+    }
+
+    @Test
+    void getTransactionsByCursor_ShouldDecodeCursor_WhenCursorProvided() {
+        // Arrange
+        TransactionCursor cursor =
+                new TransactionCursor(LocalDateTime.of(2024, 3, 10, 12, 0, 0, 123456000), 42L);
+        String token = TransactionCursorCodec.encode(cursor);
+        TransactionSlice slice = new TransactionSlice(List.of(), null);
+        when(findAllTransactionUseCase.execute(cursor, 50)).thenReturn(slice);
+
+        // Act
+        controller.getTransactionsByCursor(token, 50);
+
+        // Assert
+        verify(findAllTransactionUseCase, times(1)).execute(cursor, 50);
+    }
+
+    @Test
+    void getTransactionsByCursor_ShouldThrowInvalidTransactionException_WhenCursorIsMalformed() {
+        // Act & Assert
+        assertThatThrownBy(() -> controller.getTransactionsByCursor("not-a-cursor", 20))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Invalid cursor: not-a-cursor");
+        verifyNoInteractions(findAllTransactionUseCase);
+    }
+
+    @Test
+    void getTransactionsByCursor_ShouldThrowInvalidTransactionException_WhenSizeIsOutOfRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> controller.getTransactionsByCursor("", 500))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Size must be between 1 and 100: 500");
+        verifyNoInteractions(findAllTransactionUseCase);
+    }
+
     // getTransactionById tests
 
     @Test
@@ -485,12 +547,13 @@ class TransactionControllerTest {
         CategorySuggestion suggestion = TestDataFactory.createHighConfidenceSuggestion();
         CategorySuggestionResponse response = TestDataFactory.createSuccessfulSuggestionResponse();
 
-        when(suggestTransactionCategoryUseCase.execute(request.description(), request.type()))
-                .thenReturn(suggestion);
+        when(suggestTransactionCategoryUseCase.executeAsync(request.description(), request.type()))
+                .thenReturn(CompletableFuture.completedFuture(suggestion));
         when(categorySuggestionMapper.toDTO(suggestion)).thenReturn(response);
 
         // Act
-        ResponseEntity<CategorySuggestionResponse> result = controller.suggestCategory(request);
+        ResponseEntity<CategorySuggestionResponse> result =
+                controller.suggestCategory(request).join();
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -507,19 +570,19 @@ class TransactionControllerTest {
         CategorySuggestion suggestion = TestDataFactory.createHighConfidenceSuggestion();
         CategorySuggestionResponse response = TestDataFactory.createSuccessfulSuggestionResponse();
 
-        when(suggestTransactionCategoryUseCase.execute(anyString(), any(Type.class)))
-                .thenReturn(suggestion);
+        when(suggestTransactionCategoryUseCase.executeAsync(anyString(), any(Type.class)))
+                .thenReturn(CompletableFuture.completedFuture(suggestion));
         when(categorySuggestionMapper.toDTO(any())).thenReturn(response);
 
         // Act
-        controller.suggestCategory(request);
+        controller.suggestCategory(request).join();
 
         // Assert
         ArgumentCaptor<String> descriptionCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Type> typeCaptor = ArgumentCaptor.forClass(Type.class);
 
         verify(suggestTransactionCategoryUseCase, times(1))
-                .execute(descriptionCaptor.capture(), typeCaptor.capture());
+                .executeAsync(descriptionCaptor.capture(), typeCaptor.capture());
 
         assertThat(descriptionCaptor.getValue()).isEqualTo("grocery shopping");
         assertThat(typeCaptor.getValue()).isEqualTo(Type.EXPENSE);
@@ -532,12 +595,13 @@ class TransactionControllerTest {
         CategorySuggestion suggestion = TestDataFactory.createLowConfidenceSuggestion();
         CategorySuggestionResponse response = TestDataFactory.createNoMatchSuggestionResponse();
 
-        when(suggestTransactionCategoryUseCase.execute(request.description(), request.type()))
-                .thenReturn(suggestion);
+        when(suggestTransactionCategoryUseCase.executeAsync(request.description(), request.type()))
+                .thenReturn(CompletableFuture.completedFuture(suggestion));
         when(categorySuggestionMapper.toDTO(suggestion)).thenReturn(response);
 
         // Act
-        ResponseEntity<CategorySuggestionResponse> result = controller.suggestCategory(request);
+        ResponseEntity<CategorySuggestionResponse> result =
+                controller.suggestCategory(request).join();
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -548,7 +612,7 @@ class TransactionControllerTest {
                 .isEqualTo("No matching category found for this transaction");
 
         verify(suggestTransactionCategoryUseCase, times(1))
-                .execute(request.description(), request.type());
+                .executeAsync(request.description(), request.type());
         verify(categorySuggestionMapper, times(1)).toDTO(suggestion);
     }
 
@@ -565,12 +629,13 @@ class TransactionControllerTest {
                         "high",
                         "Category suggestion successful");
 
-        when(suggestTransactionCategoryUseCase.execute(request.description(), request.type()))
-                .thenReturn(suggestion);
+        when(suggestTransactionCategoryUseCase.executeAsync(request.description(), request.type()))
+                .thenReturn(CompletableFuture.completedFuture(suggestion));
         when(categorySuggestionMapper.toDTO(suggestion)).thenReturn(response);
 
         // Act
-        ResponseEntity<CategorySuggestionResponse> result = controller.suggestCategory(request);
+        ResponseEntity<CategorySuggestionResponse> result =
+                controller.suggestCategory(request).join();
 
         // Assert
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -578,7 +643,7 @@ class TransactionControllerTest {
 
         ArgumentCaptor<Type> typeCaptor = ArgumentCaptor.forClass(Type.class);
         verify(suggestTransactionCategoryUseCase, times(1))
-                .execute(anyString(), typeCaptor.capture());
+                .executeAsync(anyString(), typeCaptor.capture());
         assertThat(typeCaptor.getValue()).isEqualTo(Type.INCOME);
     }
 }
@@ -0,0 +1,83 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.usecases.TestDataFactory;
+import dev.rogerbertan.cashflow.domain.usecases.transaction.ExportTransactionsUseCase;
+import dev.rogerbertan.cashflow.infra.exception.InvalidTransactionException;
+import dev.rogerbertan.cashflow.infra.exporter.ExportFormat;
+import dev.rogerbertan.cashflow.infra.exporter.TransactionExportWriter;
+import dev.rogerbertan.cashflow.infra.exporter.TransactionExportWriterFactory;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Mock private ExportTransactionsUseCase exportTransactionsUseCase;
+
+    @Mock private TransactionExportWriterFactory transactionExportWriterFactory;
+
+    @Mock private TransactionExportWriter writer;
+
+    @InjectMocks private TransactionExportController controller;
+
+    @Test
+    void exportTransactions_ShouldStreamRowsIntoWriter_WhenRangeIsValid() throws IOException {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(transactionExportWriterFactory.create(eq(ExportFormat.NDJSON), any()))
+                .thenReturn(writer);
+        doAnswer(
+                        invocation -> {
+                            Consumer<Object> consumer = invocation.getArgument(1);
+                            consumer.accept(TestDataFactory.createExpenseTransaction());
+                            return null;
+                        })
+                .when(exportTransactionsUseCase)
+                .execute(eq(new DateRange(FROM, TO)), any());
+
+        // Act
+        controller.exportTransactions(FROM, TO, "ndjson", response);
+
+        // Assert
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(response.getHeader("Content-Disposition"))
+                .isEqualTo("attachment; filename=\"transactions-2024-01-01-2024-12-31.ndjson\"");
+        InOrder inOrder = inOrder(writer, exportTransactionsUseCase);
+        inOrder.verify(writer).writeHeader();
+        inOrder.verify(exportTransactionsUseCase).execute(new DateRange(FROM, TO), writer);
+        inOrder.verify(writer).accept(any());
+        inOrder.verify(writer).finish();
+    }
+
+    @Test
+    void exportTransactions_ShouldThrowInvalidTransactionException_WhenRangeIsReversed() {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act & Assert
+        assertThatThrownBy(() -> controller.exportTransactions(TO, FROM, "csv", response))
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage(
+                        "Export start date must not be after end date: 2024-12-31 > 2024-01-01");
+        assertThat(response.isCommitted()).isFalse();
+        verifyNoInteractions(exportTransactionsUseCase, transactionExportWriterFactory);
+    }
+}
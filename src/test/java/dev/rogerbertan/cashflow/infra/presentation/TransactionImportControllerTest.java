@@ -0,0 +1,80 @@
+package dev.rogerbertan.cashflow.infra.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.usecases.transaction.ImportTransactionsUseCase;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportFailure;
+import dev.rogerbertan.cashflow.domain.valueobjects.ImportResult;
+import dev.rogerbertan.cashflow.domain.valueobjects.TransactionImportRow;
+import dev.rogerbertan.cashflow.infra.dto.ImportFailureResponse;
+import dev.rogerbertan.cashflow.infra.dto.TransactionImportResponse;
+import dev.rogerbertan.cashflow.infra.importer.TransactionImportReaderFactory;
+import dev.rogerbertan.cashflow.infra.mapper.TransactionImportResponseMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportControllerTest {
+
+    @Mock private ImportTransactionsUseCase importTransactionsUseCase;
+
+    @Mock private TransactionImportReaderFactory transactionImportReaderFactory;
+
+    @Mock private TransactionImportResponseMapper transactionImportResponseMapper;
+
+    @InjectMocks private TransactionImportController controller;
+
+    @Test
+    void importCsv_ShouldReturnImportSummary_WhenPayloadIsRead() {
+        // Arrange
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        Iterator<TransactionImportRow> rows = Collections.emptyIterator();
+        ImportResult result =
+                new ImportResult(10, 1, List.of(new ImportFailure(4, "Invalid amount: abc")));
+        TransactionImportResponse response =
+                new TransactionImportResponse(
+                        10, 1, List.of(new ImportFailureResponse(4, "Invalid amount: abc")));
+        when(transactionImportReaderFactory.csv(body)).thenReturn(rows);
+        when(importTransactionsUseCase.execute(rows)).thenReturn(result);
+        when(transactionImportResponseMapper.toDTO(result)).thenReturn(response);
+
+        // Act
+        ResponseEntity<TransactionImportResponse> entity = controller.importCsv(body);
+
+        // Assert
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(entity.getBody()).isEqualTo(response);
+        verify(transactionImportReaderFactory, never()).json(any());
+    }
+
+    @Test
+    void importJson_ShouldReturnImportSummary_WhenPayloadIsRead() {
+        // Arrange
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        Iterator<TransactionImportRow> rows = Collections.emptyIterator();
+        ImportResult result = new ImportResult(3, 0, List.of());
+        TransactionImportResponse response = new TransactionImportResponse(3, 0, List.of());
+        when(transactionImportReaderFactory.json(body)).thenReturn(rows);
+        when(importTransactionsUseCase.execute(rows)).thenReturn(result);
+        when(transactionImportResponseMapper.toDTO(result)).thenReturn(response);
+
+        // Act
+        ResponseEntity<TransactionImportResponse> entity = controller.importJson(body);
+
+        // Assert
+        assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(entity.getBody()).isEqualTo(response);
+        verify(transactionImportReaderFactory, never()).csv(any());
+    }
+}
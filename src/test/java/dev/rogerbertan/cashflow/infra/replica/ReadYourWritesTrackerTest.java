@@ -0,0 +1,121 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesTrackerTest {
+
+    @Mock private TransactionExecution transaction;
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void afterCommit_ShouldKeepTheWritingClientOnPrimary_WhenReadWriteTransactionCommitted() {
+        // Arrange
+        MockHttpServletResponse response = startRequest(new MockHttpServletRequest());
+        when(transaction.isNewTransaction()).thenReturn(true);
+        when(transaction.isReadOnly()).thenReturn(false);
+
+        // Act
+        tracker.afterCommit(transaction, null);
+
+        // Assert
+        assertThat(tracker.isWithinWindow()).isTrue();
+        Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(60);
+    }
+
+    @Test
+    void afterCommit_ShouldNotSetCookie_WhenOnlyReadOnlyTransactionsCommitted() {
+        // Arrange
+        MockHttpServletResponse response = startRequest(new MockHttpServletRequest());
+        when(transaction.isNewTransaction()).thenReturn(true);
+        when(transaction.isReadOnly()).thenReturn(true);
+
+        // Act
+        tracker.afterCommit(transaction, null);
+
+        // Assert
+        assertThat(tracker.isWithinWindow()).isFalse();
+        assertThat(response.getCookie(ReadYourWritesTracker.COOKIE_NAME)).isNull();
+    }
+
+    @Test
+    void isWithinWindow_ShouldBeFalse_ForClientsThatDidNotWrite() {
+        // Arrange
+        startRequest(new MockHttpServletRequest());
+        when(transaction.isNewTransaction()).thenReturn(true);
+        when(transaction.isReadOnly()).thenReturn(false);
+        tracker.afterCommit(transaction, null);
+
+        // Act
+        startRequest(new MockHttpServletRequest());
+
+        // Assert
+        assertThat(tracker.isWithinWindow()).isFalse();
+    }
+
+    @Test
+    void isWithinWindow_ShouldFollowTheCookie_OnLaterRequests() {
+        // Arrange
+        MockHttpServletRequest recentWriter = new MockHttpServletRequest();
+        recentWriter.setCookies(
+                new Cookie(
+                        ReadYourWritesTracker.COOKIE_NAME,
+                        Long.toString(System.currentTimeMillis())));
+        MockHttpServletRequest earlierWriter = new MockHttpServletRequest();
+        earlierWriter.setCookies(
+                new Cookie(
+                        ReadYourWritesTracker.COOKIE_NAME,
+                        Long.toString(System.currentTimeMillis() - 120_000)));
+
+        // Act
+        startRequest(recentWriter);
+        boolean recent = tracker.isWithinWindow();
+        startRequest(earlierWriter);
+        boolean earlier = tracker.isWithinWindow();
+
+        // Assert
+        assertThat(recent).isTrue();
+        assertThat(earlier).isFalse();
+    }
+
+    @Test
+    void isWithinWindow_ShouldBeFalse_OutsideRequests() {
+        // Arrange
+        when(transaction.isNewTransaction()).thenReturn(true);
+        when(transaction.isReadOnly()).thenReturn(false);
+
+        // Act
+        tracker.afterCommit(transaction, null);
+
+        // Assert
+        assertThat(tracker.isWithinWindow()).isFalse();
+    }
+
+    private static MockHttpServletResponse startRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
@@ -0,0 +1,68 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock private JdbcTemplate replicaJdbcTemplate;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void checkLag_ShouldMarkReplicaUsable_WhenLagIsWithinLimit() {
+        // Arrange
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class))
+                .thenReturn(1500);
+
+        // Act
+        monitor.checkLag();
+
+        // Assert
+        assertThat(monitor.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    void checkLag_ShouldMarkReplicaUnusable_WhenLagExceedsLimit() {
+        // Arrange
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class))
+                .thenReturn(0, 12000);
+        monitor.checkLag();
+
+        // Act
+        monitor.checkLag();
+
+        // Assert
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void checkLag_ShouldMarkReplicaUnusable_WhenReplicaIsUnreachable() {
+        // Arrange
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class))
+                .thenReturn(0)
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+        monitor.checkLag();
+
+        // Act
+        monitor.checkLag();
+
+        // Assert
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+}
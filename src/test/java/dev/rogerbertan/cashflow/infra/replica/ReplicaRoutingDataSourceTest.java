@@ -0,0 +1,150 @@
+package dev.rogerbertan.cashflow.infra.replica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock private DataSource primary;
+
+    @Mock private DataSource replica;
+
+    @Mock private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock private Connection primaryConnection;
+
+    @Mock private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource =
+                new ReplicaRoutingDataSource(
+                        primary, replica, replicaLagMonitor, readYourWritesTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_ShouldUseReplica_WhenTransactionIsReadOnlyAndReplicaIsCurrent()
+            throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(readYourWritesTracker.isWithinWindow()).thenReturn(false);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(replicaConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenTransactionIsNotReadOnly() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenReplicaLagsBehind() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenWithinReadYourWritesWindow() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(readYourWritesTracker.isWithinWindow()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_OnlyWhileReadingForPrimary() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(readYourWritesTracker.isWithinWindow()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        // Act
+        Connection during = PrimaryReads.call(this::getConnection);
+        Connection after = dataSource.getConnection();
+
+        // Assert
+        assertThat(during).isSameAs(primaryConnection);
+        assertThat(after).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void getConnection_ShouldFallBackToPrimary_WhenReplicaConnectionFails() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        when(readYourWritesTracker.isWithinWindow()).thenReturn(false);
+        SQLException failure = new SQLException("Connection refused");
+        when(replica.getConnection()).thenThrow(failure);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        verify(replicaLagMonitor).markUnreachable(failure);
+    }
+
+    private Connection getConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
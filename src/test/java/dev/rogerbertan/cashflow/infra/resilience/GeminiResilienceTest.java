@@ -0,0 +1,144 @@
+package dev.rogerbertan.cashflow.infra.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.rogerbertan.cashflow.infra.config.GeminiResilienceProperties;
+import dev.rogerbertan.cashflow.infra.exception.AICategorizeException;
+import dev.rogerbertan.cashflow.infra.exception.AIUnavailableException;
+import dev.rogerbertan.cashflow.infra.exception.InsightDeliveryException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GeminiResilienceTest {
+
+    private GeminiResilienceProperties properties;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiResilienceProperties();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumNumberOfCalls(4);
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void call_ShouldFailFastWithoutCallingGemini_WhenBreakerIsOpen() {
+        // Arrange
+        GeminiResilience resilience = new GeminiResilience(properties);
+        for (int i = 0; i < 4; i++) {
+            resilience.call(this::failingCall);
+        }
+
+        // Act
+        CompletableFuture<String> result = resilience.call(this::succeedingCall);
+
+        // Assert
+        assertThat(resilience.circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(AIUnavailableException.class)
+                .hasMessage("Gemini API is unavailable: circuit breaker is open");
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void call_ShouldRefuse_WhenMaxConcurrentCallsAreInFlight() {
+        // Arrange
+        properties.setMaxConcurrentCalls(1);
+        GeminiResilience resilience = new GeminiResilience(properties);
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+        resilience.call(() -> inFlight);
+
+        // Act
+        CompletableFuture<String> result = resilience.call(this::succeedingCall);
+
+        // Assert
+        assertThatThrownBy(result::join)
+                .cause()
+                .isInstanceOf(AIUnavailableException.class)
+                .hasMessage("Gemini API is unavailable: too many calls in flight");
+        inFlight.complete("Food");
+        assertThat(resilience.call(this::succeedingCall).join()).isEqualTo("Food");
+    }
+
+    @Test
+    void call_ShouldRefuseWithoutTrippingBreaker_WhenMinuteQuotaIsUsedUp() {
+        // Arrange
+        properties.setRequestsPerMinute(2);
+        GeminiResilience resilience = new GeminiResilience(properties);
+        resilience.call(this::succeedingCall);
+        resilience.call(this::succeedingCall);
+
+        // Act
+        CompletableFuture<String> result = resilience.call(this::succeedingCall);
+
+        // Assert
+        assertThatThrownBy(result::join)
+                .cause()
+                .isInstanceOf(AIUnavailableException.class)
+                .hasMessage("Gemini API is unavailable: request quota used up");
+        assertThat(calls).hasValue(2);
+        assertThat(resilience.circuitBreaker().getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void call_ShouldPassGeminiFailuresThrough_WhenBreakerIsClosed() {
+        // Arrange
+        GeminiResilience resilience = new GeminiResilience(properties);
+
+        // Act
+        CompletableFuture<String> result = resilience.call(this::failingCall);
+
+        // Assert
+        assertThatThrownBy(result::join)
+                .cause()
+                .isInstanceOf(AICategorizeException.class)
+                .hasMessage("Gemini API call failed");
+        assertThat(resilience.circuitBreaker().getMetrics().getNumberOfFailedCalls()).isOne();
+    }
+
+    @Test
+    void call_ShouldKeepBreakerClosed_WhenStreamedInsightsCannotBeDelivered() {
+        // Arrange
+        GeminiResilience resilience = new GeminiResilience(properties);
+        InsightDeliveryException clientGone =
+                new InsightDeliveryException(
+                        new UncheckedIOException(new IOException("Broken pipe")));
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            CompletableFuture<String> result =
+                    resilience.call(
+                            () ->
+                                    CompletableFuture.supplyAsync(
+                                            () -> {
+                                                throw clientGone;
+                                            }));
+            assertThatThrownBy(result::join).cause().isSameAs(clientGone);
+        }
+
+        // Assert
+        assertThat(resilience.circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(resilience.circuitBreaker().getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(resilience.call(this::succeedingCall).join()).isEqualTo("Food");
+    }
+
+    private CompletableFuture<String> succeedingCall() {
+        calls.incrementAndGet();
+        return CompletableFuture.completedFuture("Food");
+    }
+
+    private CompletableFuture<String> failingCall() {
+        calls.incrementAndGet();
+        return CompletableFuture.failedFuture(new AICategorizeException("Gemini API call failed"));
+    }
+}
@@ -0,0 +1,105 @@
+package dev.rogerbertan.cashflow.infra.rollup;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import dev.rogerbertan.cashflow.domain.enums.Type;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotEntity;
+import dev.rogerbertan.cashflow.infra.persistence.BalanceSnapshotRepository;
+import dev.rogerbertan.cashflow.infra.persistence.TransactionRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationJobTest {
+
+    @Mock private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Mock private TransactionRepository transactionRepository;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private BalanceReconciliationJob job;
+
+    @Test
+    void reconcile_ShouldLeaveSnapshotUntouched_WhenTotalsMatch() {
+        // Arrange
+        givenSnapshot("1000.00", "400.00");
+        when(transactionRepository.sumAmountByType(Type.INCOME))
+                .thenReturn(new BigDecimal("1000.0000"));
+        when(transactionRepository.sumAmountByType(Type.EXPENSE))
+                .thenReturn(new BigDecimal("400.0000"));
+
+        // Act
+        job.reconcile();
+
+        // Assert
+        verify(balanceSnapshotRepository, never()).overwriteTotals(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void reconcile_ShouldOverwriteSnapshot_WhenTotalsDrifted() {
+        // Arrange
+        givenSnapshot("1000.00", "400.00");
+        when(transactionRepository.sumAmountByType(Type.INCOME))
+                .thenReturn(new BigDecimal("1000.00"));
+        when(transactionRepository.sumAmountByType(Type.EXPENSE))
+                .thenReturn(new BigDecimal("450.00"));
+
+        // Act
+        job.reconcile();
+
+        // Assert
+        verify(balanceSnapshotRepository, times(1))
+                .overwriteTotals(new BigDecimal("1000.00"), new BigDecimal("450.00"));
+        verify(eventPublisher).publishEvent(new BalanceCorrectedEvent());
+    }
+
+    @Test
+    void reconcile_ShouldLockSnapshotBeforeSummingTransactions() {
+        // Arrange
+        givenSnapshot("0", "0");
+        when(transactionRepository.sumAmountByType(any())).thenReturn(BigDecimal.ZERO);
+
+        // Act
+        job.reconcile();
+
+        // Assert
+        InOrder inOrder = inOrder(balanceSnapshotRepository, transactionRepository);
+        inOrder.verify(balanceSnapshotRepository)
+                .findByIdForUpdate(BalanceSnapshotEntity.SNAPSHOT_ID);
+        inOrder.verify(transactionRepository, times(2)).sumAmountByType(any());
+    }
+
+    @Test
+    void reconcile_ShouldThrowIllegalStateException_WhenSnapshotIsMissing() {
+        // Arrange
+        when(balanceSnapshotRepository.findByIdForUpdate(BalanceSnapshotEntity.SNAPSHOT_ID))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> job.reconcile()).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private void givenSnapshot(String totalIncome, String totalExpense) {
+        when(balanceSnapshotRepository.findByIdForUpdate(BalanceSnapshotEntity.SNAPSHOT_ID))
+                .thenReturn(
+                        Optional.of(
+                                new BalanceSnapshotEntity(
+                                        BalanceSnapshotEntity.SNAPSHOT_ID,
+                                        new BigDecimal(totalIncome),
+                                        new BigDecimal(totalExpense),
+                                        LocalDateTime.now())));
+    }
+}
@@ -0,0 +1,96 @@
+package dev.rogerbertan.cashflow.infra.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.CashFlowApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class RebuildMonthlyTotalsCommandTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(POSTGRES.getPostgresDatabase());
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void isRequested_ShouldMatchTheRebuildOption() {
+        // Act & Assert
+        assertThat(RebuildMonthlyTotalsCommand.isRequested("--server.port=0")).isFalse();
+        assertThat(RebuildMonthlyTotalsCommand.isRequested("--rebuild-monthly-totals")).isTrue();
+    }
+
+    @Test
+    void run_ShouldRebuildTotalsFromTransactionsAndReturnZero() throws SQLException {
+        // Arrange
+        // The first run migrates the empty database
+        assertThat(run()).isZero();
+        jdbcTemplate.execute("INSERT INTO categories (name, type) VALUES ('Food', 'EXPENSE')");
+        Long food = jdbcTemplate.queryForObject("SELECT id FROM categories", Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO transactions (type, amount, description, category_id, transaction_date) "
+                        + "VALUES ('EXPENSE', 40.00, 'Lunch', ?, DATE '2024-01-10'), "
+                        + "('EXPENSE', 60.00, 'Dinner', ?, DATE '2024-01-20')",
+                food,
+                food);
+        jdbcTemplate.update(
+                "INSERT INTO monthly_category_totals VALUES (2023, 12, ?, 'EXPENSE', 999.00, 9)",
+                food);
+
+        // Act
+        int exitCode;
+        PGNotification[] notifications;
+        try (Connection listener = POSTGRES.getPostgresDatabase().getConnection()) {
+            try (Statement statement = listener.createStatement()) {
+                statement.execute("LISTEN cashflow_invalidation");
+            }
+            exitCode = run();
+            notifications = listener.unwrap(PGConnection.class).getNotifications(5000);
+        }
+
+        // Assert
+        assertThat(exitCode).isZero();
+        // Running nodes drop the summaries and ETags they cached before the rebuild
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications[0].getParameter()).endsWith(" everything");
+        Map<String, Object> total =
+                jdbcTemplate.queryForMap("SELECT * FROM monthly_category_totals");
+        assertThat(total)
+                .containsEntry("year", 2024)
+                .containsEntry("month", 1)
+                .containsEntry("transaction_count", 2L);
+        assertThat((BigDecimal) total.get("total_amount")).isEqualByComparingTo("100.00");
+    }
+
+    private static int run() {
+        return RebuildMonthlyTotalsCommand.run(
+                CashFlowApplication.class,
+                "--rebuild-monthly-totals",
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--ai.gemini.api-key=test");
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded PostgreSQL", e);
+        }
+    }
+}
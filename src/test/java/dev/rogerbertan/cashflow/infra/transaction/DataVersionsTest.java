@@ -0,0 +1,78 @@
+package dev.rogerbertan.cashflow.infra.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.rogerbertan.cashflow.infra.category.CategoriesChangedEvent;
+import dev.rogerbertan.cashflow.infra.invalidation.InvalidationsMissedEvent;
+import dev.rogerbertan.cashflow.infra.util.DateRange;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+class DataVersionsTest {
+
+    private final DataVersions dataVersions = new DataVersions();
+
+    @Test
+    void onTransactionsChanged_ShouldBumpEveryMonthInRange_AndLeaveOthersAlone() {
+        // Arrange
+        String january = dataVersions.monthTag(YearMonth.of(2024, 1));
+        String april = dataVersions.monthTag(YearMonth.of(2024, 4));
+        String global = dataVersions.globalTag();
+
+        // Act
+        dataVersions.onTransactionsChanged(
+                new TransactionsChangedEvent(
+                        new DateRange(LocalDate.of(2023, 12, 20), LocalDate.of(2024, 2, 3))));
+
+        // Assert
+        assertThat(dataVersions.monthTag(YearMonth.of(2024, 1))).isNotEqualTo(january);
+        assertThat(dataVersions.monthTag(YearMonth.of(2024, 2)))
+                .isEqualTo(dataVersions.monthTag(YearMonth.of(2023, 12)));
+        assertThat(dataVersions.monthTag(YearMonth.of(2024, 4))).isEqualTo(april);
+        assertThat(dataVersions.globalTag()).isNotEqualTo(global);
+    }
+
+    @Test
+    void onCategoriesChanged_ShouldBumpEveryMonth_SinceSummariesShowCategoryNames() {
+        // Arrange
+        dataVersions.onTransactionsChanged(
+                new TransactionsChangedEvent(
+                        new DateRange(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 5))));
+        String january = dataVersions.monthTag(YearMonth.of(2024, 1));
+        String april = dataVersions.monthTag(YearMonth.of(2024, 4));
+
+        // Act
+        dataVersions.onCategoriesChanged(new CategoriesChangedEvent(7L));
+
+        // Assert
+        assertThat(dataVersions.monthTag(YearMonth.of(2024, 1))).isNotEqualTo(january);
+        assertThat(dataVersions.monthTag(YearMonth.of(2024, 4))).isNotEqualTo(april);
+    }
+
+    @Test
+    void onInvalidationsMissed_ShouldBumpEveryTag() {
+        // Arrange
+        String january = dataVersions.monthTag(YearMonth.of(2024, 1));
+        String global = dataVersions.globalTag();
+
+        // Act
+        dataVersions.onInvalidationsMissed(new InvalidationsMissedEvent());
+
+        // Assert
+        assertThat(dataVersions.monthTag(YearMonth.of(2024, 1))).isNotEqualTo(january);
+        assertThat(dataVersions.globalTag()).isNotEqualTo(global);
+    }
+
+    @Test
+    void tags_ShouldNotMatchAcrossRestarts_WhenVersionsStartOverAtZero() throws Exception {
+        // Arrange
+        Thread.sleep(2);
+
+        // Act
+        DataVersions restarted = new DataVersions();
+
+        // Assert
+        assertThat(restarted.globalTag()).isNotEqualTo(dataVersions.globalTag());
+    }
+}
@@ -0,0 +1,78 @@
+package dev.rogerbertan.cashflow.infra.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlinesTest {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void supplyAsync_ShouldCompleteWithTaskResult_WhenTaskFinishesInTime() {
+        // Act
+        CompletableFuture<String> result =
+                Deadlines.supplyAsync(executor, Duration.ofSeconds(5), () -> "done");
+
+        // Assert
+        assertThat(result.join()).isEqualTo("done");
+    }
+
+    @Test
+    void supplyAsync_ShouldTimeOutAndInterruptTask_WhenDeadlinePasses() throws Exception {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // Act
+        CompletableFuture<String> result =
+                Deadlines.supplyAsync(
+                        executor,
+                        Duration.ofMillis(50),
+                        () -> {
+                            try {
+                                Thread.sleep(10_000);
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return "late";
+                        });
+
+        // Assert
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void await_ShouldRethrowOriginalException_WhenFutureFailed() {
+        // Arrange
+        CompletableFuture<String> failed =
+                Deadlines.supplyAsync(
+                        executor,
+                        Duration.ofSeconds(5),
+                        () -> {
+                            throw new IllegalStateException("boom");
+                        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> Deadlines.await(failed))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+}
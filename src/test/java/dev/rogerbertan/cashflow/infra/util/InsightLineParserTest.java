@@ -0,0 +1,57 @@
+package dev.rogerbertan.cashflow.infra.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InsightLineParserTest {
+
+    @Test
+    void accept_ShouldEmitInsight_OnlyOnceItsLineIsComplete() {
+        // Arrange
+        InsightLineParser parser = new InsightLineParser();
+
+        // Act
+        List<String> first = parser.accept("Dining is up 30%");
+        List<String> second = parser.accept(" this month\nGroceries are st");
+        List<String> last = parser.finish();
+
+        // Assert
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly("Dining is up 30% this month");
+        assertThat(last).containsExactly("Groceries are st");
+    }
+
+    @Test
+    void parse_ShouldDropBlankLinesAndListMarkers() {
+        // Act
+        List<String> insights =
+                InsightLineParser.parse(
+                        "1. Dining is up 30%\n\n2.\n- Coffee 5x a week\n* Rent is flat\n• Save more\n");
+
+        // Assert
+        assertThat(insights)
+                .containsExactly(
+                        "Dining is up 30%", "Coffee 5x a week", "Rent is flat", "Save more");
+    }
+
+    @Test
+    void parse_ShouldMatchChunkedParsing_WhenLinesAreSplitAnywhere() {
+        // Arrange
+        String response = "Dining is up 30%\n2. Coffee 5x a week\nRent is flat";
+        InsightLineParser parser = new InsightLineParser();
+
+        // Act
+        List<String> streamed = new ArrayList<>();
+        for (int i = 0; i < response.length(); i += 3) {
+            streamed.addAll(
+                    parser.accept(response.substring(i, Math.min(i + 3, response.length()))));
+        }
+        streamed.addAll(parser.finish());
+
+        // Assert
+        assertThat(streamed).isEqualTo(InsightLineParser.parse(response));
+    }
+}